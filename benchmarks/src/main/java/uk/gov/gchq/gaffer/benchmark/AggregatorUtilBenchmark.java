@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the ingest and query aggregation in {@link AggregatorUtil}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AggregatorUtilBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Schema schema;
+    private List<CSVRecord> records;
+    private List<Element> elements;
+    private View summariseView;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        schema = RoadTrafficData.createSchema();
+        records = RoadTrafficData.createRecords(size);
+        summariseView = new View.Builder()
+                .edge(ElementGroup.ROAD_USE, new ViewElementDefinition.Builder()
+                        .groupBy()
+                        .build())
+                .entity(ElementGroup.JUNCTION_USE, new ViewElementDefinition.Builder()
+                        .groupBy()
+                        .build())
+                .build();
+    }
+
+    /**
+     * Aggregation merges property values into the first element of each
+     * group in place, so fresh elements are needed for every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void createElements() {
+        elements = RoadTrafficData.createElements(records);
+    }
+
+    @Benchmark
+    public void ingestAggregate(final Blackhole blackhole) {
+        consume(AggregatorUtil.ingestAggregate(elements, schema), blackhole);
+    }
+
+    @Benchmark
+    public void queryAggregate(final Blackhole blackhole) {
+        consume(AggregatorUtil.queryAggregate(elements, schema, summariseView), blackhole);
+    }
+
+    private static void consume(final CloseableIterable<Element> results, final Blackhole blackhole) {
+        try (final CloseableIterable<Element> closeable = results) {
+            for (final Element element : closeable) {
+                blackhole.consume(element);
+            }
+        }
+    }
+}
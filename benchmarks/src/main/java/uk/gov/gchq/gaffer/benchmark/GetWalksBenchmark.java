@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.graph.Walk;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters;
+import uk.gov.gchq.gaffer.operation.impl.GetWalks;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link uk.gov.gchq.gaffer.store.operation.handler.GetWalksHandler}
+ * walking outgoing RoadUse edges along the roads of a synthetic road traffic
+ * graph.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GetWalksBenchmark {
+    private static final User USER = new User();
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"10", "100"})
+    private int numSeeds;
+
+    @Param({"1", "2", "4"})
+    private int hops;
+
+    private Graph graph;
+    private List<EntitySeed> seeds;
+    private GetElements[] operations;
+
+    @Setup
+    public void setup() {
+        graph = RoadTrafficData.createLoadedGraph("getWalksBenchmark", size);
+        seeds = RoadTrafficData.createJunctionSeeds(numSeeds);
+        operations = new GetElements[hops];
+        for (int i = 0; i < hops; i++) {
+            operations[i] = new GetElements.Builder()
+                    .view(new View.Builder()
+                            .edge(ElementGroup.ROAD_USE)
+                            .build())
+                    .inOutType(SeededGraphFilters.IncludeIncomingOutgoingType.OUTGOING)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void getWalks(final Blackhole blackhole) throws OperationException {
+        final Iterable<Walk> walks = graph.execute(new GetWalks.Builder()
+                .input(seeds)
+                .operations(operations)
+                .resultsLimit(Integer.MAX_VALUE)
+                .build(), USER);
+        for (final Walk walk : walks) {
+            blackhole.consume(walk);
+        }
+    }
+}
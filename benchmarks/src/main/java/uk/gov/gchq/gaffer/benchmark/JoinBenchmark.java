@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.join.Join;
+import uk.gov.gchq.gaffer.operation.impl.join.match.MatchKey;
+import uk.gov.gchq.gaffer.operation.impl.join.methods.JoinType;
+import uk.gov.gchq.gaffer.store.operation.handler.join.match.ElementMatch;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the {@link uk.gov.gchq.gaffer.store.operation.handler.join.JoinHandler}
+ * joining freshly generated RoadUse edges against the RoadUse edges already
+ * held in the graph.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JoinBenchmark {
+    private static final User USER = new User();
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"INNER", "OUTER", "FULL"})
+    private JoinType joinType;
+
+    private Graph graph;
+    private List<Element> leftInput;
+    private View roadUseView;
+
+    @Setup
+    public void setup() {
+        graph = RoadTrafficData.createLoadedGraph("joinBenchmark", size);
+        leftInput = RoadTrafficData.createElements(size).stream()
+                .filter(e -> ElementGroup.ROAD_USE.equals(e.getGroup()))
+                .collect(Collectors.toList());
+        roadUseView = new View.Builder()
+                .edge(ElementGroup.ROAD_USE)
+                .build();
+    }
+
+    @Benchmark
+    public void join(final Blackhole blackhole) throws OperationException {
+        final Iterable<?> results = graph.execute(new Join.Builder<Element>()
+                .input(leftInput)
+                .operation(new GetAllElements.Builder()
+                        .view(roadUseView)
+                        .build())
+                .joinType(joinType)
+                .matchMethod(new ElementMatch())
+                .matchKey(MatchKey.LEFT)
+                .collectionLimit(Integer.MAX_VALUE)
+                .build(), USER);
+        for (final Object result : results) {
+            blackhole.consume(result);
+        }
+    }
+}
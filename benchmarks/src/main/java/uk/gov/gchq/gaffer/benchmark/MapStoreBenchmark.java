@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ingesting elements into, and querying elements from, a
+ * {@link uk.gov.gchq.gaffer.mapstore.MapStore} through a {@link Graph}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MapStoreBenchmark {
+    private static final User USER = new User();
+
+    @State(Scope.Benchmark)
+    public static class IngestState {
+        @Param({"1000", "10000", "100000"})
+        private int size;
+
+        private List<Element> elements;
+        private Graph graph;
+
+        @Setup(Level.Trial)
+        public void createElements() {
+            elements = RoadTrafficData.createElements(size);
+        }
+
+        @Setup(Level.Invocation)
+        public void createGraph() {
+            graph = RoadTrafficData.createGraph("mapStoreIngestBenchmark");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueryState {
+        @Param({"1000", "10000", "100000"})
+        private int size;
+
+        @Param({"1", "100"})
+        private int numSeeds;
+
+        private Graph graph;
+        private List<EntitySeed> seeds;
+        private View roadUseView;
+        private View filteredView;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            graph = RoadTrafficData.createLoadedGraph("mapStoreQueryBenchmark", size);
+            seeds = RoadTrafficData.createJunctionSeeds(numSeeds);
+            roadUseView = new View.Builder()
+                    .edge(ElementGroup.ROAD_USE)
+                    .build();
+            filteredView = new View.Builder()
+                    .edge(ElementGroup.ROAD_USE, new ViewElementDefinition.Builder()
+                            .postAggregationFilter(new ElementFilter.Builder()
+                                    .select("count")
+                                    .execute(new IsMoreThan(5000L))
+                                    .build())
+                            .build())
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void addElements(final IngestState state) throws OperationException {
+        state.graph.execute(new AddElements.Builder()
+                .input(state.elements)
+                .build(), USER);
+    }
+
+    @Benchmark
+    public void getElements(final QueryState state, final Blackhole blackhole) throws OperationException {
+        consume(state.graph.execute(new GetElements.Builder()
+                .input(state.seeds)
+                .view(state.roadUseView)
+                .build(), USER), blackhole);
+    }
+
+    @Benchmark
+    public void getAdjacentIds(final QueryState state, final Blackhole blackhole) throws OperationException {
+        consume(state.graph.execute(new GetAdjacentIds.Builder()
+                .input(state.seeds)
+                .view(state.roadUseView)
+                .build(), USER), blackhole);
+    }
+
+    @Benchmark
+    public void getAllElementsWithFilter(final QueryState state, final Blackhole blackhole) throws OperationException {
+        consume(state.graph.execute(new GetAllElements.Builder()
+                .view(state.filteredView)
+                .build(), USER), blackhole);
+    }
+
+    private static void consume(final CloseableIterable<?> results, final Blackhole blackhole) {
+        try (final CloseableIterable<?> closeable = results) {
+            for (final Object result : closeable) {
+                blackhole.consume(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficCsvElementGenerator;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficDataField;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds synthetic road traffic data sets for the benchmarks. Records are
+ * generated deterministically in the same CSV format as the road traffic
+ * demo data and converted into elements using the
+ * {@link RoadTrafficCsvElementGenerator}, so the benchmarks exercise the same
+ * schema, groups and property types as the demo.
+ */
+public final class RoadTrafficData {
+    public static final String CARDINALITY = "Cardinality";
+
+    public static final int REGIONS = 10;
+    public static final int LOCATIONS_PER_REGION = 5;
+    public static final int ROADS = 100;
+    public static final int JUNCTIONS_PER_ROAD = 20;
+    public static final int HOURS = 24;
+
+    private static final long SEED = 42L;
+
+    private RoadTrafficData() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @return the road traffic schema, optimised with the default serialisers
+     */
+    public static Schema createSchema() {
+        return new SchemaOptimiser().optimise(Schema.fromJson(StreamUtil.openStreams(ElementGroup.class, "schema")), true);
+    }
+
+    /**
+     * Creates the requested number of road traffic count records. Each record
+     * is a count between two neighbouring junctions on a road for a single
+     * hour, so records for the same junctions and hour aggregate together.
+     *
+     * @param size the number of records to create
+     * @return the records
+     */
+    public static List<CSVRecord> createRecords(final int size) {
+        final Random random = new Random(SEED);
+        final StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            final int road = i % ROADS;
+            final int junction = (i / ROADS) % JUNCTIONS_PER_ROAD;
+            final int region = road % REGIONS;
+            final int location = (road / REGIONS) % LOCATIONS_PER_REGION;
+            final int hour = (i / (ROADS * JUNCTIONS_PER_ROAD)) % HOURS;
+            for (final RoadTrafficDataField field : RoadTrafficDataField.values()) {
+                if (field.ordinal() > 0) {
+                    csv.append(',');
+                }
+                csv.append(getValue(field, region, location, road, junction, hour, random));
+            }
+            csv.append('\n');
+        }
+
+        try (final CSVParser parser = new CSVParser(new StringReader(csv.toString()),
+                CSVFormat.DEFAULT.withHeader(RoadTrafficDataField.FIELDS.toArray(new String[0])))) {
+            return parser.getRecords();
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to create road traffic records", e);
+        }
+    }
+
+    /**
+     * Creates the elements generated from the requested number of road
+     * traffic records.
+     *
+     * @param size the number of records to generate elements from
+     * @return the elements
+     */
+    public static List<Element> createElements(final int size) {
+        return createElements(createRecords(size));
+    }
+
+    /**
+     * Creates new elements from the given road traffic records, so elements
+     * that are modified in place can be recreated without reparsing the
+     * records.
+     *
+     * @param records the records to generate elements from
+     * @return the elements
+     */
+    public static List<Element> createElements(final List<CSVRecord> records) {
+        final List<Element> elements = new ArrayList<>();
+        for (final Element element : new RoadTrafficCsvElementGenerator().apply(records)) {
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    /**
+     * Creates a new {@link Graph} backed by a {@link uk.gov.gchq.gaffer.mapstore.MapStore}
+     * with the road traffic schema.
+     *
+     * @param graphId the graph id
+     * @return the graph
+     */
+    public static Graph createGraph(final String graphId) {
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId(graphId)
+                        .build())
+                .addSchemas(StreamUtil.openStreams(ElementGroup.class, "schema"))
+                .storeProperties(new MapStoreProperties())
+                .build();
+    }
+
+    /**
+     * Creates a new {@link Graph} backed by a {@link uk.gov.gchq.gaffer.mapstore.MapStore}
+     * and loads it with the elements generated from the requested number of
+     * road traffic records.
+     *
+     * @param graphId the graph id
+     * @param size    the number of records to generate elements from
+     * @return the loaded graph
+     */
+    public static Graph createLoadedGraph(final String graphId, final int size) {
+        final Graph graph = createGraph(graphId);
+        try {
+            graph.execute(new AddElements.Builder()
+                    .input(createElements(size))
+                    .build(), new User());
+        } catch (final OperationException e) {
+            throw new RuntimeException("Unable to load road traffic elements", e);
+        }
+        return graph;
+    }
+
+    /**
+     * Creates a seed for each junction at the start of a road, up to the
+     * requested number of seeds.
+     *
+     * @param numSeeds the number of seeds to create
+     * @return the junction seeds
+     */
+    public static List<EntitySeed> createJunctionSeeds(final int numSeeds) {
+        final List<EntitySeed> seeds = new ArrayList<>(numSeeds);
+        for (int i = 0; i < numSeeds; i++) {
+            seeds.add(new EntitySeed(getJunction(i % ROADS, (i / ROADS) % JUNCTIONS_PER_ROAD)));
+        }
+        return seeds;
+    }
+
+    /**
+     * @param road     the road index
+     * @param junction the junction index
+     * @return the junction vertex, as created by the element generator
+     */
+    public static String getJunction(final int road, final int junction) {
+        return getRoad(road) + ":" + junction;
+    }
+
+    private static String getRoad(final int road) {
+        return "M" + road;
+    }
+
+    private static String getValue(final RoadTrafficDataField field, final int region, final int location,
+                                   final int road, final int junction, final int hour, final Random random) {
+        switch (field) {
+            case Region_Name:
+                return "Region" + region;
+            case ONS_LA_Name:
+                return "Location" + region + "-" + location;
+            case Road:
+                return getRoad(road);
+            case A_Junction:
+                return String.valueOf(junction);
+            case B_Junction:
+                return String.valueOf(junction + 1);
+            case A_Ref_E:
+            case A_Ref_N:
+                return String.valueOf(road * 1000 + junction);
+            case B_Ref_E:
+            case B_Ref_N:
+                return String.valueOf(road * 1000 + junction + 1);
+            case dCount:
+                return "2000-05-03 00:00:00";
+            case Hour:
+                return String.valueOf(hour);
+            default:
+                return RoadTrafficDataField.VEHICLE_COUNTS.contains(field) ? String.valueOf(random.nextInt(1000)) : "";
+        }
+    }
+}
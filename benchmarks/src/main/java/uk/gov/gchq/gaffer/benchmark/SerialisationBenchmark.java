@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.store.serialiser.ElementSerialiser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks serialising and deserialising elements with the
+ * {@link ElementSerialiser} and the {@link JSONSerialiser}.
+ * <p>
+ * The JSON benchmarks exclude the Cardinality entities as their HyperLogLogPlus
+ * sketches require the sketches JSON modules to be registered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SerialisationBenchmark {
+    @Param({"1000", "10000"})
+    private int size;
+
+    private ElementSerialiser elementSerialiser;
+    private List<Element> elements;
+    private List<byte[]> serialisedElements;
+    private List<Element> jsonElements;
+    private List<byte[]> jsonSerialisedElements;
+
+    @Setup
+    public void setup() throws SerialisationException {
+        elementSerialiser = new ElementSerialiser(RoadTrafficData.createSchema());
+        elements = RoadTrafficData.createElements(size);
+        serialisedElements = new ArrayList<>(elements.size());
+        for (final Element element : elements) {
+            serialisedElements.add(elementSerialiser.serialise(element));
+        }
+
+        jsonElements = elements.stream()
+                .filter(e -> !RoadTrafficData.CARDINALITY.equals(e.getGroup()))
+                .collect(Collectors.toList());
+        jsonSerialisedElements = new ArrayList<>(jsonElements.size());
+        for (final Element element : jsonElements) {
+            jsonSerialisedElements.add(JSONSerialiser.serialise(element));
+        }
+    }
+
+    @Benchmark
+    public void elementSerialise(final Blackhole blackhole) throws SerialisationException {
+        for (final Element element : elements) {
+            blackhole.consume(elementSerialiser.serialise(element));
+        }
+    }
+
+    @Benchmark
+    public void elementDeserialise(final Blackhole blackhole) throws SerialisationException {
+        for (final byte[] bytes : serialisedElements) {
+            blackhole.consume(elementSerialiser.deserialise(bytes));
+        }
+    }
+
+    @Benchmark
+    public void jsonSerialise(final Blackhole blackhole) throws SerialisationException {
+        for (final Element element : jsonElements) {
+            blackhole.consume(JSONSerialiser.serialise(element));
+        }
+    }
+
+    @Benchmark
+    public void jsonDeserialise(final Blackhole blackhole) throws SerialisationException {
+        for (final byte[] bytes : jsonSerialisedElements) {
+            blackhole.consume(JSONSerialiser.deserialise(bytes, Element.class));
+        }
+    }
+}
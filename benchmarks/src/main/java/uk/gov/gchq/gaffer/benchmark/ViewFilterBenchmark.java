@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks applying the pre and post aggregation filters of the
+ * {@link ViewElementDefinition}s in a {@link View} to each element, as the
+ * stores do when filtering query results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ViewFilterBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Element> elements;
+    private View view;
+
+    @Setup
+    public void setup() {
+        elements = RoadTrafficData.createElements(size);
+        final ViewElementDefinition countFilter = new ViewElementDefinition.Builder()
+                .preAggregationFilter(new ElementFilter.Builder()
+                        .select("count")
+                        .execute(new IsMoreThan(1000L))
+                        .build())
+                .postAggregationFilter(new ElementFilter.Builder()
+                        .select("count")
+                        .execute(new IsMoreThan(5000L))
+                        .build())
+                .build();
+        view = new View.Builder()
+                .edge(ElementGroup.ROAD_USE, countFilter)
+                .entity(ElementGroup.JUNCTION_USE, countFilter)
+                .build();
+    }
+
+    @Benchmark
+    public int preAggregationFilter() {
+        int matches = 0;
+        for (final Element element : elements) {
+            final ViewElementDefinition elementDef = view.getElement(element.getGroup());
+            if (null != elementDef && elementDef.getPreAggregationFilter().test(element)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int preAndPostAggregationFilter() {
+        int matches = 0;
+        for (final Element element : elements) {
+            final ViewElementDefinition elementDef = view.getElement(element.getGroup());
+            if (null != elementDef
+                    && elementDef.getPreAggregationFilter().test(element)
+                    && elementDef.getPostAggregationFilter().test(element)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
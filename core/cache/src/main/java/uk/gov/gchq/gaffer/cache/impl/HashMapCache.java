@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,59 +16,131 @@
 
 package uk.gov.gchq.gaffer.cache.impl;
 
-import com.google.common.collect.Lists;
-
 import uk.gov.gchq.gaffer.cache.ICache;
+import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.implementation.JavaSerialiser;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 /**
- * Simple implementation of the {@link ICache} interface, using a {@link HashMap}
- * as the cache data store.
+ * Simple, thread-safe implementation of the {@link ICache} interface, using a
+ * {@link ConcurrentHashMap} as the cache data store.
+ * <p>
+ * The cache can optionally be bounded to a maximum number of entries. When the
+ * bound is exceeded the least recently used entries are evicted, a tenth of the
+ * capacity at a time so that the cost of finding them is spread over many puts.
+ * Entries can also optionally expire a fixed time after they were added.
+ * <p>
+ * When Java serialisation is enabled, values are stored as serialised bytes and
+ * a new copy is deserialised on every get. If deserialised values are cached,
+ * the value is only deserialised on the first get and the same instance is
+ * returned from then on, so callers must not modify it.
  *
  * @param <K> The object type that acts as the key for the HashMap
  * @param <V> The value that is stored in the HashMap
  */
 public class HashMapCache<K, V> implements ICache<K, V> {
+    /**
+     * Value for the maximum number of entries that leaves the cache unbounded.
+     */
+    public static final int UNBOUNDED = 0;
+
+    /**
+     * Value for the time to live that stops entries from expiring.
+     */
+    public static final long NO_EXPIRY = 0L;
+
     private static final JavaSerialiser JAVA_SERIALISER = new JavaSerialiser();
-    private boolean useJavaSerialisation;
-    private HashMap<K, Object> cache = new HashMap<>();
+    private final boolean useJavaSerialisation;
+    private final boolean cacheDeserialisedValues;
+    private final int maxEntries;
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final Map<K, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong accessCount = new AtomicLong();
+    private final Object evictionLock = new Object();
 
     public HashMapCache(final boolean useJavaSerialisation) {
-        this.useJavaSerialisation = useJavaSerialisation;
+        this(useJavaSerialisation, false, UNBOUNDED, NO_EXPIRY);
     }
 
     public HashMapCache() {
         this(false);
     }
 
+    /**
+     * @param useJavaSerialisation    true if values should be stored using Java serialisation
+     * @param cacheDeserialisedValues true if values stored using Java serialisation should only be deserialised once
+     * @param maxEntries              the maximum number of entries to hold, or {@link #UNBOUNDED}
+     * @param timeToLive              the number of milliseconds an entry is held for, or {@link #NO_EXPIRY}
+     */
+    public HashMapCache(final boolean useJavaSerialisation, final boolean cacheDeserialisedValues, final int maxEntries, final long timeToLive) {
+        this(useJavaSerialisation, cacheDeserialisedValues, maxEntries, timeToLive, System::currentTimeMillis);
+    }
+
+    HashMapCache(final boolean useJavaSerialisation, final boolean cacheDeserialisedValues, final int maxEntries, final long timeToLive, final LongSupplier clock) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Max entries must not be negative, but was: " + maxEntries);
+        }
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("Time to live must not be negative, but was: " + timeToLive);
+        }
+        this.useJavaSerialisation = useJavaSerialisation;
+        this.cacheDeserialisedValues = cacheDeserialisedValues;
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
     @Override
     public V get(final K key) {
-        try {
-            return (V) (useJavaSerialisation
-                    ? JAVA_SERIALISER.deserialise((byte[]) cache.get(key))
-                    : cache.get(key));
-        } catch (final SerialisationException e) {
-            throw new RuntimeException(e);
+        final CacheEntry entry = cache.get(key);
+        if (null == entry) {
+            return null;
+        }
+        if (entry.isExpired(clock.getAsLong())) {
+            cache.remove(key, entry);
+            return null;
         }
+        entry.recordAccess();
+        return entry.getValue();
     }
 
     @Override
     public void put(final K key, final V value) {
-        if (useJavaSerialisation) {
-            try {
-                cache.put(key, JAVA_SERIALISER.serialise(value));
-            } catch (final SerialisationException e) {
-                throw new RuntimeException(e);
-            }
-        } else {
-            cache.<K, V>put(key, value);
+        cache.put(key, createEntry(value));
+        evictIfFull();
+    }
+
+    /**
+     * Adds the value only if there is no live entry with a non-null value for
+     * the key. The check and the add are a single atomic operation.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @throws OverwritingException if the key already has a value in the cache
+     */
+    @Override
+    public void putSafe(final K key, final V value) throws OverwritingException {
+        final CacheEntry newEntry = createEntry(value);
+        final long now = clock.getAsLong();
+        final CacheEntry entry = cache.compute(key, (k, existing) ->
+                null == existing || existing.isExpired(now) || !existing.hasValue() ? newEntry : existing);
+        if (entry != newEntry) {
+            throw new OverwritingException("Cache entry already exists for key: " + key);
         }
+        evictIfFull();
     }
 
     @Override
@@ -78,29 +150,24 @@ public class HashMapCache<K, V> implements ICache<K, V> {
 
     @Override
     public Collection<V> getAllValues() {
-        ArrayList<V> rtn = Lists.newArrayList();
-        if (useJavaSerialisation) {
-            cache.values()
-                    .forEach((Object o) -> {
-                        try {
-                            rtn.add((V) JAVA_SERIALISER.deserialise((byte[]) o));
-                        } catch (final SerialisationException e) {
-                            throw new RuntimeException(e);
-                        }
-                    });
-        } else {
-            rtn.addAll((Collection<V>) cache.values());
+        removeExpiredEntries();
+        final Collection<CacheEntry> entries = new ArrayList<>(cache.values());
+        final ArrayList<V> rtn = new ArrayList<>(entries.size());
+        for (final CacheEntry entry : entries) {
+            rtn.add(entry.getValue());
         }
         return rtn;
     }
 
     @Override
     public Set<K> getAllKeys() {
-        return cache.keySet();
+        removeExpiredEntries();
+        return new HashSet<>(cache.keySet());
     }
 
     @Override
     public int size() {
+        removeExpiredEntries();
         return cache.size();
     }
 
@@ -108,4 +175,96 @@ public class HashMapCache<K, V> implements ICache<K, V> {
     public void clear() {
         cache.clear();
     }
+
+    private CacheEntry createEntry(final V value) {
+        final Object storedValue;
+        if (useJavaSerialisation && null != value) {
+            try {
+                storedValue = JAVA_SERIALISER.serialise(value);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException(e);
+            }
+        } else {
+            storedValue = value;
+        }
+
+        final long expiryTime = NO_EXPIRY == timeToLive ? Long.MAX_VALUE : clock.getAsLong() + timeToLive;
+        return new CacheEntry(storedValue, expiryTime);
+    }
+
+    private void evictIfFull() {
+        if (UNBOUNDED == maxEntries || cache.size() <= maxEntries) {
+            return;
+        }
+        synchronized (evictionLock) {
+            removeExpiredEntries();
+            final int excess = cache.size() - maxEntries;
+            if (excess > 0) {
+                final List<Map.Entry<K, CacheEntry>> leastRecentlyUsed = cache.entrySet()
+                        .stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                        .limit(excess + maxEntries / 10)
+                        .collect(Collectors.toList());
+                for (final Map.Entry<K, CacheEntry> entry : leastRecentlyUsed) {
+                    cache.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private void removeExpiredEntries() {
+        if (NO_EXPIRY != timeToLive) {
+            final long now = clock.getAsLong();
+            cache.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    private final class CacheEntry {
+        private final Object storedValue;
+        private final long expiryTime;
+        private volatile long lastAccess;
+        private volatile V deserialisedValue;
+
+        private CacheEntry(final Object storedValue, final long expiryTime) {
+            this.storedValue = storedValue;
+            this.expiryTime = expiryTime;
+            recordAccess();
+        }
+
+        private void recordAccess() {
+            // Access order is only needed to find the least recently used entries to evict
+            if (UNBOUNDED != maxEntries) {
+                lastAccess = accessCount.incrementAndGet();
+            }
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expiryTime;
+        }
+
+        private boolean hasValue() {
+            return null != storedValue;
+        }
+
+        private V getValue() {
+            if (!useJavaSerialisation || null == storedValue) {
+                return (V) storedValue;
+            }
+
+            if (cacheDeserialisedValues && null != deserialisedValue) {
+                return deserialisedValue;
+            }
+
+            final V value;
+            try {
+                value = (V) JAVA_SERIALISER.deserialise((byte[]) storedValue);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException(e);
+            }
+            if (cacheDeserialisedValues) {
+                deserialisedValue = value;
+            }
+            return value;
+        }
+    }
 }
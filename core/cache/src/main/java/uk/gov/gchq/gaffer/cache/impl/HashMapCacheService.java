@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,27 +18,39 @@ package uk.gov.gchq.gaffer.cache.impl;
 
 import uk.gov.gchq.gaffer.cache.ICache;
 import uk.gov.gchq.gaffer.cache.ICacheService;
+import uk.gov.gchq.gaffer.cache.util.CacheProperties;
 
-import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple implementation of the {@link ICacheService} interface which uses a
  * {@link HashMapCache} as the cache implementation.
+ * <p>
+ * Caches are unbounded by default. The size and time to live of an individual
+ * cache can be bounded by suffixing {@link CacheProperties#CACHE_MAX_ENTRIES} or
+ * {@link CacheProperties#CACHE_TIME_TO_LIVE} with the cache name, so that only
+ * caches which can safely lose entries are ever bounded.
  */
 public class HashMapCacheService implements ICacheService {
     public static final String STATIC_CACHE = "gaffer.cache.hashmap.static";
     public static final String JAVA_SERIALISATION_CACHE = "gaffer.cache.hashmap.useJavaSerialisation";
-    private static final HashMap<String, HashMapCache> STATIC_CACHES = new HashMap<>();
-    private final HashMap<String, HashMapCache> nonStaticCaches = new HashMap<>();
+    public static final String CACHE_DESERIALISED_VALUES = "gaffer.cache.hashmap.cacheDeserialisedValues";
+    private static final Map<String, HashMapCache> STATIC_CACHES = new ConcurrentHashMap<>();
+    private final Map<String, HashMapCache> nonStaticCaches = new ConcurrentHashMap<>();
     private boolean useJavaSerialisation = false;
+    private boolean cacheDeserialisedValues = false;
+    private Properties properties = new Properties();
 
-    private HashMap<String, HashMapCache> caches = nonStaticCaches;
+    private Map<String, HashMapCache> caches = nonStaticCaches;
 
     @Override
     public void initialise(final Properties properties) {
         if (properties != null) {
             useJavaSerialisation = Boolean.parseBoolean(properties.getProperty(JAVA_SERIALISATION_CACHE));
+            cacheDeserialisedValues = Boolean.parseBoolean(properties.getProperty(CACHE_DESERIALISED_VALUES));
+            this.properties = properties;
         }
 
         if (properties != null && Boolean.parseBoolean(properties.getProperty(STATIC_CACHE))) {
@@ -55,8 +67,16 @@ public class HashMapCacheService implements ICacheService {
 
     @Override
     public <K, V> ICache<K, V> getCache(final String cacheName) {
-        HashMapCache<K, V> cache = caches.computeIfAbsent(cacheName, k -> new HashMapCache<>(useJavaSerialisation));
+        HashMapCache<K, V> cache = caches.computeIfAbsent(cacheName, k -> new HashMapCache<>(
+                useJavaSerialisation,
+                cacheDeserialisedValues,
+                Integer.parseInt(getCacheProperty(CacheProperties.CACHE_MAX_ENTRIES, cacheName, String.valueOf(HashMapCache.UNBOUNDED))),
+                Long.parseLong(getCacheProperty(CacheProperties.CACHE_TIME_TO_LIVE, cacheName, String.valueOf(HashMapCache.NO_EXPIRY)))));
 
         return cache;
     }
+
+    private String getCacheProperty(final String property, final String cacheName, final String defaultValue) {
+        return properties.getProperty(CacheProperties.forCache(property, cacheName), defaultValue);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,4 +35,29 @@ public final class CacheProperties {
      */
     public static final String CACHE_CONFIG_FILE = "gaffer.cache.config.file";
 
+    /**
+     * Prefix of the property to use in order to define the maximum number of
+     * entries held in a cache. It only applies when suffixed with the name of
+     * the cache to bound, see {@link #forCache(String, String)}.
+     */
+    public static final String CACHE_MAX_ENTRIES = "gaffer.cache.maxEntries";
+
+    /**
+     * Prefix of the property to use in order to define the number of milliseconds
+     * an entry is held in a cache. It only applies when suffixed with the name of
+     * the cache to bound, see {@link #forCache(String, String)}.
+     */
+    public static final String CACHE_TIME_TO_LIVE = "gaffer.cache.timeToLive";
+
+    /**
+     * Get the name of a property for an individual cache.
+     *
+     * @param property  the property name
+     * @param cacheName the name of the cache
+     * @return the property name for the cache
+     */
+    public static String forCache(final String property, final String cacheName) {
+        return property + "." + cacheName;
+    }
+
 }
@@ -22,8 +22,11 @@ import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.cache.ICache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.cache.util.CacheProperties;
 import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 
+import java.util.Properties;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -147,12 +150,43 @@ public class HashMapCacheServiceTest {
         service.putInCache(CACHE_NAME, "duplicate", 3);
 
         // Then
-        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(4);
+        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(3);
         assertThat(service.getAllValuesFromCache(CACHE_NAME))
                 .hasSize(4)
                 .contains(1, 2, 3, 3);
     }
 
+    @Test
+    public void shouldBoundCacheUsingCacheSpecificMaxEntries() throws CacheOperationException {
+        // Given
+        final Properties properties = new Properties();
+        properties.setProperty(CacheProperties.forCache(CacheProperties.CACHE_MAX_ENTRIES, CACHE_NAME), "2");
+        service.initialise(properties);
+
+        // When
+        populateCache();
+
+        // Then
+        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(2);
+        assertThat(service.getAllKeysFromCache(CACHE_NAME)).containsOnly("test2", "test3");
+    }
+
+    @Test
+    public void shouldNotBoundCachesWithoutCacheSpecificProperties() throws CacheOperationException {
+        // Given
+        final Properties properties = new Properties();
+        properties.setProperty(CacheProperties.CACHE_MAX_ENTRIES, "2");
+        properties.setProperty(CacheProperties.CACHE_TIME_TO_LIVE, "1");
+        properties.setProperty(CacheProperties.forCache(CacheProperties.CACHE_MAX_ENTRIES, "otherCache"), "2");
+        service.initialise(properties);
+
+        // When
+        populateCache();
+
+        // Then
+        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(3);
+    }
+
     private void populateCache() throws CacheOperationException {
         service.putInCache(CACHE_NAME, "test1", 1);
         service.putInCache(CACHE_NAME, "test2", 2);
@@ -20,8 +20,18 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -132,4 +142,109 @@ public class HashMapCacheTest {
         final TempClass tempClass = new TempClass();
         map.put("test1", tempClass);
     }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntryWhenMaxEntriesExceeded() {
+        final HashMapCache<String, Integer> boundedCache = new HashMapCache<>(false, false, 2, HashMapCache.NO_EXPIRY);
+        boundedCache.put("test1", 1);
+        boundedCache.put("test2", 2);
+        boundedCache.get("test1");
+
+        boundedCache.put("test3", 3);
+
+        assertThat(boundedCache.size()).isEqualTo(2);
+        assertThat(boundedCache.getAllKeys()).containsOnly("test1", "test3");
+    }
+
+    @Test
+    public void shouldExpireEntriesAfterTimeToLive() {
+        // Given
+        final AtomicLong now = new AtomicLong(1000L);
+        final HashMapCache<String, Integer> expiringCache = new HashMapCache<>(false, false, HashMapCache.UNBOUNDED, 10L, now::get);
+        expiringCache.put("test1", 1);
+
+        // When
+        now.addAndGet(9L);
+        final Integer beforeExpiry = expiringCache.get("test1");
+        now.addAndGet(1L);
+
+        // Then
+        assertThat(beforeExpiry).isEqualTo(1);
+        assertThat(expiringCache.get("test1")).isNull();
+        assertThat(expiringCache.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotOverwriteExistingEntryWithPutSafe() throws OverwritingException {
+        // Given
+        cache.putSafe("test1", 1);
+
+        // When / Then
+        assertThatExceptionOfType(OverwritingException.class)
+                .isThrownBy(() -> cache.putSafe("test1", 2));
+        assertThat(cache.get("test1")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReplaceExpiredEntryWithPutSafe() throws OverwritingException {
+        // Given
+        final AtomicLong now = new AtomicLong(1000L);
+        final HashMapCache<String, Integer> expiringCache = new HashMapCache<>(false, false, HashMapCache.UNBOUNDED, 10L, now::get);
+        expiringCache.putSafe("test1", 1);
+        now.addAndGet(10L);
+
+        // When
+        expiringCache.putSafe("test1", 2);
+
+        // Then
+        assertThat(expiringCache.get("test1")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldOnlyAllowOnePutSafePerKeyWhenCalledConcurrently() throws InterruptedException {
+        // Given
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger successes = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            final int value = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    cache.putSafe("test1", value);
+                    successes.incrementAndGet();
+                } catch (final OverwritingException e) {
+                    // Expected for all but one thread
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(successes.get()).isOne();
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    public void shouldReturnCopyOfValueWhenUsingJavaSerialisation() {
+        final HashMapCache<String, List<Integer>> map = new HashMapCache<>(true);
+        map.put("test1", new ArrayList<>());
+
+        assertThat(map.get("test1")).isEqualTo(map.get("test1")).isNotSameAs(map.get("test1"));
+    }
+
+    @Test
+    public void shouldOnlyDeserialiseOnceWhenCachingDeserialisedValues() {
+        final HashMapCache<String, List<Integer>> map = new HashMapCache<>(true, true, HashMapCache.UNBOUNDED, HashMapCache.NO_EXPIRY);
+        map.put("test1", new ArrayList<>());
+
+        assertThat(map.get("test1")).isSameAs(map.get("test1"));
+    }
 }
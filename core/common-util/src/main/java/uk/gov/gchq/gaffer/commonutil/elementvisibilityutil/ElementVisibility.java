@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.PatternSyntaxException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -30,6 +32,12 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * This class is coped from org.apache.accumulo.core.security.ColumnVisibility.
  */
 public class ElementVisibility {
+    /**
+     * The maximum number of parsed expressions held by {@link #of(String)}.
+     */
+    public static final int MAX_CACHED_EXPRESSIONS = 10000;
+    private static final Map<String, ElementVisibility> PARSED_EXPRESSIONS = new ConcurrentHashMap<>();
+
     ElementVisibility.Node node;
     private byte[] expression;
     private static final ElementVisibility.Node EMPTY_NODE;
@@ -47,6 +55,27 @@ public class ElementVisibility {
         this.validate(expression);
     }
 
+    /**
+     * Gets the parsed visibility for an expression, from a cache shared by all
+     * callers so repeated expressions are only parsed once. The cache is
+     * cleared once it holds {@link #MAX_CACHED_EXPRESSIONS} expressions.
+     * The returned visibility is shared, so its expression must not be modified.
+     *
+     * @param expression the visibility expression
+     * @return the parsed visibility
+     */
+    public static ElementVisibility of(final String expression) {
+        ElementVisibility elementVisibility = PARSED_EXPRESSIONS.get(expression);
+        if (null == elementVisibility) {
+            elementVisibility = new ElementVisibility(expression);
+            if (PARSED_EXPRESSIONS.size() >= MAX_CACHED_EXPRESSIONS) {
+                PARSED_EXPRESSIONS.clear();
+            }
+            PARSED_EXPRESSIONS.put(expression, elementVisibility);
+        }
+        return elementVisibility;
+    }
+
     public byte[] getExpression() {
         return this.expression;
     }
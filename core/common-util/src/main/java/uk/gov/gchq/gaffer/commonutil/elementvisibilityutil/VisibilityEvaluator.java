@@ -18,16 +18,50 @@ package uk.gov.gchq.gaffer.commonutil.elementvisibilityutil;
 
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.exception.VisibilityParseException;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * This class is copied from org.apache.accumulo.core.security.VisibilityEvaluator.
+ * <p>
+ * Results of {@link #evaluate(String)} are cached for the lifetime of the
+ * evaluator, so a single evaluator should be created for a set of
+ * authorisations and reused, e.g. for every element returned by a query.
  */
 public class VisibilityEvaluator {
+    /**
+     * The maximum number of results held by an evaluator.
+     */
+    public static final int MAX_CACHED_RESULTS = 10000;
+
+    private final Map<String, Boolean> results = new ConcurrentHashMap<>();
     private Authorisations auths;
 
     public VisibilityEvaluator(final Authorisations auths) {
         this.auths = auths;
     }
 
+    /**
+     * Evaluates a visibility expression, using the parsed expressions shared
+     * through {@link ElementVisibility#of(String)} and caching the result for
+     * this evaluator's authorisations.
+     *
+     * @param visibility the visibility expression
+     * @return true if the authorisations satisfy the expression
+     * @throws VisibilityParseException if the expression could not be evaluated
+     */
+    public boolean evaluate(final String visibility) throws VisibilityParseException {
+        Boolean result = results.get(visibility);
+        if (null == result) {
+            result = evaluate(ElementVisibility.of(visibility));
+            if (results.size() >= MAX_CACHED_RESULTS) {
+                results.clear();
+            }
+            results.put(visibility, result);
+        }
+        return result;
+    }
+
     public boolean evaluate(final ElementVisibility visibility) throws VisibilityParseException {
         return this.evaluate(visibility.getExpression(), visibility.getParseTree());
     }
@@ -32,6 +32,14 @@ import static uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.ElementVisibil
 
 public class ElementVisibilityTest {
 
+    @Test
+    public void shouldReuseParsedExpressionFromCache() {
+        final ElementVisibility a = ElementVisibility.of("A&B");
+        final ElementVisibility b = ElementVisibility.of("A&B");
+
+        assertThat(a).isSameAs(b).isEqualTo(new ElementVisibility("A&B"));
+    }
+
     @Test
     public void testEmptyStringIsValid() {
         final ElementVisibility a = new ElementVisibility(new byte[0]);
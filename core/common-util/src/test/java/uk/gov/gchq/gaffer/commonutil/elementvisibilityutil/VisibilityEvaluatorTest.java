@@ -118,4 +118,18 @@ public class VisibilityEvaluatorTest {
         assertFalse(ve.evaluate(new ElementVisibility(quote("五") + "&(" + quote("四") + "|" + quote("三") + ")")));
         assertFalse(ve.evaluate(new ElementVisibility("\"五\"&(\"四\"|\"三\")")));
     }
+
+    @Test
+    public void testEvaluateExpressionString() throws VisibilityParseException {
+        assertTrue(ve.evaluate(""));
+        assertTrue(ve.evaluate("one&two"));
+        assertTrue(ve.evaluate("one&two"));
+        assertFalse(ve.evaluate("one&five"));
+        assertFalse(ve.evaluate("one&five"));
+    }
+
+    @Test
+    public void testEvaluateExpressionStringThrowsForInvalidExpression() {
+        assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(() -> ve.evaluate("one&|two"));
+    }
 }
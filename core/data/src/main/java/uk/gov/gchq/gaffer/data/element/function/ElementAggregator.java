@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperatorComposite;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BinaryOperator;
@@ -32,11 +33,14 @@ import java.util.function.BinaryOperator;
 /**
  * An {@link ElementAggregator} is a {@link BinaryOperator} which aggregates two
  * {@link Element} objects into a single element.
+ * <p>
+ * Once the aggregator has been locked, properties are aggregated using a
+ * compiled form of the aggregator (see {@link #compile()}), so each selection
+ * is only resolved once rather than for every element.
  */
 public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<String> {
-    private final PropertiesTuple stateTuple = new PropertiesTuple();
-    private final PropertiesTuple propertiesTuple = new PropertiesTuple();
     private boolean readOnly;
+    private transient volatile BinaryOperator<Properties> compiled;
 
     /**
      * Aggregates the element. Note - only the element properties are aggregated.
@@ -60,12 +64,66 @@ public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<Strin
             return properties;
         }
 
-        propertiesTuple.setProperties(properties);
-        stateTuple.setProperties(state);
-        apply(stateTuple, propertiesTuple);
+        if (readOnly) {
+            BinaryOperator<Properties> operator = compiled;
+            if (null == operator) {
+                operator = compile();
+                compiled = operator;
+            }
+            return operator.apply(state, properties);
+        }
+
+        // New tuples are used for each call so the aggregator can be shared between threads
+        apply(new PropertiesTuple(state), new PropertiesTuple(properties));
         return state;
     }
 
+    /**
+     * Compiles the current components of this aggregator into a
+     * {@link BinaryOperator} which can be shared between threads. Operators with
+     * a single property selection read and write the properties directly, and
+     * other operators are applied to new {@link PropertiesTuple}s for each call.
+     * Any later changes to the components are not reflected in the compiled
+     * operator.
+     *
+     * @return the compiled operator, which aggregates the properties into the
+     * state properties
+     */
+    public BinaryOperator<Properties> compile() {
+        final List<BinaryOperator<Properties>> operators = new ArrayList<>(components.size());
+        for (final TupleAdaptedBinaryOperator<String, ?> component : components) {
+            operators.add(compile(component));
+        }
+
+        return (state, properties) -> {
+            if (null == state) {
+                return properties;
+            }
+            for (final BinaryOperator<Properties> operator : operators) {
+                operator.apply(state, properties);
+            }
+            return state;
+        };
+    }
+
+    private static BinaryOperator<Properties> compile(final TupleAdaptedBinaryOperator<String, ?> component) {
+        final String[] selection = component.getSelection();
+        final BinaryOperator binaryOperator = component.getBinaryOperator();
+        if (null != binaryOperator && null != selection && 1 == selection.length
+                && !PropertiesTuple.PROPERTIES.equals(selection[0])) {
+            final String propertyName = selection[0];
+            return (state, properties) -> {
+                state.put(propertyName, binaryOperator.apply(state.get(propertyName), properties.get(propertyName)));
+                return state;
+            };
+        }
+
+        return (state, properties) -> {
+            component.apply(new PropertiesTuple(state), new PropertiesTuple(properties));
+            return state;
+        };
+    }
+
     @Override
     public List<TupleAdaptedBinaryOperator<String, ?>> getComponents() {
         if (readOnly) {
@@ -92,12 +150,8 @@ public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<Strin
             return false;
         }
 
-        final ElementAggregator that = (ElementAggregator) obj;
-
         return new EqualsBuilder()
                 .appendSuper(super.equals(obj))
-                .append(stateTuple, that.stateTuple)
-                .append(propertiesTuple, that.propertiesTuple)
                 .isEquals();
     }
 
@@ -105,16 +159,13 @@ public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<Strin
     public int hashCode() {
         return new HashCodeBuilder(59, 13)
                 .appendSuper(super.hashCode())
-                .append(stateTuple)
-                .append(propertiesTuple)
                 .toHashCode();
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .append("stateTuple", stateTuple)
-                .append("propertiesTuple", propertiesTuple)
+                .append("components", components)
                 .toString();
     }
 
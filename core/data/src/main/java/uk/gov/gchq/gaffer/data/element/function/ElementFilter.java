@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
@@ -34,27 +35,77 @@ import java.util.function.Predicate;
 /**
  * An {@code ElementFilter} is a {@link Predicate} which evaluates a condition against
  * a provided {@link Element} object.
+ * <p>
+ * Once the filter has been locked, elements are tested using a compiled form
+ * of the filter (see {@link #compile()}), so each selection is only resolved
+ * once rather than for every element.
  */
 @JsonPropertyOrder(alphabetic = true)
 public class ElementFilter extends TupleAdaptedPredicateComposite<String> {
-    private final ElementTuple elementTuple = new ElementTuple();
     private boolean readOnly;
+    private transient volatile Predicate<Element> compiled;
 
     public boolean test(final Element element) {
-        elementTuple.setElement(element);
-        return test(elementTuple);
+        if (readOnly) {
+            Predicate<Element> predicate = compiled;
+            if (null == predicate) {
+                predicate = compile();
+                compiled = predicate;
+            }
+            return predicate.test(element);
+        }
+
+        // A new tuple is used for each call so the filter can be shared between threads
+        return test(new ElementTuple(element));
+    }
+
+    /**
+     * Compiles the current components of this filter into a {@link Predicate}
+     * which can be shared between threads. Each single selection is resolved
+     * once into a direct accessor for the element identifier or property, and
+     * components with multiple selections are evaluated against a new
+     * {@link ElementTuple} for each element. Any later changes to the
+     * components are not reflected in the compiled predicate.
+     *
+     * @return the compiled predicate
+     */
+    public Predicate<Element> compile() {
+        final List<Predicate<Element>> predicates = new ArrayList<>(components.size());
+        for (final TupleAdaptedPredicate<String, ?> component : components) {
+            predicates.add(compile(component));
+        }
+
+        return element -> {
+            for (final Predicate<Element> predicate : predicates) {
+                if (!predicate.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<Element> compile(final TupleAdaptedPredicate<String, ?> component) {
+        final String[] selection = component.getSelection();
+        final Predicate predicate = component.getPredicate();
+        if (null != predicate && null != selection && 1 == selection.length) {
+            final ElementSelection elementSelection = ElementSelection.resolve(selection[0]);
+            return element -> predicate.test(elementSelection.get(element));
+        }
+
+        return element -> component.test(new ElementTuple(element));
     }
 
     public ValidationResult testWithValidationResult(final Element element) {
         final ValidationResult result = new ValidationResult();
-        elementTuple.setElement(element);
+        final ElementTuple elementTuple = new ElementTuple(element);
         components.stream()
                 .filter(predicate -> !predicate.test(elementTuple))
-                .forEach(predicate -> result.addError(getErrorMsg(predicate)));
+                .forEach(predicate -> result.addError(getErrorMsg(predicate, elementTuple)));
         return result;
     }
 
-    private String getErrorMsg(final TupleAdaptedPredicate<String, ?> predicate) {
+    private String getErrorMsg(final TupleAdaptedPredicate<String, ?> predicate, final ElementTuple elementTuple) {
         final StringBuilder builder = new StringBuilder();
         builder.append("Filter: ")
                 .append(predicate.getPredicate())
@@ -101,11 +152,8 @@ public class ElementFilter extends TupleAdaptedPredicateComposite<String> {
             return false;
         }
 
-        final ElementFilter that = (ElementFilter) obj;
-
         return new EqualsBuilder()
                 .appendSuper(super.equals(obj))
-                .append(elementTuple, that.elementTuple)
                 .isEquals();
     }
 
@@ -113,14 +161,13 @@ public class ElementFilter extends TupleAdaptedPredicateComposite<String> {
     public int hashCode() {
         return new HashCodeBuilder(19, 53)
                 .appendSuper(super.hashCode())
-                .append(elementTuple)
                 .toHashCode();
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .append("elementTuple", elementTuple)
+                .append("components", components)
                 .toString();
     }
 
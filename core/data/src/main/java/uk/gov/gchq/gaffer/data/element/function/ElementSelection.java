@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.element.function;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementTuple;
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
+
+/**
+ * An {@code ElementSelection} is a selection reference, as used by an
+ * {@link ElementTuple}, which has been resolved once into a direct accessor
+ * for the element, its properties, one of its identifiers or a property.
+ */
+final class ElementSelection {
+    private enum Kind {
+        ELEMENT, PROPERTIES, IDENTIFIER, PROPERTY
+    }
+
+    private final Kind kind;
+    private final String propertyName;
+    private final IdentifierType identifierType;
+
+    private ElementSelection(final Kind kind, final String propertyName, final IdentifierType identifierType) {
+        this.kind = kind;
+        this.propertyName = propertyName;
+        this.identifierType = identifierType;
+    }
+
+    static ElementSelection resolve(final String reference) {
+        if (ElementTuple.ELEMENT.equals(reference)) {
+            return new ElementSelection(Kind.ELEMENT, null, null);
+        }
+
+        if (ElementTuple.PROPERTIES.equals(reference)) {
+            return new ElementSelection(Kind.PROPERTIES, null, null);
+        }
+
+        final IdentifierType idType = IdentifierType.fromName(reference);
+        if (null == idType) {
+            return new ElementSelection(Kind.PROPERTY, reference, null);
+        }
+
+        return new ElementSelection(Kind.IDENTIFIER, null, idType);
+    }
+
+    Object get(final Element element) {
+        switch (kind) {
+            case PROPERTY:
+                return element.getProperty(propertyName);
+            case IDENTIFIER:
+                return element.getIdentifier(identifierType);
+            case PROPERTIES:
+                return element.getProperties();
+            default:
+                return element;
+        }
+    }
+
+    /**
+     * @return true if values can be put directly into this selection. Values
+     * put into the ELEMENT or PROPERTIES selections are handled by the
+     * {@link ElementTuple}.
+     */
+    boolean isWritable() {
+        return Kind.PROPERTY == kind || Kind.IDENTIFIER == kind;
+    }
+
+    void put(final Element element, final Object value) {
+        if (Kind.PROPERTY == kind) {
+            element.putProperty(propertyName, value);
+        } else if (Kind.IDENTIFIER == kind) {
+            element.putIdentifier(identifierType, value);
+        } else {
+            throw new UnsupportedOperationException("Values cannot be put directly into the " + kind + " selection");
+        }
+    }
+}
@@ -28,23 +28,97 @@ import uk.gov.gchq.koryphe.impl.function.Identity;
 import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
 import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunctionComposite;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * An {@code ElementTransformer} is a {@link Function} which applies a series of
  * transformations to an {@link Element}.
+ * <p>
+ * Once the transformer has been locked, elements are transformed using a
+ * compiled form of the transformer (see {@link #compile()}), so each selection
+ * and projection is only resolved once rather than for every element.
  */
 @Since("0.3.0")
 @Summary("A Function which applies a series of transformations to an Element")
 public class ElementTransformer extends TupleAdaptedFunctionComposite<String> {
-    private final ElementTuple elementTuple = new ElementTuple();
+    private boolean readOnly;
+    private transient volatile Function<Element, Element> compiled;
 
     public Element apply(final Element element) {
-        elementTuple.setElement(element);
-        apply(elementTuple);
+        if (readOnly) {
+            Function<Element, Element> function = compiled;
+            if (null == function) {
+                function = compile();
+                compiled = function;
+            }
+            return function.apply(element);
+        }
+
+        // A new tuple is used for each call so the transformer can be shared between threads
+        apply(new ElementTuple(element));
         return element;
     }
 
+    /**
+     * Compiles the current components of this transformer into a
+     * {@link Function} which can be shared between threads. Functions with a
+     * single selection and projection read and write the element identifier or
+     * property directly, and other functions are applied to a new
+     * {@link ElementTuple} for each element. Any later changes to the
+     * components are not reflected in the compiled function.
+     *
+     * @return the compiled function
+     */
+    public Function<Element, Element> compile() {
+        final List<Consumer<Element>> functions = new ArrayList<>(components.size());
+        for (final TupleAdaptedFunction<String, ?, ?> component : components) {
+            functions.add(compile(component));
+        }
+
+        return element -> {
+            for (final Consumer<Element> function : functions) {
+                function.accept(element);
+            }
+            return element;
+        };
+    }
+
+    private static Consumer<Element> compile(final TupleAdaptedFunction<String, ?, ?> component) {
+        final String[] selection = component.getSelection();
+        final String[] projection = component.getProjection();
+        final Function function = component.getFunction();
+        if (null != function && null != selection && 1 == selection.length
+                && null != projection && 1 == projection.length) {
+            final ElementSelection input = ElementSelection.resolve(selection[0]);
+            final ElementSelection output = ElementSelection.resolve(projection[0]);
+            if (output.isWritable()) {
+                return element -> output.put(element, function.apply(input.get(element)));
+            }
+        }
+
+        return element -> component.apply(new ElementTuple(element));
+    }
+
+    @Override
+    public List<TupleAdaptedFunction<String, ?, ?>> getComponents() {
+        if (readOnly) {
+            return Collections.unmodifiableList(super.getComponents());
+        }
+
+        return super.getComponents();
+    }
+
+    /**
+     * Prevent any further changes being carried out.
+     */
+    public void lock() {
+        readOnly = true;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -55,11 +129,8 @@ public class ElementTransformer extends TupleAdaptedFunctionComposite<String> {
             return false;
         }
 
-        final ElementTransformer that = (ElementTransformer) obj;
-
         return new EqualsBuilder()
                 .appendSuper(super.equals(obj))
-                .append(elementTuple, that.elementTuple)
                 .isEquals();
     }
 
@@ -67,14 +138,13 @@ public class ElementTransformer extends TupleAdaptedFunctionComposite<String> {
     public int hashCode() {
         return new HashCodeBuilder(47, 17)
                 .appendSuper(super.hashCode())
-                .append(elementTuple)
                 .toHashCode();
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .append("elementTuple", elementTuple)
+                .append("components", components)
                 .toString();
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
@@ -48,6 +49,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * A {@code ViewElementDefinition} is an {@link ElementDefinition} containing
@@ -72,6 +75,17 @@ public class ViewElementDefinition implements ElementDefinition {
     protected ElementFilter postTransformFilter;
     protected ElementTransformer transformer;
 
+    /**
+     * Compiled forms of the filters and transformer, created when this
+     * element definition is locked. The functions themselves are left
+     * unlocked, as they may be owned by the caller that built this element
+     * definition.
+     */
+    private transient Predicate<Element> compiledPreAggregationFilter;
+    private transient Predicate<Element> compiledPostAggregationFilter;
+    private transient Predicate<Element> compiledPostTransformFilter;
+    private transient Function<Element, Element> compiledTransformer;
+
     /**
      * This field overrides the group by properties in the schema.
      * They must be sub set of the group by properties in the schema.
@@ -182,6 +196,17 @@ public class ViewElementDefinition implements ElementDefinition {
         return preAggregationFilter;
     }
 
+    /**
+     * @return the pre aggregation filter in its compiled form (see
+     * {@link ElementFilter#compile()}) if this element definition has been
+     * locked, otherwise the pre aggregation filter itself. Null if there is no
+     * pre aggregation filter.
+     */
+    @JsonIgnore
+    public Predicate<Element> getCompiledPreAggregationFilter() {
+        return getCompiled(compiledPreAggregationFilter, preAggregationFilter);
+    }
+
     public List<TupleAdaptedPredicate<String, ?>> getPreAggregationFilterFunctions() {
         return null != preAggregationFilter ? preAggregationFilter.getComponents() : null;
     }
@@ -211,6 +236,17 @@ public class ViewElementDefinition implements ElementDefinition {
         return postAggregationFilter;
     }
 
+    /**
+     * @return the post aggregation filter in its compiled form (see
+     * {@link ElementFilter#compile()}) if this element definition has been
+     * locked, otherwise the post aggregation filter itself. Null if there is
+     * no post aggregation filter.
+     */
+    @JsonIgnore
+    public Predicate<Element> getCompiledPostAggregationFilter() {
+        return getCompiled(compiledPostAggregationFilter, postAggregationFilter);
+    }
+
     public List<TupleAdaptedPredicate<String, ?>> getPostAggregationFilterFunctions() {
         return null != postAggregationFilter ? postAggregationFilter.getComponents() : null;
     }
@@ -224,6 +260,17 @@ public class ViewElementDefinition implements ElementDefinition {
         return postTransformFilter;
     }
 
+    /**
+     * @return the post transform filter in its compiled form (see
+     * {@link ElementFilter#compile()}) if this element definition has been
+     * locked, otherwise the post transform filter itself. Null if there is no
+     * post transform filter.
+     */
+    @JsonIgnore
+    public Predicate<Element> getCompiledPostTransformFilter() {
+        return getCompiled(compiledPostTransformFilter, postTransformFilter);
+    }
+
     public List<TupleAdaptedPredicate<String, ?>> getPostTransformFilterFunctions() {
         return null != postTransformFilter ? postTransformFilter.getComponents() : null;
     }
@@ -237,6 +284,20 @@ public class ViewElementDefinition implements ElementDefinition {
         return transformer;
     }
 
+    /**
+     * @return the transformer in its compiled form (see
+     * {@link ElementTransformer#compile()}) if this element definition has
+     * been locked, otherwise the transformer itself. Null if there is no
+     * transformer.
+     */
+    @JsonIgnore
+    public Function<Element, Element> getCompiledTransformer() {
+        if (null != compiledTransformer) {
+            return compiledTransformer;
+        }
+        return null != transformer ? transformer::apply : null;
+    }
+
     public List<TupleAdaptedFunction<String, ?, ?>> getTransformFunctions() {
         return null != transformer ? transformer.getComponents() : null;
     }
@@ -313,6 +374,20 @@ public class ViewElementDefinition implements ElementDefinition {
         }
 
         transientProperties = Collections.unmodifiableMap(transientProperties);
+
+        // The functions may be owned by the caller, so rather than locking
+        // them, their current components are compiled separately
+        compiledPreAggregationFilter = null != preAggregationFilter ? preAggregationFilter.compile() : null;
+        compiledPostAggregationFilter = null != postAggregationFilter ? postAggregationFilter.compile() : null;
+        compiledPostTransformFilter = null != postTransformFilter ? postTransformFilter.compile() : null;
+        compiledTransformer = null != transformer ? transformer.compile() : null;
+    }
+
+    private static Predicate<Element> getCompiled(final Predicate<Element> compiled, final ElementFilter filter) {
+        if (null != compiled) {
+            return compiled;
+        }
+        return null != filter ? filter::test : null;
     }
 
     public abstract static class BaseBuilder<CHILD_CLASS extends BaseBuilder<?>> {
@@ -535,6 +610,14 @@ public class ViewElementDefinition implements ElementDefinition {
             return self();
         }
 
+        /**
+         * Merges the provided element definition into this one. The filters
+         * and transformer of the provided element definition are copied, so
+         * it is never modified by this or later merges.
+         *
+         * @param elementDef the element definition to merge in
+         * @return this builder
+         */
         public CHILD_CLASS merge(final ViewElementDefinition elementDef) {
             if (null != elementDef) {
                 for (final Entry<String, Class<?>> entry : elementDef.getTransientPropertyMap().entrySet()) {
@@ -551,27 +634,31 @@ public class ViewElementDefinition implements ElementDefinition {
                     }
                 }
 
-                if (null == getElementDef().preAggregationFilter) {
-                    getElementDef().preAggregationFilter = elementDef.preAggregationFilter;
-                } else if (null != elementDef.preAggregationFilter) {
+                if (null != elementDef.preAggregationFilter) {
+                    if (null == getElementDef().preAggregationFilter) {
+                        getElementDef().preAggregationFilter = new ElementFilter();
+                    }
                     getElementDef().preAggregationFilter.getComponents().addAll(elementDef.preAggregationFilter.getComponents());
                 }
 
-                if (null == getElementDef().postAggregationFilter) {
-                    getElementDef().postAggregationFilter = elementDef.postAggregationFilter;
-                } else if (null != elementDef.postAggregationFilter) {
+                if (null != elementDef.postAggregationFilter) {
+                    if (null == getElementDef().postAggregationFilter) {
+                        getElementDef().postAggregationFilter = new ElementFilter();
+                    }
                     getElementDef().postAggregationFilter.getComponents().addAll(elementDef.postAggregationFilter.getComponents());
                 }
 
-                if (null == getElementDef().postTransformFilter) {
-                    getElementDef().postTransformFilter = elementDef.postTransformFilter;
-                } else if (null != elementDef.postTransformFilter) {
+                if (null != elementDef.postTransformFilter) {
+                    if (null == getElementDef().postTransformFilter) {
+                        getElementDef().postTransformFilter = new ElementFilter();
+                    }
                     getElementDef().postTransformFilter.getComponents().addAll(elementDef.postTransformFilter.getComponents());
                 }
 
-                if (null == getElementDef().transformer) {
-                    getElementDef().transformer = elementDef.transformer;
-                } else if (null != elementDef.transformer) {
+                if (null != elementDef.transformer) {
+                    if (null == getElementDef().transformer) {
+                        getElementDef().transformer = new ElementTransformer();
+                    }
                     getElementDef().transformer.getComponents().addAll(elementDef.transformer.getComponents());
                 }
 
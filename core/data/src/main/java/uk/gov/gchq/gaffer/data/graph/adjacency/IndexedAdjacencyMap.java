@@ -0,0 +1,380 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * An {@code IndexedAdjacencyMap} is an {@link AdjacencyMap} which stores its
+ * edges in primitive arrays, using a {@link VertexIndex} to convert vertices
+ * into dense int ids.
+ * <p>
+ * Edges are appended to the arrays as they are added. The first time the map
+ * is read after being modified, the edges are sorted by source and then
+ * destination id into a compressed sparse row layout, so the edges for a
+ * source vertex are held contiguously and can be found without hashing
+ * anything other than the vertex itself. Lookups by destination vertex
+ * require a linear scan of the edges.
+ * <p>
+ * A VertexIndex can be shared between the adjacency maps for each hop of a
+ * walk, so each vertex is only held once.
+ */
+public class IndexedAdjacencyMap extends AdjacencyMap {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_OFFSETS = new int[1];
+
+    private final VertexIndex vertexIndex;
+
+    private int[] sources = new int[INITIAL_CAPACITY];
+    private int[] destinations = new int[INITIAL_CAPACITY];
+    private Edge[] edges = new Edge[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Edges marked for removal, which are dropped when the map is next sorted.
+     */
+    private final BitSet removed = new BitSet();
+
+    /**
+     * The index of the first edge for each source id, with a final entry
+     * marking the end of the edges. Only valid when the map is not dirty.
+     */
+    private int[] offsets = NO_OFFSETS;
+    private boolean dirty;
+
+    public IndexedAdjacencyMap() {
+        this(new VertexIndex());
+    }
+
+    public IndexedAdjacencyMap(final VertexIndex vertexIndex) {
+        this.vertexIndex = vertexIndex;
+    }
+
+    public VertexIndex getVertexIndex() {
+        return vertexIndex;
+    }
+
+    @Override
+    public Set<Edge> getEdges(final Object source, final Object destination) {
+        final int sourceId = vertexIndex.getId(source);
+        final int destinationId = vertexIndex.getId(destination);
+        if (VertexIndex.NO_ID == sourceId || VertexIndex.NO_ID == destinationId) {
+            return Collections.emptySet();
+        }
+
+        sort();
+        if (sourceId >= offsets.length - 1) {
+            return Collections.emptySet();
+        }
+
+        final int end = offsets[sourceId + 1];
+        int i = firstIndexOf(destinationId, offsets[sourceId], end);
+        if (i < 0) {
+            return Collections.emptySet();
+        }
+
+        final Set<Edge> results = new HashSet<>();
+        while (i < end && destinations[i] == destinationId) {
+            results.add(edges[i++]);
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each edge is added with {@link #putEdge(Object, Object, Edge)}.
+     */
+    @Override
+    public Set<Edge> putEdges(final Object source, final Object destination, final Set<Edge> set) {
+        for (final Edge edge : set) {
+            putEdge(source, destination, edge);
+        }
+        return set;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * To avoid sorting the edges after every addition, this returns a set
+     * containing only the added edge. Use {@link #getEdges(Object, Object)}
+     * to get all of the edges between the two vertices. As with
+     * {@link AdjacencyMap}, adding an edge which is equal to one already held
+     * between the same vertices has no effect, although the duplicate is only
+     * dropped when the map is next sorted.
+     */
+    @Override
+    public Set<Edge> putEdge(final Object source, final Object destination, final Edge edge) {
+        if (size == sources.length) {
+            final int capacity = size * 2;
+            sources = Arrays.copyOf(sources, capacity);
+            destinations = Arrays.copyOf(destinations, capacity);
+            edges = Arrays.copyOf(edges, capacity);
+        }
+        sources[size] = vertexIndex.getOrCreateId(source);
+        destinations[size] = vertexIndex.getOrCreateId(destination);
+        edges[size] = edge;
+        size++;
+        dirty = true;
+        return Collections.singleton(edge);
+    }
+
+    @Override
+    public Set<Object> getDestinations(final Object source) {
+        final int sourceId = vertexIndex.getId(source);
+        if (VertexIndex.NO_ID == sourceId) {
+            return Collections.emptySet();
+        }
+
+        sort();
+        if (sourceId >= offsets.length - 1) {
+            return Collections.emptySet();
+        }
+
+        final Set<Object> results = new LinkedHashSet<>();
+        int previous = VertexIndex.NO_ID;
+        for (int i = offsets[sourceId]; i < offsets[sourceId + 1]; i++) {
+            if (destinations[i] != previous) {
+                previous = destinations[i];
+                results.add(vertexIndex.getVertex(previous));
+            }
+        }
+        return Collections.unmodifiableSet(results);
+    }
+
+    @Override
+    public Set<Object> getSources(final Object destination) {
+        final int destinationId = vertexIndex.getId(destination);
+        if (VertexIndex.NO_ID == destinationId) {
+            return Collections.emptySet();
+        }
+
+        sort();
+        final Set<Object> results = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (destinations[i] == destinationId) {
+                results.add(vertexIndex.getVertex(sources[i]));
+            }
+        }
+        return Collections.unmodifiableSet(results);
+    }
+
+    @Override
+    public Set<Object> getAllSources() {
+        return toVertices(getSourceIds());
+    }
+
+    @Override
+    public Set<Object> getAllDestinations() {
+        sort();
+        final BitSet ids = new BitSet();
+        for (int i = 0; i < size; i++) {
+            ids.set(destinations[i]);
+        }
+        return toVertices(ids);
+    }
+
+    @Override
+    public void removeAllWithDestination(final Object destination) {
+        final int destinationId = vertexIndex.getId(destination);
+        if (VertexIndex.NO_ID != destinationId) {
+            final BitSet retained = new BitSet();
+            retained.set(0, vertexIndex.size());
+            retained.clear(destinationId);
+            retainDestinations(retained);
+        }
+    }
+
+    @Override
+    public boolean containsSource(final Object source) {
+        final int sourceId = vertexIndex.getId(source);
+        if (VertexIndex.NO_ID == sourceId) {
+            return false;
+        }
+
+        sort();
+        return sourceId < offsets.length - 1 && offsets[sourceId] < offsets[sourceId + 1];
+    }
+
+    @Override
+    public boolean containsDestination(final Object destination) {
+        final int destinationId = vertexIndex.getId(destination);
+        if (VertexIndex.NO_ID == destinationId) {
+            return false;
+        }
+
+        sort();
+        for (int i = 0; i < size; i++) {
+            if (destinations[i] == destinationId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of edges in the map
+     */
+    public int size() {
+        sort();
+        return size;
+    }
+
+    /**
+     * @return the ids of all of the source vertices in the map
+     */
+    BitSet getSourceIds() {
+        sort();
+        final BitSet ids = new BitSet();
+        for (int i = 0; i < size; i++) {
+            ids.set(sources[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Removes all edges with destination ids which are not in the provided
+     * set of ids, in a single pass over the edges.
+     *
+     * @param destinationIds the destination ids to retain
+     * @return true if any edges were removed
+     */
+    boolean retainDestinations(final BitSet destinationIds) {
+        sort();
+        boolean changed = false;
+        for (int i = 0; i < size; i++) {
+            if (!destinationIds.get(destinations[i])) {
+                removed.set(i);
+                changed = true;
+            }
+        }
+        if (changed) {
+            dirty = true;
+        }
+        return changed;
+    }
+
+    @Override
+    public String toString() {
+        return getAllSources().stream()
+                .map(s -> s.toString() + "->" + getDestinations(s))
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    private Set<Object> toVertices(final BitSet ids) {
+        final Set<Object> vertices = ids.stream()
+                .mapToObj(vertexIndex::getVertex)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(vertices);
+    }
+
+    private int firstIndexOf(final int destinationId, final int start, final int end) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (destinations[mid] < destinationId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < end && destinations[low] == destinationId ? low : -1;
+    }
+
+    /**
+     * Sorts the edges by source and then destination id using two stable
+     * counting sorts, dropping any removed or duplicate edges, and rebuilds
+     * the offsets.
+     */
+    private void sort() {
+        if (!dirty) {
+            return;
+        }
+
+        final int numVertices = vertexIndex.size();
+        final int[] byDestination = countingSort(IntStream.range(0, size).filter(i -> !removed.get(i)).toArray(), destinations, numVertices);
+        final int[] bySource = countingSort(byDestination, sources, numVertices);
+
+        final int[] newSources = new int[Math.max(bySource.length, INITIAL_CAPACITY)];
+        final int[] newDestinations = new int[newSources.length];
+        final Edge[] newEdges = new Edge[newSources.length];
+        // The edges between each pair of vertices are only hashed once there
+        // is more than one of them, to drop duplicates.
+        final Set<Edge> pairEdges = new HashSet<>();
+        int newSize = 0;
+        for (final int index : bySource) {
+            if (0 < newSize
+                    && newSources[newSize - 1] == sources[index]
+                    && newDestinations[newSize - 1] == destinations[index]) {
+                if (pairEdges.isEmpty()) {
+                    pairEdges.add(newEdges[newSize - 1]);
+                }
+                if (!pairEdges.add(edges[index])) {
+                    continue;
+                }
+            } else {
+                pairEdges.clear();
+            }
+            newSources[newSize] = sources[index];
+            newDestinations[newSize] = destinations[index];
+            newEdges[newSize] = edges[index];
+            newSize++;
+        }
+
+        final int[] newOffsets = new int[numVertices + 1];
+        for (int i = 0; i < newSize; i++) {
+            newOffsets[newSources[i] + 1]++;
+        }
+        for (int i = 0; i < numVertices; i++) {
+            newOffsets[i + 1] += newOffsets[i];
+        }
+
+        sources = newSources;
+        destinations = newDestinations;
+        edges = newEdges;
+        size = newSize;
+        offsets = newOffsets;
+        removed.clear();
+        dirty = false;
+    }
+
+    private static int[] countingSort(final int[] indices, final int[] keys, final int numKeys) {
+        final int[] starts = new int[numKeys + 1];
+        for (final int index : indices) {
+            starts[keys[index] + 1]++;
+        }
+        for (int i = 0; i < numKeys; i++) {
+            starts[i + 1] += starts[i];
+        }
+
+        final int[] sorted = new int[indices.length];
+        for (final int index : indices) {
+            sorted[starts[keys[index]]++] = index;
+        }
+        return sorted;
+    }
+}
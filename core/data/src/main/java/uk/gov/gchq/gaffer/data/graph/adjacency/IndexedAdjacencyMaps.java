@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An {@code IndexedAdjacencyMaps} object holds a number of
+ * {@link IndexedAdjacencyMap}s which share a single {@link VertexIndex}.
+ * <p>
+ * If pruning is enabled, adding an adjacency map removes orphaned edges from
+ * the previous maps, in the same way as {@link PrunedAdjacencyMaps}. Pruning
+ * is a single reverse pass over the previous maps using sets of vertex ids,
+ * which stops as soon as a map is left unchanged.
+ */
+public class IndexedAdjacencyMaps implements AdjacencyMaps {
+    private final VertexIndex vertexIndex = new VertexIndex();
+    private final boolean prune;
+
+    /**
+     * The backing list.
+     */
+    private final List<AdjacencyMap> adjacencyMaps = new ArrayList<>();
+
+    public IndexedAdjacencyMaps() {
+        this(false);
+    }
+
+    public IndexedAdjacencyMaps(final boolean prune) {
+        this.prune = prune;
+    }
+
+    /**
+     * @return a new, empty, adjacency map which uses this object's
+     * {@link VertexIndex}
+     */
+    public IndexedAdjacencyMap createAdjacencyMap() {
+        return new IndexedAdjacencyMap(vertexIndex);
+    }
+
+    public VertexIndex getVertexIndex() {
+        return vertexIndex;
+    }
+
+    public boolean isPrune() {
+        return prune;
+    }
+
+    @Override
+    public void add(final AdjacencyMap adjacencyMap) {
+        if (!(adjacencyMap instanceof IndexedAdjacencyMap)
+                || vertexIndex != ((IndexedAdjacencyMap) adjacencyMap).getVertexIndex()) {
+            throw new IllegalArgumentException("Adjacency maps must be created using " + getClass().getSimpleName() + ".createAdjacencyMap()");
+        }
+
+        if (prune) {
+            removeOrphans((IndexedAdjacencyMap) adjacencyMap);
+        }
+        adjacencyMaps.add(adjacencyMap);
+    }
+
+    @Override
+    public List<AdjacencyMap> asList() {
+        return adjacencyMaps;
+    }
+
+    @Override
+    public String toString() {
+        return prettyPrint();
+    }
+
+    /**
+     * Remove orphaned edges from the previous adjacency maps. An orphaned edge
+     * is one whose destination is not a source in the following map.
+     *
+     * @param curr the adjacency map being added
+     */
+    private void removeOrphans(final IndexedAdjacencyMap curr) {
+        BitSet sourceIds = curr.getSourceIds();
+        for (int i = adjacencyMaps.size() - 1; i >= 0; i--) {
+            final IndexedAdjacencyMap prev = (IndexedAdjacencyMap) adjacencyMaps.get(i);
+            if (!prev.retainDestinations(sourceIds)) {
+                break;
+            }
+            sourceIds = prev.getSourceIds();
+        }
+    }
+}
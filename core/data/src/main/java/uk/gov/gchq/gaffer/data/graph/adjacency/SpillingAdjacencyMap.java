@@ -0,0 +1,460 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@code SpillingAdjacencyMap} is an {@link AdjacencyMap} which holds at most
+ * a configured number of edges in memory. Once that threshold is reached, the
+ * buffered edges are appended to a spill file as one block per source vertex,
+ * and the position of each block is recorded in an in-memory index. Looking up
+ * a source vertex only reads the blocks for that vertex, and the edges of
+ * recently used source vertices are cached up to a configured number of edges.
+ * <p>
+ * Edges are written using Java serialisation. If an edge, or one of its
+ * vertices or properties, cannot be serialised then the map stops spilling
+ * and keeps all remaining edges in memory.
+ * <p>
+ * Spilled maps cannot be pruned, so they should only be used with
+ * {@link SimpleAdjacencyMaps}. The spill file is deleted when the map is
+ * closed, after which the spilled edges can no longer be read.
+ */
+public class SpillingAdjacencyMap extends AdjacencyMap implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillingAdjacencyMap.class);
+
+    private final int spillThreshold;
+    private final String spillDirectory;
+    private final int maxCachedEdges;
+    private final Map<Object, SpilledSource> index = new HashMap<>();
+    private final Map<Object, AdjacencyMap> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+
+    private AdjacencyMap buffer = new AdjacencyMap();
+    private int bufferedEdges;
+    private int cachedEdges;
+    private Path file;
+    private FileChannel channel;
+    private long fileLength;
+    private boolean spillable = true;
+    private boolean closed;
+
+    /**
+     * @param spillThreshold the number of edges to hold in memory before
+     *                       spilling them to disk, this is also the number of
+     *                       spilled edges cached in memory
+     * @param spillDirectory the directory to create the spill file in, if
+     *                       null the system temporary directory is used
+     */
+    public SpillingAdjacencyMap(final int spillThreshold, final String spillDirectory) {
+        this(spillThreshold, spillDirectory, spillThreshold);
+    }
+
+    /**
+     * @param spillThreshold the number of edges to hold in memory before
+     *                       spilling them to disk
+     * @param spillDirectory the directory to create the spill file in, if
+     *                       null the system temporary directory is used
+     * @param maxCachedEdges the number of spilled edges to cache in memory
+     */
+    public SpillingAdjacencyMap(final int spillThreshold, final String spillDirectory, final int maxCachedEdges) {
+        if (spillThreshold < 1) {
+            throw new IllegalArgumentException("The spill threshold must be at least 1");
+        }
+        if (maxCachedEdges < 0) {
+            throw new IllegalArgumentException("The maximum number of cached edges must not be negative");
+        }
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+        this.maxCachedEdges = maxCachedEdges;
+    }
+
+    @Override
+    public Set<Edge> getEdges(final Object source, final Object destination) {
+        if (!isSpilled()) {
+            return buffer.getEdges(source, destination);
+        }
+
+        final Set<Edge> results = new HashSet<>(getSpilledEdges(source).getEdges(source, destination));
+        results.addAll(buffer.getEdges(source, destination));
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each edge is added with {@link #putEdge(Object, Object, Edge)}, so the
+     * edges may be spilled part way through.
+     */
+    @Override
+    public Set<Edge> putEdges(final Object source, final Object destination, final Set<Edge> set) {
+        for (final Edge edge : set) {
+            putEdge(source, destination, edge);
+        }
+        return set;
+    }
+
+    @Override
+    public Set<Edge> putEdge(final Object source, final Object destination, final Edge edge) {
+        final int sizeBefore = buffer.getEdges(source, destination).size();
+        final Set<Edge> result = buffer.putEdge(source, destination, edge);
+        bufferedEdges += buffer.getEdges(source, destination).size() - sizeBefore;
+        if (spillable && bufferedEdges >= spillThreshold) {
+            spill();
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Object> getDestinations(final Object source) {
+        if (!isSpilled()) {
+            return buffer.getDestinations(source);
+        }
+
+        final Set<Object> results = new HashSet<>(getSpilledEdges(source).getDestinations(source));
+        results.addAll(buffer.getDestinations(source));
+        return Collections.unmodifiableSet(results);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Once the map has been spilled, this requires the whole spill file to be
+     * read.
+     */
+    @Override
+    public Set<Object> getSources(final Object destination) {
+        final Set<Object> results = new HashSet<>(buffer.getSources(destination));
+        forEachSpilledBlock(block -> results.addAll(block.getSources(destination)));
+        return Collections.unmodifiableSet(results);
+    }
+
+    @Override
+    public Set<Object> getAllSources() {
+        if (!isSpilled()) {
+            return buffer.getAllSources();
+        }
+
+        checkNotClosed();
+        final Set<Object> results = new HashSet<>(buffer.getAllSources());
+        results.addAll(index.keySet());
+        return Collections.unmodifiableSet(results);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Once the map has been spilled, this requires the whole spill file to be
+     * read.
+     */
+    @Override
+    public Set<Object> getAllDestinations() {
+        final Set<Object> results = new HashSet<>(buffer.getAllDestinations());
+        forEachSpilledBlock(block -> results.addAll(block.getAllDestinations()));
+        return Collections.unmodifiableSet(results);
+    }
+
+    @Override
+    public void removeAllWithDestination(final Object destination) {
+        if (isSpilled()) {
+            throw new UnsupportedOperationException("Edges cannot be removed from an adjacency map that has been spilled to disk");
+        }
+        buffer.removeAllWithDestination(destination);
+    }
+
+    @Override
+    public boolean containsSource(final Object source) {
+        if (buffer.containsSource(source)) {
+            return true;
+        }
+        if (!isSpilled()) {
+            return false;
+        }
+        checkNotClosed();
+        return index.containsKey(source);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Once the map has been spilled, this may require the whole spill file to
+     * be read.
+     */
+    @Override
+    public boolean containsDestination(final Object destination) {
+        return buffer.containsDestination(destination)
+                || (isSpilled() && getAllDestinations().contains(destination));
+    }
+
+    /**
+     * @return true if any edges have been written to disk
+     */
+    public boolean isSpilled() {
+        return fileLength > 0;
+    }
+
+    /**
+     * Deletes the spill file. Once closed, any attempt to read edges that
+     * were spilled to disk will fail.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        index.clear();
+        cache.clear();
+        cachedEdges = 0;
+        if (null != channel) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to close spill file {}", file, e);
+            }
+        }
+        if (null != file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to delete spill file {}", file, e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpillingAdjacencyMap[spilled=" + isSpilled() + ", buffer=" + buffer + ']';
+    }
+
+    private void spill() {
+        checkNotClosed();
+        try {
+            if (null == file) {
+                file = null == spillDirectory
+                        ? Files.createTempFile("gaffer-adjacency-", ".spill")
+                        : Files.createTempFile(Paths.get(spillDirectory), "gaffer-adjacency-", ".spill");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+
+            // The index is only updated once every block has been written, so
+            // a failed spill leaves the previously spilled edges intact.
+            final Map<Object, Block> blocks = new HashMap<>();
+            long position = fileLength;
+            for (final Object source : buffer.getAllSources()) {
+                final Block block = writeBlock(source, position);
+                blocks.put(source, block);
+                position = block.position + block.length;
+            }
+            fileLength = position;
+            for (final Map.Entry<Object, Block> entry : blocks.entrySet()) {
+                index.computeIfAbsent(entry.getKey(), k -> new SpilledSource()).add(entry.getValue());
+                cache.remove(entry.getKey());
+            }
+            recountCachedEdges();
+        } catch (final NotSerializableException e) {
+            LOGGER.warn("Unable to spill adjacency map to disk, the remaining edges will be held in memory: {}", e.getMessage());
+            spillable = false;
+            return;
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to spill adjacency map to disk", e);
+        }
+
+        LOGGER.debug("Spilled {} edges to {}", bufferedEdges, file);
+        buffer = new AdjacencyMap();
+        bufferedEdges = 0;
+    }
+
+    /**
+     * Writes the buffered edges for a source vertex as a single block, using
+     * one object stream for the whole block. Each block is prefixed with its
+     * length so the spill file can also be read sequentially.
+     */
+    private Block writeBlock(final Object source, final long position) throws IOException {
+        blockBytes.reset();
+        final Set<Object> destinations = buffer.getDestinations(source);
+        int edges = 0;
+        try (final ObjectOutputStream out = new ObjectOutputStream(blockBytes)) {
+            out.writeObject(source);
+            out.writeInt(destinations.size());
+            for (final Object destination : destinations) {
+                final Set<Edge> destinationEdges = buffer.getEdges(source, destination);
+                out.writeObject(destination);
+                out.writeInt(destinationEdges.size());
+                for (final Edge edge : destinationEdges) {
+                    out.writeObject(edge);
+                }
+                edges += destinationEdges.size();
+            }
+        }
+
+        final ByteBuffer bytes = ByteBuffer.allocate(Integer.BYTES + blockBytes.size());
+        bytes.putInt(blockBytes.size());
+        bytes.put(blockBytes.toByteArray());
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes, position + bytes.position());
+        }
+        return new Block(position + Integer.BYTES, blockBytes.size(), edges);
+    }
+
+    private AdjacencyMap getSpilledEdges(final Object source) {
+        checkNotClosed();
+        AdjacencyMap edges = cache.get(source);
+        if (null == edges) {
+            edges = new AdjacencyMap();
+            final SpilledSource spilledSource = index.get(source);
+            if (null != spilledSource) {
+                for (final Block block : spilledSource.blocks) {
+                    readBlock(block, edges);
+                }
+                cache.put(source, edges);
+                cachedEdges += spilledSource.edges;
+                evictCachedEdges();
+            }
+        }
+        return edges;
+    }
+
+    private void evictCachedEdges() {
+        // The most recently used source is always kept, even if it has more
+        // edges than the cache allows.
+        final Iterator<Object> sources = cache.keySet().iterator();
+        while (cachedEdges > maxCachedEdges && cache.size() > 1) {
+            cachedEdges -= index.get(sources.next()).edges;
+            sources.remove();
+        }
+    }
+
+    private void recountCachedEdges() {
+        cachedEdges = 0;
+        for (final Object source : cache.keySet()) {
+            cachedEdges += index.get(source).edges;
+        }
+    }
+
+    private void readBlock(final Block block, final AdjacencyMap edges) {
+        final ByteBuffer bytes = ByteBuffer.allocate(block.length);
+        try {
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, block.position + bytes.position()) < 0) {
+                    throw new EOFException("Unexpected end of spill file " + file);
+                }
+            }
+            deserialise(bytes.array(), edges);
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new RuntimeException("Unable to read spilled adjacency map " + file, e);
+        }
+    }
+
+    private void forEachSpilledBlock(final Consumer<AdjacencyMap> consumer) {
+        if (!isSpilled()) {
+            return;
+        }
+        checkNotClosed();
+
+        // Scanning every block reads the file sequentially rather than
+        // seeking to each block through the index.
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            long position = 0;
+            while (position < fileLength) {
+                final int length = in.readInt();
+                final byte[] record = new byte[length];
+                in.readFully(record);
+                position += Integer.BYTES + length;
+
+                final AdjacencyMap block = new AdjacencyMap();
+                deserialise(record, block);
+                consumer.accept(block);
+            }
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new RuntimeException("Unable to read spilled adjacency map " + file, e);
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The spilled edges have been deleted as this adjacency map has been closed");
+        }
+    }
+
+    private static void deserialise(final byte[] record, final AdjacencyMap edges) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(record))) {
+            final Object source = in.readObject();
+            final int destinations = in.readInt();
+            for (int i = 0; i < destinations; i++) {
+                final Object destination = in.readObject();
+                final int destinationEdges = in.readInt();
+                for (int j = 0; j < destinationEdges; j++) {
+                    edges.putEdge(source, destination, (Edge) in.readObject());
+                }
+            }
+        }
+    }
+
+    private static final class Block {
+        private final long position;
+        private final int length;
+        private final int edges;
+
+        private Block(final long position, final int length, final int edges) {
+            this.position = position;
+            this.length = length;
+            this.edges = edges;
+        }
+    }
+
+    private static final class SpilledSource {
+        private final List<Block> blocks = new ArrayList<>(1);
+        private int edges;
+
+        private void add(final Block block) {
+            blocks.add(block);
+            edges += block.edges;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@code VertexIndex} interns vertices by assigning each distinct vertex a
+ * dense int id, starting from 0, so that adjacency information can be stored
+ * in primitive arrays. {@link Long} vertices are held in an open addressing
+ * table of primitive longs, so they are not boxed again for every lookup;
+ * all other vertices are held in a {@link HashMap}.
+ */
+public class VertexIndex {
+    public static final int NO_ID = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Object, Integer> objectIds = new HashMap<>();
+    private long[] longKeys = new long[INITIAL_CAPACITY];
+    private int[] longIds = newIds(INITIAL_CAPACITY);
+    private int longCount;
+    private Object[] vertices = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Gets the id of a vertex, assigning it the next id if it has not been
+     * seen before.
+     *
+     * @param vertex the vertex
+     * @return the id of the vertex
+     */
+    public int getOrCreateId(final Object vertex) {
+        int id = getId(vertex);
+        if (NO_ID == id) {
+            id = size;
+            if (vertex instanceof Long) {
+                putLong((Long) vertex, id);
+            } else {
+                objectIds.put(vertex, id);
+            }
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+            }
+            vertices[size++] = vertex;
+        }
+        return id;
+    }
+
+    /**
+     * @param vertex the vertex
+     * @return the id of the vertex, or {@link #NO_ID} if the vertex has not
+     * been indexed
+     */
+    public int getId(final Object vertex) {
+        if (vertex instanceof Long) {
+            return getLong((Long) vertex);
+        }
+
+        final Integer id = objectIds.get(vertex);
+        return null != id ? id : NO_ID;
+    }
+
+    /**
+     * @param id the id of the vertex
+     * @return the vertex with the given id
+     */
+    public Object getVertex(final int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No vertex with id " + id);
+        }
+        return vertices[id];
+    }
+
+    /**
+     * @return the number of vertices that have been indexed
+     */
+    public int size() {
+        return size;
+    }
+
+    private int getLong(final long key) {
+        final int mask = longKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (NO_ID != longIds[slot]) {
+            if (longKeys[slot] == key) {
+                return longIds[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_ID;
+    }
+
+    private void putLong(final long key, final int id) {
+        if (2 * (longCount + 1) > longKeys.length) {
+            resizeLongs();
+        }
+        final int mask = longKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (NO_ID != longIds[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        longKeys[slot] = key;
+        longIds[slot] = id;
+        longCount++;
+    }
+
+    private void resizeLongs() {
+        final long[] oldKeys = longKeys;
+        final int[] oldIds = longIds;
+        longKeys = new long[oldKeys.length * 2];
+        longIds = newIds(oldKeys.length * 2);
+        longCount = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (NO_ID != oldIds[i]) {
+                putLong(oldKeys[i], oldIds[i]);
+            }
+        }
+    }
+
+    private static int hash(final long key) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static int[] newIds(final int capacity) {
+        final int[] ids = new int[capacity];
+        Arrays.fill(ids, NO_ID);
+        return ids;
+    }
+}
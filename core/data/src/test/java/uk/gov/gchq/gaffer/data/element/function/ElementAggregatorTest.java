@@ -23,11 +23,14 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.gaffer.function.ExampleTuple2BinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.n.Tuple3;
 
 import java.util.List;
 import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -312,6 +315,29 @@ public class ElementAggregatorTest {
         assertEquals(props2, state);
     }
 
+    @Test
+    public void shouldAggregatePropertiesConcurrentlyWhenLocked() {
+        // Given
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select("count")
+                .execute(new Sum())
+                .build();
+        aggregator.lock();
+
+        // When
+        final List<Object> results = IntStream.range(0, 1000)
+                .parallel()
+                .mapToObj(i -> {
+                    final Properties state = new Properties("count", i);
+                    final Properties properties = new Properties("count", 1);
+                    return aggregator.apply(state, properties).get("count");
+                })
+                .collect(Collectors.toList());
+
+        // Then
+        assertEquals(IntStream.range(1, 1001).boxed().collect(Collectors.toList()), results);
+    }
+
     @Test
     public void shouldReturnUnmodifiableComponentsWhenLocked() {
         final ElementAggregator aggregator = new ElementAggregator();
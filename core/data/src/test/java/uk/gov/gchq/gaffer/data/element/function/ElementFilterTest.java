@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.JSONSerialisationTest;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
@@ -31,6 +32,7 @@ import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -293,6 +295,65 @@ public class ElementFilterTest extends JSONSerialisationTest<ElementFilter> {
         assertThatNoException().isThrownBy(() -> components.add(null));
     }
 
+    @Test
+    public void shouldTestElementsUsingCompiledFilterWhenLocked() {
+        // Given
+        final ElementFilter filter = new ElementFilter.Builder()
+                .select(IdentifierType.VERTEX.name())
+                .execute(new IsEqual("vertex"))
+                .select(TestPropertyNames.PROP_1)
+                .execute(new IsMoreThan(2))
+                .select(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2)
+                .execute(new KoryphePredicate2<Integer, String>() {
+                    @Override
+                    public boolean test(final Integer o, final String o2) {
+                        return o2.length() > o;
+                    }
+                })
+                .build();
+        filter.lock();
+
+        // When
+        final boolean result1 = filter.test(makeEntity("vertex", 3, "value"));
+        final boolean result2 = filter.test(makeEntity("vertex", 1, "value"));
+        final boolean result3 = filter.test(makeEntity("other", 3, "value"));
+        final boolean result4 = filter.test(makeEntity("vertex", 3, "v"));
+
+        // Then
+        assertTrue(result1);
+        assertFalse(result2);
+        assertFalse(result3);
+        assertFalse(result4);
+    }
+
+    @Test
+    public void shouldTestElementsConcurrentlyWhenLocked() {
+        // Given
+        final ElementFilter filter = new ElementFilter.Builder()
+                .select(TestPropertyNames.PROP_1)
+                .execute(new IsMoreThan(500))
+                .build();
+        filter.lock();
+
+        // When
+        final long count = IntStream.range(0, 1000)
+                .parallel()
+                .mapToObj(this::makeEntity)
+                .filter(filter::test)
+                .count();
+
+        // Then
+        assertEquals(499, count);
+    }
+
+    private Entity makeEntity(final String vertex, final Object property1, final String property2) {
+        return new Entity.Builder()
+                .vertex(vertex)
+                .property(TestPropertyNames.PROP_1, property1)
+                .property(TestPropertyNames.PROP_2, property2)
+                .build();
+    }
+
     private Entity makeEntity(final Object property1, final String property2) {
         return new Entity.Builder()
                 .property(TestPropertyNames.PROP_1, property1)
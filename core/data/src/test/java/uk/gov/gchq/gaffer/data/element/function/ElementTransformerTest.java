@@ -31,9 +31,11 @@ import uk.gov.gchq.koryphe.impl.function.ToLong;
 import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.BDDMockito.given;
@@ -204,6 +206,48 @@ public class ElementTransformerTest extends FunctionTest<ElementTransformer> {
         assertEquals("{\"functions\":[{\"selection\":[\"property1\"],\"function\":{\"class\":\"uk.gov.gchq.koryphe.impl.function.ToLong\"},\"projection\":[\"property2\"]}]}", json);
     }
 
+    @Test
+    public void shouldTransformElementUsingCompiledTransformerWhenLocked() {
+        // Given
+        final ElementTransformer transformer = new ElementTransformer.Builder()
+                .select(TestPropertyNames.PROP_1)
+                .execute(new ToLong())
+                .project(TestPropertyNames.PROP_2)
+                .select(IdentifierType.SOURCE.name())
+                .execute(new Identity())
+                .project(TestPropertyNames.PROP_3)
+                .select(TestPropertyNames.PROP_2, TestPropertyNames.PROP_3)
+                .project(TestPropertyNames.PROP_4, TestPropertyNames.PROP_5)
+                .build();
+        transformer.lock();
+
+        final Edge edge = new Edge.Builder()
+                .source("source")
+                .dest("dest")
+                .property(TestPropertyNames.PROP_1, 1)
+                .build();
+
+        // When
+        final Element result = transformer.apply(edge);
+
+        // Then
+        assertSame(edge, result);
+        assertEquals(1L, result.getProperty(TestPropertyNames.PROP_2));
+        assertEquals("source", result.getProperty(TestPropertyNames.PROP_3));
+        assertEquals(1L, result.getProperty(TestPropertyNames.PROP_4));
+        assertEquals("source", result.getProperty(TestPropertyNames.PROP_5));
+    }
+
+    @Test
+    public void shouldReturnUnmodifiableComponentsWhenLocked() {
+        final ElementTransformer transformer = new ElementTransformer();
+
+        transformer.lock();
+        final List<TupleAdaptedFunction<String, ?, ?>> components = transformer.getComponents();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> components.add(null));
+    }
+
     @Override
     protected ElementTransformer getInstance() {
         return new ElementTransformer();
@@ -19,7 +19,9 @@ package uk.gov.gchq.gaffer.data.elementdefinition.view;
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
@@ -151,6 +153,72 @@ public class ViewElementDefinitionTest {
         }
     }
 
+    @Test
+    public void shouldNotLockCallersFunctionsWhenBuilt() {
+        // Given
+        final ElementFilter preFilter = new ElementFilter.Builder()
+                .select(TestPropertyNames.PROP_1)
+                .execute(new IsMoreThan(1))
+                .build();
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select(TestPropertyNames.PROP_1)
+                .execute(new Max())
+                .build();
+        final ElementTransformer transformer = new ElementTransformer.Builder()
+                .select(TestPropertyNames.PROP_1)
+                .project(TestPropertyNames.PROP_2)
+                .build();
+
+        // When
+        final ViewElementDefinition elementDef = new ViewElementDefinition.Builder()
+                .preAggregationFilter(preFilter)
+                .aggregator(aggregator)
+                .transformer(transformer)
+                .build();
+        preFilter.getComponents().addAll(new ElementFilter.Builder()
+                .select(TestPropertyNames.PROP_2)
+                .execute(new IsMoreThan(2))
+                .build()
+                .getComponents());
+        aggregator.getComponents().clear();
+        transformer.getComponents().clear();
+
+        // Then
+        assertSame(preFilter, elementDef.getPreAggregationFilter());
+        assertSame(aggregator, elementDef.getAggregator());
+        assertSame(transformer, elementDef.getTransformer());
+        assertThat(preFilter.getComponents()).hasSize(2);
+    }
+
+    @Test
+    public void shouldEvaluateCompiledFunctionsWhenBuilt() {
+        // Given
+        final ViewElementDefinition elementDef = new ViewElementDefinition.Builder()
+                .preAggregationFilter(new ElementFilter.Builder()
+                        .select(TestPropertyNames.PROP_1)
+                        .execute(new IsMoreThan(1))
+                        .build())
+                .transformer(new ElementTransformer.Builder()
+                        .select(TestPropertyNames.PROP_1)
+                        .project(TestPropertyNames.PROP_2)
+                        .build())
+                .build();
+        final Entity entity = new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .property(TestPropertyNames.PROP_1, 2)
+                .build();
+
+        // When
+        final boolean passedFilter = elementDef.getCompiledPreAggregationFilter().test(entity);
+        elementDef.getCompiledTransformer().apply(entity);
+
+        // Then
+        assertThat(passedFilter).isTrue();
+        assertThat(entity.getProperty(TestPropertyNames.PROP_2)).isEqualTo(2);
+        assertThat(elementDef.getCompiledPostAggregationFilter()).isNull();
+        assertThat(elementDef.getCompiledPostTransformFilter()).isNull();
+    }
+
     @Test
     public void shouldFailToBuildElementDefinitionWhenPreAggregationFilterSpecifiedTwice() {
         final ElementTransformer transformer = mock(ElementTransformer.class);
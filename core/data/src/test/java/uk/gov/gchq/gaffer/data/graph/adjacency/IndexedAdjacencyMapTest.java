@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexedAdjacencyMapTest {
+
+    @Test
+    public void shouldGetEdges() {
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        assertThat(adjacencyMap.getEdges(1L, 2L)).containsExactly(makeEdge(1L, 2L));
+        assertThat(adjacencyMap.getEdges(1L, 6L)).isEmpty();
+        assertThat(adjacencyMap.getEdges(7L, 1L)).isEmpty();
+    }
+
+    @Test
+    public void shouldGetDestinationsAndSources() {
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        assertThat(adjacencyMap.getDestinations(1L)).containsExactlyInAnyOrder(1L, 2L, 5L);
+        assertThat(adjacencyMap.getSources(1L)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(adjacencyMap.getAllSources()).containsExactlyInAnyOrder(1L, 2L, 4L, 5L, 6L);
+        assertThat(adjacencyMap.getAllDestinations()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    public void shouldPutEdgesAfterReading() {
+        // Given
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+        assertThat(adjacencyMap.getDestinations(3L)).isEmpty();
+
+        // When
+        adjacencyMap.putEdge(3L, 7L, makeEdge(3L, 7L));
+        adjacencyMap.putEdge(1L, 2L, makeEdge(TestGroups.EDGE_2, 1L, 2L));
+
+        // Then
+        assertThat(adjacencyMap.getDestinations(3L)).containsExactly(7L);
+        assertThat(adjacencyMap.getEdges(1L, 2L)).containsExactlyInAnyOrder(makeEdge(1L, 2L), makeEdge(TestGroups.EDGE_2, 1L, 2L));
+    }
+
+    @Test
+    public void shouldPutEdgesAsASet() {
+        // Given
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        // When
+        adjacencyMap.putEdges(3L, 7L, Sets.newHashSet(makeEdge(3L, 7L), makeEdge(TestGroups.EDGE_2, 3L, 7L)));
+
+        // Then
+        assertThat(adjacencyMap.getEdges(3L, 7L)).containsExactlyInAnyOrder(makeEdge(3L, 7L), makeEdge(TestGroups.EDGE_2, 3L, 7L));
+        assertThat(adjacencyMap.getDestinations(3L)).containsExactly(7L);
+        assertThat(adjacencyMap.containsSource(3L)).isTrue();
+        assertThat(adjacencyMap.size()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldNotHoldDuplicateEdges() {
+        // Given
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        // When
+        adjacencyMap.putEdge(1L, 2L, makeEdge(1L, 2L));
+        adjacencyMap.putEdge(1L, 2L, makeEdge(TestGroups.EDGE_2, 1L, 2L));
+        adjacencyMap.putEdge(1L, 2L, makeEdge(1L, 2L));
+        adjacencyMap.putEdges(2L, 3L, Sets.newHashSet(makeEdge(2L, 3L)));
+
+        // Then
+        assertThat(adjacencyMap.getEdges(1L, 2L)).containsExactlyInAnyOrder(makeEdge(1L, 2L), makeEdge(TestGroups.EDGE_2, 1L, 2L));
+        assertThat(adjacencyMap.getEdges(2L, 3L)).containsExactly(makeEdge(2L, 3L));
+        assertThat(adjacencyMap.size()).isEqualTo(9);
+    }
+
+    @Test
+    public void shouldRemoveAllWithDestination() {
+        // Given
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        // When
+        adjacencyMap.removeAllWithDestination(3L);
+
+        // Then
+        assertThat(adjacencyMap.containsDestination(3L)).isFalse();
+        assertThat(adjacencyMap.containsSource(6L)).isFalse();
+        assertThat(adjacencyMap.getDestinations(2L)).isEmpty();
+        assertThat(adjacencyMap.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldContainSourceAndDestination() {
+        final IndexedAdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        assertThat(adjacencyMap.containsSource(2L)).isTrue();
+        assertThat(adjacencyMap.containsSource(3L)).isFalse();
+        assertThat(adjacencyMap.containsDestination(2L)).isTrue();
+        assertThat(adjacencyMap.containsDestination(7L)).isFalse();
+    }
+
+    @Test
+    public void shouldSupportNonLongVertices() {
+        // Given
+        final IndexedAdjacencyMap adjacencyMap = new IndexedAdjacencyMap();
+
+        // When
+        adjacencyMap.putEdge("A", "B", makeEdge("A", "B"));
+        adjacencyMap.putEdge("A", 1L, makeEdge("A", 1L));
+
+        // Then
+        assertThat(adjacencyMap.getDestinations("A")).containsExactlyInAnyOrder("B", 1L);
+        assertThat(adjacencyMap.getEdges("A", 1L)).containsExactly(makeEdge("A", 1L));
+    }
+
+    private IndexedAdjacencyMap getAdjacencyMap() {
+        final IndexedAdjacencyMap adjacencyMap = new IndexedAdjacencyMap();
+
+        adjacencyMap.putEdge(1L, 2L, makeEdge(1L, 2L));
+        adjacencyMap.putEdge(2L, 3L, makeEdge(2L, 3L));
+        adjacencyMap.putEdge(6L, 3L, makeEdge(6L, 3L));
+        adjacencyMap.putEdge(5L, 6L, makeEdge(5L, 6L));
+        adjacencyMap.putEdge(5L, 4L, makeEdge(5L, 4L));
+        adjacencyMap.putEdge(4L, 1L, makeEdge(4L, 1L));
+        adjacencyMap.putEdge(1L, 5L, makeEdge(1L, 5L));
+        adjacencyMap.putEdge(1L, 1L, makeEdge(1L, 1L));
+
+        return adjacencyMap;
+    }
+
+    private Edge makeEdge(final Object source, final Object destination) {
+        return makeEdge(TestGroups.EDGE, source, destination);
+    }
+
+    private Edge makeEdge(final String group, final Object source, final Object destination) {
+        return new Edge.Builder().group(group).source(source).dest(destination).directed(true).build();
+    }
+}
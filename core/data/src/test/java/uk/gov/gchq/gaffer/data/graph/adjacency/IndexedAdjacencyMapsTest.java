@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class IndexedAdjacencyMapsTest {
+
+    @Test
+    public void shouldPrune() {
+        // Given
+        final IndexedAdjacencyMaps adjacencyMaps = new IndexedAdjacencyMaps(true);
+
+        final IndexedAdjacencyMap first = adjacencyMaps.createAdjacencyMap();
+        first.putEdge(1L, 2L, makeEdge(1L, 2L));
+        first.putEdge(1L, 3L, makeEdge(1L, 3L));
+
+        final IndexedAdjacencyMap second = adjacencyMaps.createAdjacencyMap();
+        second.putEdge(2L, 3L, makeEdge(2L, 3L));
+        second.putEdge(2L, 4L, makeEdge(2L, 4L));
+
+        // When
+        adjacencyMaps.add(first);
+        adjacencyMaps.add(second);
+
+        // Then
+        assertThat(adjacencyMaps.get(0).getDestinations(1L)).containsExactly(2L);
+        assertThat(adjacencyMaps.get(1).getDestinations(2L)).hasSize(2);
+    }
+
+    @Test
+    public void shouldPruneRecursively() {
+        // Given
+        final IndexedAdjacencyMaps adjacencyMaps = new IndexedAdjacencyMaps(true);
+
+        final IndexedAdjacencyMap first = adjacencyMaps.createAdjacencyMap();
+        first.putEdge(1L, 2L, makeEdge(1L, 2L));
+        first.putEdge(1L, 3L, makeEdge(1L, 3L));
+
+        final IndexedAdjacencyMap second = adjacencyMaps.createAdjacencyMap();
+        second.putEdge(2L, 4L, makeEdge(2L, 4L));
+        second.putEdge(2L, 5L, makeEdge(2L, 5L));
+        second.putEdge(3L, 6L, makeEdge(3L, 6L));
+        second.putEdge(3L, 7L, makeEdge(3L, 7L));
+
+        final IndexedAdjacencyMap third = adjacencyMaps.createAdjacencyMap();
+        third.putEdge(4L, 8L, makeEdge(4L, 8L));
+        third.putEdge(4L, 9L, makeEdge(4L, 9L));
+        third.putEdge(5L, 10L, makeEdge(5L, 10L));
+        third.putEdge(5L, 11L, makeEdge(5L, 11L));
+
+        // When
+        adjacencyMaps.add(first);
+        adjacencyMaps.add(second);
+        adjacencyMaps.add(third);
+
+        // Then
+        assertThat(adjacencyMaps.get(0).getDestinations(1L)).containsExactly(2L);
+        assertThat(adjacencyMaps.get(1).getAllSources()).containsExactly(2L);
+        assertThat(adjacencyMaps.get(2).getDestinations(4L)).hasSize(2);
+        assertThat(adjacencyMaps.get(2).getDestinations(5L)).hasSize(2);
+    }
+
+    @Test
+    public void shouldNotPruneByDefault() {
+        // Given
+        final IndexedAdjacencyMaps adjacencyMaps = new IndexedAdjacencyMaps();
+
+        final IndexedAdjacencyMap first = adjacencyMaps.createAdjacencyMap();
+        first.putEdge(1L, 2L, makeEdge(1L, 2L));
+        first.putEdge(1L, 3L, makeEdge(1L, 3L));
+
+        final IndexedAdjacencyMap second = adjacencyMaps.createAdjacencyMap();
+        second.putEdge(2L, 4L, makeEdge(2L, 4L));
+
+        // When
+        adjacencyMaps.add(first);
+        adjacencyMaps.add(second);
+
+        // Then
+        assertThat(adjacencyMaps.get(0).getDestinations(1L)).hasSize(2);
+    }
+
+    @Test
+    public void shouldRejectAdjacencyMapsWithADifferentVertexIndex() {
+        final IndexedAdjacencyMaps adjacencyMaps = new IndexedAdjacencyMaps();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> adjacencyMaps.add(new IndexedAdjacencyMap()));
+        assertThatIllegalArgumentException().isThrownBy(() -> adjacencyMaps.add(new AdjacencyMap()));
+    }
+
+    private Edge makeEdge(final Object source, final Object destination) {
+        return new Edge.Builder().group(TestGroups.EDGE).source(source).dest(destination).directed(true).build();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Edge;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SpillingAdjacencyMapTest {
+
+    @Test
+    public void shouldHoldEdgesInMemoryBelowThreshold(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(10, tempDir.toString());
+
+        // When
+        adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+        adjacencyMap.putEdge(1, 3, makeEdge(1, 3));
+
+        // Then
+        assertThat(adjacencyMap.isSpilled()).isFalse();
+        assertThat(tempDir.toFile().list()).isEmpty();
+        assertThat(adjacencyMap.getDestinations(1)).containsExactlyInAnyOrder(2, 3);
+    }
+
+    @Test
+    public void shouldSpillEdgesToDiskAndReadThemBack(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(2, tempDir.toString());
+
+        // When
+        adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+        adjacencyMap.putEdge(1, 3, makeEdge(1, 3));
+        adjacencyMap.putEdge(2, 3, makeEdge(2, 3));
+        adjacencyMap.putEdge(1, 2, makeEdge(TestGroups.EDGE_2, 1, 2));
+        adjacencyMap.putEdge(4, 1, makeEdge(4, 1));
+
+        // Then
+        assertThat(adjacencyMap.isSpilled()).isTrue();
+        assertThat(tempDir.toFile().list()).hasSize(1);
+        assertThat(adjacencyMap.getDestinations(1)).containsExactlyInAnyOrder(2, 3);
+        assertThat(adjacencyMap.getEdges(1, 2)).containsExactlyInAnyOrder(makeEdge(1, 2), makeEdge(TestGroups.EDGE_2, 1, 2));
+        assertThat(adjacencyMap.getEdges(4, 1)).containsExactly(makeEdge(4, 1));
+        assertThat(adjacencyMap.getAllSources()).containsExactlyInAnyOrder(1, 2, 4);
+        assertThat(adjacencyMap.getAllDestinations()).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(adjacencyMap.getSources(3)).containsExactlyInAnyOrder(1, 2);
+        assertThat(adjacencyMap.containsSource(2)).isTrue();
+        assertThat(adjacencyMap.containsSource(3)).isFalse();
+        assertThat(adjacencyMap.containsDestination(3)).isTrue();
+        assertThat(adjacencyMap.containsDestination(4)).isFalse();
+    }
+
+    @Test
+    public void shouldSpillEdgesAddedAsASetAndReadThemBack(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(2, tempDir.toString());
+
+        // When
+        adjacencyMap.putEdges(1, 2, Sets.newHashSet(makeEdge(1, 2), makeEdge(TestGroups.EDGE_2, 1, 2), makeEdge(TestGroups.EDGE_3, 1, 2)));
+        adjacencyMap.putEdges(1, 3, Sets.newHashSet(makeEdge(1, 3)));
+
+        // Then
+        assertThat(adjacencyMap.isSpilled()).isTrue();
+        assertThat(adjacencyMap.getEdges(1, 2)).containsExactlyInAnyOrder(
+                makeEdge(1, 2), makeEdge(TestGroups.EDGE_2, 1, 2), makeEdge(TestGroups.EDGE_3, 1, 2));
+        assertThat(adjacencyMap.getDestinations(1)).containsExactlyInAnyOrder(2, 3);
+        assertThat(adjacencyMap.containsSource(1)).isTrue();
+        assertThat(adjacencyMap.getSources(2)).containsExactly(1);
+        adjacencyMap.close();
+    }
+
+    @Test
+    public void shouldReadSpilledEdgesBackAfterTheyHaveBeenEvictedFromTheCache(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(2, tempDir.toString(), 1);
+        for (int source = 0; source < 10; source++) {
+            adjacencyMap.putEdge(source, source + 1, makeEdge(source, source + 1));
+            adjacencyMap.putEdge(source, source + 2, makeEdge(source, source + 2));
+        }
+
+        // When / Then
+        for (int i = 0; i < 2; i++) {
+            for (int source = 0; source < 10; source++) {
+                assertThat(adjacencyMap.getDestinations(source)).containsExactlyInAnyOrder(source + 1, source + 2);
+                assertThat(adjacencyMap.getEdges(source, source + 2)).containsExactly(makeEdge(source, source + 2));
+            }
+        }
+        assertThat(adjacencyMap.getDestinations(10)).isEmpty();
+    }
+
+    @Test
+    public void shouldMergeEdgesForTheSameSourceFromSeveralSpills(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(1, tempDir.toString());
+
+        // When
+        adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+        assertThat(adjacencyMap.getDestinations(1)).containsExactly(2);
+        adjacencyMap.putEdge(1, 3, makeEdge(1, 3));
+        adjacencyMap.putEdge(1, 2, makeEdge(TestGroups.EDGE_2, 1, 2));
+
+        // Then
+        assertThat(tempDir.toFile().list()).hasSize(1);
+        assertThat(adjacencyMap.getDestinations(1)).containsExactlyInAnyOrder(2, 3);
+        assertThat(adjacencyMap.getEdges(1, 2)).containsExactlyInAnyOrder(makeEdge(1, 2), makeEdge(TestGroups.EDGE_2, 1, 2));
+    }
+
+    @Test
+    public void shouldDeleteSpillFilesOnClose(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(1, tempDir.toString());
+        adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+
+        // When
+        adjacencyMap.close();
+
+        // Then
+        assertThat(tempDir.toFile().list()).isEmpty();
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> adjacencyMap.getDestinations(1));
+    }
+
+    @Test
+    public void shouldNotRemoveEdgesOnceSpilled(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(1, tempDir.toString());
+        adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+
+        // When / Then
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> adjacencyMap.removeAllWithDestination(2));
+    }
+
+    @Test
+    public void shouldHoldEdgesInMemoryWhenTheyCannotBeSerialised(@TempDir final Path tempDir) {
+        // Given
+        final SpillingAdjacencyMap adjacencyMap = new SpillingAdjacencyMap(1, tempDir.toString());
+        final Object source = new Object();
+
+        // When
+        adjacencyMap.putEdge(source, 2, makeEdge(source, 2));
+
+        // Then
+        assertThat(adjacencyMap.isSpilled()).isFalse();
+        assertThat(adjacencyMap.getDestinations(source)).containsExactly(2);
+        adjacencyMap.close();
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    private Edge makeEdge(final Object source, final Object destination) {
+        return makeEdge(TestGroups.EDGE, source, destination);
+    }
+
+    private Edge makeEdge(final String group, final Object source, final Object destination) {
+        return new Edge.Builder()
+                .group(group)
+                .source(source)
+                .dest(destination)
+                .directed(true)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.graph.adjacency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VertexIndexTest {
+
+    @Test
+    public void shouldAssignDenseIdsToLongAndObjectVertices() {
+        // Given
+        final VertexIndex vertexIndex = new VertexIndex();
+
+        // When
+        final int first = vertexIndex.getOrCreateId(1L);
+        final int second = vertexIndex.getOrCreateId("vertex");
+        final int third = vertexIndex.getOrCreateId(2L);
+
+        // Then
+        assertThat(first).isEqualTo(0);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isEqualTo(2);
+        assertThat(vertexIndex.getOrCreateId(1L)).isEqualTo(first);
+        assertThat(vertexIndex.getId("vertex")).isEqualTo(second);
+        assertThat(vertexIndex.getVertex(third)).isEqualTo(2L);
+        assertThat(vertexIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReturnNoIdForUnknownVertices() {
+        final VertexIndex vertexIndex = new VertexIndex();
+        vertexIndex.getOrCreateId(1L);
+
+        assertThat(vertexIndex.getId(2L)).isEqualTo(VertexIndex.NO_ID);
+        assertThat(vertexIndex.getId(1)).isEqualTo(VertexIndex.NO_ID);
+    }
+
+    @Test
+    public void shouldIndexManyLongVertices() {
+        // Given
+        final VertexIndex vertexIndex = new VertexIndex();
+
+        // When
+        for (long i = 0; i < 10000; i++) {
+            vertexIndex.getOrCreateId(i * 31);
+        }
+
+        // Then
+        assertThat(vertexIndex.size()).isEqualTo(10000);
+        for (long i = 0; i < 10000; i++) {
+            assertThat(vertexIndex.getId(i * 31)).isEqualTo((int) i);
+        }
+    }
+}
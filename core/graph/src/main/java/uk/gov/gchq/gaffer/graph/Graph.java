@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,6 +51,7 @@ import uk.gov.gchq.gaffer.store.StoreProperties;
 import uk.gov.gchq.gaffer.store.StoreTrait;
 import uk.gov.gchq.gaffer.store.library.GraphLibrary;
 import uk.gov.gchq.gaffer.store.library.NoGraphLibrary;
+import uk.gov.gchq.gaffer.store.metrics.MetricsRegistry;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 import uk.gov.gchq.koryphe.util.ReflectionUtil;
@@ -312,7 +313,9 @@ public final class Graph {
         try {
             updateOperationChainView(clonedOpChain);
             for (final GraphHook graphHook : config.getHooks()) {
+                final long hookStartTime = System.nanoTime();
                 graphHook.preExecute(clonedOpChain, clonedContext);
+                updateHookTimer(graphHook, "preExecute", hookStartTime);
             }
             // TODO - remove in V2
             // This updates the view, used for empty or null views, for
@@ -335,7 +338,9 @@ public final class Graph {
             }
             result = (O) storeExecuter.execute(clonedOpChain, clonedContext);
             for (final GraphHook graphHook : config.getHooks()) {
+                final long hookStartTime = System.nanoTime();
                 result = graphHook.postExecute(result, clonedOpChain, clonedContext);
+                updateHookTimer(graphHook, "postExecute", hookStartTime);
             }
         } catch (final Exception e) {
             for (final GraphHook graphHook : config.getHooks()) {
@@ -352,6 +357,13 @@ public final class Graph {
         return new GraphResult<>(result, clonedContext);
     }
 
+    private void updateHookTimer(final GraphHook graphHook, final String phase, final long startTime) {
+        final MetricsRegistry metricsRegistry = store.getMetricsRegistry();
+        if (null != metricsRegistry) {
+            metricsRegistry.updateTimer("hook." + graphHook.getClass().getName() + "." + phase, System.nanoTime() - startTime);
+        }
+    }
+
     private void updateOperationChainView(final Operations<?> operations) {
 
         for (final Operation operation : operations.getOperations()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 Crown Copyright
+ * Copyright 2020-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.graph.hook;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,13 +28,43 @@ import uk.gov.gchq.gaffer.operation.io.Input;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameCache;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * The FunctionAuthoriser is a {@link GraphHook} which stops a user running
  * Functions which have been banned. The Authoriser can be configured with
  * unauthorised function classes.
+ * <p>
+ * By default the operation chain is serialised to json and the json is
+ * searched for the unauthorised function class names. If structural is set
+ * to true, the operation chain is instead walked using reflection and each
+ * object is checked against the unauthorised function classes. As with the
+ * json check, the input to the first operation is not checked, so the cost of
+ * the structural check does not grow with the size of the input. Only known
+ * value types, such as boxed primitives, strings and enums, are not walked.
+ * The fields that need to be walked are cached per class. If a field cannot be
+ * made accessible the json check is used instead.
  */
 @JsonPropertyOrder(alphabetic = true)
 public class FunctionAuthoriser implements GraphHook {
@@ -41,7 +72,14 @@ public class FunctionAuthoriser implements GraphHook {
     private static final String ERROR_MESSAGE_PREFIX = "Operation chain contained an unauthorised function: ";
     private static final Logger LOGGER = LoggerFactory.getLogger(FunctionAuthoriser.class);
 
+    private static final String INACCESSIBLE_OBJECT_EXCEPTION = "java.lang.reflect.InaccessibleObjectException";
+    private static final Map<Class<?>, List<Field>> FIELDS_TO_WALK = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.asList(
+            Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            String.class, Class.class, BigInteger.class, BigDecimal.class, Date.class, UUID.class, Pattern.class));
+
     private List<Class<? extends Function>> unauthorisedFunctions;
+    private boolean structural;
 
     public FunctionAuthoriser() {
     }
@@ -56,6 +94,21 @@ public class FunctionAuthoriser implements GraphHook {
             return;
         }
 
+        if (structural) {
+            try {
+                checkNoUnauthorisedFunctionsArePresent(opChain);
+                return;
+            } catch (final IllegalAccessException | SecurityException e) {
+                LOGGER.warn("Failed to walk operation chain: {} due to {}. Falling back to json serialisation", opChain, e.getMessage());
+            } catch (final RuntimeException e) {
+                // InaccessibleObjectException is only available from Java 9
+                if (!INACCESSIBLE_OBJECT_EXCEPTION.equals(e.getClass().getName())) {
+                    throw e;
+                }
+                LOGGER.warn("Failed to walk operation chain: {} due to {}. Falling back to json serialisation", opChain, e.getMessage());
+            }
+        }
+
         Object input = null;
         // Null the input to avoid serialising potentially large inputs
         if (opChain.getOperations().size() > 0 && opChain.getOperations().get(0) instanceof Input) {
@@ -93,6 +146,98 @@ public class FunctionAuthoriser implements GraphHook {
         }
     }
 
+    private void checkNoUnauthorisedFunctionsArePresent(final OperationChain<?> opChain) throws IllegalAccessException {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> toVisit = new ArrayDeque<>();
+        toVisit.push(opChain);
+
+        // The chain input only contains data, so it is skipped as in the json check
+        final Object chainInput = !opChain.getOperations().isEmpty() && opChain.getOperations().get(0) instanceof Input
+                ? ((Input) opChain.getOperations().get(0)).getInput()
+                : null;
+
+        while (!toVisit.isEmpty()) {
+            final Object obj = toVisit.pop();
+            if (!visited.add(obj)) {
+                continue;
+            }
+
+            for (final Class<? extends Function> blacklistedFunction : unauthorisedFunctions) {
+                if (blacklistedFunction.isInstance(obj)) {
+                    throw new UnauthorisedException(ERROR_MESSAGE_PREFIX +
+                            blacklistedFunction.getName());
+                }
+            }
+
+            if (obj instanceof Collection) {
+                addToVisit(toVisit, ((Collection<?>) obj).toArray());
+            } else if (obj instanceof Map) {
+                addToVisit(toVisit, ((Map<?, ?>) obj).keySet().toArray());
+                addToVisit(toVisit, ((Map<?, ?>) obj).values().toArray());
+            } else if (obj instanceof Object[]) {
+                addToVisit(toVisit, (Object[]) obj);
+            } else if (obj instanceof Optional) {
+                ((Optional<?>) obj).ifPresent(toVisit::push);
+            } else if (obj instanceof AtomicReference) {
+                addToVisit(toVisit, new Object[]{((AtomicReference<?>) obj).get()});
+            } else {
+                for (final Field field : getFieldsToWalk(obj.getClass())) {
+                    final Object value = field.get(obj);
+                    if (null != value && value != chainInput) {
+                        toVisit.push(value);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addToVisit(final Deque<Object> toVisit, final Object[] values) {
+        for (final Object value : values) {
+            if (null != value) {
+                toVisit.push(value);
+            }
+        }
+    }
+
+    private static List<Field> getFieldsToWalk(final Class<?> clazz) {
+        List<Field> fields = FIELDS_TO_WALK.get(clazz);
+        if (null == fields) {
+            fields = new ArrayList<>();
+            if (!isLeaf(clazz)) {
+                for (Class<?> currentClass = clazz; null != currentClass && !Object.class.equals(currentClass); currentClass = currentClass.getSuperclass()) {
+                    for (final Field field : currentClass.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())
+                                && !field.isSynthetic()
+                                && !field.getType().isPrimitive()
+                                && !isLeaf(field.getType())) {
+                            field.setAccessible(true);
+                            fields.add(field);
+                        }
+                    }
+                }
+            }
+            fields = Collections.unmodifiableList(fields);
+            FIELDS_TO_WALK.put(clazz, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Known value types that cannot contain a function. Everything else is walked.
+     *
+     * @param clazz the class to check
+     * @return true if the class does not need to be walked
+     */
+    private static boolean isLeaf(final Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isEnum() || VALUE_TYPES.contains(clazz)) {
+            return true;
+        }
+        if (clazz.isArray()) {
+            return clazz.getComponentType().isPrimitive();
+        }
+        return null != clazz.getPackage() && "java.time".equals(clazz.getPackage().getName());
+    }
+
     public List<Class<? extends Function>> getUnauthorisedFunctions() {
         return unauthorisedFunctions;
     }
@@ -100,4 +245,13 @@ public class FunctionAuthoriser implements GraphHook {
     public void setUnauthorisedFunctions(final List<Class<? extends Function>> unauthorisedFunctions) {
         this.unauthorisedFunctions = unauthorisedFunctions;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isStructural() {
+        return structural;
+    }
+
+    public void setStructural(final boolean structural) {
+        this.structural = structural;
+    }
 }
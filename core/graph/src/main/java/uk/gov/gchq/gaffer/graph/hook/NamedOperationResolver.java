@@ -88,7 +88,7 @@ public class NamedOperationResolver implements GraphHook {
             return Collections.singletonList(namedOp);
         }
 
-        final OperationChain<?> namedOperationChain = namedOpDetail.getOperationChain(namedOp.getParameters());
+        final OperationChain<?> namedOperationChain = cache.getOperationChain(namedOpDetail, namedOp.getParameters());
         updateOperationInput(namedOperationChain, namedOp.getInput());
 
         // Call resolveNamedOperations again to check there are no nested named operations
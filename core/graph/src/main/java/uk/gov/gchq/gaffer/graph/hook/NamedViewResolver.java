@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,10 +30,14 @@ import uk.gov.gchq.gaffer.operation.graph.OperationView;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.operation.handler.named.cache.NamedViewCache;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
- * A {@link GraphHook} to resolve {@link NamedView}s.
+ * A {@link GraphHook} to resolve {@link NamedView}s. Resolved views are
+ * cached in the {@link NamedViewCache} so repeated requests for the same
+ * named view and parameters do not need to deserialise and merge the views
+ * again.
  */
 @JsonPropertyOrder(alphabetic = true)
 public class NamedViewResolver implements GraphHook {
@@ -94,17 +98,27 @@ public class NamedViewResolver implements GraphHook {
     }
 
     private View resolveView(final String namedViewName, final Map<String, Object> parameters, final Context context) {
-        final NamedViewDetail cachedNamedView;
         try {
-            cachedNamedView = cache.getNamedView(namedViewName, context.getUser());
+            View resolvedView = cache.getResolvedView(namedViewName, parameters, context.getUser());
+            if (null == resolvedView) {
+                final Map<String, NamedViewDetail> namedViews = new HashMap<>();
+                resolvedView = resolveView(namedViewName, parameters, context, namedViews);
+                cache.addResolvedView(namedViewName, parameters, resolvedView, namedViews);
+            }
+            return resolvedView;
         } catch (final CacheOperationFailedException e) {
             throw new RuntimeException(e);
         }
+    }
+
+    private View resolveView(final String namedViewName, final Map<String, Object> parameters, final Context context, final Map<String, NamedViewDetail> namedViews) throws CacheOperationFailedException {
+        final NamedViewDetail cachedNamedView = cache.getNamedView(namedViewName, context.getUser());
 
         View resolvedView;
         if (null == cachedNamedView) {
             resolvedView = new View();
         } else {
+            namedViews.put(namedViewName, cachedNamedView);
             resolvedView = cachedNamedView.getView(parameters);
             if (resolvedView instanceof NamedView) {
                 ((NamedView) resolvedView).setName(null);
@@ -112,7 +126,7 @@ public class NamedViewResolver implements GraphHook {
                     final View.Builder viewBuilder = new View.Builder();
                     viewBuilder.merge(resolvedView);
                     for (final String name : ((NamedView) resolvedView).getMergedNamedViewNames()) {
-                        viewBuilder.merge(resolveView(name, parameters, context));
+                        viewBuilder.merge(resolveView(name, parameters, context, namedViews));
                     }
                     resolvedView = viewBuilder.build();
                 }
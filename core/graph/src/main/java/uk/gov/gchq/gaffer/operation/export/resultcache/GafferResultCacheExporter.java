@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,13 @@
 
 package uk.gov.gchq.gaffer.operation.export.resultcache;
 
+import com.google.common.collect.Iterables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
-import uk.gov.gchq.gaffer.commonutil.iterable.AlwaysValid;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.TransformIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
 import uk.gov.gchq.gaffer.data.element.Edge;
@@ -38,36 +39,90 @@ import uk.gov.gchq.gaffer.operation.export.Exporter;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.koryphe.impl.predicate.And;
 import uk.gov.gchq.koryphe.impl.predicate.AreIn;
+import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
+import uk.gov.gchq.koryphe.impl.predicate.IsIn;
+import uk.gov.gchq.koryphe.impl.predicate.Or;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Implementation of the {@link Exporter} interface for exporting the results of
  * a Gaffer query to a {@link Graph}-backed results cache.
+ * <p>
+ * By default each result is added as its own edge. If a page size is set, the
+ * results are instead packed into pages of up to that many results, with each
+ * page held as a single edge containing the GZIP compressed JSON of its
+ * results. Results from either format can be fetched with {@link #get(String)}
+ * or {@link #get(String, Integer, Integer)}; the paged results are returned in
+ * the order they were added. The results for a key are read with a scan of
+ * the results cache that excludes the compressed page results, followed by a
+ * single fetch of just the pages that hold the requested results. Each page is
+ * only decompressed when its results are needed.
  */
 public class GafferResultCacheExporter implements Exporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(GafferResultCacheExporter.class);
+    private static final String RESULT_GROUP = "result";
+    private static final String PAGE_GROUP = "resultPage";
+    private static final Comparator<Element> PAGE_ORDER = Comparator
+            .comparing((Element page) -> (Long) page.getProperty("timestamp"))
+            .thenComparing(page -> (String) page.getProperty("batch"))
+            .thenComparing(page -> (Integer) page.getProperty("pageIndex"));
+
     private final String jobId;
     private final Context context;
     private final Graph resultCache;
     private final String visibility;
     private final TreeSet<String> requiredOpAuths;
     private final Set<String> userOpAuths;
+    private final Integer pageSize;
 
     public GafferResultCacheExporter(final Context context,
                                      final String jobId,
                                      final Graph resultCache,
                                      final String visibility,
                                      final Set<String> requiredOpAuths) {
+        this(context, jobId, resultCache, visibility, requiredOpAuths, null);
+    }
+
+    public GafferResultCacheExporter(final Context context,
+                                     final String jobId,
+                                     final Graph resultCache,
+                                     final String visibility,
+                                     final Set<String> requiredOpAuths,
+                                     final Integer pageSize) {
+        if (null != pageSize && pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1");
+        }
         this.context = context;
         this.jobId = jobId;
         this.resultCache = resultCache;
         this.visibility = visibility;
+        this.pageSize = pageSize;
         if (null == requiredOpAuths) {
             this.requiredOpAuths = CollectionUtil.treeSet(context.getUser().getUserId());
         } else {
@@ -85,7 +140,100 @@ public class GafferResultCacheExporter implements Exporter {
         }
 
         final long timestamp = System.currentTimeMillis();
-        final Iterable<Element> elements = new TransformIterable<Object, Element>((Iterable) values) {
+        final Iterable<Element> elements;
+        if (null == pageSize) {
+            elements = createResultEdges(key, values, timestamp);
+        } else {
+            elements = createPageEdges(key, values, timestamp);
+        }
+
+        resultCache.execute(new AddElements.Builder()
+                .input(elements)
+                .build(), context);
+    }
+
+    @Override
+    public CloseableIterable<?> get(final String key) throws OperationException {
+        return get(key, null, null);
+    }
+
+    /**
+     * Gets the results exported with the given key, skipping the first
+     * {@code offset} results and returning at most {@code limit} results.
+     * Pages which do not overlap the requested results are not read from the
+     * results cache.
+     *
+     * @param key    the export key
+     * @param offset the number of results to skip, or null to skip none
+     * @param limit  the maximum number of results to return, or null for no limit
+     * @return the results
+     * @throws OperationException if the results cache could not be queried
+     */
+    public CloseableIterable<?> get(final String key, final Integer offset, final Integer limit) throws OperationException {
+        if (null != offset && offset < 0) {
+            throw new IllegalArgumentException("The offset must not be negative");
+        }
+        if (null != limit && limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative");
+        }
+
+        final GetElements getEdges = new GetElements.Builder()
+                .input(new EdgeSeed(jobId, key, true))
+                .view(new View.Builder()
+                        .edge(RESULT_GROUP, new ViewElementDefinition.Builder()
+                                .preAggregationFilter(createOpAuthsFilter().build())
+                                .build())
+                        .edge(PAGE_GROUP, new ViewElementDefinition.Builder()
+                                .preAggregationFilter(createOpAuthsFilter().build())
+                                .excludeProperties("results")
+                                .build())
+                        .build())
+                .build();
+
+        final CloseableIterable<? extends Element> edges = resultCache.execute(getEdges, context);
+        if (null == edges) {
+            return new WrappedCloseableIterable<>();
+        }
+        return new CachedResults(key, edges, null == offset ? 0 : offset, limit);
+    }
+
+    private CloseableIterable<? extends Element> getPages(final String key, final Collection<Element> pages) throws OperationException {
+        // Page indexes are only unique within a batch, so each batch is
+        // matched against its own page indexes.
+        final Map<String, Set<Object>> pageIndexes = new LinkedHashMap<>();
+        for (final Element page : pages) {
+            pageIndexes.computeIfAbsent((String) page.getProperty("batch"), batch -> new HashSet<>())
+                    .add(page.getProperty("pageIndex"));
+        }
+        Or.Builder<Object> pageFilter = new Or.Builder<>();
+        for (final Map.Entry<String, Set<Object>> entry : pageIndexes.entrySet()) {
+            pageFilter = pageFilter.select(0, 1)
+                    .execute(new And.Builder<>()
+                            .select(0)
+                            .execute(new IsEqual(entry.getKey()))
+                            .select(1)
+                            .execute(new IsIn(entry.getValue()))
+                            .build());
+        }
+
+        final GetElements getPages = new GetElements.Builder()
+                .input(new EdgeSeed(jobId, key, true))
+                .view(new View.Builder()
+                        .edge(PAGE_GROUP, new ViewElementDefinition.Builder()
+                                .preAggregationFilter(createOpAuthsFilter()
+                                        .select("batch", "pageIndex")
+                                        .execute(pageFilter.build())
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        final CloseableIterable<? extends Element> pageEdges = resultCache.execute(getPages, context);
+        return null == pageEdges ? new WrappedCloseableIterable<>() : pageEdges;
+    }
+
+    private Iterable<Element> createResultEdges(final String key, final Iterable<?> values, final long timestamp) {
+        return new TransformIterable<Object, Element>((Iterable) values) {
             @Override
             protected Element transform(final Object value) {
                 try {
@@ -100,7 +248,7 @@ public class GafferResultCacheExporter implements Exporter {
                     }
 
                     return new Edge.Builder()
-                            .group("result")
+                            .group(RESULT_GROUP)
                             .source(jobId)
                             .dest(key)
                             .directed(true)
@@ -115,60 +263,244 @@ public class GafferResultCacheExporter implements Exporter {
                 }
             }
         };
+    }
 
-        resultCache.execute(new AddElements.Builder()
-                .input(elements)
-                .build(), context);
+    private Iterable<Element> createPageEdges(final String key, final Iterable<?> values, final long timestamp) {
+        // Each add is given its own batch, so pages added under the same key
+        // at the same time can still be told apart.
+        final String batch = UUID.randomUUID().toString();
+        return () -> new Iterator<Element>() {
+            private final Iterator<? extends List<?>> pages = Iterables.partition(values, pageSize).iterator();
+            private int pageIndex;
+
+            @Override
+            public boolean hasNext() {
+                return pages.hasNext();
+            }
+
+            @Override
+            public Element next() {
+                final List<?> page = pages.next();
+                try {
+                    return new Edge.Builder()
+                            .group(PAGE_GROUP)
+                            .source(jobId)
+                            .dest(key)
+                            .directed(true)
+                            .property("opAuths", requiredOpAuths)
+                            .property("timestamp", timestamp)
+                            .property("visibility", visibility)
+                            .property("batch", batch)
+                            .property("pageIndex", pageIndex++)
+                            .property("resultCount", page.size())
+                            .property("results", serialisePage(page))
+                            .build();
+                } catch (final SerialisationException e) {
+                    throw new RuntimeException("Unable to serialise results to json", e);
+                }
+            }
+        };
     }
 
-    @Override
-    public CloseableIterable<?> get(final String key) throws OperationException {
-        final GetElements getEdges = new GetElements.Builder()
-                .input(new EdgeSeed(jobId, key, true))
-                .view(new View.Builder()
-                        .edge("result", new ViewElementDefinition.Builder()
-                                .preAggregationFilter(new ElementFilter.Builder()
-                                        .select("opAuths")
-                                        .execute(new AreIn(userOpAuths))
-                                        .build())
-                                .build())
-                        .build())
-                .build();
+    private ElementFilter.Builder createOpAuthsFilter() {
+        return new ElementFilter.Builder()
+                .select("opAuths")
+                .execute(new AreIn(userOpAuths));
+    }
 
-        final CloseableIterable<? extends Element> edges = resultCache.execute(getEdges, context);
-        if (null == edges) {
-            return new WrappedCloseableIterable<>();
+    private static byte[] serialisePage(final List<?> values) throws SerialisationException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(values.size());
+            for (final Object value : values) {
+                if (null == value) {
+                    out.writeBoolean(false);
+                } else {
+                    final byte[] valueJson = JSONSerialiser.serialise(value);
+                    out.writeBoolean(true);
+                    out.writeUTF(value.getClass().getName());
+                    out.writeInt(valueJson.length);
+                    out.write(valueJson);
+                }
+            }
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to compress results page", e);
         }
-        return new TransformJsonResult(edges);
+        return bytes.toByteArray();
     }
 
-    private static class TransformJsonResult extends TransformIterable<Element, Object> {
-        TransformJsonResult(final Iterable<? extends Element> input) {
-            super(input, new AlwaysValid<>(), false, true);
+    private static List<Object> deserialisePage(final byte[] pageBytes) {
+        if (null == pageBytes) {
+            return Collections.emptyList();
         }
 
-        @Override
-        protected Object transform(final Element edge) {
-            final String resultClassName = (String) edge.getProperty("resultClass");
-            final byte[] resultBytes = (byte[]) edge.getProperty("result");
-            if (null == resultClassName || null == resultBytes) {
-                return null;
+        try (final DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(pageBytes)))) {
+            final int size = in.readInt();
+            final List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (in.readBoolean()) {
+                    final String resultClassName = in.readUTF();
+                    final byte[] resultBytes = new byte[in.readInt()];
+                    in.readFully(resultBytes);
+                    values.add(deserialise(resultClassName, resultBytes));
+                } else {
+                    values.add(null);
+                }
             }
+            return values;
+        } catch (final IOException e) {
+            LOGGER.error("Unable to decompress results page", e);
+            throw new RuntimeException(e);
+        }
+    }
 
-            final Class<?> resultClass;
-            try {
-                resultClass = Class.forName(SimpleClassNameIdResolver.getClassName(resultClassName));
-            } catch (final ClassNotFoundException e) {
-                LOGGER.error("Result class name was not found: {}", resultClassName, e);
-                throw new RuntimeException(e);
-            }
+    private static Object deserialise(final String resultClassName, final byte[] resultBytes) {
+        if (null == resultClassName || null == resultBytes) {
+            return null;
+        }
 
-            try {
-                return JSONSerialiser.deserialise(resultBytes, resultClass);
-            } catch (final SerialisationException e) {
-                LOGGER.error("Unable to deserialise result: {}", new String(resultBytes, StandardCharsets.UTF_8), e);
-                throw new RuntimeException(e);
-            }
+        final Class<?> resultClass;
+        try {
+            resultClass = Class.forName(SimpleClassNameIdResolver.getClassName(resultClassName));
+        } catch (final ClassNotFoundException e) {
+            LOGGER.error("Result class name was not found: {}", resultClassName, e);
+            throw new RuntimeException(e);
+        }
+
+        try {
+            return JSONSerialiser.deserialise(resultBytes, resultClass);
+        } catch (final SerialisationException e) {
+            LOGGER.error("Unable to deserialise result: {}", new String(resultBytes, StandardCharsets.UTF_8), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The cached results for an export key. Results stored as individual
+     * edges are returned as the edges are read. The page edges are read
+     * without their results and collected, then once all the edges have been
+     * read the pages holding the requested results are fetched and
+     * decompressed in order.
+     */
+    private class CachedResults implements CloseableIterable<Object> {
+        private final String key;
+        private final CloseableIterable<? extends Element> edges;
+        private final int offset;
+        private final Integer limit;
+
+        CachedResults(final String key, final CloseableIterable<? extends Element> edges, final int offset, final Integer limit) {
+            this.key = key;
+            this.edges = edges;
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        @Override
+        public void close() {
+            edges.close();
+        }
+
+        @Override
+        public CloseableIterator<Object> iterator() {
+            return new CloseableIterator<Object>() {
+                private final CloseableIterator<? extends Element> edgeItr = edges.iterator();
+                private final List<Element> pages = new ArrayList<>();
+                private Deque<Element> sortedPages;
+                private Iterator<Object> resultItr = Collections.emptyIterator();
+                private long toSkip = offset;
+                private long remaining = null == limit ? Long.MAX_VALUE : limit;
+                private boolean hasNext;
+                private Object next;
+
+                @Override
+                public boolean hasNext() {
+                    while (!hasNext && remaining > 0) {
+                        if (resultItr.hasNext()) {
+                            offer(resultItr.next());
+                        } else if (null == sortedPages) {
+                            if (edgeItr.hasNext()) {
+                                final Element edge = edgeItr.next();
+                                if (PAGE_GROUP.equals(edge.getGroup())) {
+                                    pages.add(edge);
+                                } else {
+                                    offer(deserialise((String) edge.getProperty("resultClass"), (byte[]) edge.getProperty("result")));
+                                }
+                            } else {
+                                sortedPages = fetchPages();
+                            }
+                        } else if (!sortedPages.isEmpty()) {
+                            // Pages are removed as they are read, so their
+                            // compressed results can be garbage collected.
+                            resultItr = deserialisePage((byte[]) sortedPages.poll().getProperty("results")).iterator();
+                        } else {
+                            break;
+                        }
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNext = false;
+                    remaining--;
+                    final Object result = next;
+                    next = null;
+                    return result;
+                }
+
+                @Override
+                public void close() {
+                    edgeItr.close();
+                }
+
+                private Deque<Element> fetchPages() {
+                    pages.sort(PAGE_ORDER);
+                    final Set<Element> requiredPages = new TreeSet<>(PAGE_ORDER);
+                    long toRead = remaining > Long.MAX_VALUE - toSkip ? Long.MAX_VALUE : toSkip + remaining;
+                    for (final Element page : pages) {
+                        if (toRead <= 0) {
+                            break;
+                        }
+                        final int resultCount = (Integer) page.getProperty("resultCount");
+                        if (requiredPages.isEmpty() && toSkip >= resultCount) {
+                            toSkip -= resultCount;
+                        } else {
+                            requiredPages.add(page);
+                        }
+                        toRead -= resultCount;
+                    }
+                    pages.clear();
+                    if (requiredPages.isEmpty()) {
+                        return new ArrayDeque<>();
+                    }
+
+                    final Set<Element> fetchedPages = new TreeSet<>(PAGE_ORDER);
+                    try (final CloseableIterable<? extends Element> pageEdges = getPages(key, requiredPages);
+                         final CloseableIterator<? extends Element> pageItr = pageEdges.iterator()) {
+                        while (pageItr.hasNext()) {
+                            final Element page = pageItr.next();
+                            if (requiredPages.contains(page)) {
+                                fetchedPages.add(page);
+                            }
+                        }
+                    } catch (final OperationException e) {
+                        throw new RuntimeException("Unable to fetch results pages", e);
+                    }
+                    return new ArrayDeque<>(fetchedPages);
+                }
+
+                private void offer(final Object result) {
+                    if (toSkip > 0) {
+                        toSkip--;
+                    } else {
+                        next = result;
+                        hasNext = true;
+                    }
+                }
+            };
         }
     }
 
@@ -195,4 +527,8 @@ public class GafferResultCacheExporter implements Exporter {
     protected Set<String> getUserOpAuths() {
         return userOpAuths;
     }
+
+    protected Integer getPageSize() {
+        return pageSize;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,6 +40,12 @@ public class ExportToGafferResultCacheHandler extends ExportToHandler<ExportToGa
 
     private String cacheStorePropertiesPath;
 
+    /**
+     * The number of results to pack into each page of the export. If this is
+     * not set, each result is exported on its own.
+     */
+    private Integer pageSize;
+
     @Override
     protected Class<GafferResultCacheExporter> getExporterClass() {
         return GafferResultCacheExporter.class;
@@ -49,7 +55,7 @@ public class ExportToGafferResultCacheHandler extends ExportToHandler<ExportToGa
     protected GafferResultCacheExporter createExporter(final ExportToGafferResultCache export, final Context context, final Store store) {
         return new GafferResultCacheExporter(
                 context, context.getJobId(), createGraph(store),
-                visibility, export.getOpAuths());
+                visibility, export.getOpAuths(), pageSize);
     }
 
     protected Graph createGraph(final Store store) {
@@ -87,4 +93,12 @@ public class ExportToGafferResultCacheHandler extends ExportToHandler<ExportToGa
     public void setStorePropertiesPath(final String cacheStorePropertiesPath) {
         this.cacheStorePropertiesPath = cacheStorePropertiesPath;
     }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(final Integer pageSize) {
+        this.pageSize = pageSize;
+    }
 }
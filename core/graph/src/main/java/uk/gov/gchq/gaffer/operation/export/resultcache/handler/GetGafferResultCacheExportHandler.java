@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package uk.gov.gchq.gaffer.operation.export.resultcache.handler;
 
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.export.resultcache.GafferResultCacheExporter;
 import uk.gov.gchq.gaffer.operation.export.resultcache.handler.util.GafferResultCacheUtil;
 import uk.gov.gchq.gaffer.operation.impl.export.resultcache.GetGafferResultCacheExport;
@@ -53,6 +55,14 @@ public class GetGafferResultCacheExportHandler extends GetExportHandler<GetGaffe
                 visibility, null);
     }
 
+    @Override
+    protected CloseableIterable<?> getExport(final GetGafferResultCacheExport export, final GafferResultCacheExporter exporter) throws OperationException {
+        if (null == export.getOffset() && null == export.getLimit()) {
+            return super.getExport(export, exporter);
+        }
+        return exporter.get(export.getKeyOrDefault(), export.getOffset(), export.getLimit());
+    }
+
     protected Graph createGraph(final Store store) {
         return GafferResultCacheUtil.createGraph(graphId, cacheStorePropertiesPath, timeToLive);
     }
@@ -75,6 +75,8 @@ import uk.gov.gchq.gaffer.store.StoreTrait;
 import uk.gov.gchq.gaffer.store.TestTypes;
 import uk.gov.gchq.gaffer.store.library.GraphLibrary;
 import uk.gov.gchq.gaffer.store.library.HashMapGraphLibrary;
+import uk.gov.gchq.gaffer.store.metrics.InMemoryMetricsRegistry;
+import uk.gov.gchq.gaffer.store.metrics.MetricsRegistry;
 import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
@@ -593,6 +595,40 @@ public class GraphTest {
         verify(context).setOriginalOpChain(opChain);
     }
 
+    @Test
+    public void shouldRecordGraphHookTimersByFullClassName() throws OperationException {
+        // Given
+        final GraphHook hook = mock(GraphHook.class);
+        final Store store = mock(Store.class);
+        final Schema schema = new Schema();
+        final MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        final Object result = mock(Object.class);
+        given(store.getSchema()).willReturn(schema);
+        given(store.getProperties()).willReturn(new StoreProperties());
+        given(store.getMetricsRegistry()).willReturn(metricsRegistry);
+        given(hook.postExecute(result, clonedOpChain, clonedContext)).willReturn(result);
+
+        final Graph graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId(GRAPH_ID)
+                        .addHook(hook)
+                        .build())
+                .storeProperties(StreamUtil.storeProps(getClass()))
+                .store(store)
+                .addSchema(schema)
+                .build();
+
+        given(store.execute(clonedOpChain, clonedContext)).willReturn(result);
+
+        // When
+        graph.execute(opChain, context);
+
+        // Then
+        assertThat(metricsRegistry.getMetrics())
+                .containsKey("hook." + hook.getClass().getName() + ".preExecute")
+                .containsKey("hook." + hook.getClass().getName() + ".postExecute");
+    }
+
     @Test
     public void shouldCallAllGraphHooksAfterJobExecuted() throws OperationException {
         // Given
@@ -43,6 +43,8 @@ import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -247,6 +249,128 @@ public class FunctionAuthoriserTest extends GraphHookTest<FunctionAuthoriser> {
         assertEquals(fakeInput, ((Input) chain.getOperations().get(0)).getInput());
     }
 
+    @Test
+    public void shouldNotAllowUnauthorisedFunctionInTheViewWhenStructural() {
+        // Given
+        final OperationChain<CloseableIterable<? extends Element>> viewOperation = new OperationChain.Builder().first(new GetElements.Builder()
+                .input(new EntitySeed(1))
+                .view(new View.Builder()
+                        .globalElements(new GlobalViewElementDefinition.Builder()
+                                .transformFunctions(Lists.newArrayList(new TupleAdaptedFunction(new String[]{"input"}, new DivideBy(6), new String[]{"output"})))
+                                .build())
+                        .build())
+                .build())
+                .build();
+        final FunctionAuthoriser functionAuthoriser = new FunctionAuthoriser(Lists.newArrayList(DivideBy.class));
+
+        // When
+        functionAuthoriser.setStructural(true);
+
+        // Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> functionAuthoriser.preExecute(viewOperation, new Context()))
+                .withMessage("Operation chain contained an unauthorised function: uk.gov.gchq.koryphe.impl.function.DivideBy");
+    }
+
+    @Test
+    public void shouldNotAllowUnauthorisedFunctionInLaterOperationWhenStructural() {
+        // Given
+        final GetElements getElements = new GetElements();
+        getElements.setInput(Lists.newArrayList(new EntitySeed(1), new EntitySeed(2)));
+        final OperationChain chain = new OperationChain.Builder()
+                .first(getElements)
+                .then(generateOperation(ToString.class, Identity.class))
+                .build();
+        final FunctionAuthoriser functionAuthoriser = new FunctionAuthoriser(Lists.newArrayList(Identity.class));
+
+        // When
+        functionAuthoriser.setStructural(true);
+
+        // Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> functionAuthoriser.preExecute(chain, new Context()))
+                .withMessage("Operation chain contained an unauthorised function: uk.gov.gchq.koryphe.impl.function.Identity");
+    }
+
+    @Test
+    public void shouldNotWalkInputWhenStructural() {
+        // Given
+        final List fakeInput = Lists.newArrayList(new Identity());
+        final Map<Object, Object> map = new Map<>(new ToString());
+        map.setInput(fakeInput);
+        final FunctionAuthoriser functionAuthoriser = new FunctionAuthoriser(Lists.newArrayList(Identity.class));
+
+        // When
+        functionAuthoriser.setStructural(true);
+
+        // Then no exceptions
+        functionAuthoriser.preExecute(new OperationChain<>(map), new Context());
+        assertEquals(fakeInput, map.getInput());
+    }
+
+    @Test
+    public void shouldNotAllowUnauthorisedFunctionInInputOfLaterOperationWhenStructural() {
+        // Given
+        final Map<Object, Object> map = new Map<>(new ToString());
+        map.setInput(Lists.newArrayList(new Identity()));
+        final OperationChain chain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(map)
+                .build();
+        final FunctionAuthoriser functionAuthoriser = new FunctionAuthoriser(Lists.newArrayList(Identity.class));
+
+        // When
+        functionAuthoriser.setStructural(true);
+
+        // Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> functionAuthoriser.preExecute(chain, new Context()))
+                .withMessage("Operation chain contained an unauthorised function: uk.gov.gchq.koryphe.impl.function.Identity");
+    }
+
+    @Test
+    public void shouldNotAllowUnauthorisedFunctionInsideJdkContainersWhenStructural() {
+        // Given
+        final Map<Object, Object> optionalMap = new Map<>(new ToString());
+        optionalMap.setInput(Lists.newArrayList(Optional.of(new Identity())));
+        final Map<Object, Object> referenceMap = new Map<>(new ToString());
+        referenceMap.setInput(Lists.newArrayList(new AtomicReference<>(new Identity())));
+        final FunctionAuthoriser functionAuthoriser = new FunctionAuthoriser(Lists.newArrayList(Identity.class));
+
+        // When
+        functionAuthoriser.setStructural(true);
+
+        // Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> functionAuthoriser.preExecute(new OperationChain.Builder()
+                        .first(new GetAllElements())
+                        .then(optionalMap)
+                        .build(), new Context()));
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> functionAuthoriser.preExecute(new OperationChain.Builder()
+                        .first(new GetAllElements())
+                        .then(referenceMap)
+                        .build(), new Context()));
+    }
+
+    @Test
+    public void shouldJsonSerialiseWithStructuralSet() throws SerialisationException {
+        String json = "" +
+                "{" +
+                "\"class\": \"uk.gov.gchq.gaffer.graph.hook.FunctionAuthoriser\"," +
+                "\"structural\": true," +
+                "\"unauthorisedFunctions\":[" +
+                "\"uk.gov.gchq.koryphe.impl.function.ToString\"" +
+                "]" +
+                "}";
+
+        final FunctionAuthoriser authoriser = new FunctionAuthoriser(Lists.newArrayList(ToString.class));
+        authoriser.setStructural(true);
+
+        JsonAssert.assertEquals(json, new String(JSONSerialiser.serialise(authoriser)));
+        assertEquals(true, JSONSerialiser.deserialise(json, FunctionAuthoriser.class).isStructural());
+    }
+
     private OperationChain generateOperation(final Class<? extends Function>... functionClasses) {
         final Map.Builder builder = new Map.Builder();
         try {
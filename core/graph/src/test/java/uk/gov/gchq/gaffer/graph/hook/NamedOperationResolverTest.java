@@ -73,7 +73,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
 
         given(op1.getInput()).willReturn(null);
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
-        given(extendedNamedOperation.getOperationChain(params)).willReturn(namedOperationOpChain);
+        given(cache.getOperationChain(extendedNamedOperation, params)).willReturn(namedOperationOpChain);
 
         final OperationChain<Object> opChain = new OperationChain.Builder()
                 .first(new NamedOperation.Builder<>()
@@ -111,7 +111,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
 
         given(op1.getInput()).willReturn(null);
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
-        given(extendedNamedOperation.getOperationChain(params)).willReturn(namedOperationOpChain);
+        given(cache.getOperationChain(extendedNamedOperation, params)).willReturn(namedOperationOpChain);
 
         final OperationChain<Object> opChain = new OperationChain.Builder()
                 .first(new OperationChain.Builder()
@@ -152,7 +152,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
 
         given(op1.getInput()).willReturn(mock(CloseableIterable.class));
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
-        given(extendedNamedOperation.getOperationChain(params)).willReturn(namedOpChain);
+        given(cache.getOperationChain(extendedNamedOperation, params)).willReturn(namedOpChain);
 
         // When
         final OperationChain<Object> opChain = new OperationChain.Builder()
@@ -199,6 +199,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
                 .build();
 
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
+        given(cache.getOperationChain(extendedNamedOperation, paramMap)).willCallRealMethod();
 
         final OperationChain<Object> opChain = new OperationChain.Builder()
                 .first(new NamedOperation.Builder<>()
@@ -248,6 +249,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
                 .build();
 
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
+        given(cache.getOperationChain(extendedNamedOperation, paramMap)).willCallRealMethod();
 
         // When
         assertThatIllegalArgumentException()
@@ -289,6 +291,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
                 .build();
 
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
+        given(cache.getOperationChain(extendedNamedOperation, paramMap)).willCallRealMethod();
 
         // When
         assertThatIllegalArgumentException().isThrownBy(() -> resolver.preExecute(new OperationChain.Builder()
@@ -328,6 +331,7 @@ public class NamedOperationResolverTest extends GraphHookTest<NamedOperationReso
                 .build();
 
         given(cache.getNamedOperation(opName, user)).willReturn(extendedNamedOperation);
+        given(cache.getOperationChain(extendedNamedOperation, paramMap)).willCallRealMethod();
 
         // When
         assertThatIllegalArgumentException()
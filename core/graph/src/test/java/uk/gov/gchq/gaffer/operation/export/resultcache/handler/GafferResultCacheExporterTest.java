@@ -35,24 +35,29 @@ import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.export.resultcache.GafferResultCacheExporter;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.StoreProperties;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class GafferResultCacheExporterTest {
@@ -161,6 +166,186 @@ public class GafferResultCacheExporterTest {
         assertEquals(Collections.emptyList(), Lists.newArrayList(cachedResults));
     }
 
+    @Test
+    public void shouldAddResultsInPages() throws OperationException {
+        // Given
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths, 2
+        );
+
+        // When
+        exporter.add(key, results);
+
+        // Then
+        final List<Element> pages = getAddedElements();
+        assertThat(pages).hasSize(2);
+        assertThat(pages).extracting(page -> page.getProperty("pageIndex")).containsExactly(0, 1);
+        assertThat(pages).extracting(page -> page.getProperty("resultCount")).containsExactly(2, 1);
+        assertThat(pages).extracting(Element::getGroup).containsOnly("resultPage");
+        assertThat(pages.get(0).getProperty("batch")).isNotNull().isEqualTo(pages.get(1).getProperty("batch"));
+    }
+
+    @Test
+    public void shouldGetPagedResultsInPageOrder() throws OperationException {
+        // Given
+        final List<Element> pages = addPages(Arrays.asList(1, 2, 3, 4, 5));
+        given(store.execute(Mockito.any(OperationChain.class), Mockito.any(Context.class)))
+                .willReturn(new WrappedCloseableIterable<>(Lists.reverse(withoutResults(pages))),
+                        new WrappedCloseableIterable<>(Lists.reverse(pages)));
+
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths
+        );
+
+        // When
+        final CloseableIterable<?> cachedResults = exporter.get(key);
+
+        // Then
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), Lists.newArrayList(cachedResults));
+        verify(store, times(2)).execute(Mockito.any(OperationChain.class), Mockito.any(Context.class));
+    }
+
+    @Test
+    public void shouldExcludePageResultsWhenReadingPageDetails() throws OperationException {
+        // Given
+        final ArgumentCaptor<OperationChain> opChain = ArgumentCaptor.forClass(OperationChain.class);
+        given(store.execute(opChain.capture(), Mockito.any(Context.class))).willReturn(new WrappedCloseableIterable<>());
+
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths
+        );
+
+        // When
+        Lists.newArrayList(exporter.get(key));
+
+        // Then
+        final GetElements getElements = (GetElements) opChain.getValue().getOperations().get(0);
+        assertThat(getElements.getView().getEdge("resultPage").getExcludeProperties()).containsExactly("results");
+        assertThat(getElements.getView().getEdge("result").getExcludeProperties()).isNullOrEmpty();
+        verify(store, times(1)).execute(Mockito.any(OperationChain.class), Mockito.any(Context.class));
+    }
+
+    @Test
+    public void shouldOnlyFetchPagesOverlappingOffsetAndLimit() throws OperationException {
+        // Given
+        final List<Element> pages = new ArrayList<>(addPages(Arrays.asList(1, 2, 3, 4, 5)));
+        final List<Element> laterPages = addPages(Arrays.asList(6, 7, 8, 9));
+        final long laterTimestamp = (Long) pages.get(0).getProperty("timestamp") + 1;
+        laterPages.forEach(page -> page.putProperty("timestamp", laterTimestamp));
+        pages.addAll(laterPages);
+        final ArgumentCaptor<OperationChain> opChain = ArgumentCaptor.forClass(OperationChain.class);
+        given(store.execute(opChain.capture(), Mockito.any(Context.class)))
+                .willReturn(new WrappedCloseableIterable<>(withoutResults(pages)),
+                        new WrappedCloseableIterable<>(pages));
+
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths
+        );
+
+        // When
+        final CloseableIterable<?> cachedResults = exporter.get(key, 3, 4);
+
+        // Then
+        assertEquals(Arrays.asList(4, 5, 6, 7), Lists.newArrayList(cachedResults));
+        verify(store, times(2)).execute(Mockito.any(OperationChain.class), Mockito.any(Context.class));
+        final GetElements getPages = (GetElements) opChain.getAllValues().get(1).getOperations().get(0);
+        assertThat(getPages.getView().getEdgeGroups()).containsExactly("resultPage");
+        final Predicate<Element> pageFilter = getPages.getView().getEdge("resultPage").getPreAggregationFilter();
+        assertThat(pages).extracting(pageFilter::test).containsExactly(false, true, true, true, false);
+    }
+
+    @Test
+    public void shouldNotFetchPagesWhenLimitIsReached() throws OperationException {
+        // Given
+        final List<Element> cachedEdges = createCachedEdges(System.currentTimeMillis(), serialisedResults);
+        final List<Element> edges = new ArrayList<>(cachedEdges);
+        edges.addAll(withoutResults(addPages(Arrays.asList(1, 2, 3))));
+        given(store.execute(Mockito.any(OperationChain.class), Mockito.any(Context.class)))
+                .willReturn(new WrappedCloseableIterable<>(edges));
+
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths
+        );
+
+        // When
+        final CloseableIterable<?> cachedResults = exporter.get(key, 0, 2);
+
+        // Then
+        assertEquals(Arrays.asList(1, "2"), Lists.newArrayList(cachedResults));
+        verify(store, times(1)).execute(Mockito.any(OperationChain.class), Mockito.any(Context.class));
+    }
+
+    @Test
+    public void shouldNotDecompressPagesBeforeOffset() throws OperationException {
+        // Given
+        final List<Element> pages = addPages(Arrays.asList(1, 2, 3, 4, 5));
+        final List<Element> pageDetails = withoutResults(pages);
+        pages.get(0).putProperty("results", new byte[] {1, 2, 3});
+        given(store.execute(Mockito.any(OperationChain.class), Mockito.any(Context.class)))
+                .willReturn(new WrappedCloseableIterable<>(pageDetails), new WrappedCloseableIterable<>(pages));
+
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths
+        );
+
+        // When
+        final CloseableIterable<?> cachedResults = exporter.get(key, 3, 1);
+
+        // Then
+        assertEquals(Collections.singletonList(4), Lists.newArrayList(cachedResults));
+        verify(store, times(2)).execute(Mockito.any(OperationChain.class), Mockito.any(Context.class));
+    }
+
+    @Test
+    public void shouldApplyOffsetAndLimitToResults() throws OperationException {
+        // Given
+        final List<Element> cachedEdges = createCachedEdges(System.currentTimeMillis(), serialisedResults);
+        given(store.execute(Mockito.any(OperationChain.class), Mockito.any(Context.class))).willReturn(new WrappedCloseableIterable<>(cachedEdges));
+
+        final GafferResultCacheExporter exporter = new GafferResultCacheExporter(
+                context, jobId, resultCache, visibility, requiredOpAuths
+        );
+
+        // When
+        final CloseableIterable<?> cachedResults = exporter.get(key, 1, 1);
+
+        // Then
+        assertEquals(Collections.singletonList("2"), Lists.newArrayList(cachedResults));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenPageSizeIsInvalid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new GafferResultCacheExporter(context, jobId, resultCache, visibility, requiredOpAuths, 0))
+                .withMessage("The page size must be at least 1");
+    }
+
+    private List<Element> addPages(final List<?> values) throws OperationException {
+        new GafferResultCacheExporter(context, jobId, resultCache, visibility, requiredOpAuths, 2)
+                .add(key, values);
+        final List<Element> pages = getAddedElements();
+        Mockito.reset(store);
+        before();
+        return pages;
+    }
+
+    private static List<Element> withoutResults(final List<Element> pages) {
+        final List<Element> pageDetails = new ArrayList<>(pages.size());
+        for (final Element page : pages) {
+            final Element pageDetail = page.shallowClone();
+            pageDetail.removeProperty("results");
+            pageDetails.add(pageDetail);
+        }
+        return pageDetails;
+    }
+
+    private List<Element> getAddedElements() {
+        final ArgumentCaptor<OperationChain> opChain = ArgumentCaptor.forClass(OperationChain.class);
+        verify(store).execute(opChain.capture(), Mockito.any(Context.class));
+        final AddElements addElements = (AddElements) opChain.getValue().getOperations().get(0);
+        return Lists.newArrayList(addElements.getInput());
+    }
+
     private List<Element> createCachedEdges(final Object timestamp, final Object... values) {
         return Arrays.asList(
                 new Edge.Builder()
@@ -106,6 +106,34 @@ public class GetGafferResultCacheExportHandlerTest {
         assertSame(results, handlerResult);
     }
 
+    @Test
+    public void shouldPassOffsetAndLimitToExporter() throws OperationException {
+        // Given
+        final GetGafferResultCacheExport export = new GetGafferResultCacheExport.Builder()
+                .key("key")
+                .offset(10)
+                .limit(5)
+                .build();
+
+        final Context context = new Context();
+        final Store store = mock(Store.class);
+
+        final GafferResultCacheExporter exporter = mock(GafferResultCacheExporter.class);
+        final CloseableIterable results = new WrappedCloseableIterable<>(Arrays.asList(1, 2, 3));
+        given(exporter.get("key", 10, 5)).willReturn(results);
+        context.addExporter(exporter);
+
+        final GetGafferResultCacheExportHandler handler = new GetGafferResultCacheExportHandler();
+        handler.setStorePropertiesPath(StreamUtil.STORE_PROPERTIES);
+
+        // When
+        final Object handlerResult = handler.doOperation(export, context, store);
+
+        // Then
+        verify(exporter).get("key", 10, 5);
+        assertSame(results, handlerResult);
+    }
+
     @Test
     public void shouldHandleOperationByDelegatingToAnNewExporter() throws OperationException {
         // Given
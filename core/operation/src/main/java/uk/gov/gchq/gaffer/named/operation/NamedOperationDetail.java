@@ -19,8 +19,10 @@ package uk.gov.gchq.gaffer.named.operation;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -35,8 +37,11 @@ import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationChainDAO;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -216,6 +221,81 @@ public class NamedOperationDetail implements AccessControlledResource, Serializa
     public OperationChain getOperationChain(final Map<String, Object> executionParams) {
         String opStringWithParams = operations;
 
+        try {
+            for (final Map.Entry<String, Object> paramValue : getParameterValues(executionParams).entrySet()) {
+                opStringWithParams = opStringWithParams.replace(buildParamNameString(paramValue.getKey()),
+                        new String(JSONSerialiser.serialise(paramValue.getValue()), StandardCharsets.UTF_8));
+            }
+        } catch (final SerialisationException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        OperationChain opChain;
+
+        try {
+            opChain = JSONSerialiser.deserialise(opStringWithParams.getBytes(StandardCharsets.UTF_8), OperationChainDAO.class);
+        } catch (final Exception e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        return opChain;
+    }
+
+    /**
+     * Gets the OperationChain after adding in any provided parameters, using a
+     * template created by {@link #createOperationsTemplate()} rather than
+     * parsing the operations json again. The template is not modified.
+     *
+     * @param executionParams the parameters for the {@link uk.gov.gchq.gaffer.operation.Operation} to be executed
+     * @param template        the parsed operations template
+     * @return The {@link OperationChain}
+     * @throws IllegalArgumentException if substituting the parameters fails
+     */
+    public OperationChain getOperationChain(final Map<String, Object> executionParams, final JsonNode template) {
+        final JsonNode opTreeWithParams = template.deepCopy();
+
+        try {
+            final Map<String, JsonNode> paramNodes = new HashMap<>();
+            for (final Map.Entry<String, Object> paramValue : getParameterValues(executionParams).entrySet()) {
+                paramNodes.put("${" + paramValue.getKey() + "}",
+                        JSONSerialiser.getMapper().readTree(JSONSerialiser.serialise(paramValue.getValue())));
+            }
+            if (!paramNodes.isEmpty()) {
+                replaceParams(opTreeWithParams, paramNodes);
+            }
+        } catch (final IOException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        OperationChain opChain;
+
+        try {
+            opChain = JSONSerialiser.getMapper().treeToValue(opTreeWithParams, OperationChainDAO.class);
+        } catch (final Exception e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        return opChain;
+    }
+
+    /**
+     * Parses the operations json into a template that can be passed to
+     * {@link #getOperationChain(Map, JsonNode)}.
+     *
+     * @return the parsed operations
+     * @throws IllegalArgumentException if the operations json cannot be parsed
+     */
+    public JsonNode createOperationsTemplate() {
+        try {
+            return JSONSerialiser.getJsonNodeFromString(operations);
+        } catch (final SerialisationException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
+    private Map<String, Object> getParameterValues(final Map<String, Object> executionParams) throws SerialisationException {
+        final Map<String, Object> paramValues = new HashMap<>();
+
         // First check all the parameters supplied are expected parameter names
         if (null != parameters) {
             if (null != executionParams) {
@@ -229,33 +309,46 @@ public class NamedOperationDetail implements AccessControlledResource, Serializa
 
             for (final Map.Entry<String, ParameterDetail> parameterDetailPair : parameters.entrySet()) {
                 String paramKey = parameterDetailPair.getKey();
-                try {
-                    if (null != executionParams && executionParams.containsKey(paramKey)) {
-                        Object paramObj = JSONSerialiser.deserialise(JSONSerialiser.serialise(executionParams.get(paramKey)), parameterDetailPair.getValue().getValueClass());
-
-                        opStringWithParams = opStringWithParams.replace(buildParamNameString(paramKey),
-                                new String(JSONSerialiser.serialise(paramObj), StandardCharsets.UTF_8));
-                    } else if (!parameterDetailPair.getValue().isRequired()) {
-                        opStringWithParams = opStringWithParams.replace(buildParamNameString(paramKey),
-                                new String(JSONSerialiser.serialise(parameterDetailPair.getValue().getDefaultValue()), StandardCharsets.UTF_8));
-                    } else {
-                        throw new IllegalArgumentException("Missing parameter " + paramKey + " with no default");
-                    }
-                } catch (final SerialisationException e) {
-                    throw new IllegalArgumentException(e.getMessage());
+                if (null != executionParams && executionParams.containsKey(paramKey)) {
+                    paramValues.put(paramKey, JSONSerialiser.deserialise(JSONSerialiser.serialise(executionParams.get(paramKey)), parameterDetailPair.getValue().getValueClass()));
+                } else if (!parameterDetailPair.getValue().isRequired()) {
+                    paramValues.put(paramKey, parameterDetailPair.getValue().getDefaultValue());
+                } else {
+                    throw new IllegalArgumentException("Missing parameter " + paramKey + " with no default");
                 }
             }
         }
 
-        OperationChain opChain;
+        return paramValues;
+    }
 
-        try {
-            opChain = JSONSerialiser.deserialise(opStringWithParams.getBytes(StandardCharsets.UTF_8), OperationChainDAO.class);
-        } catch (final Exception e) {
-            throw new IllegalArgumentException(e.getMessage());
+    private static void replaceParams(final JsonNode node, final Map<String, JsonNode> paramNodes) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                final JsonNode paramNode = getParamNode(field.getValue(), paramNodes);
+                if (null != paramNode) {
+                    field.setValue(paramNode.deepCopy());
+                } else {
+                    replaceParams(field.getValue(), paramNodes);
+                }
+            }
+        } else if (node.isArray()) {
+            final ArrayNode arrayNode = (ArrayNode) node;
+            for (int i = 0; i < arrayNode.size(); i++) {
+                final JsonNode paramNode = getParamNode(arrayNode.get(i), paramNodes);
+                if (null != paramNode) {
+                    arrayNode.set(i, paramNode.deepCopy());
+                } else {
+                    replaceParams(arrayNode.get(i), paramNodes);
+                }
+            }
         }
+    }
 
-        return opChain;
+    private static JsonNode getParamNode(final JsonNode node, final Map<String, JsonNode> paramNodes) {
+        return node.isTextual() ? paramNodes.get(node.textValue()) : null;
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.operation.Operation;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * An {@code OperationView} operation contains a {@link View} and can carry out
@@ -94,7 +95,11 @@ public interface OperationView {
             return false;
         }
         final ViewElementDefinition elementDef = getView().getElement(element.getGroup());
-        return null != elementDef && (null == elementDef.getPreAggregationFilter() || elementDef.getPreAggregationFilter().test(element));
+        if (null == elementDef) {
+            return false;
+        }
+        final Predicate<Element> filter = elementDef.getCompiledPreAggregationFilter();
+        return null == filter || filter.test(element);
     }
 
     /**
@@ -108,7 +113,11 @@ public interface OperationView {
             return false;
         }
         final ViewElementDefinition elementDef = getView().getElement(element.getGroup());
-        return null != elementDef && (null == elementDef.getPostAggregationFilter() || elementDef.getPostAggregationFilter().test(element));
+        if (null == elementDef) {
+            return false;
+        }
+        final Predicate<Element> filter = elementDef.getCompiledPostAggregationFilter();
+        return null == filter || filter.test(element);
     }
 
     /**
@@ -122,7 +131,11 @@ public interface OperationView {
             return false;
         }
         final ViewElementDefinition elementDef = getView().getElement(element.getGroup());
-        return null != elementDef && (null == elementDef.getPostTransformFilter() || elementDef.getPostTransformFilter().test(element));
+        if (null == elementDef) {
+            return false;
+        }
+        final Predicate<Element> filter = elementDef.getCompiledPostTransformFilter();
+        return null == filter || filter.test(element);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,7 +32,8 @@ import java.util.Map;
 
 /**
  * A {@code GetGafferResultCacheExport} operation is used to retrieve data which
- * has previously been exported to a Gaffer results cache.
+ * has previously been exported to a Gaffer results cache. An offset and limit
+ * can be set to page through the exported results.
  *
  * @see ExportToGafferResultCache
  */
@@ -44,6 +45,8 @@ public class GetGafferResultCacheExport implements
         Output<CloseableIterable<?>> {
     private String jobId;
     private String key = Export.DEFAULT_KEY;
+    private Integer offset;
+    private Integer limit;
     private Map<String, String> options;
 
     @Override
@@ -66,6 +69,22 @@ public class GetGafferResultCacheExport implements
         this.jobId = jobId;
     }
 
+    public Integer getOffset() {
+        return offset;
+    }
+
+    public void setOffset(final Integer offset) {
+        this.offset = offset;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(final Integer limit) {
+        this.limit = limit;
+    }
+
     @Override
     public TypeReference<CloseableIterable<?>> getOutputTypeReference() {
         return new TypeReferenceImpl.CloseableIterableObj();
@@ -76,6 +95,8 @@ public class GetGafferResultCacheExport implements
         return new GetGafferResultCacheExport.Builder()
                 .jobId(jobId)
                 .key(key)
+                .offset(offset)
+                .limit(limit)
                 .options(options)
                 .build();
     }
@@ -97,5 +118,15 @@ public class GetGafferResultCacheExport implements
         public Builder() {
             super(new GetGafferResultCacheExport());
         }
+
+        public Builder offset(final Integer offset) {
+            _getOp().setOffset(offset);
+            return _self();
+        }
+
+        public Builder limit(final Integer limit) {
+            _getOp().setLimit(limit);
+            return _self();
+        }
     }
 }
@@ -34,6 +34,8 @@ public class GetGafferResultCacheExportTest extends OperationTest<GetGafferResul
         final String key = "key";
         final GetGafferResultCacheExport op = new GetGafferResultCacheExport.Builder()
                 .key(key)
+                .offset(10)
+                .limit(5)
                 .build();
 
         // When
@@ -42,6 +44,8 @@ public class GetGafferResultCacheExportTest extends OperationTest<GetGafferResul
 
         // Then
         assertEquals(key, deserialisedOp.getKey());
+        assertEquals(10, (int) deserialisedOp.getOffset());
+        assertEquals(5, (int) deserialisedOp.getLimit());
     }
 
     @Test
@@ -66,6 +70,8 @@ public class GetGafferResultCacheExportTest extends OperationTest<GetGafferResul
         final GetGafferResultCacheExport getGafferResultCacheExport = new GetGafferResultCacheExport.Builder()
                 .key(key)
                 .jobId(jobId)
+                .offset(10)
+                .limit(5)
                 .build();
 
         // When
@@ -75,6 +81,8 @@ public class GetGafferResultCacheExportTest extends OperationTest<GetGafferResul
         assertNotSame(getGafferResultCacheExport, clone);
         assertEquals(key, clone.getKey());
         assertEquals(jobId, clone.getJobId());
+        assertEquals(10, (int) clone.getOffset());
+        assertEquals(5, (int) clone.getLimit());
     }
 
     @Test
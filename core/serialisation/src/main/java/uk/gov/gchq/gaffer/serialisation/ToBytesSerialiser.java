@@ -18,6 +18,8 @@ package uk.gov.gchq.gaffer.serialisation;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * A class that implements this interface is responsible for serialising an
  * object of class T to a byte array, and for deserialising it back again.
@@ -51,6 +53,28 @@ public interface ToBytesSerialiser<T> extends Serialiser<T, byte[]> {
     byte[] serialise(final T object) throws SerialisationException;
 
     /**
+     * Serialise some object and write the serialised form to the given output
+     * stream, so the caller can reuse the same stream for many objects.
+     * The bytes written must be the same as those returned by {@link #serialise(Object)}.
+     * <p>
+     * Implementations should override this method if they can write directly to
+     * the stream without creating an intermediate byte array.
+     *
+     * @param object the object to be serialised
+     * @param out    the stream to write the serialised bytes to
+     * @throws SerialisationException if the object fails to serialise
+     */
+    default void serialise(final T object, final ByteArrayOutputStream out) throws SerialisationException {
+        final byte[] bytes = serialise(object);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Deserialise a range of an array of bytes into the original object.
+     * <p>
+     * This default implementation copies the range into a new array.
+     * Implementations should override this method to decode the range in place.
+     *
      * @param allBytes The bytes to be decoded into characters
      * @param offset   The index of the first byte to decode
      * @param length   The number of bytes to decode
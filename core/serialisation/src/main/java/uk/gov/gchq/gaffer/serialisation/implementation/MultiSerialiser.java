@@ -119,6 +119,23 @@ public class MultiSerialiser implements ToBytesSerialiser<Object> {
         }
     }
 
+    @Override
+    public void serialise(final Object object, final ByteArrayOutputStream out) throws SerialisationException {
+        try {
+            byte key = supportedSerialisers.getKeyFromValue(object);
+            final ToBytesSerialiser serialiser = nullCheck(supportedSerialisers.getSerialiserFromKey(key));
+
+            out.write(key);
+            serialiser.serialise(object, out);
+        } catch (final SerialisationException e) {
+            //re-throw SerialisationException
+            throw e;
+        } catch (final Exception e) {
+            //wraps other exceptions.
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
     private ToBytesSerialiser nullCheck(final ToBytesSerialiser serialiser) throws SerialisationException {
         if (null == serialiser) {
             throw new SerialisationException(String.format("Serialiser for object type %s does not exist within the MultiSerialiser", Object.class));
@@ -128,10 +145,15 @@ public class MultiSerialiser implements ToBytesSerialiser<Object> {
 
     @Override
     public Object deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Object deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         try {
-            byte keyByte = bytes[0];
+            byte keyByte = allBytes[offset];
             ToBytesSerialiser serialiser = nullCheck(supportedSerialisers.getSerialiserFromKey(keyByte));
-            return serialiser.deserialise(bytes, 1, bytes.length - 1);
+            return serialiser.deserialise(allBytes, offset + 1, length - 1);
         } catch (final SerialisationException e) {
             //re-throw SerialisationException
             throw e;
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.serialisation.implementation;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesViaStringDeserialiser;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -41,6 +42,34 @@ public class StringSerialiser extends ToBytesViaStringDeserialiser<String> {
         return object;
     }
 
+    /**
+     * Writes the string to the output stream. When using UTF-8, ASCII
+     * characters are written directly without encoding the string to an
+     * intermediate byte array.
+     *
+     * @param object the string to be serialised
+     * @param out    the stream to write the serialised bytes to
+     * @throws SerialisationException if the string fails to serialise
+     */
+    @Override
+    public void serialise(final String object, final ByteArrayOutputStream out) throws SerialisationException {
+        if (null == object || !StandardCharsets.UTF_8.name().equals(getCharset())) {
+            super.serialise(object, out);
+            return;
+        }
+
+        final int length = object.length();
+        for (int i = 0; i < length; i++) {
+            final char c = object.charAt(i);
+            if (c >= 0x80) {
+                final byte[] remaining = object.substring(i).getBytes(StandardCharsets.UTF_8);
+                out.write(remaining, 0, remaining.length);
+                return;
+            }
+            out.write(c);
+        }
+    }
+
     @Override
     protected String deserialiseString(final String value) throws SerialisationException {
         return value;
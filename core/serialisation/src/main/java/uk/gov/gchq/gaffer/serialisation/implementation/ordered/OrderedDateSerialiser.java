@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Date;
 
 /**
@@ -36,9 +37,19 @@ public class OrderedDateSerialiser implements ToBytesSerialiser<Date> {
         return LONG_SERIALISER.serialise(object.getTime());
     }
 
+    @Override
+    public void serialise(final Date object, final ByteArrayOutputStream out) {
+        LONG_SERIALISER.serialise(object.getTime(), out);
+    }
+
     @Override
     public Date deserialise(final byte[] bytes) throws SerialisationException {
-        return new Date(LONG_SERIALISER.deserialise(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Date deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return new Date(LONG_SERIALISER.deserialise(allBytes, offset, length));
     }
 
     @Override
@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * An {@code OrderedDoubleSerialser} serialises a {@link Double} to
  * an array of bytes by directly converting the double to a raw long and
@@ -32,18 +34,22 @@ public class OrderedDoubleSerialiser implements ToBytesSerialiser<Double> {
 
     @Override
     public byte[] serialise(final Double object) {
-        long l = Double.doubleToRawLongBits(object);
-        if (l < 0) {
-            l = ~l;
-        } else {
-            l = l ^ 0x8000000000000000L;
-        }
-        return LONG_SERIALISER.serialise(l);
+        return LONG_SERIALISER.serialise(toOrderedLong(object));
+    }
+
+    @Override
+    public void serialise(final Double object, final ByteArrayOutputStream out) {
+        LONG_SERIALISER.serialise(toOrderedLong(object), out);
     }
 
     @Override
     public Double deserialise(final byte[] bytes) throws SerialisationException {
-        long l = LONG_SERIALISER.deserialise(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Double deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        long l = LONG_SERIALISER.deserialise(allBytes, offset, length);
         if (l < 0) {
             l = l ^ 0x8000000000000000L;
         } else {
@@ -52,6 +58,16 @@ public class OrderedDoubleSerialiser implements ToBytesSerialiser<Double> {
         return Double.longBitsToDouble(l);
     }
 
+    private long toOrderedLong(final Double object) {
+        long l = Double.doubleToRawLongBits(object);
+        if (l < 0) {
+            l = ~l;
+        } else {
+            l = l ^ 0x8000000000000000L;
+        }
+        return l;
+    }
+
     @Override
     public Double deserialiseEmpty() {
         return null;
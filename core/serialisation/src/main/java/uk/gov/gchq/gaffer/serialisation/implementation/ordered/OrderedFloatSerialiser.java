@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * An {@code OrderedFloatSerialser} serialises a {@link Float} to
  * an array of bytes by directly converting the float to a raw int and
@@ -32,18 +34,22 @@ public class OrderedFloatSerialiser implements ToBytesSerialiser<Float> {
 
     @Override
     public byte[] serialise(final Float object) {
-        int i = Float.floatToRawIntBits(object);
-        if (i < 0) {
-            i = ~i;
-        } else {
-            i = i ^ 0x80000000;
-        }
-        return INTEGER_SERIALISER.serialise(i);
+        return INTEGER_SERIALISER.serialise(toOrderedInt(object));
+    }
+
+    @Override
+    public void serialise(final Float object, final ByteArrayOutputStream out) {
+        INTEGER_SERIALISER.serialise(toOrderedInt(object), out);
     }
 
     @Override
     public Float deserialise(final byte[] bytes) throws SerialisationException {
-        int i = INTEGER_SERIALISER.deserialise(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Float deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        int i = INTEGER_SERIALISER.deserialise(allBytes, offset, length);
         if (i < 0) {
             i = i ^ 0x80000000;
         } else {
@@ -52,6 +58,16 @@ public class OrderedFloatSerialiser implements ToBytesSerialiser<Float> {
         return Float.intBitsToFloat(i);
     }
 
+    private int toOrderedInt(final Float object) {
+        int i = Float.floatToRawIntBits(object);
+        if (i < 0) {
+            i = ~i;
+        } else {
+            i = i ^ 0x80000000;
+        }
+        return i;
+    }
+
     @Override
     public Float deserialiseEmpty() {
         return null;
@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * An {@code OrderedLongSerialser} serialises a {@link Long} to
  * an array of bytes. This serialiser preserves ordering.
@@ -57,23 +59,52 @@ public class OrderedLongSerialiser implements ToBytesSerialiser<Long> {
         return ret;
     }
 
+    @Override
+    public void serialise(final Long object, final ByteArrayOutputStream out) {
+        final long signedL = object ^ 0x8000000000000000L;
+        int shift = 56;
+        int index;
+        int prefix = signedL < 0 ? 0xff : 0x00;
+
+        for (index = 0; index < 8; index++) {
+            if (((signedL >> shift) & 0xff) != prefix) {
+                break;
+            }
+
+            shift -= 8;
+        }
+
+        final int length = 8 - index;
+        out.write(signedL < 0 ? 16 - length : length);
+        for (index = 0; index < length; index++) {
+            out.write((int) (signedL >> shift));
+            shift -= 8;
+        }
+    }
+
     @Override
     public Long deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Long deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
 
         long l = 0;
         int shift = 0;
 
-        if (bytes[0] < 0 || bytes[0] > 16) {
-            throw new SerialisationException("Unexpected length " + (0xff & bytes[0]));
+        final byte first = allBytes[offset];
+        if (first < 0 || first > 16) {
+            throw new SerialisationException("Unexpected length " + (0xff & first));
         }
 
-        for (int i = bytes.length - 1; i >= 0 + 1; i--) {
-            l += (bytes[i] & 0xffL) << shift;
+        for (int i = offset + length - 1; i >= offset + 1; i--) {
+            l += (allBytes[i] & 0xffL) << shift;
             shift += 8;
         }
 
-        if (bytes[0] > 8) {
-            l |= -1L << ((16 - bytes[0]) << 3);
+        if (first > 8) {
+            l |= -1L << ((16 - first) << 3);
         }
 
         return l ^ 0x8000000000000000L;
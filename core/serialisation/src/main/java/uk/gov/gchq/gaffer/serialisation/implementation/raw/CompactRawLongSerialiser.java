@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * Serialises longs using a variable-length scheme that means smaller longs get serialised into a smaller
  * number of bytes. For example, longs i which are between -112 and 127 inclusive are serialised into one byte. Very
@@ -39,6 +41,11 @@ public class CompactRawLongSerialiser implements ToBytesSerialiser<Long> {
         return CompactRawSerialisationUtils.writeLong(l);
     }
 
+    @Override
+    public void serialise(final Long l, final ByteArrayOutputStream out) throws SerialisationException {
+        CompactRawSerialisationUtils.write(l, out);
+    }
+
     @Override
     public Long deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         return CompactRawSerialisationUtils.readLong(allBytes, offset);
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Date;
 
 /**
@@ -55,6 +56,20 @@ public class RawDateSerialiser implements ToBytesSerialiser<Date> {
         return out;
     }
 
+    @Override
+    public void serialise(final Date date, final ByteArrayOutputStream out) throws SerialisationException {
+        final long value = date.getTime();
+        // NB Serialise high-order bits first
+        out.write((int) ((value >> 56) & 255));
+        out.write((int) ((value >> 48) & 255));
+        out.write((int) ((value >> 40) & 255));
+        out.write((int) ((value >> 32) & 255));
+        out.write((int) ((value >> 24) & 255));
+        out.write((int) ((value >> 16) & 255));
+        out.write((int) ((value >> 8) & 255));
+        out.write((int) (value & 255));
+    }
+
     @Override
     public Date deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         int carriage = offset;
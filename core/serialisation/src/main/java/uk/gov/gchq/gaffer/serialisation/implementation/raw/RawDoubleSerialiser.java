@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * For new properties use {@link uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedDoubleSerialiser}.
  * RawDoubleSerialiser serialises Doubles into an IEEE floating point little-endian byte array.
@@ -50,6 +52,19 @@ public class RawDoubleSerialiser implements ToBytesSerialiser<Double> {
         return out;
     }
 
+    @Override
+    public void serialise(final Double d, final ByteArrayOutputStream out) throws SerialisationException {
+        final long value = Double.doubleToRawLongBits(d);
+        out.write((int) (value & 255));
+        out.write((int) (value >> 8) & 255);
+        out.write((int) (value >> 16) & 255);
+        out.write((int) (value >> 24) & 255);
+        out.write((int) (value >> 32) & 255);
+        out.write((int) (value >> 40) & 255);
+        out.write((int) (value >> 48) & 255);
+        out.write((int) (value >> 56) & 255);
+    }
+
     @Override
     public Double deserialise(final byte[] bytes) throws SerialisationException {
         return deserialise(bytes, 0, bytes.length);
@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * For new properties use {@link uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedFloatSerialiser}.
  * RawFloatSerialiser serialises Floats into an IEEE floating point little-endian byte array.
@@ -46,6 +48,15 @@ public class RawFloatSerialiser implements ToBytesSerialiser<Float> {
         return out;
     }
 
+    @Override
+    public void serialise(final Float f, final ByteArrayOutputStream out) throws SerialisationException {
+        final int value = Float.floatToRawIntBits(f);
+        out.write(value & 255);
+        out.write((value >> 8) & 255);
+        out.write((value >> 16) & 255);
+        out.write((value >> 24) & 255);
+    }
+
     @Override
     public Float deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         int carriage = offset;
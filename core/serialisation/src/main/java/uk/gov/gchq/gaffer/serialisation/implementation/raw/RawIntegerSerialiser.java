@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * For new properties use {@link uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedIntegerSerialiser}.
  * RawIntegerSerialiser serialises Integers into a little-endian byte array.
@@ -45,6 +47,14 @@ public class RawIntegerSerialiser implements ToBytesSerialiser<Integer> {
         return out;
     }
 
+    @Override
+    public void serialise(final Integer value, final ByteArrayOutputStream out) throws SerialisationException {
+        out.write(value & 255);
+        out.write((value >> 8) & 255);
+        out.write((value >> 16) & 255);
+        out.write((value >> 24) & 255);
+    }
+
     @Override
     public Integer deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         int carriage = offset;
@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.ByteArrayOutputStream;
+
 /**
  * For new properties use {@link uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedLongSerialiser}.
  * RawLongSerialiser serialises Longs into a little-endian byte array.
@@ -49,6 +51,18 @@ public class RawLongSerialiser implements ToBytesSerialiser<Long> {
         return out;
     }
 
+    @Override
+    public void serialise(final Long value, final ByteArrayOutputStream out) throws SerialisationException {
+        out.write((int) (value & 255));
+        out.write((int) (value >> 8) & 255);
+        out.write((int) (value >> 16) & 255);
+        out.write((int) (value >> 24) & 255);
+        out.write((int) (value >> 32) & 255);
+        out.write((int) (value >> 40) & 255);
+        out.write((int) (value >> 48) & 255);
+        out.write((int) (value >> 56) & 255);
+    }
+
     @Override
     public Long deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         int carriage = offset;
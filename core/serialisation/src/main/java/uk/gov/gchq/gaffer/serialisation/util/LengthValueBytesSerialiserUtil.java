@@ -20,7 +20,6 @@ import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
@@ -64,6 +63,38 @@ public abstract class LengthValueBytesSerialiserUtil {
         serialise(valueBytes, out);
     }
 
+    /**
+     * Writes the length and serialised value to the output stream, using
+     * {@link ToBytesSerialiser#serialise(Object, ByteArrayOutputStream)} so the
+     * value is not serialised into a new byte array.
+     *
+     * @param serialiser the serialiser for the value, may be null
+     * @param value      the value to serialise, may be null
+     * @param out        the stream to write the length and value to
+     * @param buffer     a reusable buffer the value is serialised into before
+     *                   its length is known, which is reset by this method
+     * @param <T>        the type of the value
+     * @throws SerialisationException if the value fails to serialise
+     */
+    public static <T> void serialise(final ToBytesSerialiser<T> serialiser, final T value, final ByteArrayOutputStream out, final ByteArrayOutputStream buffer)
+            throws SerialisationException {
+        buffer.reset();
+        if (null != serialiser) {
+            if (null == value) {
+                final byte[] nullBytes = serialiser.serialiseNull();
+                buffer.write(nullBytes, 0, nullBytes.length);
+            } else {
+                serialiser.serialise(value, buffer);
+            }
+        }
+        CompactRawSerialisationUtils.write(buffer.size(), out);
+        try {
+            buffer.writeTo(out);
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write bytes to output stream", e);
+        }
+    }
+
     public static byte[] serialise(final byte[] valueBytes) throws SerialisationException {
         try (final ByteArrayOutputStream byteStream = new ByteArrayOutputStream()) {
             serialise(valueBytes, byteStream);
@@ -92,11 +123,26 @@ public abstract class LengthValueBytesSerialiserUtil {
     }
 
     public static <T> T deserialise(final ToBytesSerialiser<T> serialiser, final byte[] allBytes, final int delimiter) throws SerialisationException {
-        return getValue(serialiser, deserialise(allBytes, delimiter));
+        if (null == allBytes || 0 == allBytes.length) {
+            return serialiser.deserialiseEmpty();
+        }
+
+        final int lengthSize = getLengthSize(allBytes, delimiter);
+        final int valueSize = getValueSize(allBytes, lengthSize, delimiter);
+        return getValue(serialiser, allBytes, delimiter + lengthSize, valueSize);
     }
 
     public static <T> T deserialise(final ToBytesSerialiser<T> serialiser, final byte[] allBytes, final int[] delimiterWrapper) throws SerialisationException {
-        return getValue(serialiser, deserialise(allBytes, delimiterWrapper));
+        if (1 != delimiterWrapper.length) {
+            throw new IllegalArgumentException("Delimiter wrapper must always be a int array of length 1 containing the delimiter");
+        }
+
+        final int lengthSize = getLengthSize(allBytes, delimiterWrapper[0]);
+        final int valueSize = getValueSize(allBytes, lengthSize, delimiterWrapper[0]);
+        final T value = getValue(serialiser, allBytes, delimiterWrapper[0] + lengthSize, valueSize);
+        delimiterWrapper[0] = getNextDelimiter(lengthSize, valueSize, delimiterWrapper[0]);
+
+        return value;
     }
 
     public static byte[] deserialise(final byte[] allBytes, final int[] delimiterWrapper) throws SerialisationException {
@@ -143,11 +189,7 @@ public abstract class LengthValueBytesSerialiserUtil {
     }
 
     public static int getValueSize(final byte[] allBytes, final int lengthSize, final int delimiter) throws SerialisationException {
-        try (final ByteArrayInputStream input = new ByteArrayInputStream(allBytes, delimiter, lengthSize)) {
-            return (int) CompactRawSerialisationUtils.read(input);
-        } catch (final IOException e) {
-            throw new SerialisationException("Exception reading length of property", e);
-        }
+        return (int) CompactRawSerialisationUtils.readLong(allBytes, delimiter);
     }
 
     public static int getNextDelimiter(final byte[] allBytes, final int delimiter) throws SerialisationException {
@@ -180,11 +222,11 @@ public abstract class LengthValueBytesSerialiserUtil {
         return valueBytes;
     }
 
-    private static <T> T getValue(final ToBytesSerialiser<T> serialiser, final byte[] valueBytes) throws SerialisationException {
-        if (0 == valueBytes.length) {
+    private static <T> T getValue(final ToBytesSerialiser<T> serialiser, final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        if (0 == length) {
             return serialiser.deserialiseEmpty();
         }
-        return serialiser.deserialise(valueBytes);
+        return serialiser.deserialise(allBytes, offset, length);
     }
 
 
@@ -194,14 +236,12 @@ public abstract class LengthValueBytesSerialiserUtil {
         int currentPropLength = getCurrentPropLength(bytes, rtn, numBytesForLength);
         int from = rtn += numBytesForLength;
         int to = rtn += currentPropLength;
-        T object = serialiser.deserialise(Arrays.copyOfRange(bytes, from, to));
+        T object = serialiser.deserialise(bytes, from, to - from);
         return new ObjectCarriage<T>(object, rtn);
     }
 
     private static int getCurrentPropLength(final byte[] bytes, final int pos, final int numBytesForLength) throws SerialisationException {
-        final byte[] length = new byte[numBytesForLength];
-        System.arraycopy(bytes, pos, length, 0, numBytesForLength);
-        return (int) CompactRawSerialisationUtils.readLong(length);
+        return (int) CompactRawSerialisationUtils.readLong(bytes, pos);
     }
 
 
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.serialisation.util;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * A {@code ThreadLocalBuffer} holds a {@link ByteArrayOutputStream} per thread,
+ * so serialisation code can reuse the same buffer for every element rather
+ * than allocating a new one each time.
+ * <p>
+ * A buffer that has grown beyond {@link #MAX_RETAINED_SIZE} bytes is replaced
+ * rather than reused, so one very large element does not hold on to memory.
+ */
+public class ThreadLocalBuffer {
+    public static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private final ThreadLocal<ByteArrayOutputStream> buffer = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+
+    /**
+     * Gets the buffer for the current thread, emptied ready for use.
+     * The buffer must not be used after this method is called again on the
+     * same thread.
+     *
+     * @return the empty buffer
+     */
+    public ByteArrayOutputStream get() {
+        ByteArrayOutputStream out = buffer.get();
+        if (out.size() > MAX_RETAINED_SIZE) {
+            out = new ByteArrayOutputStream();
+            buffer.set(out);
+        } else {
+            out.reset();
+        }
+        return out;
+    }
+}
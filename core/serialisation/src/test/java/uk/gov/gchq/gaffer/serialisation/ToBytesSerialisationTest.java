@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -52,6 +53,42 @@ public abstract class ToBytesSerialisationTest<T> extends SerialisationTest<T, b
         assertArrayEquals(pair.getSecond(), serialise, Arrays.toString(serialise));
     }
 
+    @Test
+    public void shouldSerialiseIntoStreamWithHistoricValues() throws SerialisationException {
+        final ToBytesSerialiser<T> toBytesSerialiser = (ToBytesSerialiser<T>) serialiser;
+        for (final Pair<T, byte[]> pair : historicSerialisationPairs) {
+            // Given
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(1);
+
+            // When
+            toBytesSerialiser.serialise(pair.getFirst(), out);
+
+            // Then
+            final byte[] expected = serialiser.serialise(pair.getFirst());
+            final byte[] bytes = out.toByteArray();
+            assertEquals(1, bytes[0]);
+            assertArrayEquals(expected, Arrays.copyOfRange(bytes, 1, bytes.length));
+        }
+    }
+
+    @Test
+    public void shouldDeserialiseFromOffsetWithHistoricValues() throws SerialisationException {
+        final ToBytesSerialiser<T> toBytesSerialiser = (ToBytesSerialiser<T>) serialiser;
+        for (final Pair<T, byte[]> pair : historicSerialisationPairs) {
+            // Given
+            final byte[] bytes = pair.getSecond();
+            final byte[] paddedBytes = new byte[bytes.length + 2];
+            System.arraycopy(bytes, 0, paddedBytes, 1, bytes.length);
+
+            // When
+            final T deserialised = toBytesSerialiser.deserialise(paddedBytes, 1, bytes.length);
+
+            // Then
+            assertArrayEquals(serialiser.serialise(serialiser.deserialise(bytes)), serialiser.serialise(deserialised));
+        }
+    }
+
     @Test
     public void shouldHaveValidEqualsMethodForToByteSerialiser() {
         final Serialiser<T, byte[]> serialiser2 = getSerialisation();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -95,6 +95,10 @@ import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.store.library.GraphLibrary;
 import uk.gov.gchq.gaffer.store.library.NoGraphLibrary;
+import uk.gov.gchq.gaffer.store.metrics.CountingCloseableIterable;
+import uk.gov.gchq.gaffer.store.metrics.InMemoryMetricsRegistry;
+import uk.gov.gchq.gaffer.store.metrics.MetricsRegistry;
+import uk.gov.gchq.gaffer.store.operation.GetMetrics;
 import uk.gov.gchq.gaffer.store.operation.GetSchema;
 import uk.gov.gchq.gaffer.store.operation.GetTraits;
 import uk.gov.gchq.gaffer.store.operation.HasTrait;
@@ -110,6 +114,7 @@ import uk.gov.gchq.gaffer.store.operation.handler.CountGroupsHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.CountHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.DiscardOutputHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.ForEachHandler;
+import uk.gov.gchq.gaffer.store.operation.handler.GetMetricsHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.GetSchemaHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.GetTraitsHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.GetVariableHandler;
@@ -170,6 +175,7 @@ import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.util.ReflectionUtil;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -226,6 +232,9 @@ public abstract class Store {
 
     private boolean jobsRescheduled;
 
+    private MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+    private boolean countLazyResults;
+
     public Store() {
         this(true);
     }
@@ -281,6 +290,8 @@ public abstract class Store {
 
         startCacheServiceLoader(properties);
         this.jobTracker = createJobTracker();
+        this.metricsRegistry = createMetricsRegistry();
+        this.countLazyResults = Boolean.TRUE.equals(properties.getMetricsCountLazyResults());
 
         optimiseSchema();
         validateSchemas();
@@ -573,6 +584,13 @@ public abstract class Store {
         return jobTracker;
     }
 
+    /**
+     * @return the registry used to record metrics about this store
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
     /**
      * @param operationClass the operation class to check
      * @return true if the provided operation is supported.
@@ -804,6 +822,20 @@ public abstract class Store {
         return null;
     }
 
+    protected MetricsRegistry createMetricsRegistry() {
+        final String metricsRegistryClass = properties.getMetricsRegistryClassName();
+        if (null == metricsRegistryClass) {
+            return new InMemoryMetricsRegistry();
+        }
+        try {
+            return Class.forName(metricsRegistryClass)
+                    .asSubclass(MetricsRegistry.class)
+                    .newInstance();
+        } catch (final InstantiationException | IllegalAccessException | ClassNotFoundException e) {
+            throw new IllegalArgumentException("Could not create metrics registry of type: " + metricsRegistryClass, e);
+        }
+    }
+
     protected SchemaOptimiser createSchemaOptimiser() {
         return new SchemaOptimiser();
     }
@@ -945,8 +977,11 @@ public abstract class Store {
 
     public Object handleOperation(final Operation operation, final Context context) throws
             OperationException {
+        final String metricName = "operation." + operation.getClass().getName();
         final OperationHandler<Operation> handler = getOperationHandler(operation.getClass());
         Object result;
+        metricsRegistry.updateGauge(metricName + ".inFlight", 1);
+        final long startTime = System.nanoTime();
         try {
             if (null != handler) {
                 result = handler.doOperation(operation, context, this);
@@ -954,12 +989,23 @@ public abstract class Store {
                 result = doUnhandledOperation(operation, context);
             }
         } catch (final Exception e) {
+            metricsRegistry.incrementCounter(metricName + ".errors", 1);
             CloseableUtil.close(operation);
             throw e;
+        } finally {
+            // Lazy iterable results are timed until they are returned, not until they are consumed
+            metricsRegistry.updateTimer(metricName + ".latency", System.nanoTime() - startTime);
+            metricsRegistry.updateGauge(metricName + ".inFlight", -1);
         }
 
         if (null == result) {
             CloseableUtil.close(operation);
+        } else if (result instanceof Collection) {
+            metricsRegistry.incrementCounter(metricName + ".results", ((Collection) result).size());
+        } else if (countLazyResults && result instanceof CloseableIterable) {
+            // Lazy results are counted as they are consumed, which means
+            // wrapping the iterable returned by the handler
+            result = new CountingCloseableIterable<>((CloseableIterable<?>) result, metricsRegistry, metricName + ".results");
         }
 
         return result;
@@ -1049,6 +1095,7 @@ public abstract class Store {
         addOperationHandler(Limit.class, new LimitHandler());
         addOperationHandler(DiscardOutput.class, new DiscardOutputHandler());
         addOperationHandler(GetSchema.class, new GetSchemaHandler());
+        addOperationHandler(GetMetrics.class, new GetMetricsHandler());
         addOperationHandler(uk.gov.gchq.gaffer.operation.impl.Map.class, new MapHandler());
         addOperationHandler(If.class, new IfHandler());
         addOperationHandler(While.class, new WhileHandler());
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
 import uk.gov.gchq.gaffer.data.elementdefinition.exception.SchemaException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiserModules;
+import uk.gov.gchq.gaffer.store.metrics.InMemoryMetricsRegistry;
 import uk.gov.gchq.gaffer.store.operation.declaration.OperationDeclarations;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.koryphe.util.ReflectionUtil;
@@ -77,6 +78,19 @@ public class StoreProperties implements Cloneable {
 
     public static final String ADMIN_AUTH = "gaffer.store.admin.auth";
 
+    /**
+     * The {@link uk.gov.gchq.gaffer.store.metrics.MetricsRegistry} class used
+     * to record metrics about the operations executed against the store.
+     */
+    public static final String METRICS_REGISTRY_CLASS = "gaffer.store.metrics.registry.class";
+
+    /**
+     * Whether lazy {@link uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable}
+     * operation results should be counted as they are consumed. This wraps the
+     * results returned by the operation handlers, so it is disabled by default.
+     */
+    public static final String METRICS_COUNT_LAZY_RESULTS = "gaffer.store.metrics.count.lazy.results";
+
     /**
      * CSV of extra packages to be included in the reflection scanning.
      */
@@ -340,6 +354,22 @@ public class StoreProperties implements Cloneable {
         set(JOB_TRACKER_ENABLED, jobTrackerEnabled.toString());
     }
 
+    public String getMetricsRegistryClassName() {
+        return get(METRICS_REGISTRY_CLASS, InMemoryMetricsRegistry.class.getName());
+    }
+
+    public void setMetricsRegistryClassName(final String metricsRegistryClassName) {
+        set(METRICS_REGISTRY_CLASS, metricsRegistryClassName);
+    }
+
+    public Boolean getMetricsCountLazyResults() {
+        return Boolean.valueOf(get(METRICS_COUNT_LAZY_RESULTS, "false"));
+    }
+
+    public void setMetricsCountLazyResults(final Boolean countLazyResults) {
+        set(METRICS_COUNT_LAZY_RESULTS, countLazyResults.toString());
+    }
+
     public String getSchemaClassName() {
         return get(SCHEMA_CLASS, Schema.class.getName());
     }
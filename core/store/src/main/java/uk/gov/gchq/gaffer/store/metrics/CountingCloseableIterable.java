@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.metrics;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code CountingCloseableIterable} wraps a lazy {@link CloseableIterable}
+ * and adds the number of items consumed from each of its iterators to a
+ * {@link MetricsRegistry} counter. The count is recorded when an iterator is
+ * exhausted or closed, or when the iterable is closed.
+ *
+ * @param <T> the type of items in the iterable.
+ */
+public class CountingCloseableIterable<T> implements CloseableIterable<T> {
+    private final CloseableIterable<T> iterable;
+    private final MetricsRegistry metricsRegistry;
+    private final String counterName;
+    private final Set<CountingIterator> openIterators = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    public CountingCloseableIterable(final CloseableIterable<T> iterable, final MetricsRegistry metricsRegistry, final String counterName) {
+        this.iterable = iterable;
+        this.metricsRegistry = metricsRegistry;
+        this.counterName = counterName;
+    }
+
+    @Override
+    public void close() {
+        for (final CountingIterator iterator : new ArrayList<>(openIterators)) {
+            iterator.recordCount();
+        }
+        iterable.close();
+    }
+
+    @Override
+    public CloseableIterator<T> iterator() {
+        final CountingIterator iterator = new CountingIterator(iterable.iterator());
+        openIterators.add(iterator);
+        return iterator;
+    }
+
+    private final class CountingIterator implements CloseableIterator<T> {
+        private final CloseableIterator<T> iterator;
+        private volatile long count;
+        private boolean recorded;
+
+        private CountingIterator(final CloseableIterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext = iterator.hasNext();
+            if (!hasNext) {
+                recordCount();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            final T next = iterator.next();
+            count++;
+            return next;
+        }
+
+        @Override
+        public void close() {
+            recordCount();
+            iterator.close();
+        }
+
+        private synchronized void recordCount() {
+            if (!recorded) {
+                recorded = true;
+                openIterators.remove(this);
+                metricsRegistry.incrementCounter(counterName, count);
+            }
+        }
+    }
+}
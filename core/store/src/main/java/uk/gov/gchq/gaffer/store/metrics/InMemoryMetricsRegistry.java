@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An {@code InMemoryMetricsRegistry} is the default {@link MetricsRegistry}.
+ * It holds all metrics in memory and has no external dependencies. Metrics
+ * are lost when the JVM stops.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public void updateTimer(final String name, final long durationNanos) {
+        getOrCreate(timers, name, Timer::new).update(durationNanos);
+    }
+
+    @Override
+    public void incrementCounter(final String name, final long count) {
+        getOrCreate(counters, name, LongAdder::new).add(count);
+    }
+
+    @Override
+    public void updateGauge(final String name, final long delta) {
+        getOrCreate(gauges, name, AtomicLong::new).addAndGet(delta);
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        final Map<String, Object> metrics = new TreeMap<>();
+        timers.forEach((name, timer) -> metrics.put(name, timer.getSnapshot()));
+        counters.forEach((name, counter) -> metrics.put(name, counter.sum()));
+        gauges.forEach((name, gauge) -> metrics.put(name, gauge.get()));
+        return metrics;
+    }
+
+    @Override
+    public void clear() {
+        timers.clear();
+        counters.clear();
+        gauges.clear();
+    }
+
+    private static <T> T getOrCreate(final Map<String, T> metrics, final String name, final Supplier<T> supplier) {
+        // Avoid computeIfAbsent when the metric already exists as it locks the bin
+        final T metric = metrics.get(name);
+        if (null != metric) {
+            return metric;
+        }
+        return metrics.computeIfAbsent(name, k -> supplier.get());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.metrics;
+
+import java.util.Map;
+
+/**
+ * A {@code MetricsRegistry} records metrics about a {@link uk.gov.gchq.gaffer.store.Store}.
+ * Metrics are identified by name and are one of three types: timers, which
+ * record a distribution of durations, counters, which only increase, and
+ * gauges, which can go up and down.
+ * <p>
+ * Implementations must be thread safe and have a public no-argument
+ * constructor so they can be configured using
+ * {@link uk.gov.gchq.gaffer.store.StoreProperties#METRICS_REGISTRY_CLASS}.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Records a duration against the named timer.
+     *
+     * @param name          the timer name
+     * @param durationNanos the duration in nanoseconds
+     */
+    void updateTimer(final String name, final long durationNanos);
+
+    /**
+     * Increments the named counter.
+     *
+     * @param name  the counter name
+     * @param count the amount to increment the counter by
+     */
+    void incrementCounter(final String name, final long count);
+
+    /**
+     * Adjusts the named gauge.
+     *
+     * @param name  the gauge name
+     * @param delta the amount to add to the gauge, may be negative
+     */
+    void updateGauge(final String name, final long delta);
+
+    /**
+     * @return a snapshot of the current metrics, keyed by metric name
+     */
+    Map<String, Object> getMetrics();
+
+    /**
+     * Removes all recorded metrics.
+     */
+    void clear();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code Timer} records a distribution of durations using exponentially
+ * sized buckets. Bucket {@code i} holds durations of less than
+ * {@code 2^i} microseconds, so percentiles are approximate and reported as
+ * the upper bound of the bucket they fall in.
+ */
+public class Timer {
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void update(final long durationNanos) {
+        final long nanos = Math.max(0, durationNanos);
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        final int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return a snapshot of the count, mean, max and approximate percentiles.
+     * The durations are in milliseconds.
+     */
+    public Map<String, Object> getSnapshot() {
+        final long[] bucketCounts = new long[BUCKETS];
+        long snapshotCount = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketCounts[i] = buckets.get(i);
+            snapshotCount += bucketCounts[i];
+        }
+
+        final Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", snapshotCount);
+        snapshot.put("meanMs", snapshotCount > 0 ? toMillis(totalNanos.sum()) / snapshotCount : 0.0);
+        snapshot.put("maxMs", toMillis(maxNanos.get()));
+        snapshot.put("p50Ms", getPercentile(bucketCounts, snapshotCount, 0.5));
+        snapshot.put("p95Ms", getPercentile(bucketCounts, snapshotCount, 0.95));
+        snapshot.put("p99Ms", getPercentile(bucketCounts, snapshotCount, 0.99));
+        return snapshot;
+    }
+
+    private static double getPercentile(final long[] bucketCounts, final long total, final double percentile) {
+        if (total == 0) {
+            return 0.0;
+        }
+
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= target) {
+                return (1L << i) / 1000.0;
+            }
+        }
+        return (1L << (bucketCounts.length - 1)) / 1000.0;
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.operation;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.commons.lang3.exception.CloneFailedException;
+
+import uk.gov.gchq.gaffer.operation.io.Output;
+import uk.gov.gchq.gaffer.operation.serialisation.TypeReferenceImpl;
+import uk.gov.gchq.koryphe.Since;
+import uk.gov.gchq.koryphe.Summary;
+
+import java.util.Map;
+
+/**
+ * A {@code GetMetrics} is an {@link uk.gov.gchq.gaffer.operation.Operation} which
+ * returns the metrics recorded by the {@link uk.gov.gchq.gaffer.store.metrics.MetricsRegistry}
+ * of a Gaffer {@link uk.gov.gchq.gaffer.store.Store}, keyed by metric name.
+ */
+@JsonPropertyOrder(value = {"class"}, alphabetic = true)
+@Since("1.22.1")
+@Summary("Gets the metrics recorded by a Graph")
+public class GetMetrics implements Output<Map<String, Object>> {
+    private Map<String, String> options;
+
+    @Override
+    public Map<String, String> getOptions() {
+        return options;
+    }
+
+    @Override
+    public void setOptions(final Map<String, String> options) {
+        this.options = options;
+    }
+
+    @Override
+    public GetMetrics shallowClone() throws CloneFailedException {
+        return new Builder()
+                .options(options)
+                .build();
+    }
+
+    @Override
+    public TypeReference<Map<String, Object>> getOutputTypeReference() {
+        return new TypeReferenceImpl.MapStringObject();
+    }
+
+    public static class Builder extends BaseBuilder<GetMetrics, Builder>
+            implements Output.Builder<GetMetrics, Map<String, Object>, Builder> {
+        public Builder() {
+            super(new GetMetrics());
+        }
+    }
+}
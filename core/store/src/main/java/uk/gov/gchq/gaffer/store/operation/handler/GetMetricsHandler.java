@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.operation.handler;
+
+import uk.gov.gchq.gaffer.commonutil.exception.UnauthorisedException;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.operation.GetMetrics;
+
+import java.util.Map;
+
+/**
+ * A {@code GetMetricsHandler} handles the {@link uk.gov.gchq.gaffer.store.operation.GetMetrics} operation.
+ * The metrics describe every operation run against the store, so only users
+ * with the store's admin auth ({@link uk.gov.gchq.gaffer.store.StoreProperties#ADMIN_AUTH})
+ * can get them.
+ */
+public class GetMetricsHandler implements OutputOperationHandler<GetMetrics, Map<String, Object>> {
+    @Override
+    public Map<String, Object> doOperation(final GetMetrics operation, final Context context, final Store store) throws OperationException {
+        if (null == operation) {
+            throw new OperationException("Operation cannot be null");
+        }
+
+        final String adminAuth = store.getProperties().getAdminAuth();
+        if (adminAuth.isEmpty() || !context.getUser().getOpAuths().contains(adminAuth)) {
+            throw new UnauthorisedException("User " + context.getUser().getUserId()
+                    + " does not have the admin auth required to get the store metrics");
+        }
+
+        return store.getMetricsRegistry().getMetrics();
+    }
+}
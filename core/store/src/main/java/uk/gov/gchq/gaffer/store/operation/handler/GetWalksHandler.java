@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,11 @@ package uk.gov.gchq.gaffer.store.operation.handler;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.commonutil.ExecutorService;
+import uk.gov.gchq.gaffer.commonutil.exception.LimitExceededException;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.EmptyClosableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.LimitedCloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
@@ -31,8 +36,11 @@ import uk.gov.gchq.gaffer.data.graph.GraphWindow;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.data.graph.adjacency.AdjacencyMap;
 import uk.gov.gchq.gaffer.data.graph.adjacency.AdjacencyMaps;
+import uk.gov.gchq.gaffer.data.graph.adjacency.IndexedAdjacencyMap;
+import uk.gov.gchq.gaffer.data.graph.adjacency.IndexedAdjacencyMaps;
 import uk.gov.gchq.gaffer.data.graph.adjacency.PrunedAdjacencyMaps;
 import uk.gov.gchq.gaffer.data.graph.adjacency.SimpleAdjacencyMaps;
+import uk.gov.gchq.gaffer.data.graph.adjacency.SpillingAdjacencyMap;
 import uk.gov.gchq.gaffer.data.graph.entity.EntityMap;
 import uk.gov.gchq.gaffer.data.graph.entity.EntityMaps;
 import uk.gov.gchq.gaffer.data.graph.entity.SimpleEntityMaps;
@@ -49,11 +57,21 @@ import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUtil;
 import uk.gov.gchq.koryphe.impl.function.IterableFunction;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -90,12 +108,48 @@ import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUt
  * operationDeclarations.json file in order to limit the maximum number of hops
  * permitted or to enable/disable the pruning feature.
  * <p>
+ * The handler can also be configured to run in streaming mode, which bounds
+ * the memory used by wide walks: <ul> <li>the seeds for each hop are
+ * deduplicated before the next GetElements operation is executed.</li>
+ * <li>the {@link Walk}s are generated lazily in depth-first order as the
+ * results are iterated, so conditional filtering is applied and the caller
+ * can stop work early. As in the default mode, the resultsLimit only applies
+ * to the seeds and the results of each hop, not the number of walks.</li>
+ * <li>if a spillThreshold is set, the in-memory representation of each hop
+ * holds at most that many edges, with the remainder spilled to files in the
+ * spillDirectory (the system temporary directory by default). The files are
+ * deleted when the returned walks are closed, which happens automatically
+ * once they have been fully iterated, so spilled walks can only be iterated
+ * once.</li> </ul>
+ * Pruning is not applied in streaming mode, as walks which do not reach the
+ * final hop are simply skipped during the depth-first search.
+ * <p>
+ * Enabling indexVertices stores each hop in an {@link IndexedAdjacencyMap},
+ * which interns the vertices into dense int ids shared between all of the
+ * hops and holds the edges in primitive arrays. This significantly reduces
+ * the memory used per edge, particularly for long vertices, and makes pruning
+ * a single reverse pass over the hops. Spilling to disk takes precedence over
+ * indexing when a spillThreshold is set in streaming mode.
+ * <p>
+ * If a seedChunkSize is set, the seeds for each hop are split into chunks of
+ * at most that size which are queried concurrently using the store's
+ * executor, with the calling thread processing any chunks the executor has
+ * not yet started. Each chunk adds its results to the in-memory graph as they
+ * are retrieved, so the walks returned are the same as when the hop is queried
+ * in one go, although they may be returned in a different order. The
+ * resultsLimit is applied across all of the chunks in the hop.
+ * <p>
  * Currently the handler only supports creating {@link Walk}s which contain
  * {@link Edge}s.
  */
 public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterable<Walk>> {
     private Integer maxHops = null;
     private boolean prune = true;
+    private boolean streaming = false;
+    private Integer spillThreshold = null;
+    private String spillDirectory = null;
+    private boolean indexVertices = false;
+    private Integer seedChunkSize = null;
 
     @Override
     public Iterable<Walk> doOperation(final GetWalks getWalks, final Context context, final Store store) throws OperationException {
@@ -123,24 +177,29 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
             throw new OperationException("GetWalks operation contains " + hops + " hops. The maximum number of hops is: " + maxHops);
         }
 
-        final AdjacencyMaps adjacencyMaps = prune && !getWalks.isIncludePartial() ? new PrunedAdjacencyMaps() : new SimpleAdjacencyMaps();
+        final AdjacencyMaps adjacencyMaps = createAdjacencyMaps(getWalks.isIncludePartial());
         final EntityMaps entityMaps = new SimpleEntityMaps();
 
-        List<?> seeds = originalInput;
+        Collection<?> seeds = originalInput;
 
         // Execute the operations
-        for (final OperationChain<Iterable<Element>> operation : getWalks.getOperations()) {
-            if (isWhileOperation(operation)) {
-                seeds = executeWhileOperation(
-                        operation, seeds, resultLimit,
-                        context, store, hops, adjacencyMaps, entityMaps
-                );
-            } else {
-                seeds = executeOperation(
-                        operation, seeds, resultLimit,
-                        context, store, hops, adjacencyMaps, entityMaps
-                );
+        try {
+            for (final OperationChain<Iterable<Element>> operation : getWalks.getOperations()) {
+                if (isWhileOperation(operation)) {
+                    seeds = executeWhileOperation(
+                            operation, seeds, resultLimit,
+                            context, store, hops, adjacencyMaps, entityMaps
+                    );
+                } else {
+                    seeds = executeOperation(
+                            operation, seeds, resultLimit,
+                            context, store, hops, adjacencyMaps, entityMaps
+                    );
+                }
             }
+        } catch (final OperationException | RuntimeException e) {
+            closeAdjacencyMaps(adjacencyMaps);
+            throw e;
         }
 
         // Must add an empty entity map at the end if one has not been explicitly
@@ -151,6 +210,11 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
 
         final GraphWindow graphWindow = new GraphWindow(adjacencyMaps, entityMaps);
 
+        if (streaming) {
+            final Predicate<Walk> walkPredicate = createWalkPredicate(getWalks, context, store);
+            return new StreamingWalks(originalInput, graphWindow, hops, getWalks.isIncludePartial(), walkPredicate);
+        }
+
         // Track/recombine the edge objects and convert to return type
         final Stream<Walk> walks = Streams.toStream(originalInput)
                 .flatMap(seed -> walk(seed.getVertex(), null, graphWindow, new LinkedList<>(), new LinkedList<>(), hops, getWalks.isIncludePartial()).stream());
@@ -174,20 +238,60 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         this.prune = prune;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(final Boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Integer getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    public void setSpillThreshold(final Integer spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(final String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    public Boolean getIndexVertices() {
+        return indexVertices;
+    }
+
+    public void setIndexVertices(final Boolean indexVertices) {
+        this.indexVertices = indexVertices;
+    }
+
+    public Integer getSeedChunkSize() {
+        return seedChunkSize;
+    }
+
+    public void setSeedChunkSize(final Integer seedChunkSize) {
+        this.seedChunkSize = seedChunkSize;
+    }
+
     private boolean isWhileOperation(final OperationChain<Iterable<Element>> operation) {
         return 1 == operation.getOperations().size()
                 && operation.getOperations().get(0) instanceof While;
     }
 
-    private List<?> executeWhileOperation(final OperationChain<Iterable<Element>> operation,
-                                          final List<?> seeds,
-                                          final Integer resultLimit,
-                                          final Context context,
-                                          final Store store,
-                                          final int hops,
-                                          final AdjacencyMaps adjacencyMaps,
-                                          final EntityMaps entityMaps) throws OperationException {
-        List<?> resultSeeds = seeds;
+    private Collection<?> executeWhileOperation(final OperationChain<Iterable<Element>> operation,
+                                                final Collection<?> seeds,
+                                                final Integer resultLimit,
+                                                final Context context,
+                                                final Store store,
+                                                final int hops,
+                                                final AdjacencyMaps adjacencyMaps,
+                                                final EntityMaps entityMaps) throws OperationException {
+        Collection<?> resultSeeds = seeds;
         final While whileOp = (While) operation.getOperations().get(0);
         if (null != whileOp.getOperation()) {
             validateWhileOperation(whileOp);
@@ -229,42 +333,146 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         return resultSeeds;
     }
 
-    private List<?> executeOperation(final Output<Iterable<Element>> operation,
-                                     final List<?> seeds,
-                                     final Integer resultLimit,
-                                     final Context context,
-                                     final Store store,
-                                     final int hops,
-                                     final AdjacencyMaps adjacencyMaps,
-                                     final EntityMaps entityMaps) throws OperationException {
-        final Iterable<Element> results = executeOperation(operation, seeds, resultLimit, context, store);
-
-        final AdjacencyMap adjacencyMap = new AdjacencyMap();
+    private Collection<?> executeOperation(final Output<Iterable<Element>> operation,
+                                           final Collection<?> seeds,
+                                           final Integer resultLimit,
+                                           final Context context,
+                                           final Store store,
+                                           final int hops,
+                                           final AdjacencyMaps adjacencyMaps,
+                                           final EntityMaps entityMaps) throws OperationException {
+        final AdjacencyMap adjacencyMap = createAdjacencyMap(adjacencyMaps);
         final EntityMap entityMap = new EntityMap();
 
-        final List<Object> nextSeeds = new ArrayList<>();
-        for (final Element e : results) {
-            if (e instanceof Edge) {
-                final Edge edge = (Edge) e;
-                final Object nextSeed = edge.getAdjacentMatchedVertexValue();
-                nextSeeds.add(nextSeed);
-                adjacencyMap.putEdge(edge.getMatchedVertexValue(), nextSeed, edge);
+        // In streaming mode each seed only needs to be queried once in the next hop
+        final Collection<Object> nextSeeds = streaming ? new LinkedHashSet<>() : new ArrayList<>();
+
+        try {
+            if (null != seedChunkSize && seeds.size() > seedChunkSize) {
+                executeSeedChunks(operation, seeds, resultLimit, context, store,
+                        new HopResults(adjacencyMap, entityMap, nextSeeds));
             } else {
-                final Entity entity = (Entity) e;
-                entityMap.putEntity(entity.getVertex(), entity);
+                for (final Element element : executeOperation(operation, seeds, resultLimit, context, store)) {
+                    addResult(element, adjacencyMap, entityMap, nextSeeds);
+                }
             }
+        } catch (final OperationException | RuntimeException e) {
+            closeAdjacencyMap(adjacencyMap);
+            throw e;
         }
 
         if (hops > adjacencyMaps.size()) {
             adjacencyMaps.add(adjacencyMap);
+        } else {
+            // A final operation which only fetches entities is not a hop
+            closeAdjacencyMap(adjacencyMap);
         }
         entityMaps.add(entityMap);
 
         return nextSeeds;
     }
 
+    private static void addResult(final Element element,
+                                  final AdjacencyMap adjacencyMap,
+                                  final EntityMap entityMap,
+                                  final Collection<Object> nextSeeds) {
+        if (element instanceof Edge) {
+            final Edge edge = (Edge) element;
+            final Object nextSeed = edge.getAdjacentMatchedVertexValue();
+            nextSeeds.add(nextSeed);
+            adjacencyMap.putEdge(edge.getMatchedVertexValue(), nextSeed, edge);
+        } else {
+            final Entity entity = (Entity) element;
+            entityMap.putEntity(entity.getVertex(), entity);
+        }
+    }
+
+    private void executeSeedChunks(final Output<Iterable<Element>> operation,
+                                   final Collection<?> seeds,
+                                   final Integer resultLimit,
+                                   final Context context,
+                                   final Store store,
+                                   final HopResults hopResults) throws OperationException {
+        final AtomicInteger resultCount = new AtomicInteger();
+        final List<SeedChunk> chunks = new ArrayList<>();
+        for (final List<?> chunkSeeds : Lists.partition(new ArrayList<>(seeds), seedChunkSize)) {
+            // Each chunk needs its own copy of the operation as the input is
+            // set on the operations in the chain when it is executed.
+            final Output<Iterable<Element>> chunkOperation = (Output<Iterable<Element>>) operation.shallowClone();
+            chunks.add(new SeedChunk(() -> {
+                final Iterable<Element> results = executeOperation(chunkOperation, chunkSeeds, null, context, store);
+                try {
+                    for (final Element element : results) {
+                        if (null != resultLimit && resultCount.incrementAndGet() > resultLimit) {
+                            throw new LimitExceededException("Limit of " + resultLimit + " exceeded.");
+                        }
+                        hopResults.add(element);
+                    }
+                } finally {
+                    CloseableUtil.close(results);
+                }
+            }));
+        }
+
+        // The calling thread runs the first chunk itself and any other chunks
+        // the executor has not started by the time they are needed, so the
+        // hop still completes if all of the executor threads are busy.
+        if (ExecutorService.isEnabled()) {
+            for (final SeedChunk chunk : chunks.subList(1, chunks.size())) {
+                store.runAsync(chunk);
+            }
+        }
+
+        try {
+            for (final SeedChunk chunk : chunks) {
+                chunk.await();
+            }
+        } catch (final OperationException | RuntimeException e) {
+            // Stop any chunks which are still running from adding results
+            // to the maps, as they are closed when the hop fails.
+            hopResults.cancel();
+            throw e;
+        } finally {
+            chunks.forEach(SeedChunk::cancel);
+        }
+    }
+
+    private boolean isSpilling() {
+        return streaming && null != spillThreshold;
+    }
+
+    private AdjacencyMaps createAdjacencyMaps(final boolean includePartial) {
+        final boolean pruneMaps = prune && !streaming && !includePartial;
+        if (indexVertices && !isSpilling()) {
+            return new IndexedAdjacencyMaps(pruneMaps);
+        }
+        return pruneMaps ? new PrunedAdjacencyMaps() : new SimpleAdjacencyMaps();
+    }
+
+    private AdjacencyMap createAdjacencyMap(final AdjacencyMaps adjacencyMaps) {
+        if (isSpilling()) {
+            return new SpillingAdjacencyMap(spillThreshold, spillDirectory);
+        }
+        if (adjacencyMaps instanceof IndexedAdjacencyMaps) {
+            return ((IndexedAdjacencyMaps) adjacencyMaps).createAdjacencyMap();
+        }
+        return new AdjacencyMap();
+    }
+
+    private static void closeAdjacencyMaps(final AdjacencyMaps adjacencyMaps) {
+        for (final AdjacencyMap adjacencyMap : adjacencyMaps) {
+            closeAdjacencyMap(adjacencyMap);
+        }
+    }
+
+    private static void closeAdjacencyMap(final AdjacencyMap adjacencyMap) {
+        if (adjacencyMap instanceof SpillingAdjacencyMap) {
+            ((SpillingAdjacencyMap) adjacencyMap).close();
+        }
+    }
+
     private Iterable<Element> executeOperation(final Output<Iterable<Element>> operation,
-                                               final List<?> seeds,
+                                               final Collection<?> seeds,
                                                final Integer resultLimit,
                                                final Context context,
                                                final Store store) throws OperationException {
@@ -318,7 +526,7 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         return walks;
     }
 
-    private Walk buildWalk(final LinkedList<Set<Edge>> edgeQueue, final LinkedList<Set<Entity>> entityQueue) {
+    private static Walk buildWalk(final LinkedList<Set<Edge>> edgeQueue, final LinkedList<Set<Entity>> entityQueue) {
         final Walk.Builder builder = new Walk.Builder();
 
         final Iterator<Set<Edge>> edgeIterator = edgeQueue.iterator();
@@ -351,15 +559,24 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
             final GetWalks getWalks,
             final Context context,
             final Store store) {
-        if (null == getWalks.getConditional() || null == getWalks.getConditional().getPredicate()) {
+        final Predicate<Walk> walkPredicate = createWalkPredicate(getWalks, context, store);
+        if (null == walkPredicate) {
             return walks.collect(Collectors.toList());
         }
 
+        return walks.filter(walkPredicate).collect(Collectors.toList());
+    }
+
+    private Predicate<Walk> createWalkPredicate(final GetWalks getWalks,
+                                                final Context context,
+                                                final Store store) {
+        if (null == getWalks.getConditional() || null == getWalks.getConditional().getPredicate()) {
+            return null;
+        }
+
         final Operation transformOperation = getWalks.getConditional().getTransform();
         final Predicate conditionalPredicate = getWalks.getConditional().getPredicate();
-        final WalkPredicate walkPredicate = new WalkPredicate(transformOperation, conditionalPredicate, context, store);
-
-        return walks.filter(walkPredicate::test).collect(Collectors.toList());
+        return new WalkPredicate(transformOperation, conditionalPredicate, context, store);
     }
 
     private class WalkPredicate implements Predicate<Walk> {
@@ -396,4 +613,225 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
             }
         }
     }
+
+    /**
+     * The adjacency map, entity map and next seeds of a hop which is split
+     * into seed chunks. The chunks add their results as they are retrieved,
+     * so the maps are built while the other chunks are still being queried
+     * and no chunk needs to buffer its results.
+     */
+    private static final class HopResults {
+        private final AdjacencyMap adjacencyMap;
+        private final EntityMap entityMap;
+        private final Collection<Object> nextSeeds;
+        private boolean cancelled;
+
+        private HopResults(final AdjacencyMap adjacencyMap, final EntityMap entityMap, final Collection<Object> nextSeeds) {
+            this.adjacencyMap = adjacencyMap;
+            this.entityMap = entityMap;
+            this.nextSeeds = nextSeeds;
+        }
+
+        private synchronized void add(final Element element) {
+            if (cancelled) {
+                throw new CancellationException("GetWalks hop has been cancelled");
+            }
+            addResult(element, adjacencyMap, entityMap, nextSeeds);
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class SeedChunk implements Runnable {
+        private final ChunkTask task;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private SeedChunk(final ChunkTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    task.run();
+                    done.complete(null);
+                } catch (final Exception e) {
+                    done.completeExceptionally(e);
+                }
+            }
+        }
+
+        private void cancel() {
+            claimed.set(true);
+        }
+
+        private void await() throws OperationException {
+            run();
+            try {
+                done.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OperationException("Interrupted while waiting for GetWalks seeds to be processed", e);
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof OperationException) {
+                    throw (OperationException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new OperationException("Failed to process GetWalks seeds", cause);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run() throws OperationException;
+    }
+
+    /**
+     * Lazily generates the {@link Walk}s in a {@link GraphWindow} using an
+     * iterative depth-first search, producing the walks in the same order as
+     * the recursive search. Closing this iterable, or any of its iterators,
+     * deletes any adjacency maps which have been spilled to disk.
+     */
+    private static final class StreamingWalks implements CloseableIterable<Walk> {
+        private final List<EntityId> seeds;
+        private final GraphWindow graphWindow;
+        private final int hops;
+        private final boolean includePartial;
+        private final Predicate<Walk> walkPredicate;
+
+        StreamingWalks(final List<EntityId> seeds,
+                       final GraphWindow graphWindow,
+                       final int hops,
+                       final boolean includePartial,
+                       final Predicate<Walk> walkPredicate) {
+            this.seeds = seeds;
+            this.graphWindow = graphWindow;
+            this.hops = hops;
+            this.includePartial = includePartial;
+            this.walkPredicate = walkPredicate;
+        }
+
+        @Override
+        public CloseableIterator<Walk> iterator() {
+            return new StreamingWalkIterator();
+        }
+
+        @Override
+        public void close() {
+            closeAdjacencyMaps(graphWindow.getAdjacencyMaps());
+        }
+
+        private final class StreamingWalkIterator implements CloseableIterator<Walk> {
+            private final Iterator<EntityId> seedIterator = seeds.iterator();
+            private final Deque<Object> vertexStack = new ArrayDeque<>();
+            private final Deque<Iterator<Object>> destinationStack = new ArrayDeque<>();
+            private final LinkedList<Set<Edge>> edgeQueue = new LinkedList<>();
+            private final LinkedList<Set<Entity>> entityQueue = new LinkedList<>();
+            private Walk next;
+
+            @Override
+            public boolean hasNext() {
+                while (null == next) {
+                    final Walk walk = findNextWalk();
+                    if (null == walk) {
+                        close();
+                        return false;
+                    }
+                    if (null == walkPredicate || walkPredicate.test(walk)) {
+                        next = walk;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Walk next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Walk walk = next;
+                next = null;
+                return walk;
+            }
+
+            @Override
+            public void close() {
+                StreamingWalks.this.close();
+            }
+
+            private Walk findNextWalk() {
+                while (true) {
+                    if (!destinationStack.isEmpty()) {
+                        final Iterator<Object> destinations = destinationStack.peek();
+                        if (destinations.hasNext()) {
+                            final Walk walk = visit(destinations.next(), vertexStack.peek());
+                            if (null != walk) {
+                                return walk;
+                            }
+                        } else {
+                            destinationStack.pop();
+                            vertexStack.pop();
+                            leave();
+                        }
+                    } else if (seedIterator.hasNext()) {
+                        final Walk walk = visit(seedIterator.next().getVertex(), null);
+                        if (null != walk) {
+                            return walk;
+                        }
+                    } else {
+                        return null;
+                    }
+                }
+            }
+
+            /**
+             * Visits a vertex, returning a walk if the vertex completes one.
+             * Otherwise the vertex's destinations are pushed onto the stack
+             * to be visited next.
+             */
+            private Walk visit(final Object curr, final Object prev) {
+                if (null != prev && hops != edgeQueue.size()) {
+                    edgeQueue.offer(graphWindow.getAdjacencyMaps().get(edgeQueue.size()).getEdges(prev, curr));
+                }
+
+                entityQueue.offer(graphWindow.getEntityMaps().get(entityQueue.size()).get(curr));
+
+                Walk walk = null;
+                if (hops == edgeQueue.size()) {
+                    walk = buildWalk(edgeQueue, entityQueue);
+                } else {
+                    final Set<Object> dests = graphWindow.getAdjacencyMaps().get(edgeQueue.size()).getDestinations(curr);
+                    if (!dests.isEmpty()) {
+                        vertexStack.push(curr);
+                        destinationStack.push(dests.iterator());
+                        return null;
+                    }
+                    if (includePartial) {
+                        walk = buildWalk(edgeQueue, entityQueue);
+                    }
+                }
+
+                leave();
+                return walk;
+            }
+
+            private void leave() {
+                if (!edgeQueue.isEmpty()) {
+                    edgeQueue.pollLast();
+                }
+
+                if (!entityQueue.isEmpty()) {
+                    entityQueue.pollLast();
+                }
+            }
+        }
+    }
 }
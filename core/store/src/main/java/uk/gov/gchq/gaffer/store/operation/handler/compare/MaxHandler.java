@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.operation.impl.compare.Max;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.util.ElementSortKeys;
 
 import java.util.Comparator;
 import java.util.List;
@@ -31,15 +32,16 @@ import java.util.List;
  * A {@code MaxHandler} handles the {@link Max} operation.
  *
  * It uses the {@link Comparator}s instances on the operation to determine the
- * object with the maximum value.
+ * object with the maximum value. The input is read in a single pass, comparing
+ * the sort keys extracted from each element using {@link ElementSortKeys}.
  */
 public class MaxHandler implements OutputOperationHandler<Max, Element> {
     @Override
     public Element doOperation(final Max operation, final Context context, final Store store) throws OperationException {
-        // If there is no input or there are no comparators, we return null
+        // If there is no input or there are no non-null comparators, we return null
         if (null == operation.getInput()
                 || null == operation.getComparators()
-                || operation.getComparators().isEmpty()) {
+                || null == operation.getCombinedComparator()) {
             return null;
         }
 
@@ -71,18 +73,22 @@ public class MaxHandler implements OutputOperationHandler<Max, Element> {
                 }
             }
         } else {
-            final Comparator<Element> combinedComparator = operation.getCombinedComparator();
-            if (null != combinedComparator) {
-                for (final Element element : elements) {
-                    if (null == element) {
-                        continue;
-                    }
-                    if (null == maxElement) {
-                        maxElement = element;
-                    }
-                    if (combinedComparator.compare(element, maxElement) > 0) {
-                        maxElement = element;
-                    }
+            // Extract the sort keys of each element into one of two arrays,
+            // swapping them when a new max is found, so no keys are allocated
+            // per element.
+            final ElementSortKeys sortKeys = new ElementSortKeys(comparators);
+            Object[] maxKeys = new Object[sortKeys.size()];
+            Object[] keys = new Object[sortKeys.size()];
+            for (final Element element : elements) {
+                if (null == element) {
+                    continue;
+                }
+                sortKeys.extract(element, keys);
+                if (null == maxElement || sortKeys.compare(keys, maxKeys) > 0) {
+                    maxElement = element;
+                    final Object[] previousMaxKeys = maxKeys;
+                    maxKeys = keys;
+                    keys = previousMaxKeys;
                 }
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.operation.impl.compare.Min;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.util.ElementSortKeys;
 
 import java.util.Comparator;
 import java.util.List;
@@ -31,15 +32,16 @@ import java.util.List;
  * A {@code MinHandler} handles the {@link Min} operation.
  *
  * It uses the {@link Comparator}s instances on the operation to determine the
- * object with the minimum value.
+ * object with the minimum value. The input is read in a single pass, comparing
+ * the sort keys extracted from each element using {@link ElementSortKeys}.
  */
 public class MinHandler implements OutputOperationHandler<Min, Element> {
     @Override
     public Element doOperation(final Min operation, final Context context, final Store store) throws OperationException {
-        // If there is no input or there are no comparators, we return null
+        // If there is no input or there are no non-null comparators, we return null
         if (null == operation.getInput()
                 || null == operation.getComparators()
-                || operation.getComparators().isEmpty()) {
+                || null == operation.getCombinedComparator()) {
             return null;
         }
 
@@ -71,18 +73,22 @@ public class MinHandler implements OutputOperationHandler<Min, Element> {
                 }
             }
         } else {
-            final Comparator<Element> combinedComparator = operation.getCombinedComparator();
-            if (null != combinedComparator) {
-                for (final Element element : elements) {
-                    if (null == element) {
-                        continue;
-                    }
-                    if (null == minElement) {
-                        minElement = element;
-                    }
-                    if (combinedComparator.compare(element, minElement) < 0) {
-                        minElement = element;
-                    }
+            // Extract the sort keys of each element into one of two arrays,
+            // swapping them when a new min is found, so no keys are allocated
+            // per element.
+            final ElementSortKeys sortKeys = new ElementSortKeys(comparators);
+            Object[] minKeys = new Object[sortKeys.size()];
+            Object[] keys = new Object[sortKeys.size()];
+            for (final Element element : elements) {
+                if (null == element) {
+                    continue;
+                }
+                sortKeys.extract(element, keys);
+                if (null == minElement || sortKeys.compare(keys, minKeys) < 0) {
+                    minElement = element;
+                    final Object[] previousMinKeys = minKeys;
+                    minKeys = keys;
+                    keys = previousMinKeys;
                 }
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,6 @@
 package uk.gov.gchq.gaffer.store.operation.handler.compare;
 
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
-import uk.gov.gchq.gaffer.commonutil.stream.GafferCollectors;
-import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.compare.Max;
@@ -25,26 +23,34 @@ import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.util.ElementSorter;
 
 import java.util.Collections;
-import java.util.Objects;
-import java.util.stream.Stream;
 
 /**
- * A {@code SortHandler} handles the {@link Sort} operation. It does that
- * in memory using the {@link uk.gov.gchq.gaffer.commonutil.iterable.LimitedInMemorySortedIterable}.
- * If the resultLimit is set to one that it just deletes the operation to the
- * {@link MaxHandler}.
+ * A {@code SortHandler} handles the {@link Sort} operation using an
+ * {@link ElementSorter}. If the resultLimit is set, only the top resultLimit
+ * elements are held in memory while the input is read. If the resultLimit is
+ * set to one then it just delegates the operation to the {@link MaxHandler}.
+ * <p>
+ * Without a resultLimit all the elements are sorted in memory by default. If a
+ * spillThreshold is set, at most spillThreshold elements are held in memory
+ * and sorted runs of elements are spilled to files in the spillDirectory (the
+ * system temporary directory by default), which are merged as the results are
+ * iterated. The results can then only be iterated once. These settings can be
+ * configured by supplying an operationDeclarations.json file.
  */
 public class SortHandler implements OutputOperationHandler<Sort, Iterable<? extends Element>> {
     private static final MaxHandler MAX_HANDLER = new MaxHandler();
+    private Integer spillThreshold = null;
+    private String spillDirectory = null;
 
     @Override
     public Iterable<? extends Element> doOperation(final Sort operation, final Context context, final Store store) throws OperationException {
-        // If there is no input or there are no comparators, we return null
+        // If there is no input or there are no non-null comparators, we return null
         if (null == operation.getInput()
                 || null == operation.getComparators()
-                || operation.getComparators().isEmpty()) {
+                || null == operation.getCombinedComparator()) {
             return null;
         }
 
@@ -60,18 +66,32 @@ public class SortHandler implements OutputOperationHandler<Sort, Iterable<? exte
             return Collections.singletonList(max);
         }
 
-        try (final Stream<? extends Element> stream =
-                     Streams.toStream(operation.getInput())
-                             .filter(Objects::nonNull)) {
-            return stream.collect(
-                    GafferCollectors.toLimitedInMemorySortedIterable(
-                            operation.getCombinedComparator(),
-                            operation.getResultLimit(),
-                            operation.isDeduplicate()
-                    )
-            );
+        try {
+            return new ElementSorter(
+                    operation.getComparators(),
+                    operation.getResultLimit(),
+                    operation.isDeduplicate(),
+                    spillThreshold,
+                    spillDirectory
+            ).sort(operation.getInput());
         } finally {
             CloseableUtil.close(operation);
         }
     }
+
+    public Integer getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    public void setSpillThreshold(final Integer spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(final String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,13 +28,27 @@ import uk.gov.gchq.gaffer.store.operation.validator.function.AggregateValidator;
 import uk.gov.gchq.gaffer.store.operation.validator.function.FunctionValidator;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
+import uk.gov.gchq.gaffer.store.util.StreamingAggregator;
 import uk.gov.gchq.koryphe.ValidationResult;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * An operation handler for {@link Aggregate} operations.
+ * <p>
+ * By default the input elements are aggregated in memory when the operation is
+ * executed. If a spillThreshold is set, the elements are instead aggregated
+ * lazily by a {@link StreamingAggregator} as the results are iterated, holding
+ * at most spillThreshold aggregated elements in memory and spilling the rest
+ * to files in the spillDirectory (the system temporary directory by default).
+ * The results can then only be iterated once. These settings can be configured
+ * by supplying an operationDeclarations.json file.
+ */
 public class AggregateHandler implements OutputOperationHandler<Aggregate, Iterable<? extends Element>> {
     private final FunctionValidator<Aggregate> validator = new AggregateValidator();
+    private Integer spillThreshold = null;
+    private String spillDirectory = null;
 
     @Override
     public Iterable<? extends Element> doOperation(final Aggregate operation, final Context context, final Store store) throws OperationException {
@@ -63,7 +77,35 @@ public class AggregateHandler implements OutputOperationHandler<Aggregate, Itera
             throw new OperationException("Aggregate operation is invalid. " + result.getErrorString());
         }
 
-        return AggregatorUtil.queryAggregate(operation.getInput(), schema, buildView(operation));
+        final View view = buildView(operation);
+        if (null != spillThreshold) {
+            return new StreamingAggregator(
+                    AggregatorUtil.getQueryGroupBys(schema, view),
+                    schema.getAggregatedGroups(),
+                    false,
+                    new AggregatorUtil.QueryElementBinaryOperator(schema, view),
+                    spillThreshold,
+                    spillDirectory
+            ).aggregate(operation.getInput());
+        }
+
+        return AggregatorUtil.queryAggregate(operation.getInput(), schema, view);
+    }
+
+    public Integer getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    public void setSpillThreshold(final Integer spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(final String spillDirectory) {
+        this.spillDirectory = spillDirectory;
     }
 
     private View buildView(final Aggregate operation) {
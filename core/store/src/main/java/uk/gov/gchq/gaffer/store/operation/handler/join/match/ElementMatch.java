@@ -16,20 +16,33 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler.join.match;
 
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.comparison.ElementJoinComparator;
 import uk.gov.gchq.gaffer.operation.impl.join.match.Match;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Tests for matches for Elements within a Join Operation, groupBy properties can be optionally specified.
+ * <p>
+ * On initialisation the match candidates are indexed in a hash map keyed on the
+ * same fields that the {@link ElementJoinComparator} compares (element class,
+ * group, identifiers and groupBy property values), so each call to
+ * {@link #matching(Object)} is a single lookup rather than a scan of every
+ * candidate.
+ * </p>
  */
 public class ElementMatch implements Match {
     private ElementJoinComparator elementJoinComparator;
     private Iterable matchCandidates;
+    private Map<List<Object>, List<Element>> keyedMatchCandidates;
 
     private static final String NULL_MATCH_CANDIDATES_ERROR_MESSAGE = "ElementMatch must be initialised with non-null match candidates";
 
@@ -47,6 +60,9 @@ public class ElementMatch implements Match {
 
     public void setElementGroupByProperties(final Set<String> groupByProperties) {
         elementJoinComparator.setGroupByProperties(groupByProperties);
+        if (null != matchCandidates) {
+            keyedMatchCandidates = createIndex(matchCandidates);
+        }
     }
 
     @Override
@@ -54,6 +70,7 @@ public class ElementMatch implements Match {
         if (matchCandidates == null) {
             throw new IllegalArgumentException(NULL_MATCH_CANDIDATES_ERROR_MESSAGE);
         }
+        this.keyedMatchCandidates = createIndex(matchCandidates);
         this.matchCandidates = matchCandidates;
     }
 
@@ -65,12 +82,52 @@ public class ElementMatch implements Match {
 
         List matches = new ArrayList<>();
 
+        if (null == testObject) {
+            return matches;
+        }
 
-        for (final Object entry : matchCandidates) {
-            if (elementJoinComparator.test((Element) entry, (Element) testObject)) {
-                matches.add(((Element) entry).shallowClone());
-            }
+        final List<Element> candidates = keyedMatchCandidates.getOrDefault(createKey((Element) testObject), Collections.emptyList());
+        for (final Element candidate : candidates) {
+            matches.add(candidate.shallowClone());
         }
         return matches;
     }
+
+    private Map<List<Object>, List<Element>> createIndex(final Iterable candidates) {
+        final Map<List<Object>, List<Element>> index = new HashMap<>();
+        for (final Object candidate : candidates) {
+            if (null != candidate) {
+                index.computeIfAbsent(createKey((Element) candidate), k -> new ArrayList<>())
+                        .add((Element) candidate);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Builds a hash key from the fields compared by the {@link ElementJoinComparator},
+     * so two elements have equal keys exactly when the comparator considers them equal.
+     *
+     * @param element the element to create the key for
+     * @return the key
+     */
+    private List<Object> createKey(final Element element) {
+        final Set<String> groupByProperties = elementJoinComparator.getGroupByProperties();
+        final List<Object> key = new ArrayList<>(5 + (null != groupByProperties ? groupByProperties.size() : 0));
+        key.add(element.getClass());
+        key.add(element.getGroup());
+        if (element instanceof Entity) {
+            key.add(((Entity) element).getVertex());
+        } else {
+            key.add(((Edge) element).getSource());
+            key.add(((Edge) element).getDestination());
+            key.add(((Edge) element).getDirectedType());
+        }
+        if (null != groupByProperties) {
+            for (final String property : groupByProperties) {
+                key.add(element.getProperty(property));
+            }
+        }
+        return key;
+    }
 }
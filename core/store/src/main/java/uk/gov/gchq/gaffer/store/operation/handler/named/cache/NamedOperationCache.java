@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler.named.cache;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,10 +26,15 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
 import uk.gov.gchq.gaffer.named.operation.NamedOperationDetail;
 import uk.gov.gchq.gaffer.named.operation.cache.exception.CacheOperationFailedException;
+import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Wrapper around the {@link CacheServiceLoader} to provide an interface for handling
@@ -39,6 +45,29 @@ public class NamedOperationCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(NamedOperationCache.class);
     private static final String CACHE_NAME = "NamedOperation";
 
+    /**
+     * The maximum number of parsed operation chain templates that are held.
+     * The least recently used template is removed when this is exceeded.
+     */
+    public static final int MAX_CACHED_TEMPLATES = 1000;
+
+    /**
+     * Parsed operation chain templates, keyed by named operation name. These
+     * are shared by all instances as they are invalidated when a named
+     * operation is added or deleted via any instance.
+     */
+    private static final Map<String, OperationsTemplate> TEMPLATES = Collections.synchronizedMap(
+            new LinkedHashMap<String, OperationsTemplate>(16, 0.75f, true) {
+                private static final long serialVersionUID = 5323164537613694498L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, OperationsTemplate> eldest) {
+                    return size() > MAX_CACHED_TEMPLATES;
+                }
+            });
+    private static final AtomicLong TEMPLATE_HITS = new AtomicLong();
+    private static final AtomicLong TEMPLATE_MISSES = new AtomicLong();
+
     /**
      * If the user is just adding to the cache, ie the overwrite flag is set to false, then no security is added.
      * However if the user is overwriting the named operation stored in the cache, then their opAuths must be checked
@@ -151,6 +180,48 @@ public class NamedOperationCache {
         return getAll(user, adminAuth);
     }
 
+    /**
+     * Gets the {@link OperationChain} for a named operation with the provided
+     * parameters substituted in. The named operation's operations json is
+     * only parsed the first time it is used and the parsed template is reused
+     * for later calls, until the named operation is changed.
+     *
+     * @param namedOperation the named operation details
+     * @param parameters     the parameters to substitute in, may be null
+     * @return the operation chain
+     * @throws IllegalArgumentException if substituting the parameters fails
+     */
+    public OperationChain getOperationChain(final NamedOperationDetail namedOperation, final Map<String, Object> parameters) {
+        final String name = namedOperation.getOperationName();
+        final String operations = namedOperation.getOperations();
+        OperationsTemplate template = null != name ? TEMPLATES.get(name) : null;
+        if (null != template && template.operations.equals(operations)) {
+            TEMPLATE_HITS.incrementAndGet();
+        } else {
+            TEMPLATE_MISSES.incrementAndGet();
+            template = new OperationsTemplate(operations, namedOperation.createOperationsTemplate());
+            if (null != name) {
+                TEMPLATES.put(name, template);
+            }
+        }
+
+        return namedOperation.getOperationChain(parameters, template.tree);
+    }
+
+    /**
+     * @return the number of times a parsed operation chain template has been reused
+     */
+    public static long getTemplateCacheHits() {
+        return TEMPLATE_HITS.get();
+    }
+
+    /**
+     * @return the number of times an operation chain template has had to be parsed
+     */
+    public static long getTemplateCacheMisses() {
+        return TEMPLATE_MISSES.get();
+    }
+
     /**
      * Clear the named operation cache.
      *
@@ -160,6 +231,7 @@ public class NamedOperationCache {
     public void clear() throws CacheOperationFailedException {
         try {
             CacheServiceLoader.getService().clearCache(CACHE_NAME);
+            TEMPLATES.clear();
         } catch (final CacheOperationException e) {
             throw new CacheOperationFailedException("Failed to clear cache", e);
         }
@@ -175,6 +247,7 @@ public class NamedOperationCache {
      */
     public void deleteFromCache(final String name) throws CacheOperationFailedException {
         CacheServiceLoader.getService().removeFromCache(CACHE_NAME, name);
+        TEMPLATES.remove(name);
 
         if (null != CacheServiceLoader.getService().getFromCache(CACHE_NAME, name)) {
             throw new CacheOperationFailedException("Failed to remove " + name + " from cache");
@@ -198,6 +271,7 @@ public class NamedOperationCache {
             } else {
                 CacheServiceLoader.getService().putSafeInCache(CACHE_NAME, name, operation);
             }
+            TEMPLATES.remove(name);
         } catch (final CacheOperationException e) {
             throw new CacheOperationFailedException(e);
         }
@@ -291,4 +365,14 @@ public class NamedOperationCache {
         }
         return new WrappedCloseableIterable<>(executables);
     }
+
+    private static final class OperationsTemplate {
+        private final String operations;
+        private final JsonNode tree;
+
+        private OperationsTemplate(final String operations, final JsonNode tree) {
+            this.operations = operations;
+            this.tree = tree;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,11 +21,20 @@ import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.NamedViewDetail;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.named.operation.cache.exception.CacheOperationFailedException;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Wrapper around the {@link CacheServiceLoader} to provide an interface for handling
@@ -35,6 +44,27 @@ public class NamedViewCache {
 
     private static final String CACHE_NAME = "NamedView";
 
+    /**
+     * The maximum number of resolved views that are held. The least recently
+     * used resolved view is removed when this is exceeded.
+     */
+    public static final int MAX_RESOLVED_VIEWS = 1000;
+
+    /**
+     * Resolved views, keyed by named view name and parameters. These are
+     * shared by all instances as they are invalidated when a named view is
+     * added or deleted via any instance.
+     */
+    private static final Map<String, ResolvedView> RESOLVED_VIEWS = Collections.synchronizedMap(
+            new LinkedHashMap<String, ResolvedView>(16, 0.75f, true) {
+                private static final long serialVersionUID = -2920594962196404547L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, ResolvedView> eldest) {
+                    return size() > MAX_RESOLVED_VIEWS;
+                }
+            });
+
     /**
      * Adds the supplied {@link uk.gov.gchq.gaffer.data.elementdefinition.view.NamedViewDetail} to the cache.  If the overwrite flag is set to false, and the {@link uk.gov.gchq.gaffer.data.elementdefinition.view.NamedViewDetail} already exists,
      * the Exception thrown will include an overwrite message.  Otherwise, the {@link uk.gov.gchq.gaffer.data.elementdefinition.view.NamedViewDetail} with the same name will simply be overwritten.
@@ -211,6 +241,51 @@ public class NamedViewCache {
         return new WrappedCloseableIterable<>(views);
     }
 
+    /**
+     * Gets a view previously added with {@link #addResolvedView(String, Map, View, Map)}.
+     * The user must have read access to all the named views the view was
+     * resolved from and none of those named views can have changed since.
+     * The returned view is shared, so must not be modified.
+     *
+     * @param name       the name of the named view
+     * @param parameters the parameters the named view was resolved with, may be null
+     * @param user       the user resolving the named view
+     * @return the resolved view, or null if there is no valid resolved view
+     * @throws CacheOperationFailedException if the user does not have read access to one of the named views
+     */
+    public View getResolvedView(final String name, final Map<String, Object> parameters, final User user) throws CacheOperationFailedException {
+        final String key = getResolvedViewKey(name, parameters);
+        final ResolvedView resolvedView = null != key ? RESOLVED_VIEWS.get(key) : null;
+        if (null == resolvedView) {
+            return null;
+        }
+
+        for (final Map.Entry<String, NamedViewDetail> entry : resolvedView.namedViews.entrySet()) {
+            if (!entry.getValue().equals(getNamedView(entry.getKey(), user))) {
+                RESOLVED_VIEWS.remove(key);
+                return null;
+            }
+        }
+
+        return resolvedView.view;
+    }
+
+    /**
+     * Adds a resolved view so it can be reused by {@link #getResolvedView(String, Map, User)}.
+     * The view must not be modified after it has been added.
+     *
+     * @param name       the name of the named view
+     * @param parameters the parameters the named view was resolved with, may be null
+     * @param view       the resolved view
+     * @param namedViews the named views the view was resolved from, keyed by name
+     */
+    public void addResolvedView(final String name, final Map<String, Object> parameters, final View view, final Map<String, NamedViewDetail> namedViews) {
+        final String key = getResolvedViewKey(name, parameters);
+        if (null != key && null != view) {
+            RESOLVED_VIEWS.put(key, new ResolvedView(view, new HashMap<>(namedViews)));
+        }
+    }
+
     /**
      * Clear the {@code NamedViewCache}.
      *
@@ -219,6 +294,7 @@ public class NamedViewCache {
     public void clearCache() throws CacheOperationFailedException {
         try {
             CacheServiceLoader.getService().clearCache(CACHE_NAME);
+            RESOLVED_VIEWS.clear();
         } catch (final CacheOperationException e) {
             throw new CacheOperationFailedException("Failed to clear cache", e);
         }
@@ -232,6 +308,7 @@ public class NamedViewCache {
      */
     public void deleteFromCache(final String name) throws CacheOperationFailedException {
         CacheServiceLoader.getService().removeFromCache(CACHE_NAME, name);
+        RESOLVED_VIEWS.clear();
 
         if (null != CacheServiceLoader.getService().getFromCache(CACHE_NAME, name)) {
             throw new CacheOperationFailedException("Failed to remove " + name + " from cache");
@@ -252,6 +329,8 @@ public class NamedViewCache {
             } else {
                 CacheServiceLoader.getService().putSafeInCache(CACHE_NAME, namedView.getName(), namedView);
             }
+            // Resolved views can depend on other named views, so they are all removed
+            RESOLVED_VIEWS.clear();
         } catch (final CacheOperationException e) {
             throw new CacheOperationFailedException(e);
         }
@@ -327,4 +406,31 @@ public class NamedViewCache {
         }
         deleteFromCache(name);
     }
+
+    private static String getResolvedViewKey(final String name, final Map<String, Object> parameters) {
+        if (null == name) {
+            return null;
+        }
+
+        if (null == parameters || parameters.isEmpty()) {
+            return name;
+        }
+
+        try {
+            // Sort the parameters so the key does not depend on the map ordering
+            return name + '\u0000' + new String(JSONSerialiser.serialise(new TreeMap<>(parameters)), StandardCharsets.UTF_8);
+        } catch (final SerialisationException e) {
+            return null;
+        }
+    }
+
+    private static final class ResolvedView {
+        private final View view;
+        private final Map<String, NamedViewDetail> namedViews;
+
+        private ResolvedView(final View view, final Map<String, NamedViewDetail> namedViews) {
+            this.view = view;
+            this.namedViews = namedViews;
+        }
+    }
 }
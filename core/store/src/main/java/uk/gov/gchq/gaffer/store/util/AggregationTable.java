@@ -0,0 +1,240 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+
+/**
+ * An open addressing hash table of aggregated {@link Element}s. Elements are
+ * hashed and compared on their group, identifiers and group-by property values
+ * directly, so no key element is created per element, and each element is
+ * aggregated into the element already held for its key.
+ */
+final class AggregationTable implements Iterable<Element> {
+    private static final int INITIAL_BITS = 6;
+    private static final int FIBONACCI_HASH = 0x9E3779B9;
+
+    private final Map<String, Set<String>> groupToGroupBys;
+    private final boolean includeMatchedVertex;
+    private final BinaryOperator<Element> aggregator;
+    private final boolean cloneElements;
+
+    private int bits;
+    private int[] hashes;
+    private Element[] elements;
+    private int size;
+
+    /**
+     * @param groupToGroupBys      the group-by properties for each group
+     * @param includeMatchedVertex whether the matched vertex of an edge is part of its key
+     * @param aggregator           the operator to aggregate two elements with the same key
+     * @param cloneElements        whether the first element for each key should be
+     *                             cloned before it is aggregated, so the input
+     *                             elements are not modified
+     */
+    AggregationTable(final Map<String, Set<String>> groupToGroupBys,
+                     final boolean includeMatchedVertex,
+                     final BinaryOperator<Element> aggregator,
+                     final boolean cloneElements) {
+        if (null == groupToGroupBys) {
+            throw new IllegalArgumentException("groupToGroupBys map is required");
+        }
+        if (null == aggregator) {
+            throw new IllegalArgumentException("Aggregator is required");
+        }
+        this.groupToGroupBys = groupToGroupBys;
+        this.includeMatchedVertex = includeMatchedVertex;
+        this.aggregator = aggregator;
+        this.cloneElements = cloneElements;
+        clear();
+    }
+
+    void add(final Element element) {
+        add(element, hash(element));
+    }
+
+    void add(final Element element, final int hash) {
+        final int mask = elements.length - 1;
+        int slot = getSlot(hash);
+        while (null != elements[slot]) {
+            if (hashes[slot] == hash && hasSameKey(elements[slot], element)) {
+                elements[slot] = aggregator.apply(elements[slot], element);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        hashes[slot] = hash;
+        elements[slot] = cloneElements ? element.shallowClone() : element;
+        size++;
+        if (size * 4 > elements.length * 3) {
+            resize();
+        }
+    }
+
+    /**
+     * Calculates the hash of an element's key. This only depends on the
+     * hash codes of the group, identifiers and group-by property values, so
+     * it is stable for elements which have been serialised and deserialised.
+     * Arrays, such as byte[] vertices, are hashed and compared by their
+     * contents, as they are by {@link Element#equals(Object)}.
+     *
+     * @param element the element
+     * @return the hash of the element's key
+     */
+    int hash(final Element element) {
+        int hash = element.getGroup().hashCode();
+        if (element instanceof Edge) {
+            final Edge edge = (Edge) element;
+            hash = 31 * hash + deepHashCode(edge.getSource());
+            hash = 31 * hash + deepHashCode(edge.getDestination());
+            hash = 31 * hash + Boolean.hashCode(edge.isDirected());
+            if (includeMatchedVertex) {
+                hash = 31 * hash + Objects.hashCode(edge.getMatchedVertex());
+            }
+        } else {
+            hash = 31 * hash + deepHashCode(((Entity) element).getVertex());
+        }
+
+        for (final String propertyName : getGroupBy(element)) {
+            hash = 31 * hash + deepHashCode(element.getProperty(propertyName));
+        }
+        return hash;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        bits = INITIAL_BITS;
+        hashes = new int[1 << bits];
+        elements = new Element[1 << bits];
+        size = 0;
+    }
+
+    @Override
+    public Iterator<Element> iterator() {
+        return new Iterator<Element>() {
+            private final Element[] slots = elements;
+            private int slot = -1;
+
+            @Override
+            public boolean hasNext() {
+                return -1 != nextSlot();
+            }
+
+            @Override
+            public Element next() {
+                final int next = nextSlot();
+                if (-1 == next) {
+                    throw new NoSuchElementException();
+                }
+                slot = next;
+                return slots[slot];
+            }
+
+            private int nextSlot() {
+                for (int i = slot + 1; i < slots.length; i++) {
+                    if (null != slots[i]) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+        };
+    }
+
+    private boolean hasSameKey(final Element a, final Element b) {
+        if (!a.getGroup().equals(b.getGroup())) {
+            return false;
+        }
+
+        if (a instanceof Edge) {
+            if (!(b instanceof Edge)) {
+                return false;
+            }
+            final Edge edgeA = (Edge) a;
+            final Edge edgeB = (Edge) b;
+            if (edgeA.isDirected() != edgeB.isDirected()
+                    || !Objects.deepEquals(edgeA.getSource(), edgeB.getSource())
+                    || !Objects.deepEquals(edgeA.getDestination(), edgeB.getDestination())
+                    || (includeMatchedVertex && edgeA.getMatchedVertex() != edgeB.getMatchedVertex())) {
+                return false;
+            }
+        } else if (b instanceof Edge || !Objects.deepEquals(((Entity) a).getVertex(), ((Entity) b).getVertex())) {
+            return false;
+        }
+
+        for (final String propertyName : getGroupBy(a)) {
+            if (!Objects.deepEquals(a.getProperty(propertyName), b.getProperty(propertyName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int deepHashCode(final Object value) {
+        if (null != value && value.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[]{value});
+        }
+        return Objects.hashCode(value);
+    }
+
+    private Set<String> getGroupBy(final Element element) {
+        final Set<String> groupBy = groupToGroupBys.get(element.getGroup());
+        if (null == groupBy) {
+            throw new IllegalArgumentException("Group " + element.getGroup() + " was not recognised");
+        }
+        return groupBy;
+    }
+
+    private int getSlot(final int hash) {
+        // Use the high bits of the Fibonacci hash, as elements spilled to the
+        // same partition share the low bits of their hash.
+        return (hash * FIBONACCI_HASH) >>> (32 - bits);
+    }
+
+    private void resize() {
+        final int[] oldHashes = hashes;
+        final Element[] oldElements = elements;
+        bits++;
+        hashes = new int[1 << bits];
+        elements = new Element[1 << bits];
+        final int mask = elements.length - 1;
+        for (int i = 0; i < oldElements.length; i++) {
+            if (null != oldElements[i]) {
+                int slot = getSlot(oldHashes[i]);
+                while (null != elements[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                elements[slot] = oldElements[i];
+            }
+        }
+    }
+}
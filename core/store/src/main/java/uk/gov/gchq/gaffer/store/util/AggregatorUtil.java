@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,6 @@ package uk.gov.gchq.gaffer.store.util;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
-import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
@@ -40,7 +39,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Utility methods to help with doing aggregation of elements. Aggregation differs
@@ -58,6 +56,8 @@ public final class AggregatorUtil {
      * the elements prior to aggregating them.
      * <p>
      * NOTE - this is done in memory so the size of the iterable should be limited.
+     * The elements are aggregated in a single pass, see {@link StreamingAggregator}
+     * to lazily aggregate larger iterables.
      *
      * @param elements the elements to be aggregated
      * @param schema   the schema containing the aggregators and groupBy properties to use
@@ -67,23 +67,8 @@ public final class AggregatorUtil {
         if (null == schema) {
             throw new IllegalArgumentException("Schema is required");
         }
-        final Collection<String> aggregatedGroups = schema.getAggregatedGroups();
-        final List<Element> aggregatableElements = new ArrayList<>();
-        final List<Element> nonAggregatedElements = new ArrayList<>();
-        for (final Element element : elements) {
-            if (null != element) {
-                if (aggregatedGroups.contains(element.getGroup())) {
-                    aggregatableElements.add(element);
-                } else {
-                    nonAggregatedElements.add(element);
-                }
-            }
-        }
-
-        final Iterable<Element> aggregatedElements = Streams.toStream(aggregatableElements)
-                .collect(Collectors.groupingBy(new ToIngestElementKey(schema), Collectors.reducing(null, new IngestElementBinaryOperator(schema))))
-                .values();
-        return new ChainedIterable<>(aggregatedElements, nonAggregatedElements);
+        final AggregationTable aggregatedElements = new AggregationTable(getIngestGroupBys(schema), false, new IngestElementBinaryOperator(schema), false);
+        return aggregate(elements, schema.getAggregatedGroups(), aggregatedElements);
     }
 
     /**
@@ -93,6 +78,8 @@ public final class AggregatorUtil {
      * aggregation.
      * <p>
      * NOTE - this is done in memory so the size of the iterable should be limited.
+     * The elements are aggregated in a single pass, see {@link StreamingAggregator}
+     * to lazily aggregate larger iterables.
      *
      * @param elements the elements to be aggregated
      * @param schema   the schema containing the aggregators and groupBy properties to use
@@ -110,6 +97,9 @@ public final class AggregatorUtil {
      * configured to include the Matched Vertex field.
      * <p>
      * NOTE - this is done in memory so the size of the iterable should be limited.
+     * The elements are aggregated in a single pass, so only one iterator is
+     * requested from the iterable. See {@link StreamingAggregator} to lazily
+     * aggregate larger iterables.
      *
      * @param elements             the elements to be aggregated
      * @param schema               the schema containing the aggregators and groupBy properties to use
@@ -124,21 +114,23 @@ public final class AggregatorUtil {
         if (null == view) {
             throw new IllegalArgumentException("View is required");
         }
-        final Collection<String> aggregatedGroups = schema.getAggregatedGroups();
-        final List<Element> aggregatableElements = new ArrayList<>();
+        final AggregationTable aggregatedElements = new AggregationTable(getQueryGroupBys(schema, view), includeMatchedVertex, new QueryElementBinaryOperator(schema, view), false);
+        return aggregate(elements, schema.getAggregatedGroups(), aggregatedElements);
+    }
+
+    private static CloseableIterable<Element> aggregate(final Iterable<? extends Element> elements,
+                                                        final Collection<String> aggregatedGroups,
+                                                        final AggregationTable aggregatedElements) {
         final List<Element> nonAggregatedElements = new ArrayList<>();
         for (final Element element : elements) {
             if (null != element) {
                 if (aggregatedGroups.contains(element.getGroup())) {
-                    aggregatableElements.add(element);
+                    aggregatedElements.add(element);
                 } else {
                     nonAggregatedElements.add(element);
                 }
             }
         }
-        final Iterable<Element> aggregatedElements = Streams.toStream(aggregatableElements)
-                .collect(Collectors.groupingBy(new ToQueryElementKey(schema, view, includeMatchedVertex), Collectors.reducing(null, new QueryElementBinaryOperator(schema, view))))
-                .values();
         return new ChainedIterable<>(aggregatedElements, nonAggregatedElements);
     }
 
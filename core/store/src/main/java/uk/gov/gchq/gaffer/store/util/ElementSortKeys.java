@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code ElementSortKeys} extracts the sort keys of an {@link Element} for a
+ * list of {@link Comparator}s, so the keys can be compared many times without
+ * looking up the element's group and properties for each comparison.
+ * <p>
+ * For an {@link ElementPropertyComparator} the key is the property value, or
+ * a marker if the element is not in one of the comparator's groups. For any
+ * other comparator the key is the element itself. Comparing two sets of keys
+ * gives the same result as comparing the elements with the comparators in
+ * turn.
+ */
+public final class ElementSortKeys {
+    private static final Object NOT_IN_GROUP = new Object();
+
+    private final Comparator<Element>[] comparators;
+    private final ElementPropertyComparator[] propertyComparators;
+
+    @SuppressWarnings("unchecked")
+    public ElementSortKeys(final List<Comparator<Element>> comparators) {
+        final List<Comparator<Element>> nonNullComparators = new ArrayList<>();
+        if (null != comparators) {
+            for (final Comparator<Element> comparator : comparators) {
+                if (null != comparator) {
+                    nonNullComparators.add(comparator);
+                }
+            }
+        }
+        if (nonNullComparators.isEmpty()) {
+            throw new IllegalArgumentException("At least one comparator is required");
+        }
+
+        this.comparators = nonNullComparators.toArray(new Comparator[nonNullComparators.size()]);
+        this.propertyComparators = new ElementPropertyComparator[this.comparators.length];
+        for (int i = 0; i < this.comparators.length; i++) {
+            if (this.comparators[i] instanceof ElementPropertyComparator) {
+                propertyComparators[i] = (ElementPropertyComparator) this.comparators[i];
+            }
+        }
+    }
+
+    /**
+     * @return the number of keys extracted from each element
+     */
+    public int size() {
+        return comparators.length;
+    }
+
+    public Object[] extract(final Element element) {
+        final Object[] keys = new Object[comparators.length];
+        extract(element, keys);
+        return keys;
+    }
+
+    /**
+     * Extracts the sort keys of an element into an existing array, so no new
+     * array needs to be allocated for each element.
+     *
+     * @param element the element
+     * @param keys    the array to extract the keys into, of length {@link #size()}
+     */
+    public void extract(final Element element, final Object[] keys) {
+        for (int i = 0; i < comparators.length; i++) {
+            final ElementPropertyComparator propertyComparator = propertyComparators[i];
+            if (null == propertyComparator) {
+                keys[i] = element;
+            } else if (propertyComparator.getGroups().contains(element.getGroup())) {
+                keys[i] = element.getProperty(propertyComparator.getProperty());
+            } else {
+                keys[i] = NOT_IN_GROUP;
+            }
+        }
+    }
+
+    public int compare(final Object[] keys1, final Object[] keys2) {
+        for (int i = 0; i < comparators.length; i++) {
+            final int result = compare(i, keys1[i], keys2[i]);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private int compare(final int index, final Object key1, final Object key2) {
+        final ElementPropertyComparator propertyComparator = propertyComparators[index];
+        if (null == propertyComparator) {
+            return comparators[index].compare((Element) key1, (Element) key2);
+        }
+
+        // Elements which are not in the comparator's groups are sorted last
+        if (NOT_IN_GROUP == key1) {
+            return NOT_IN_GROUP == key2 ? 0 : 1;
+        }
+        if (NOT_IN_GROUP == key2) {
+            return -1;
+        }
+        return propertyComparator._compare(key1, key2);
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An {@code ElementSorter} sorts {@link Element}s using a list of
+ * {@link Comparator}s. The sort keys of each element are extracted once using
+ * {@link ElementSortKeys}, rather than being looked up for every comparison.
+ * Elements which compare as equal are returned in the order they were read.
+ * <p>
+ * If a limit is set, only the first limit elements are kept, in a binary heap
+ * with the greatest element at its head. Each element read is compared against
+ * the head and is discarded straight away if it would not be kept.
+ * <p>
+ * Otherwise all of the elements are sorted. If a spill threshold is set, at
+ * most that many elements are held in memory. When the threshold is reached
+ * the elements are sorted and written to a run file in a temporary directory.
+ * Once the input has been read the runs are merged as the results are
+ * iterated. If there are more than {@link #MAX_FAN_IN} runs, groups of them
+ * are first merged into larger runs, so that no more than that many files are
+ * open at once. Elements are written using Java serialisation. If an element
+ * cannot be serialised, the remaining elements are held in memory. The run
+ * files are deleted when the results are closed, which happens automatically
+ * once they have been fully iterated, so spilled results can only be iterated
+ * once. The run files of results which are never closed are deleted after the
+ * results have been garbage collected.
+ * <p>
+ * If deduplicate is set, elements which are equal to an element already
+ * returned are skipped.
+ */
+public class ElementSorter {
+    /**
+     * The maximum number of runs which are merged at once.
+     */
+    static final int MAX_FAN_IN = 64;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElementSorter.class);
+
+    private final ElementSortKeys sortKeys;
+    private final Integer limit;
+    private final boolean deduplicate;
+    private final Integer spillThreshold;
+    private final String spillDirectory;
+    private final Comparator<Entry> entryOrder;
+
+    /**
+     * @param comparators the comparators to sort the elements with
+     * @param limit       the maximum number of elements to return, or null for no limit
+     * @param deduplicate whether duplicate elements should be removed
+     */
+    public ElementSorter(final List<Comparator<Element>> comparators,
+                         final Integer limit,
+                         final boolean deduplicate) {
+        this(comparators, limit, deduplicate, null, null);
+    }
+
+    /**
+     * @param comparators    the comparators to sort the elements with
+     * @param limit          the maximum number of elements to return, or null for no limit
+     * @param deduplicate    whether duplicate elements should be removed
+     * @param spillThreshold the maximum number of elements to hold in memory when
+     *                       there is no limit, or null to hold all of them
+     * @param spillDirectory the directory to spill elements to, or null to use the
+     *                       system temporary directory
+     */
+    public ElementSorter(final List<Comparator<Element>> comparators,
+                         final Integer limit,
+                         final boolean deduplicate,
+                         final Integer spillThreshold,
+                         final String spillDirectory) {
+        if (null != limit && 1 > limit) {
+            throw new IllegalArgumentException("Limit cannot be less than or equal to 0");
+        }
+        if (null != spillThreshold && 1 > spillThreshold) {
+            throw new IllegalArgumentException("The spill threshold must be at least 1");
+        }
+
+        this.sortKeys = new ElementSortKeys(comparators);
+        this.limit = limit;
+        this.deduplicate = deduplicate;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+        this.entryOrder = (entry1, entry2) -> {
+            final int result = sortKeys.compare(entry1.keys, entry2.keys);
+            return 0 != result ? result : Long.compare(entry1.index, entry2.index);
+        };
+    }
+
+    /**
+     * Reads and sorts the provided elements. Null elements are skipped.
+     *
+     * @param elements the elements to be sorted
+     * @return the sorted elements
+     */
+    public Iterable<Element> sort(final Iterable<? extends Element> elements) {
+        if (null == elements) {
+            throw new IllegalArgumentException("Elements are required");
+        }
+
+        if (null != limit) {
+            return sortTopK(elements);
+        }
+        return sortAll(elements);
+    }
+
+    private List<Element> sortTopK(final Iterable<? extends Element> elements) {
+        final PriorityQueue<Entry> heap = new PriorityQueue<>(Math.min(limit, 1024), entryOrder.reversed());
+        final Set<Element> kept = deduplicate ? new HashSet<>() : null;
+        Object[] keys = new Object[sortKeys.size()];
+        long index = 0;
+        for (final Element element : elements) {
+            if (null == element) {
+                continue;
+            }
+
+            sortKeys.extract(element, keys);
+            final boolean full = heap.size() >= limit;
+            // Ties are kept in the order they were read, so an element equal
+            // to the greatest element kept is also discarded.
+            if (full && sortKeys.compare(keys, heap.peek().keys) >= 0) {
+                continue;
+            }
+            if (deduplicate && !kept.add(element)) {
+                continue;
+            }
+            if (full) {
+                final Entry removed = heap.poll();
+                if (deduplicate) {
+                    kept.remove(removed.element);
+                }
+            }
+            heap.add(new Entry(element, keys, index++));
+            keys = new Object[sortKeys.size()];
+        }
+
+        final List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(entryOrder);
+        return toElements(entries);
+    }
+
+    private Iterable<Element> sortAll(final Iterable<? extends Element> elements) {
+        final Runs runs = new Runs();
+        List<Entry> entries = new ArrayList<>();
+        long index = 0;
+        for (final Element element : elements) {
+            if (null == element) {
+                continue;
+            }
+
+            entries.add(new Entry(element, sortKeys.extract(element), index++));
+            if (null != spillThreshold && entries.size() >= spillThreshold && runs.spill(entries)) {
+                entries = new ArrayList<>();
+            }
+        }
+
+        if (runs.paths.isEmpty()) {
+            runs.close();
+            entries.sort(entryOrder);
+            return toElements(entries);
+        }
+
+        if (runs.spill(entries)) {
+            entries.clear();
+        } else {
+            entries.sort(entryOrder);
+        }
+        runs.reduce();
+        return runs.merge(entries);
+    }
+
+    private List<Element> toElements(final List<Entry> entries) {
+        final List<Element> sorted = new ArrayList<>(entries.size());
+        final Deduplicator deduplicator = new Deduplicator();
+        for (final Entry entry : entries) {
+            if (!deduplicator.isDuplicate(entry)) {
+                sorted.add(entry.element);
+            }
+        }
+        return sorted;
+    }
+
+    private static final class Entry {
+        private final Element element;
+        private final Object[] keys;
+        private final long index;
+
+        private Entry(final Element element, final Object[] keys, final long index) {
+            this.element = element;
+            this.keys = keys;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Detects duplicates in sorted entries. Equal elements have equal sort
+     * keys, so only the elements with the same keys as the previous entry
+     * need to be remembered.
+     */
+    private final class Deduplicator {
+        private final Set<Element> elementsWithSameKeys = new HashSet<>();
+        private Object[] previousKeys;
+
+        private boolean isDuplicate(final Entry entry) {
+            if (!deduplicate) {
+                return false;
+            }
+            if (null == previousKeys || 0 != sortKeys.compare(previousKeys, entry.keys)) {
+                elementsWithSameKeys.clear();
+                previousKeys = entry.keys;
+            }
+            return !elementsWithSameKeys.add(entry.element);
+        }
+    }
+
+    /**
+     * The sorted runs of elements which have been spilled to disk.
+     */
+    private final class Runs {
+        private final List<Path> paths = new ArrayList<>();
+        private Path directory;
+        private int runCount;
+        private boolean spillable = true;
+
+        /**
+         * Sorts the entries and writes them to a new run file.
+         *
+         * @param entries the entries to spill
+         * @return true if the entries were spilled, or false if they should be
+         * held in memory
+         */
+        private boolean spill(final List<Entry> entries) {
+            if (!spillable) {
+                return false;
+            }
+            if (entries.isEmpty()) {
+                return true;
+            }
+
+            entries.sort(entryOrder);
+            Path path = null;
+            try {
+                path = createRunPath();
+                try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                    for (final Entry entry : entries) {
+                        SpillUtil.write(out, entry.element);
+                    }
+                }
+            } catch (final NotSerializableException e) {
+                LOGGER.warn("Unable to spill sorted elements to disk, the remaining elements will be held in memory: {}", e.getMessage());
+                spillable = false;
+                SpillUtil.deleteQuietly(path);
+                return false;
+            } catch (final IOException e) {
+                close();
+                throw new RuntimeException("Unable to spill sorted elements to disk", e);
+            }
+
+            paths.add(path);
+            LOGGER.debug("Spilled a run of {} sorted elements to {}", entries.size(), path);
+            return true;
+        }
+
+        /**
+         * Merges consecutive groups of runs into single runs until there are
+         * no more than {@link #MAX_FAN_IN} of them, so that the final merge
+         * does not hold too many files open. As the runs in each group are
+         * consecutive, equal elements are still returned in the order they
+         * were read.
+         */
+        private void reduce() {
+            while (paths.size() > MAX_FAN_IN) {
+                final List<Path> reduced = new ArrayList<>();
+                for (int start = 0; start < paths.size(); start += MAX_FAN_IN) {
+                    final List<Path> group = paths.subList(start, Math.min(start + MAX_FAN_IN, paths.size()));
+                    reduced.add(1 == group.size() ? group.get(0) : mergeToRun(group));
+                }
+                paths.clear();
+                paths.addAll(reduced);
+            }
+        }
+
+        private Path mergeToRun(final List<Path> group) {
+            final Path path;
+            try (final RunMerger merger = new RunMerger(group, Collections.emptyList())) {
+                path = createRunPath();
+                try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                    for (Entry entry = merger.poll(); null != entry; entry = merger.poll()) {
+                        SpillUtil.write(out, entry.element);
+                    }
+                }
+            } catch (final IOException | ClassNotFoundException e) {
+                close();
+                throw new RuntimeException("Unable to merge spilled sort runs", e);
+            }
+
+            for (final Path run : group) {
+                SpillUtil.deleteQuietly(run);
+            }
+            LOGGER.debug("Merged {} sorted runs into {}", group.size(), path);
+            return path;
+        }
+
+        private Path createRunPath() throws IOException {
+            if (null == directory) {
+                directory = SpillUtil.createDirectory(spillDirectory, "gaffer-sort-", this);
+            }
+            return directory.resolve("run-" + runCount++);
+        }
+
+        /**
+         * @param remaining the sorted entries which could not be spilled
+         * @return the merged runs and remaining entries
+         */
+        private CloseableIterable<Element> merge(final List<Entry> remaining) {
+            return new CloseableIterable<Element>() {
+                @Override
+                public CloseableIterator<Element> iterator() {
+                    return new MergingIterator(remaining);
+                }
+
+                @Override
+                public void close() {
+                    Runs.this.close();
+                }
+            };
+        }
+
+        private void close() {
+            if (null != directory) {
+                SpillUtil.deleteDirectory(directory);
+            }
+        }
+
+        /**
+         * Merges sorted runs followed by sorted entries held in memory. The
+         * index of each head is the position of its run, so runs read earlier
+         * come first where elements are equal.
+         */
+        private final class RunMerger implements Closeable {
+            private final List<Path> runs;
+            private final List<DataInputStream> inputs = new ArrayList<>();
+            private final PriorityQueue<Entry> heads = new PriorityQueue<>(entryOrder);
+            private final Iterator<Entry> remainingItr;
+
+            private RunMerger(final List<Path> runs, final List<Entry> remaining) throws IOException, ClassNotFoundException {
+                this.runs = runs;
+                this.remainingItr = remaining.iterator();
+                try {
+                    for (final Path run : runs) {
+                        inputs.add(new DataInputStream(new BufferedInputStream(Files.newInputStream(run))));
+                        advance(inputs.size() - 1);
+                    }
+                } catch (final IOException | ClassNotFoundException e) {
+                    close();
+                    throw e;
+                }
+                advance(runs.size());
+            }
+
+            /**
+             * @return the next entry, or null if all of the entries have been
+             * merged
+             * @throws IOException            if a run could not be read
+             * @throws ClassNotFoundException if the class of an element could not be found
+             */
+            private Entry poll() throws IOException, ClassNotFoundException {
+                final Entry head = heads.poll();
+                if (null != head) {
+                    advance((int) head.index);
+                }
+                return head;
+            }
+
+            @Override
+            public void close() {
+                for (final DataInputStream in : inputs) {
+                    try {
+                        in.close();
+                    } catch (final IOException e) {
+                        LOGGER.warn("Unable to close spilled sort run", e);
+                    }
+                }
+            }
+
+            private void advance(final int run) throws IOException, ClassNotFoundException {
+                if (run == runs.size()) {
+                    if (remainingItr.hasNext()) {
+                        final Entry entry = remainingItr.next();
+                        heads.add(new Entry(entry.element, entry.keys, run));
+                    }
+                    return;
+                }
+
+                final Element element = SpillUtil.read(inputs.get(run));
+                if (null != element) {
+                    heads.add(new Entry(element, sortKeys.extract(element), run));
+                }
+            }
+        }
+
+        private final class MergingIterator implements CloseableIterator<Element> {
+            private final RunMerger merger;
+            private final Deduplicator deduplicator = new Deduplicator();
+            private Element next;
+            private boolean closed;
+
+            private MergingIterator(final List<Entry> remaining) {
+                try {
+                    merger = new RunMerger(paths, remaining);
+                } catch (final IOException | ClassNotFoundException e) {
+                    Runs.this.close();
+                    throw new RuntimeException("Unable to read spilled sort runs", e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (null == next && !closed) {
+                    final Entry head;
+                    try {
+                        head = merger.poll();
+                    } catch (final IOException | ClassNotFoundException e) {
+                        close();
+                        throw new RuntimeException("Unable to read spilled sort runs", e);
+                    }
+                    if (null == head) {
+                        close();
+                    } else if (!deduplicator.isDuplicate(head)) {
+                        next = head.element;
+                    }
+                }
+                return null != next;
+            }
+
+            @Override
+            public Element next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Element result = next;
+                next = null;
+                return result;
+            }
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    merger.close();
+                    Runs.this.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+
+/**
+ * Utility methods for converting lazily loaded elements, such as
+ * {@link uk.gov.gchq.gaffer.data.element.LazyEntity} and
+ * {@link uk.gov.gchq.gaffer.data.element.LazyEdge}, back into normal elements
+ * once any filtering and transformation has been applied.
+ */
+public final class LazyElementUtil {
+    private LazyElementUtil() {
+    }
+
+    /**
+     * Loads the identifiers of the provided element and any of its schema
+     * properties that will be kept by the {@link View}, then returns the
+     * wrapped element. Properties that would be removed by the view are
+     * never deserialised. If the element is not lazy it is returned unchanged.
+     *
+     * @param element the lazy element
+     * @param schema  the schema containing the element's group
+     * @param view    the view the element will be returned with, may be null
+     * @return the wrapped element containing the loaded identifiers and properties
+     */
+    public static Element load(final Element element, final Schema schema, final View view) {
+        final Element wrappedElement = element.getElement();
+        if (wrappedElement == element) {
+            return element;
+        }
+
+        element.getIdentifier(element instanceof Entity ? IdentifierType.VERTEX : IdentifierType.SOURCE);
+
+        final SchemaElementDefinition elementDef = schema.getElement(element.getGroup());
+        if (null != elementDef) {
+            final ViewElementDefinition viewElementDef = null != view ? view.getElement(element.getGroup()) : null;
+            for (final String propertyName : elementDef.getProperties()) {
+                if (isKept(propertyName, viewElementDef)) {
+                    element.getProperty(propertyName);
+                }
+            }
+        }
+
+        return wrappedElement;
+    }
+
+    private static boolean isKept(final String propertyName, final ViewElementDefinition viewElementDef) {
+        if (null == viewElementDef || viewElementDef.isAllProperties()) {
+            return true;
+        }
+
+        if (null != viewElementDef.getProperties()) {
+            return viewElementDef.getProperties().contains(propertyName);
+        }
+
+        return null == viewElementDef.getExcludeProperties() || !viewElementDef.getExcludeProperties().contains(propertyName);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Utility methods for spilling {@link Element}s to local disk. Each element is
+ * written as a length prefixed record containing its Java serialised form.
+ * <p>
+ * Each spill directory is registered against the object which owns it. The
+ * owner should delete the directory with {@link #deleteDirectory(Path)} once
+ * it is no longer needed. If the owner is garbage collected without doing so,
+ * for example because its results were never fully iterated or closed, the
+ * directory is deleted the next time a spill directory is created. Any
+ * directories still registered are deleted when the JVM shuts down.
+ */
+final class SpillUtil {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillUtil.class);
+    private static final ReferenceQueue<Object> ABANDONED_OWNERS = new ReferenceQueue<>();
+    private static final Map<Path, OwnerReference> DIRECTORIES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (final Path directory : new ArrayList<>(DIRECTORIES.keySet())) {
+                deleteDirectory(directory);
+            }
+        }, "gaffer-spill-cleanup"));
+    }
+
+    private SpillUtil() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @param spillDirectory the directory to create the spill directory in, or
+     *                       null to use the system temporary directory
+     * @param prefix         the prefix of the spill directory name
+     * @param owner          the object which owns the spill directory
+     * @return the new spill directory
+     * @throws IOException if the directory could not be created
+     */
+    static Path createDirectory(final String spillDirectory, final String prefix, final Object owner) throws IOException {
+        deleteAbandonedDirectories();
+        final Path directory = null == spillDirectory
+                ? Files.createTempDirectory(prefix)
+                : Files.createTempDirectory(Paths.get(spillDirectory), prefix);
+        DIRECTORIES.put(directory, new OwnerReference(owner, directory));
+        return directory;
+    }
+
+    /**
+     * Deletes a spill directory and all of the files in it.
+     *
+     * @param directory the spill directory to delete
+     */
+    static void deleteDirectory(final Path directory) {
+        DIRECTORIES.remove(directory);
+        final List<Path> files;
+        try (final Stream<Path> list = Files.list(directory)) {
+            files = list.collect(Collectors.toList());
+        } catch (final IOException e) {
+            // The directory has already been deleted
+            return;
+        }
+        for (final Path file : files) {
+            deleteQuietly(file);
+        }
+        deleteQuietly(directory);
+    }
+
+    static void write(final DataOutputStream out, final Element element) throws IOException {
+        final byte[] record = serialise(element);
+        out.writeInt(record.length);
+        out.write(record);
+    }
+
+    /**
+     * @param in the stream to read from
+     * @return the next element, or null if the end of the stream was reached
+     * @throws IOException            if the element could not be read
+     * @throws ClassNotFoundException if the class of the element could not be found
+     */
+    static Element read(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final int length;
+        try {
+            length = in.readInt();
+        } catch (final EOFException e) {
+            return null;
+        }
+        final byte[] record = new byte[length];
+        in.readFully(record);
+        return deserialise(record);
+    }
+
+    static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to delete spill file {}", path, e);
+        }
+    }
+
+    private static void deleteAbandonedDirectories() {
+        for (OwnerReference reference = (OwnerReference) ABANDONED_OWNERS.poll();
+             null != reference;
+             reference = (OwnerReference) ABANDONED_OWNERS.poll()) {
+            if (DIRECTORIES.remove(reference.directory, reference)) {
+                LOGGER.debug("Deleting abandoned spill directory {}", reference.directory);
+                deleteDirectory(reference.directory);
+            }
+        }
+    }
+
+    private static byte[] serialise(final Element element) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(element);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Element deserialise(final byte[] record) throws IOException, ClassNotFoundException {
+        try (final InputStream bytes = new ByteArrayInputStream(record);
+             final ObjectInputStream in = new ObjectInputStream(bytes)) {
+            return (Element) in.readObject();
+        }
+    }
+
+    private static final class OwnerReference extends PhantomReference<Object> {
+        private final Path directory;
+
+        private OwnerReference(final Object owner, final Path directory) {
+            super(owner, ABANDONED_OWNERS);
+            this.directory = directory;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+
+/**
+ * A {@code StreamingAggregator} aggregates {@link Element}s in a single pass
+ * over its input as the results are iterated.
+ * <p>
+ * Elements in groups which are not aggregated are returned as soon as they are
+ * read. Aggregated elements are held in a hash table keyed on their group,
+ * identifiers and group-by property values, without creating a key element
+ * for each input element, and are returned once all of the input has been
+ * read. The first element for each key is shallow cloned, so the properties
+ * of the input elements are not replaced during aggregation.
+ * <p>
+ * If a spill threshold is set, at most that many aggregated elements are held
+ * in memory. When the threshold is reached the aggregated elements are written
+ * to partition files in a temporary directory, split by the hash of their key.
+ * Once the input has been read each partition is loaded and aggregated in turn,
+ * so elements with the same key are always merged. Elements are written using
+ * Java serialisation. If an element cannot be serialised, the remaining
+ * elements are held in memory. The spill files are deleted when the results are
+ * closed, which happens automatically once they have been fully iterated, or
+ * after an iterator which was never closed has been garbage collected.
+ * <p>
+ * Each iteration of the results reads the input again, so the results should
+ * only be iterated once.
+ */
+public class StreamingAggregator {
+    public static final int DEFAULT_PARTITIONS = 16;
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingAggregator.class);
+
+    private final Map<String, Set<String>> groupToGroupBys;
+    private final Collection<String> aggregatedGroups;
+    private final boolean includeMatchedVertex;
+    private final BinaryOperator<Element> aggregator;
+    private final Integer spillThreshold;
+    private final String spillDirectory;
+    private final int numPartitions;
+
+    /**
+     * @param groupToGroupBys      the group-by properties for each group
+     * @param aggregatedGroups     the groups which should be aggregated
+     * @param includeMatchedVertex whether aggregation of edges should include the matched vertex
+     * @param aggregator           the operator to aggregate two elements with the same key
+     */
+    public StreamingAggregator(final Map<String, Set<String>> groupToGroupBys,
+                               final Collection<String> aggregatedGroups,
+                               final boolean includeMatchedVertex,
+                               final BinaryOperator<Element> aggregator) {
+        this(groupToGroupBys, aggregatedGroups, includeMatchedVertex, aggregator, null, null);
+    }
+
+    /**
+     * @param groupToGroupBys      the group-by properties for each group
+     * @param aggregatedGroups     the groups which should be aggregated
+     * @param includeMatchedVertex whether aggregation of edges should include the matched vertex
+     * @param aggregator           the operator to aggregate two elements with the same key
+     * @param spillThreshold       the number of aggregated elements to hold in memory
+     *                             before spilling them to disk, if null the elements
+     *                             are never spilled
+     * @param spillDirectory       the directory to create the spill files in, if
+     *                             null the system temporary directory is used
+     */
+    public StreamingAggregator(final Map<String, Set<String>> groupToGroupBys,
+                               final Collection<String> aggregatedGroups,
+                               final boolean includeMatchedVertex,
+                               final BinaryOperator<Element> aggregator,
+                               final Integer spillThreshold,
+                               final String spillDirectory) {
+        this(groupToGroupBys, aggregatedGroups, includeMatchedVertex, aggregator, spillThreshold, spillDirectory, DEFAULT_PARTITIONS);
+    }
+
+    /**
+     * @param groupToGroupBys      the group-by properties for each group
+     * @param aggregatedGroups     the groups which should be aggregated
+     * @param includeMatchedVertex whether aggregation of edges should include the matched vertex
+     * @param aggregator           the operator to aggregate two elements with the same key
+     * @param spillThreshold       the number of aggregated elements to hold in memory
+     *                             before spilling them to disk, if null the elements
+     *                             are never spilled
+     * @param spillDirectory       the directory to create the spill files in, if
+     *                             null the system temporary directory is used
+     * @param numPartitions        the number of partition files to split the
+     *                             spilled elements between
+     */
+    public StreamingAggregator(final Map<String, Set<String>> groupToGroupBys,
+                               final Collection<String> aggregatedGroups,
+                               final boolean includeMatchedVertex,
+                               final BinaryOperator<Element> aggregator,
+                               final Integer spillThreshold,
+                               final String spillDirectory,
+                               final int numPartitions) {
+        if (null == groupToGroupBys) {
+            throw new IllegalArgumentException("groupToGroupBys map is required");
+        }
+        if (null == aggregatedGroups) {
+            throw new IllegalArgumentException("Aggregated groups is required");
+        }
+        if (null == aggregator) {
+            throw new IllegalArgumentException("Aggregator is required");
+        }
+        if (null != spillThreshold && spillThreshold < 1) {
+            throw new IllegalArgumentException("The spill threshold must be at least 1");
+        }
+        if (numPartitions < 1) {
+            throw new IllegalArgumentException("The number of partitions must be at least 1");
+        }
+        this.groupToGroupBys = groupToGroupBys;
+        this.aggregatedGroups = aggregatedGroups;
+        this.includeMatchedVertex = includeMatchedVertex;
+        this.aggregator = aggregator;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+        this.numPartitions = numPartitions;
+    }
+
+    /**
+     * Lazily aggregates the provided elements.
+     *
+     * @param elements the elements to be aggregated
+     * @return the aggregated elements
+     */
+    public CloseableIterable<Element> aggregate(final Iterable<? extends Element> elements) {
+        if (null == elements) {
+            throw new IllegalArgumentException("Elements are required");
+        }
+
+        // Closing the iterable also closes any iterators which have not been
+        // fully iterated, so their spill files are deleted.
+        final Set<AggregatingIterator> openIterators = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        return new CloseableIterable<Element>() {
+            @Override
+            public CloseableIterator<Element> iterator() {
+                final AggregatingIterator iterator = new AggregatingIterator(elements.iterator(), openIterators);
+                openIterators.add(iterator);
+                return iterator;
+            }
+
+            @Override
+            public void close() {
+                for (final AggregatingIterator iterator : new ArrayList<>(openIterators)) {
+                    iterator.close();
+                }
+                CloseableUtil.close(elements);
+            }
+        };
+    }
+
+    private final class AggregatingIterator implements CloseableIterator<Element> {
+        private final Iterator<? extends Element> input;
+        private final Set<AggregatingIterator> openIterators;
+        private final AggregationTable table = new AggregationTable(groupToGroupBys, includeMatchedVertex, aggregator, true);
+        private Iterator<Element> output;
+        private int partition;
+        private Path directory;
+        private boolean spillable = true;
+        private Element next;
+        private boolean closed;
+
+        private AggregatingIterator(final Iterator<? extends Element> input, final Set<AggregatingIterator> openIterators) {
+            this.input = input;
+            this.openIterators = openIterators;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next && !closed) {
+                next = findNext();
+                if (null == next) {
+                    close();
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Element result = next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                openIterators.remove(this);
+                CloseableUtil.close(input);
+                if (null != directory) {
+                    SpillUtil.deleteDirectory(directory);
+                }
+            }
+        }
+
+        private Element findNext() {
+            if (null == output) {
+                while (input.hasNext()) {
+                    final Element element = input.next();
+                    if (null != element) {
+                        if (!aggregatedGroups.contains(element.getGroup())) {
+                            return element;
+                        }
+                        table.add(element);
+                        if (spillable && null != spillThreshold && table.size() >= spillThreshold) {
+                            spill();
+                        }
+                    }
+                }
+
+                if (null != directory) {
+                    spill();
+                }
+                if (null == directory) {
+                    output = table.iterator();
+                } else {
+                    output = Collections.emptyIterator();
+                }
+            }
+
+            while (!output.hasNext() && null != directory && partition < numPartitions) {
+                output = loadPartition(partition++);
+            }
+            return output.hasNext() ? output.next() : null;
+        }
+
+        private void spill() {
+            if (0 == table.size()) {
+                return;
+            }
+
+            final ByteArrayOutputStream[] partitionBytes = new ByteArrayOutputStream[numPartitions];
+            try {
+                for (final Element element : table) {
+                    final int index = Math.floorMod(table.hash(element), numPartitions);
+                    if (null == partitionBytes[index]) {
+                        partitionBytes[index] = new ByteArrayOutputStream();
+                    }
+                    SpillUtil.write(new DataOutputStream(partitionBytes[index]), element);
+                }
+            } catch (final NotSerializableException e) {
+                LOGGER.warn("Unable to spill aggregated elements to disk, the remaining elements will be held in memory: {}", e.getMessage());
+                spillable = false;
+                return;
+            } catch (final IOException e) {
+                throw new RuntimeException("Unable to spill aggregated elements to disk", e);
+            }
+
+            try {
+                if (null == directory) {
+                    directory = SpillUtil.createDirectory(spillDirectory, "gaffer-aggregation-", this);
+                }
+                for (int i = 0; i < numPartitions; i++) {
+                    if (null != partitionBytes[i]) {
+                        final Path path = getPartitionPath(i);
+                        Files.write(path, partitionBytes[i].toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException("Unable to spill aggregated elements to disk", e);
+            }
+
+            LOGGER.debug("Spilled {} aggregated elements to {}", table.size(), directory);
+            table.clear();
+        }
+
+        private Iterator<Element> loadPartition(final int index) {
+            final AggregationTable partitionTable = new AggregationTable(groupToGroupBys, includeMatchedVertex, aggregator, false);
+            final Path path = getPartitionPath(index);
+            if (Files.exists(path)) {
+                try (final DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+                    for (Element element = SpillUtil.read(in); null != element; element = SpillUtil.read(in)) {
+                        partitionTable.add(element);
+                    }
+                } catch (final IOException | ClassNotFoundException e) {
+                    throw new RuntimeException("Unable to read spilled aggregation partition " + path, e);
+                }
+                SpillUtil.deleteQuietly(path);
+            }
+
+            // Merge in any elements which could not be spilled
+            for (final Element element : table) {
+                final int hash = table.hash(element);
+                if (Math.floorMod(hash, numPartitions) == index) {
+                    partitionTable.add(element, hash);
+                }
+            }
+            return partitionTable.iterator();
+        }
+
+        private Path getPartitionPath(final int index) {
+            return directory.resolve("partition-" + index);
+        }
+    }
+}
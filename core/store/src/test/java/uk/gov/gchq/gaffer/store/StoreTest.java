@@ -31,7 +31,9 @@ import uk.gov.gchq.gaffer.cache.util.CacheProperties;
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.IdentifierType;
@@ -108,6 +110,7 @@ import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.tostring.StringToStringSerialiser;
 import uk.gov.gchq.gaffer.store.Store.ScheduledJobRunnable;
 import uk.gov.gchq.gaffer.store.library.GraphLibrary;
+import uk.gov.gchq.gaffer.store.operation.GetMetrics;
 import uk.gov.gchq.gaffer.store.operation.GetSchema;
 import uk.gov.gchq.gaffer.store.operation.GetTraits;
 import uk.gov.gchq.gaffer.store.operation.HasTrait;
@@ -147,6 +150,7 @@ import java.util.concurrent.TimeUnit;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -392,6 +396,96 @@ public class StoreTest {
         }
     }
 
+    @Test
+    public void shouldRecordMetricsForHandledOperation() throws Exception {
+        // Given
+        final StoreProperties properties = mock(StoreProperties.class);
+        given(properties.getJobExecutorThreadCount()).willReturn(1);
+        store.initialise("graphId", createSchemaMock(), properties);
+        final GetElements getElements = new GetElements();
+        final CloseableIterable handlerResult = new WrappedCloseableIterable<>(asList(1, 2));
+        given(getElementsHandler.doOperation(getElements, context, store)).willReturn(handlerResult);
+        final String metricName = "operation." + GetElements.class.getName();
+
+        // When
+        final Object result = store.handleOperation(getElements, context);
+
+        // Then
+        assertSame(handlerResult, result);
+        final java.util.Map<String, Object> metrics = store.getMetricsRegistry().getMetrics();
+        assertThat(metrics).containsKey(metricName + ".latency")
+                .containsEntry(metricName + ".inFlight", 0L)
+                .doesNotContainKey(metricName + ".errors");
+    }
+
+    @Test
+    public void shouldCountCollectionResultsWhenReturned() throws Exception {
+        // Given
+        final StoreProperties properties = mock(StoreProperties.class);
+        given(properties.getJobExecutorThreadCount()).willReturn(1);
+        final Operation operation = mock(Operation.class);
+        final OperationHandler opHandler = mock(OperationHandler.class);
+        store.addOperationHandler(Operation.class, opHandler);
+        store.initialise("graphId", createSchemaMock(), properties);
+        given(opHandler.doOperation(operation, context, store)).willReturn(asList(1, 2, 3));
+
+        // When
+        store.handleOperation(operation, context);
+
+        // Then
+        assertThat(store.getMetricsRegistry().getMetrics())
+                .containsEntry("operation." + operation.getClass().getName() + ".results", 3L);
+    }
+
+    @Test
+    public void shouldCountLazyResultsAsTheyAreConsumedWhenEnabled() throws Exception {
+        // Given
+        final StoreProperties properties = mock(StoreProperties.class);
+        given(properties.getJobExecutorThreadCount()).willReturn(1);
+        given(properties.getMetricsCountLazyResults()).willReturn(true);
+        store.initialise("graphId", createSchemaMock(), properties);
+        final GetElements getElements = new GetElements();
+        final CloseableIterable handlerResult = mock(CloseableIterable.class);
+        given(handlerResult.iterator()).willReturn(new WrappedCloseableIterator<>(asList(1, 2, 3).iterator()));
+        given(getElementsHandler.doOperation(getElements, context, store)).willReturn(handlerResult);
+        final String resultsMetric = "operation." + GetElements.class.getName() + ".results";
+
+        // When
+        final CloseableIterable<?> result = (CloseableIterable<?>) store.handleOperation(getElements, context);
+        final boolean countedBeforeConsumed = store.getMetricsRegistry().getMetrics().containsKey(resultsMetric);
+        final CloseableIterator<?> iterator = result.iterator();
+        iterator.next();
+        iterator.next();
+        result.close();
+
+        // Then
+        assertFalse(countedBeforeConsumed);
+        assertThat(store.getMetricsRegistry().getMetrics()).containsEntry(resultsMetric, 2L);
+        verify(handlerResult).close();
+    }
+
+    @Test
+    public void shouldCountOperationErrors() throws Exception {
+        // Given
+        final StoreProperties properties = mock(StoreProperties.class);
+        given(properties.getJobExecutorThreadCount()).willReturn(1);
+        final Operation operation = mock(Operation.class);
+        final OperationHandler opHandler = mock(OperationHandler.class);
+        store.addOperationHandler(Operation.class, opHandler);
+        store.initialise("graphId", createSchemaMock(), properties);
+        given(opHandler.doOperation(operation, context, store)).willThrow(new RuntimeException());
+        final String metricName = "operation." + operation.getClass().getName();
+
+        // When
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> store.handleOperation(operation, context));
+
+        // Then
+        assertThat(store.getMetricsRegistry().getMetrics())
+                .containsEntry(metricName + ".errors", 1L)
+                .containsEntry(metricName + ".inFlight", 0L)
+                .containsKey(metricName + ".latency");
+    }
+
     @Test
     public void shouldCallDoUnhandledOperationWhenDoOperationWithUnknownOperationClass() throws Exception {
         // Given
@@ -548,6 +642,7 @@ public class StoreTest {
                 Limit.class,
                 DiscardOutput.class,
                 GetSchema.class,
+                GetMetrics.class,
                 Map.class,
                 If.class,
                 GetTraits.class,
@@ -658,6 +753,7 @@ public class StoreTest {
                 Limit.class,
                 DiscardOutput.class,
                 GetSchema.class,
+                GetMetrics.class,
                 GetTraits.class,
                 HasTrait.class,
                 Map.class,
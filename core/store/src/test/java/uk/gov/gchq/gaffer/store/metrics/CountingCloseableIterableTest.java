@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class CountingCloseableIterableTest {
+    private static final String COUNTER = "results";
+
+    private final MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+
+    @Test
+    public void shouldCountItemsWhenIteratorIsExhausted() {
+        // Given
+        final CountingCloseableIterable<Integer> iterable = new CountingCloseableIterable<>(
+                new WrappedCloseableIterable<>(Arrays.asList(1, 2, 3)), metricsRegistry, COUNTER);
+
+        // When
+        for (final Integer ignored : iterable) {
+            // consume
+        }
+        iterable.close();
+
+        // Then
+        assertThat(metricsRegistry.getMetrics()).containsEntry(COUNTER, 3L);
+    }
+
+    @Test
+    public void shouldCountConsumedItemsWhenIterableIsClosedPartWayThrough() {
+        // Given
+        final CloseableIterable<Integer> delegate = mock(CloseableIterable.class);
+        given(delegate.iterator()).willReturn(new WrappedCloseableIterable<>(Arrays.asList(1, 2, 3)).iterator());
+        final CountingCloseableIterable<Integer> iterable = new CountingCloseableIterable<>(delegate, metricsRegistry, COUNTER);
+        final CloseableIterator<Integer> iterator = iterable.iterator();
+        iterator.next();
+
+        // When
+        iterable.close();
+
+        // Then
+        assertThat(metricsRegistry.getMetrics()).containsEntry(COUNTER, 1L);
+        verify(delegate).close();
+    }
+
+    @Test
+    public void shouldOnlyCountEachIteratorOnce() {
+        // Given
+        final CountingCloseableIterable<Integer> iterable = new CountingCloseableIterable<>(
+                new WrappedCloseableIterable<>(Arrays.asList(1, 2)), metricsRegistry, COUNTER);
+        final CloseableIterator<Integer> iterator = iterable.iterator();
+
+        // When
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        iterator.hasNext();
+        iterator.close();
+        iterable.close();
+
+        // Then
+        assertThat(metricsRegistry.getMetrics()).containsEntry(COUNTER, 2L);
+    }
+
+    @Test
+    public void shouldNotCountBeforeIteration() {
+        // When
+        new CountingCloseableIterable<>(new WrappedCloseableIterable<>(Arrays.asList(1, 2)), metricsRegistry, COUNTER);
+
+        // Then
+        assertThat(metricsRegistry.getMetrics()).doesNotContainKey(COUNTER);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryMetricsRegistryTest {
+
+    @Test
+    public void shouldRecordCountersAndGauges() {
+        // Given
+        final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        // When
+        registry.incrementCounter("counter", 2);
+        registry.incrementCounter("counter", 3);
+        registry.updateGauge("gauge", 1);
+        registry.updateGauge("gauge", 1);
+        registry.updateGauge("gauge", -1);
+
+        // Then
+        assertThat(registry.getMetrics())
+                .containsEntry("counter", 5L)
+                .containsEntry("gauge", 1L);
+    }
+
+    @Test
+    public void shouldRecordTimerSnapshot() {
+        // Given
+        final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        // When
+        for (int i = 0; i < 99; i++) {
+            registry.updateTimer("timer", TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        registry.updateTimer("timer", TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        final Map<String, Object> snapshot = (Map<String, Object>) registry.getMetrics().get("timer");
+        assertThat(snapshot).containsEntry("count", 100L);
+        assertThat(snapshot).containsEntry("maxMs", 1000.0);
+        assertThat((double) snapshot.get("p50Ms")).isBetween(0.1, 0.2);
+        assertThat((double) snapshot.get("p99Ms")).isBetween(0.1, 0.2);
+        assertThat((double) snapshot.get("meanMs")).isBetween(10.0, 10.2);
+    }
+
+    @Test
+    public void shouldClearMetrics() {
+        // Given
+        final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        registry.incrementCounter("counter", 1);
+        registry.updateTimer("timer", 1);
+
+        // When
+        registry.clear();
+
+        // Then
+        assertThat(registry.getMetrics()).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.operation;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class GetMetricsTest {
+
+    @Test
+    public void shouldJSONSerialiseAndDeserialise() throws SerialisationException {
+        // Given
+        final GetMetrics operation = new GetMetrics();
+
+        // When
+        final byte[] json = JSONSerialiser.serialise(operation, true);
+        final GetMetrics deserialisedOp = JSONSerialiser.deserialise(json, GetMetrics.class);
+
+        // Then
+        assertNotNull(deserialisedOp);
+    }
+
+    @Test
+    public void shouldShallowCloneOperation() {
+        // Given
+        final GetMetrics operation = new GetMetrics.Builder()
+                .options(new HashMap<>())
+                .build();
+
+        // When
+        final GetMetrics clone = operation.shallowClone();
+
+        // Then
+        assertNotSame(operation, clone);
+        assertThat(clone.getOptions()).isNotNull();
+    }
+}
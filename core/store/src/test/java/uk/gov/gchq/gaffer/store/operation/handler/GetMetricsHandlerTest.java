@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.operation.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.exception.UnauthorisedException;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.StoreProperties;
+import uk.gov.gchq.gaffer.store.metrics.InMemoryMetricsRegistry;
+import uk.gov.gchq.gaffer.store.metrics.MetricsRegistry;
+import uk.gov.gchq.gaffer.store.operation.GetMetrics;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class GetMetricsHandlerTest {
+    private static final String ADMIN_AUTH = "admin";
+
+    private final GetMetricsHandler handler = new GetMetricsHandler();
+    private final MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+    private final StoreProperties properties = new StoreProperties();
+    private Store store;
+
+    @BeforeEach
+    public void setUp() {
+        store = mock(Store.class);
+        given(store.getProperties()).willReturn(properties);
+        given(store.getMetricsRegistry()).willReturn(metricsRegistry);
+        metricsRegistry.incrementCounter("operation.test.results", 2);
+    }
+
+    @Test
+    public void shouldReturnMetricsToAdminUser() throws Exception {
+        // Given
+        properties.setAdminAuth(ADMIN_AUTH);
+        final Context context = new Context(new User.Builder().userId("admin").opAuth(ADMIN_AUTH).build());
+
+        // When
+        final Map<String, Object> metrics = handler.doOperation(new GetMetrics(), context, store);
+
+        // Then
+        assertThat(metrics).containsEntry("operation.test.results", 2L);
+    }
+
+    @Test
+    public void shouldNotReturnMetricsToUserWithoutAdminAuth() {
+        // Given
+        properties.setAdminAuth(ADMIN_AUTH);
+        final Context context = new Context(new User.Builder().userId("user").opAuth("other").build());
+
+        // When / Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> handler.doOperation(new GetMetrics(), context, store));
+    }
+
+    @Test
+    public void shouldNotReturnMetricsWhenNoAdminAuthIsConfigured() {
+        // Given
+        final Context context = new Context(new User.Builder().userId("user").opAuth(ADMIN_AUTH).build());
+
+        // When / Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> handler.doOperation(new GetMetrics(), context, store));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,17 +18,46 @@ package uk.gov.gchq.gaffer.store.operation.handler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
+import uk.gov.gchq.gaffer.commonutil.ExecutorService;
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.exception.LimitExceededException;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.GetWalks;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToEntitySeeds;
+import uk.gov.gchq.gaffer.operation.io.Output;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class GetWalksHandlerTest {
     @Test
@@ -57,6 +86,11 @@ public class GetWalksHandlerTest {
         // Given
         final GetWalksHandler obj = new GetWalksHandler();
         obj.setPrune(true);
+        obj.setStreaming(true);
+        obj.setSpillThreshold(1000);
+        obj.setSpillDirectory("/tmp/walks");
+        obj.setIndexVertices(true);
+        obj.setSeedChunkSize(100);
 
         // When
         final byte[] json = JSONSerialiser.serialise(obj, true);
@@ -64,5 +98,239 @@ public class GetWalksHandlerTest {
 
         // Then
         assertNotNull(deserialisedObj);
+        assertThat(deserialisedObj.getStreaming()).isTrue();
+        assertThat(deserialisedObj.getSpillThreshold()).isEqualTo(1000);
+        assertThat(deserialisedObj.getSpillDirectory()).isEqualTo("/tmp/walks");
+        assertThat(deserialisedObj.getIndexVertices()).isTrue();
+        assertThat(deserialisedObj.getSeedChunkSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void shouldGenerateWalksInStreamingMode() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mockStore(context,
+                Arrays.asList(edge("A", "B"), edge("A", "C")),
+                Arrays.asList(edge("B", "D"), edge("C", "E")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setStreaming(true);
+
+        // When
+        final Iterable<Walk> walks = handler.doOperation(createGetWalks(2), context, store);
+
+        // Then
+        assertThat(getVertices(walks)).containsExactlyInAnyOrder("ABD", "ACE");
+    }
+
+    @Test
+    public void shouldDeduplicateSeedsBetweenHopsInStreamingMode() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mockStore(context,
+                Arrays.asList(edge("A", "B"), edge(TestGroups.EDGE_2, "A", "B")),
+                Arrays.asList(edge("B", "C")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setStreaming(true);
+
+        // When
+        final Iterable<Walk> walks = handler.doOperation(createGetWalks(2), context, store);
+
+        // Then
+        final ArgumentCaptor<Output> captor = ArgumentCaptor.forClass(Output.class);
+        verify(store, times(2)).execute(captor.capture(), eq(context));
+        final ToEntitySeeds secondHopSeeds = (ToEntitySeeds) ((OperationChain) captor.getAllValues().get(1)).getOperations().get(0);
+        assertThat(secondHopSeeds.getInput()).containsExactly("B");
+        assertThat(getVertices(walks)).containsExactly("ABC");
+    }
+
+    @Test
+    public void shouldNotLimitNumberOfWalksInStreamingMode() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mock(Store.class);
+        given(store.execute(any(Output.class), eq(context))).willReturn(
+                Arrays.asList(edge("A", "B"), edge("A", "C")),
+                Arrays.asList(edge("B", "D"), edge("C", "D")),
+                Arrays.asList(edge("D", "E"), edge("D", "F")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setStreaming(true);
+        final GetWalks getWalks = createGetWalks(3);
+        getWalks.setResultsLimit(2);
+
+        // When
+        final Iterable<Walk> walks = handler.doOperation(getWalks, context, store);
+
+        // Then
+        assertThat(getVertices(walks)).containsExactlyInAnyOrder("ABDE", "ABDF", "ACDE", "ACDF");
+    }
+
+    @Test
+    public void shouldSpillAdjacencyMapsInStreamingMode(@TempDir final Path tempDir) throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mockStore(context,
+                Arrays.asList(edge("A", "B"), edge("A", "C")),
+                Arrays.asList(edge("B", "D"), edge("C", "E"), edge("C", "F")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setStreaming(true);
+        handler.setSpillThreshold(1);
+        handler.setSpillDirectory(tempDir.toString());
+
+        // When
+        final Iterable<Walk> walks = handler.doOperation(createGetWalks(2), context, store);
+
+        // Then
+        assertThat(tempDir.toFile().list()).hasSize(2);
+        assertThat(getVertices(walks)).containsExactlyInAnyOrder("ABD", "ACE", "ACF");
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void shouldGenerateWalksWithIndexedVertices() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mockStore(context,
+                Arrays.asList(edge("A", "B"), edge("A", "C"), edge("A", "X")),
+                Arrays.asList(edge("B", "D"), edge("C", "E")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setIndexVertices(true);
+
+        // When
+        final Iterable<Walk> walks = handler.doOperation(createGetWalks(2), context, store);
+
+        // Then
+        assertThat(getVertices(walks)).containsExactlyInAnyOrder("ABD", "ACE");
+    }
+
+    @Test
+    public void shouldGenerateWalksWithSeedChunks() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mock(Store.class);
+        given(store.execute(any(Output.class), eq(context))).willReturn(
+                Arrays.asList(edge("A", "B"), edge("A", "C")),
+                Arrays.asList(edge("B", "D")),
+                Arrays.asList(edge("C", "E"), edge("C", "F")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setSeedChunkSize(1);
+
+        // When
+        final Iterable<Walk> walks = handler.doOperation(createGetWalks(2), context, store);
+
+        // Then
+        final ArgumentCaptor<Output> captor = ArgumentCaptor.forClass(Output.class);
+        verify(store, times(3)).execute(captor.capture(), eq(context));
+        final List<Object> secondHopSeeds = new ArrayList<>();
+        for (final Output operation : captor.getAllValues().subList(1, 3)) {
+            final ToEntitySeeds toEntitySeeds = (ToEntitySeeds) ((OperationChain) operation).getOperations().get(0);
+            secondHopSeeds.add(toEntitySeeds.getInput());
+        }
+        assertThat(secondHopSeeds).containsExactlyInAnyOrder(Arrays.asList("B"), Arrays.asList("C"));
+        assertThat(getVertices(walks)).containsExactlyInAnyOrder("ABD", "ACE", "ACF");
+    }
+
+    @Test
+    public void shouldApplyResultsLimitAcrossSeedChunks() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final Store store = mock(Store.class);
+        given(store.execute(any(Output.class), eq(context))).willReturn(
+                Arrays.asList(edge("A", "B"), edge("A", "C")),
+                Arrays.asList(edge("B", "D")),
+                Arrays.asList(edge("C", "E"), edge("C", "F")));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setSeedChunkSize(1);
+        final GetWalks getWalks = createGetWalks(2);
+        getWalks.setResultsLimit(2);
+
+        // When / Then
+        assertThatExceptionOfType(LimitExceededException.class)
+                .isThrownBy(() -> handler.doOperation(getWalks, context, store))
+                .withMessage("Limit of 2 exceeded.");
+    }
+
+    @Test
+    public void shouldGenerateWalksWithSeedChunksOnExecutor() throws OperationException {
+        // Given
+        final Context context = new Context(new User());
+        final List<Edge> edges = Arrays.asList(
+                edge("A", "B"), edge("A", "C"),
+                edge("B", "D"), edge("C", "E"), edge("C", "F"),
+                edge("D", "G"), edge("E", "H"), edge("F", "I"), edge("F", "J"));
+        final Store store = mock(Store.class);
+        given(store.execute(any(Output.class), eq(context))).willAnswer(invocation -> {
+            final ToEntitySeeds toEntitySeeds = (ToEntitySeeds) ((OperationChain) invocation.getArgument(0)).getOperations().get(0);
+            final List<Object> seeds = new ArrayList<>();
+            for (final Object seed : toEntitySeeds.getInput()) {
+                seeds.add(seed instanceof EntityId ? ((EntityId) seed).getVertex() : seed);
+            }
+            return edges.stream()
+                    .filter(edge -> seeds.contains(edge.getSource()))
+                    .collect(Collectors.toList());
+        });
+        willAnswer(invocation -> {
+            ExecutorService.getService().execute(invocation.getArgument(0));
+            return null;
+        }).given(store).runAsync(any(Runnable.class));
+        final GetWalksHandler handler = new GetWalksHandler();
+        handler.setSeedChunkSize(1);
+
+        ExecutorService.initialise(2);
+        try {
+            // When
+            final Iterable<Walk> walks = handler.doOperation(createGetWalks(3), context, store);
+
+            // Then
+            verify(store, times(6)).execute(any(Output.class), eq(context));
+            verify(store, times(3)).runAsync(any(Runnable.class));
+            assertThat(getVertices(walks)).containsExactlyInAnyOrder("ABDG", "ACEH", "ACFI", "ACFJ");
+        } finally {
+            ExecutorService.shutdown();
+        }
+    }
+
+    private Store mockStore(final Context context, final List<Element> firstHop, final List<Element> secondHop) throws OperationException {
+        final Store store = mock(Store.class);
+        given(store.execute(any(Output.class), eq(context))).willReturn(firstHop, secondHop);
+        return store;
+    }
+
+    private GetWalks createGetWalks(final int hops) {
+        final GetElements[] operations = new GetElements[hops];
+        for (int i = 0; i < hops; i++) {
+            operations[i] = new GetElements.Builder()
+                    .view(new View.Builder()
+                            .edge(TestGroups.EDGE)
+                            .edge(TestGroups.EDGE_2)
+                            .build())
+                    .build();
+        }
+        return new GetWalks.Builder()
+                .input(new EntitySeed("A"))
+                .operations(operations)
+                .build();
+    }
+
+    private List<String> getVertices(final Iterable<Walk> walks) {
+        final List<String> vertices = new ArrayList<>();
+        for (final Walk walk : walks) {
+            vertices.add(walk.getVerticesOrdered().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining()));
+        }
+        return vertices;
+    }
+
+    private Edge edge(final String source, final String destination) {
+        return edge(TestGroups.EDGE, source, destination);
+    }
+
+    private Edge edge(final String group, final String source, final String destination) {
+        return new Edge.Builder()
+                .group(group)
+                .source(source)
+                .dest(destination)
+                .directed(true)
+                .build();
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.compare.Max;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -184,6 +185,23 @@ public class MaxHandlerTest {
         assertNull(result);
     }
 
+    @Test
+    public void shouldReturnNullIfAllComparatorsAreNull() throws OperationException {
+        // Given
+        final List<Entity> input = Lists.newArrayList(makeEntity("property", 1), makeEntity("property", 2));
+        final Max max = new Max.Builder().input(input)
+                .comparators(Arrays.<Comparator<Element>>asList(null, null))
+                .build();
+
+        final MaxHandler handler = new MaxHandler();
+
+        // When
+        final Element result = handler.doOperation(max, null, null);
+
+        // Then
+        assertNull(result);
+    }
+
     private Entity makeEntity(final String propertyName1, final int property1) {
         return new Entity.Builder().group(TestGroups.ENTITY)
                 .property(propertyName1, property1)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.compare.Min;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -185,6 +186,23 @@ public class MinHandlerTest {
         assertNull(result);
     }
 
+    @Test
+    public void shouldReturnNullIfAllComparatorsAreNull() throws OperationException {
+        // Given
+        final List<Entity> input = Lists.newArrayList(makeEntity("property", 1), makeEntity("property", 2));
+        final Min min = new Min.Builder().input(input)
+                .comparators(Arrays.<Comparator<Element>>asList(null, null))
+                .build();
+
+        final MinHandler handler = new MinHandler();
+
+        // When
+        final Element result = handler.doOperation(min, null, null);
+
+        // Then
+        assertNull(result);
+    }
+
     private Entity makeEntity(final int property1, final int property2) {
         return new Entity.Builder().group(TestGroups.ENTITY)
                 .property("property1", property1)
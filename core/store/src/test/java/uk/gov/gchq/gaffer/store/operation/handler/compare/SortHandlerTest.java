@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
@@ -28,6 +29,7 @@ import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -260,6 +262,26 @@ public class SortHandlerTest {
                 assertNull(result);
         }
 
+        @Test
+        public void shouldReturnNullIfAllComparatorsAreNull() throws OperationException {
+                // Given
+                final List<Entity> input = Lists.newArrayList(
+                        new Entity.Builder().group(TestGroups.ENTITY).property("property", 1).build(),
+                        new Entity.Builder().group(TestGroups.ENTITY).property("property", 2).build());
+
+                final Sort sort = new Sort.Builder().input(input)
+                        .comparators(Arrays.<Comparator<Element>>asList(null, null))
+                        .build();
+
+                final SortHandler handler = new SortHandler();
+
+                // When
+                final Iterable<? extends Element> result = handler.doOperation(sort, null, null);
+
+                // Then
+                assertNull(result);
+        }
+
         @Test
         public void shouldSortLargeNumberOfElements() throws OperationException {
                 // Given
@@ -290,6 +312,35 @@ public class SortHandlerTest {
                 assertEquals(resultLimit, Iterables.size(result));
         }
 
+        @Test
+        public void shouldSortWithSpillThreshold(@TempDir final Path tempDir) throws OperationException {
+                // Given
+                final List<Entity> input = new ArrayList<>();
+                for (int i = 20; i > 0; i--) {
+                        input.add(new Entity.Builder().group(TestGroups.ENTITY).property("property", i).build());
+                }
+
+                final Sort sort = new Sort.Builder().input(input).comparators(new ElementPropertyComparator.Builder()
+                                .groups(TestGroups.ENTITY).property("property").build()).build();
+
+                final SortHandler handler = new SortHandler();
+                handler.setSpillThreshold(3);
+                handler.setSpillDirectory(tempDir.toString());
+
+                // When
+                final Iterable<? extends Element> result = handler.doOperation(sort, null, null);
+
+                // Then
+                final List<Integer> properties = Streams.toStream(result)
+                                .map(element -> (Integer) element.getProperty("property"))
+                                .collect(Collectors.toList());
+                assertEquals(20, properties.size());
+                for (int i = 0; i < 20; i++) {
+                        assertEquals(i + 1, (int) properties.get(i));
+                }
+                assertEquals(0, tempDir.toFile().list().length);
+        }
+
         private static class ElementComparatorImpl implements Comparator<Element> {
                 @Override
                 public int compare(final Element o1, final Element o2) {
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.store.operation.handler.function;
 
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
@@ -37,6 +38,7 @@ import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Or;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -215,6 +217,56 @@ public class AggregateHandlerTest {
         assertEquals(expected, resultsSet);
     }
 
+    @Test
+    public void shouldAggregateElementsWithSpillThreshold(@TempDir final Path tempDir) throws OperationException {
+        // Given
+        final Schema schema = new Schema.Builder()
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .groupBy("timestamp")
+                        .build())
+                .build();
+        given(store.getSchema()).willReturn(schema);
+        handler.setSpillThreshold(1);
+        handler.setSpillDirectory(tempDir.toString());
+
+        input.add(entity);
+        input.add(entity1);
+        input.add(entity2);
+        input.add(entity3);
+
+        final AggregatePair pair = new AggregatePair(
+                new ElementAggregator.Builder()
+                        .select("count")
+                        .execute(new Sum())
+                        .build());
+
+        entities.put(TestGroups.ENTITY, pair);
+
+        expected.add(new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .property("timestamp", 3L)
+                .property("count", 5)
+                .build());
+        expected.add(new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .property("timestamp", 2L)
+                .property("count", 6)
+                .build());
+
+        final Aggregate aggregate = new Aggregate.Builder()
+                .input(input)
+                .entities(entities)
+                .build();
+
+        // When
+        final Iterable<? extends Element> results = handler.doOperation(aggregate, context, store);
+        final Set<Element> resultsSet = Sets.newHashSet(results);
+
+        // Then
+        assertEquals(expected, resultsSet);
+        assertEquals(0, tempDir.toFile().list().length);
+    }
+
     @Test
     public void shouldAggregateTheSameFromSchemaOrOperation() throws OperationException {
         // Given
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 
@@ -230,4 +231,63 @@ public class ElementMatchTest {
         // Then
         assertThat(matchingElements).isEmpty();
     }
+
+    @Test
+    public void shouldMatchEdgesOnIdentifiersAndDirection() {
+        // Given
+        Edge testEdge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("A")
+                .dest("B")
+                .directed(true)
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Edge undirectedEdge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("A")
+                .dest("B")
+                .directed(false)
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Edge differentDestEdge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("A")
+                .dest("C")
+                .directed(true)
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        List<Edge> comparisonEdgeList = Arrays.asList(undirectedEdge, testEdge.shallowClone(), differentDestEdge);
+
+        ElementMatch elementMatch = new ElementMatch("count");
+        elementMatch.init(comparisonEdgeList);
+
+        // When
+        List<Element> matchingElements = elementMatch.matching(testEdge);
+
+        // Then
+        assertThat(matchingElements).containsExactly(testEdge);
+    }
+
+    @Test
+    public void shouldReplaceMatchCandidatesWhenReinitialised() {
+        // Given
+        Entity testEntity = new Entity.Builder()
+                .group(TestGroups.ENTITY_3)
+                .vertex("vertex")
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        ElementMatch elementMatch = new ElementMatch();
+        elementMatch.init(Arrays.asList(testEntity.shallowClone(), testEntity.shallowClone()));
+
+        // When
+        elementMatch.init(Arrays.asList(testEntity.shallowClone()));
+        List<Element> matchingElements = elementMatch.matching(testEntity);
+
+        // Then
+        assertThat(matchingElements).hasSize(1);
+    }
 }
@@ -297,4 +297,26 @@ public class NamedOperationCacheTest {
 
         cache.addNamedOperation(alt, true, userWithAdminAuth, ADMIN_AUTH);
     }
+
+    @Test
+    public void shouldReuseOperationChainTemplateUntilNamedOperationChanges() throws CacheOperationFailedException {
+        // Given
+        cache.addNamedOperation(standard, false, standardUser);
+        final long misses = NamedOperationCache.getTemplateCacheMisses();
+        final long hits = NamedOperationCache.getTemplateCacheHits();
+
+        // When
+        final OperationChain first = cache.getOperationChain(standard, null);
+        final OperationChain second = cache.getOperationChain(standard, null);
+        cache.addNamedOperation(alternative, true, advancedUser);
+        final OperationChain third = cache.getOperationChain(alternative, null);
+
+        // Then
+        assertEquals(standard.getOperationChain(null).getOperations().size(), first.getOperations().size());
+        assertEquals(AddElements.class, first.getOperations().get(0).getClass());
+        assertEquals(AddElements.class, second.getOperations().get(0).getClass());
+        assertEquals(GetElements.class, third.getOperations().get(0).getClass());
+        assertEquals(misses + 2, NamedOperationCache.getTemplateCacheMisses());
+        assertEquals(hits + 1, NamedOperationCache.getTemplateCacheHits());
+    }
 }
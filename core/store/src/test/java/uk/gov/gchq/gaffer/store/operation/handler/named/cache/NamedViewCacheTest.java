@@ -34,11 +34,17 @@ import uk.gov.gchq.gaffer.named.operation.cache.exception.CacheOperationFailedEx
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -240,4 +246,55 @@ public class NamedViewCacheTest {
         // When / Then - no exceptions
         cache.addNamedView(alternativeWithADifferentView, true, userWithAdminAuth, ADMIN_AUTH);
     }
+
+    @Test
+    public void shouldReturnResolvedViewForSameParameters() throws CacheOperationFailedException {
+        // Given
+        cache.addNamedView(alternative, false);
+        final Map<String, Object> params = new HashMap<>();
+        params.put("a", 1);
+        params.put("b", "two");
+        final Map<String, Object> reorderedParams = new LinkedHashMap<>();
+        reorderedParams.put("b", "two");
+        reorderedParams.put("a", 1);
+
+        // When
+        cache.addResolvedView(ALTERNATIVE_VIEW_NAME, params, alternativeView, Collections.singletonMap(ALTERNATIVE_VIEW_NAME, alternative));
+
+        // Then
+        assertSame(alternativeView, cache.getResolvedView(ALTERNATIVE_VIEW_NAME, reorderedParams, advancedUser));
+        assertNull(cache.getResolvedView(ALTERNATIVE_VIEW_NAME, null, advancedUser));
+    }
+
+    @Test
+    public void shouldNotReturnResolvedViewAfterNamedViewIsChanged() throws CacheOperationFailedException {
+        // Given
+        cache.addNamedView(alternative, false);
+        cache.addResolvedView(ALTERNATIVE_VIEW_NAME, null, alternativeView, Collections.singletonMap(ALTERNATIVE_VIEW_NAME, alternative));
+        final NamedViewDetail changed = new NamedViewDetail.Builder()
+                .name(ALTERNATIVE_VIEW_NAME)
+                .description("changed View")
+                .creatorId(advancedUser.getUserId())
+                .view(standardView)
+                .build();
+
+        // When
+        cache.addNamedView(changed, true);
+
+        // Then
+        assertNull(cache.getResolvedView(ALTERNATIVE_VIEW_NAME, null, advancedUser));
+    }
+
+    @Test
+    public void shouldNotReturnResolvedViewAfterNamedViewIsDeleted() throws CacheOperationFailedException {
+        // Given
+        cache.addNamedView(alternative, false);
+        cache.addResolvedView(ALTERNATIVE_VIEW_NAME, null, alternativeView, Collections.singletonMap(ALTERNATIVE_VIEW_NAME, alternative));
+
+        // When
+        cache.deleteNamedView(ALTERNATIVE_VIEW_NAME);
+
+        // Then
+        assertNull(cache.getResolvedView(ALTERNATIVE_VIEW_NAME, null, advancedUser));
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class ElementSorterTest {
+    private final List<Comparator<Element>> comparators = Collections.singletonList(
+            new ElementPropertyComparator.Builder()
+                    .groups(TestGroups.ENTITY)
+                    .property("count")
+                    .build());
+
+    @Test
+    public void shouldSortElementsKeepingEqualElementsInOrder() {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                entity("vertex1", 3),
+                entity("vertex2", 1),
+                entity("vertex3", 3),
+                entity("vertex4", 2));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new ElementSorter(comparators, null, false).sort(elements));
+
+        // Then
+        assertThat(results).containsExactly(
+                entity("vertex2", 1),
+                entity("vertex4", 2),
+                entity("vertex1", 3),
+                entity("vertex3", 3));
+    }
+
+    @Test
+    public void shouldSortElementsNotInGroupsLast() {
+        // Given
+        final Element otherEntity = new Entity.Builder()
+                .group(TestGroups.ENTITY_2)
+                .vertex("vertex1")
+                .property("count", 0)
+                .build();
+        final List<Element> elements = Arrays.asList(otherEntity, entity("vertex2", 2), null, entity("vertex3", 1));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new ElementSorter(comparators, null, false).sort(elements));
+
+        // Then
+        assertThat(results).containsExactly(entity("vertex3", 1), entity("vertex2", 2), otherEntity);
+    }
+
+    @Test
+    public void shouldKeepFirstElementsWhenLimitIsSet() {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                entity("vertex1", 5),
+                entity("vertex2", 1),
+                entity("vertex3", 4),
+                entity("vertex4", 1),
+                entity("vertex5", 2),
+                entity("vertex6", 2));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new ElementSorter(comparators, 3, false).sort(elements));
+
+        // Then
+        assertThat(results).containsExactly(
+                entity("vertex2", 1),
+                entity("vertex4", 1),
+                entity("vertex5", 2));
+    }
+
+    @Test
+    public void shouldDeduplicateElementsWhenLimitIsSet() {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                entity("vertex1", 1),
+                entity("vertex1", 1),
+                entity("vertex2", 3),
+                entity("vertex3", 2));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new ElementSorter(comparators, 2, true).sort(elements));
+
+        // Then
+        assertThat(results).containsExactly(entity("vertex1", 1), entity("vertex3", 2));
+    }
+
+    @Test
+    public void shouldSpillAndMergeSortedRuns(@TempDir final Path tempDir) {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        final Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            elements.add(entity("vertex" + i, random.nextInt(20)));
+        }
+        final List<Element> expected = new ArrayList<>(elements);
+        expected.sort(comparators.get(0));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new ElementSorter(comparators, null, false, 7, tempDir.toString()).sort(elements));
+
+        // Then
+        assertThat(results).containsExactlyElementsOf(expected);
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void shouldDeduplicateElementsAcrossSpilledRuns(@TempDir final Path tempDir) {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 4; j >= 0; j--) {
+                elements.add(entity("vertex" + j, j));
+            }
+        }
+
+        // When
+        final List<Element> results = Lists.newArrayList(new ElementSorter(comparators, null, true, 4, tempDir.toString()).sort(elements));
+
+        // Then
+        assertThat(results).containsExactly(
+                entity("vertex0", 0),
+                entity("vertex1", 1),
+                entity("vertex2", 2),
+                entity("vertex3", 3),
+                entity("vertex4", 4));
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void shouldMergeGroupsOfRunsWhenThereAreTooManyToMergeAtOnce(@TempDir final Path tempDir) throws IOException {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        final Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            elements.add(entity("vertex" + i, random.nextInt(20)));
+        }
+        final List<Element> expected = new ArrayList<>(elements);
+        expected.sort(comparators.get(0));
+
+        // When
+        final Iterable<Element> sorted = new ElementSorter(comparators, null, false, 1, tempDir.toString()).sort(elements);
+        final Path spillDirectory;
+        try (final Stream<Path> spillDirectories = Files.list(tempDir)) {
+            spillDirectory = spillDirectories.findFirst().get();
+        }
+        final long runs;
+        try (final Stream<Path> runFiles = Files.list(spillDirectory)) {
+            runs = runFiles.count();
+        }
+        final List<Element> results = Lists.newArrayList(sorted);
+
+        // Then
+        assertThat(runs).isEqualTo(4L);
+        assertThat(results).containsExactlyElementsOf(expected);
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void shouldDeleteRunFilesOfAbandonedResults(@TempDir final Path tempDir) throws InterruptedException {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            elements.add(entity("vertex" + i, 20 - i));
+        }
+        startIteratingAndAbandon(elements, tempDir);
+        assertThat(tempDir.toFile().list()).hasSize(1);
+
+        // When
+        for (int i = 0; i < 100 && 0 < tempDir.toFile().list().length; i++) {
+            System.gc();
+            Thread.sleep(10);
+            Lists.newArrayList(new ElementSorter(comparators, null, false, 7, tempDir.toString()).sort(elements));
+        }
+
+        // Then
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSpillThresholdIsInvalid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ElementSorter(comparators, null, false, 0, null))
+                .withMessage("The spill threshold must be at least 1");
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenNoComparatorsAreProvided() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ElementSorter(Collections.emptyList(), null, false))
+                .withMessage("At least one comparator is required");
+    }
+
+    private void startIteratingAndAbandon(final List<Element> elements, final Path tempDir) {
+        final Iterator<Element> iterator = new ElementSorter(comparators, null, false, 7, tempDir.toString()).sort(elements).iterator();
+        iterator.next();
+    }
+
+    private Entity entity(final String vertex, final int count) {
+        return new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex(vertex)
+                .property("count", count)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementValueLoader;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.LazyEdge;
+import uk.gov.gchq.gaffer.data.element.LazyEntity;
+import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.store.TestTypes;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyElementUtilTest {
+
+    private final Schema schema = new Schema.Builder()
+            .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                    .vertex(TestTypes.ID_STRING)
+                    .property(TestPropertyNames.PROP_1, TestTypes.PROP_STRING)
+                    .property(TestPropertyNames.PROP_2, TestTypes.PROP_STRING)
+                    .build())
+            .edge(TestGroups.EDGE, new SchemaEdgeDefinition.Builder()
+                    .source(TestTypes.ID_STRING)
+                    .destination(TestTypes.ID_STRING)
+                    .property(TestPropertyNames.PROP_1, TestTypes.PROP_STRING)
+                    .property(TestPropertyNames.PROP_2, TestTypes.PROP_STRING)
+                    .build())
+            .type(TestTypes.ID_STRING, String.class)
+            .type(TestTypes.PROP_STRING, new TypeDefinition.Builder()
+                    .clazz(String.class)
+                    .build())
+            .build();
+
+    @Test
+    public void shouldLoadIdentifiersAndAllPropertiesWithoutView() {
+        // Given
+        final RecordingValueLoader loader = new RecordingValueLoader();
+        final LazyEntity lazyEntity = new LazyEntity(new Entity(TestGroups.ENTITY), loader);
+
+        // When
+        final Element result = LazyElementUtil.load(lazyEntity, schema, null);
+
+        // Then
+        assertThat(result).isNotInstanceOf(LazyEntity.class);
+        assertThat(((Entity) result).getVertex()).isEqualTo("vertex");
+        assertThat(result.getProperty(TestPropertyNames.PROP_1)).isEqualTo(TestPropertyNames.PROP_1 + "Value");
+        assertThat(result.getProperty(TestPropertyNames.PROP_2)).isEqualTo(TestPropertyNames.PROP_2 + "Value");
+        assertThat(loader.loadedProperties).containsExactly(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2);
+    }
+
+    @Test
+    public void shouldOnlyLoadPropertiesKeptByView() {
+        // Given
+        final RecordingValueLoader loader = new RecordingValueLoader();
+        final LazyEdge lazyEdge = new LazyEdge(new Edge(TestGroups.EDGE, null, null, false), loader);
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .excludeProperties(TestPropertyNames.PROP_2)
+                        .build())
+                .build();
+
+        // When
+        final Element result = LazyElementUtil.load(lazyEdge, schema, view);
+
+        // Then
+        assertThat(result).isNotInstanceOf(LazyEdge.class);
+        assertThat(((Edge) result).getSource()).isEqualTo("source");
+        assertThat(((Edge) result).getDestination()).isEqualTo("dest");
+        assertThat(result.getProperty(TestPropertyNames.PROP_1)).isEqualTo(TestPropertyNames.PROP_1 + "Value");
+        assertThat(loader.loadedProperties).containsExactly(TestPropertyNames.PROP_1);
+    }
+
+    @Test
+    public void shouldNotReloadPropertiesAlreadyLoaded() {
+        // Given
+        final RecordingValueLoader loader = new RecordingValueLoader();
+        final LazyEntity lazyEntity = new LazyEntity(new Entity(TestGroups.ENTITY), loader);
+        lazyEntity.getProperty(TestPropertyNames.PROP_2);
+
+        // When
+        LazyElementUtil.load(lazyEntity, schema, null);
+
+        // Then
+        assertThat(loader.loadedProperties).containsExactly(TestPropertyNames.PROP_2, TestPropertyNames.PROP_1);
+    }
+
+    @Test
+    public void shouldReturnNonLazyElementUnchanged() {
+        // Given
+        final Entity entity = new Entity(TestGroups.ENTITY, "vertex");
+
+        // When
+        final Element result = LazyElementUtil.load(entity, schema, null);
+
+        // Then
+        assertThat(result).isSameAs(entity);
+    }
+
+    private static final class RecordingValueLoader implements ElementValueLoader {
+        private static final long serialVersionUID = 6421908366711584214L;
+        private final List<String> loadedProperties = new ArrayList<>();
+
+        @Override
+        public Object getProperty(final String name, final Properties lazyProperties) {
+            loadedProperties.add(name);
+            return name + "Value";
+        }
+
+        @Override
+        public void loadIdentifiers(final Element element) {
+            if (element instanceof Entity) {
+                ((Entity) element).setVertex("vertex");
+            } else {
+                ((Edge) element).setIdentifiers("source", "dest", true);
+            }
+        }
+    }
+}
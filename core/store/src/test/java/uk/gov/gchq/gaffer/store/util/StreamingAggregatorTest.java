@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class StreamingAggregatorTest {
+    private final Schema schema = Schema.fromJson(StreamUtil.openStreams(getClass(), "schema-groupby"));
+
+    @Test
+    public void shouldReturnNonAggregatedElementsBeforeAggregatedElements() {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                entity(TestGroups.ENTITY, "vertex1", null, 1L),
+                entity(TestGroups.NON_AGG_ENTITY, "vertex1", null, 2L),
+                entity(TestGroups.ENTITY, "vertex1", null, 3L),
+                entity(TestGroups.ENTITY, "vertex2", null, 4L));
+
+        // When
+        final List<Element> results = Lists.newArrayList(createAggregator(null, null).aggregate(elements));
+
+        // Then
+        assertThat(results.get(0)).isEqualTo(entity(TestGroups.NON_AGG_ENTITY, "vertex1", null, 2L));
+        assertThat(results.subList(1, results.size())).containsExactlyInAnyOrder(
+                entity(TestGroups.ENTITY, "vertex1", null, 4L),
+                entity(TestGroups.ENTITY, "vertex2", null, 4L));
+    }
+
+    @Test
+    public void shouldAggregateUsingGroupByProperties() {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                entity(TestGroups.ENTITY, "vertex1", "a", 1L),
+                entity(TestGroups.ENTITY, "vertex1", "b", 2L),
+                entity(TestGroups.ENTITY, "vertex1", "a", 3L));
+
+        // When
+        final List<Element> results = Lists.newArrayList(createAggregator(null, null).aggregate(elements));
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrder(
+                entity(TestGroups.ENTITY, "vertex1", "a", 4L),
+                entity(TestGroups.ENTITY, "vertex1", "b", 2L));
+    }
+
+    @Test
+    public void shouldNotModifyInputElements() {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                entity(TestGroups.ENTITY, "vertex1", null, 1L),
+                entity(TestGroups.ENTITY, "vertex1", null, 2L));
+
+        // When
+        final List<Element> results = Lists.newArrayList(createAggregator(null, null).aggregate(elements));
+
+        // Then
+        assertThat(results).containsExactly(entity(TestGroups.ENTITY, "vertex1", null, 3L));
+        assertThat(elements).containsExactly(
+                entity(TestGroups.ENTITY, "vertex1", null, 1L),
+                entity(TestGroups.ENTITY, "vertex1", null, 2L));
+    }
+
+    @Test
+    public void shouldAggregateElementsWithByteArrayVertices(@TempDir final Path tempDir) {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            elements.add(new Entity.Builder()
+                    .group(TestGroups.ENTITY)
+                    .vertex(new byte[]{1, 2})
+                    .property("count", 1L)
+                    .build());
+            elements.add(new Entity.Builder()
+                    .group(TestGroups.ENTITY)
+                    .vertex(new byte[]{3})
+                    .property("count", 1L)
+                    .build());
+        }
+
+        // When
+        final List<Element> results = Lists.newArrayList(createAggregator(null, null).aggregate(elements));
+        final List<Element> spilledResults = Lists.newArrayList(createAggregator(1, tempDir.toString()).aggregate(elements));
+
+        // Then
+        final Entity expected1 = new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex(new byte[]{1, 2})
+                .property("count", 3L)
+                .build();
+        final Entity expected2 = new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex(new byte[]{3})
+                .property("count", 3L)
+                .build();
+        assertThat(results).containsExactlyInAnyOrder(expected1, expected2);
+        assertThat(spilledResults).containsExactlyInAnyOrder(expected1, expected2);
+    }
+
+    @Test
+    public void shouldSpillAndMergeAggregatedElements(@TempDir final Path tempDir) {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        final List<Element> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(entity(TestGroups.ENTITY, "vertex" + i, null, 3L));
+        }
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 10; j++) {
+                elements.add(entity(TestGroups.ENTITY, "vertex" + j, null, 1L));
+            }
+        }
+
+        // When
+        final List<Element> results = Lists.newArrayList(createAggregator(4, tempDir.toString()).aggregate(elements));
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void shouldDeleteSpillFilesWhenPartiallyIteratedResultsAreClosed(@TempDir final Path tempDir) {
+        // Given
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 10; j++) {
+                elements.add(entity(TestGroups.ENTITY, "vertex" + j, null, 1L));
+            }
+        }
+        final CloseableIterable<Element> results = createAggregator(4, tempDir.toString()).aggregate(elements);
+        final CloseableIterator<Element> iterator = results.iterator();
+        iterator.next();
+        assertThat(tempDir.toFile().list()).isNotEmpty();
+
+        // When
+        results.close();
+
+        // Then
+        assertThat(tempDir.toFile().list()).isEmpty();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSpillThresholdIsInvalid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createAggregator(0, null))
+                .withMessage("The spill threshold must be at least 1");
+    }
+
+    private StreamingAggregator createAggregator(final Integer spillThreshold, final String spillDirectory) {
+        return new StreamingAggregator(
+                AggregatorUtil.getIngestGroupBys(schema),
+                schema.getAggregatedGroups(),
+                false,
+                new AggregatorUtil.IngestElementBinaryOperator(schema),
+                spillThreshold,
+                spillDirectory,
+                2);
+    }
+
+    private Entity entity(final String group, final String vertex, final String property2, final long count) {
+        final Entity.Builder builder = new Entity.Builder()
+                .group(group)
+                .vertex(vertex)
+                .property("count", count);
+        if (null != property2) {
+            builder.property("property2", property2);
+        }
+        return builder.build();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,7 +71,8 @@ import java.util.Map;
  * the data is sent to a Spark executor). If a {@link Filter} is specified that specifies either the vertex in an
  * {@code Entity} or either the source or destination vertex in an {@code Edge} then this is applied by
  * using the appropriate range scan on Accumulo. Queries against this {@code DataFrame} that do this should be
- * very quick.
+ * very quick. A disjunction of such values (e.g. {@code vertex = 'A' OR vertex = 'B'}) results in one range scan
+ * per value.
  */
 public class AccumuloStoreRelation extends BaseRelation implements TableScan, PrunedScan, PrunedFilteredScan {
 
@@ -164,12 +165,25 @@ public class AccumuloStoreRelation extends BaseRelation implements TableScan, Pr
         }
     }
 
+    /**
+     * Returns the {@link Filter}s that are not applied exactly by the store, so that Spark does not need to apply
+     * the others again to every row.
+     *
+     * @param filters The {@link Filter}s that Spark is pushing down.
+     * @return The {@link Filter}s that Spark needs to apply itself.
+     */
+    @Override
+    public Filter[] unhandledFilters(final Filter[] filters) {
+        return new FiltersToOperationConverter(view, store.getSchema(), filters).getUnhandledFilters();
+    }
+
     /**
      * Creates a {@code DataFrame} of all {@link Element}s from the specified groups with columns that are not
      * required filtered out and with (some of) the supplied {@link Filter}s applied.
      * <p>
-     * Note that Spark also applies the provided {@link Filter}s - applying them here is an optimisation to reduce
-     * the amount of data transferred from the store to Spark's executors (this is known as "predicate pushdown").
+     * Note that Spark also applies the provided {@link Filter}s that are returned by
+     * {@link #unhandledFilters(Filter[])} - applying them here is an optimisation to reduce the amount of data
+     * transferred from the store to Spark's executors (this is known as "predicate pushdown").
      * <p>
      * Currently this does not push the projection down to the store (i.e. it should be implemented in an iterator,
      * not in the transform). Issue 320 refers to this.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,9 @@ import org.apache.spark.sql.sources.IsNull;
 import org.apache.spark.sql.sources.LessThan;
 import org.apache.spark.sql.sources.LessThanOrEqual;
 import org.apache.spark.sql.sources.Or;
+import org.apache.spark.sql.sources.StringContains;
+import org.apache.spark.sql.sources.StringEndsWith;
+import org.apache.spark.sql.sources.StringStartsWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +51,7 @@ import uk.gov.gchq.koryphe.impl.predicate.IsIn;
 import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 import uk.gov.gchq.koryphe.impl.predicate.Not;
+import uk.gov.gchq.koryphe.impl.predicate.Regex;
 import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 
 import java.util.ArrayList;
@@ -55,11 +59,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * Converts a give {@link View} and array of Spark {@link Filter}s to an operation that returns data with as many
@@ -68,6 +74,10 @@ import java.util.function.Predicate;
  */
 public class FiltersToOperationConverter {
     private static final Logger LOGGER = LoggerFactory.getLogger(FiltersToOperationConverter.class);
+    private static final Set<String> VERTEX_COLUMNS =
+            Collections.singleton(SchemaToStructTypeConverter.VERTEX_COL_NAME);
+    private static final Set<String> SOURCE_DESTINATION_COLUMNS = new HashSet<>(Arrays.asList(
+            SchemaToStructTypeConverter.SRC_COL_NAME, SchemaToStructTypeConverter.DST_COL_NAME));
 
     private final View view;
     private final Schema schema;
@@ -86,16 +96,18 @@ public class FiltersToOperationConverter {
      * in Accumulo's tablet servers before the data is sent to a Spark executor.
      * <p>
      * Note that when this is used within an operation to return a Dataframe, Spark will also carry out the
-     * filtering itself, and therefore it is not essential for all filters to be applied. As many as possible
-     * should be applied to reduce the amount of data sent from the data store to Spark's executors.
+     * filtering itself for any filters returned by {@link #getUnhandledFilters()}, and therefore it is not essential
+     * for all filters to be applied. As many as possible should be applied to reduce the amount of data sent from
+     * the data store to Spark's executors.
      * <p>
      * The following logic is used to create an operation and a view which removes as much data as possible as early
      * as possible:
      * - If the filters specify a particular group or groups is/are required then the view should only contain those
      * groups.
-     * - If the filters specify a particular value for the vertex, source or destination then an operation to return
-     * those directly is created (i.e. a GetRDDOfElements operation rather than a GetRDDOfAllElements operation). In
-     * this case the view is created to ensure that only entities or only edges are returned as appropriate.
+     * - If the filters specify a particular value or values for the vertex, source or destination (using an EqualTo,
+     * an In, or an Or of these) then an operation to return those directly is created (i.e. a GetRDDOfElements
+     * operation with one seed per value rather than a GetRDDOfAllElements operation). In this case the view is created
+     * to ensure that only entities or only edges are returned as appropriate.
      * - Other filters are converted to Gaffer filters which are applied to the view.
      *
      * @return an operation to return the required data.
@@ -152,53 +164,89 @@ public class FiltersToOperationConverter {
     }
 
     private Output<RDD<Element>> applyVertexSourceDestinationFilters(final View view) {
-        View clonedView = view.clone();
-        Output<RDD<Element>> operation = null;
+        final Filter seedFilter = getSeedFilter();
+        if (null == seedFilter) {
+            LOGGER.debug("Setting operation to GetRDDOfAllElements");
+            return new GetRDDOfAllElements.Builder()
+                    .view(view.clone())
+                    .build();
+        }
+
+        View.Builder viewBuilder = new View.Builder();
+        Set<Object> values = getSeedValues(seedFilter, VERTEX_COLUMNS);
+        if (null != values) {
+            // Only entities are relevant, so remove any edge groups from the view
+            LOGGER.info("Found filter {} specifying the vertex, setting views to only contain entity groups",
+                    seedFilter);
+            for (final String entityGroup : view.getEntityGroups()) {
+                viewBuilder = viewBuilder.entity(entityGroup);
+            }
+        } else {
+            // Only edges are relevant, so remove any entity groups from the view
+            LOGGER.info("Found filter {} specifying the source or destination, setting views to only contain "
+                    + "edge groups", seedFilter);
+            values = getSeedValues(seedFilter, SOURCE_DESTINATION_COLUMNS);
+            for (final String edgeGroup : view.getEdgeGroups()) {
+                viewBuilder = viewBuilder.edge(edgeGroup);
+            }
+        }
+        final List<EntitySeed> seeds = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            seeds.add(new EntitySeed(value));
+        }
+        LOGGER.info("Setting operation to GetRDDOfElements with {} seeds", seeds.size());
+        return new GetRDDOfElements.Builder()
+                .input(seeds)
+                .view(viewBuilder.build())
+                .build();
+    }
+
+    /**
+     * Finds the first filter that specifies a value or values for the vertex, or for the source or destination.
+     *
+     * @return The {@link Filter} used to create the seeds, {@code null} if none of the filters specify a seed.
+     */
+    private Filter getSeedFilter() {
         for (final Filter filter : filters) {
-            if (filter instanceof EqualTo) {
-                final EqualTo equalTo = (EqualTo) filter;
-                final String attribute = equalTo.attribute();
-                if (attribute.equals(SchemaToStructTypeConverter.VERTEX_COL_NAME)) {
-                    // Only entities are relevant, so remove any edge groups from the view
-                    LOGGER.info("Found EqualTo filter with attribute {}, setting views to only contain entity groups",
-                            attribute);
-                    View.Builder viewBuilder = new View.Builder();
-                    for (final String entityGroup : view.getEntityGroups()) {
-                        viewBuilder = viewBuilder.entity(entityGroup);
-                    }
-                    clonedView = viewBuilder.build();
-                    LOGGER.info("Setting operation to GetRDDOfElements");
-                    operation = new GetRDDOfElements.Builder()
-                            .input(new EntitySeed(equalTo.value()))
-                            .view(clonedView)
-                            .build();
-                    break;
-                } else if (attribute.equals(SchemaToStructTypeConverter.SRC_COL_NAME)
-                        || attribute.equals(SchemaToStructTypeConverter.DST_COL_NAME)) {
-                    // Only edges are relevant, so remove any entity groups from the view
-                    LOGGER.info("Found EqualTo filter with attribute {}, setting views to only contain edge groups",
-                            attribute);
-                    View.Builder viewBuilder = new View.Builder();
-                    for (final String edgeGroup : view.getEdgeGroups()) {
-                        viewBuilder = viewBuilder.edge(edgeGroup);
-                    }
-                    clonedView = viewBuilder.build();
-                    LOGGER.info("Setting operation to GetRDDOfElements");
-                    operation = new GetRDDOfElements.Builder()
-                            .input(new EntitySeed(equalTo.value()))
-                            .view(clonedView)
-                            .build();
-                    break;
-                }
+            if (null != getSeedValues(filter, VERTEX_COLUMNS)
+                    || null != getSeedValues(filter, SOURCE_DESTINATION_COLUMNS)) {
+                return filter;
             }
         }
-        if (null == operation) {
-            LOGGER.debug("Setting operation to GetRDDOfAllElements");
-            operation = new GetRDDOfAllElements.Builder()
-                    .view(clonedView)
-                    .build();
+        return null;
+    }
+
+    /**
+     * Returns the values that one of the given columns must take for the filter to be true, if the filter is an
+     * {@link EqualTo} or {@link In} on one of the columns or an {@link Or} of such filters.
+     *
+     * @param filter  The {@link Filter} to check.
+     * @param columns The names of the columns.
+     * @return The set of values, {@code null} if the filter does not specify the values of the columns.
+     */
+    private Set<Object> getSeedValues(final Filter filter, final Set<String> columns) {
+        if (filter instanceof EqualTo) {
+            final EqualTo equalTo = (EqualTo) filter;
+            if (columns.contains(equalTo.attribute()) && null != equalTo.value()) {
+                return new LinkedHashSet<>(Collections.singleton(equalTo.value()));
+            }
+        } else if (filter instanceof In) {
+            final In in = (In) filter;
+            if (columns.contains(in.attribute())) {
+                final Set<Object> values = new LinkedHashSet<>(Arrays.asList(in.values()));
+                values.remove(null);
+                return values.isEmpty() ? null : values;
+            }
+        } else if (filter instanceof Or) {
+            final Or or = (Or) filter;
+            final Set<Object> left = getSeedValues(or.left(), columns);
+            final Set<Object> right = getSeedValues(or.right(), columns);
+            if (null != left && null != right) {
+                left.addAll(right);
+                return left;
+            }
         }
-        return operation;
+        return null;
     }
 
     private Output<RDD<Element>> applyPropertyFilters(final View derivedView, final Output<RDD<Element>> operation) {
@@ -343,10 +391,147 @@ public class FiltersToOperationConverter {
                 groups.retainAll(rightGroups);
             }
             return groups;
+        } else if (filter instanceof StringStartsWith
+                || filter instanceof StringEndsWith
+                || filter instanceof StringContains) {
+            return getGroupsThatHaveProperty(filter.references()[0]);
+        } else if (filter instanceof Or) {
+            // The Or can only be true for a group if one of its sides can be true for that group. If either side
+            // doesn't restrict the groups then neither does the Or.
+            final Or or = (Or) filter;
+            final Set<String> leftGroups = getGroupsFromFilter(or.left());
+            final Set<String> rightGroups = getGroupsFromFilter(or.right());
+            if (null == leftGroups || leftGroups.isEmpty() || null == rightGroups || rightGroups.isEmpty()) {
+                return null;
+            }
+            final Set<String> groups = new HashSet<>(leftGroups);
+            groups.addAll(rightGroups);
+            return groups;
+        } else if (filter instanceof org.apache.spark.sql.sources.Not) {
+            final Filter child = ((org.apache.spark.sql.sources.Not) filter).child();
+            if (child instanceof org.apache.spark.sql.sources.Not) {
+                return getGroupsFromFilter(((org.apache.spark.sql.sources.Not) child).child());
+            } else if (child instanceof IsNull || null != getNegatablePredicate(child)) {
+                // The negation of a comparison is only true if the property is not null
+                return getGroupsThatHaveProperty(child.references()[0]);
+            }
         }
         return null;
     }
 
+    private boolean isStringProperty(final String group, final String property) {
+        return String.class.equals(schema.getElement(group).getPropertyClass(property));
+    }
+
+    private static boolean isStringFilter(final Filter filter) {
+        return filter instanceof StringStartsWith
+                || filter instanceof StringEndsWith
+                || filter instanceof StringContains;
+    }
+
+    /**
+     * Converts a {@link StringStartsWith}, {@link StringEndsWith} or {@link StringContains} filter to a
+     * {@link Regex} predicate. These predicates can only be applied to properties whose class is {@link String}.
+     *
+     * @param filter The {@link Filter} to convert.
+     * @return The equivalent {@link Regex}, {@code null} if the filter is not a string filter.
+     */
+    private static Predicate<?> getStringPredicate(final Filter filter) {
+        if (filter instanceof StringStartsWith) {
+            return new Regex("(?s)" + Pattern.quote(((StringStartsWith) filter).value()) + ".*");
+        } else if (filter instanceof StringEndsWith) {
+            return new Regex("(?s).*" + Pattern.quote(((StringEndsWith) filter).value()));
+        } else if (filter instanceof StringContains) {
+            return new Regex("(?s).*" + Pattern.quote(((StringContains) filter).value()) + ".*");
+        }
+        return null;
+    }
+
+    /**
+     * Converts a filter on a single property to a predicate that is true exactly when the filter is true, for
+     * non-null values of the property. The negation of such a filter is then the negation of the predicate, applied
+     * only to non-null values.
+     *
+     * @param filter The {@link Filter} to convert.
+     * @return The equivalent predicate, {@code null} if the filter cannot be negated.
+     */
+    private static Predicate<?> getNegatablePredicate(final Filter filter) {
+        if (filter instanceof EqualTo) {
+            final Object value = ((EqualTo) filter).value();
+            return null == value ? null : new IsEqual(value);
+        } else if (filter instanceof GreaterThan) {
+            return new IsMoreThan((Comparable<?>) ((GreaterThan) filter).value(), false);
+        } else if (filter instanceof GreaterThanOrEqual) {
+            return new IsMoreThan((Comparable<?>) ((GreaterThanOrEqual) filter).value(), true);
+        } else if (filter instanceof LessThan) {
+            return new IsLessThan((Comparable<?>) ((LessThan) filter).value(), false);
+        } else if (filter instanceof LessThanOrEqual) {
+            return new IsLessThan((Comparable<?>) ((LessThanOrEqual) filter).value(), true);
+        } else if (filter instanceof In) {
+            // "NOT IN" is never true if the values contain null
+            final List<Object> values = Arrays.asList(((In) filter).values());
+            return values.contains(null) ? null : new IsIn(new HashSet<>(values));
+        }
+        return getStringPredicate(filter);
+    }
+
+    /**
+     * Combines a list of predicates into a single predicate that is true if all (or any) of them are true.
+     *
+     * @param predicates The predicates to combine.
+     * @param any        {@code true} to combine the predicates with an Or, {@code false} to combine them with an And.
+     * @return The combined predicate.
+     */
+    private static TupleAdaptedPredicate<String, ?> combine(final List<TupleAdaptedPredicate<String, ?>> predicates,
+                                                            final boolean any) {
+        if (1 == predicates.size()) {
+            return predicates.get(0);
+        }
+        final List<String> selection = new ArrayList<>();
+        for (final TupleAdaptedPredicate<String, ?> predicate : predicates) {
+            for (final String property : predicate.getSelection()) {
+                if (!selection.contains(property)) {
+                    selection.add(property);
+                }
+            }
+        }
+        final Predicate<?> combined;
+        if (1 == selection.size()) {
+            // A single selected property is passed to the predicates directly rather than as a tuple
+            final Predicate<?>[] components = new Predicate<?>[predicates.size()];
+            for (int i = 0; i < components.length; i++) {
+                components[i] = predicates.get(i).getPredicate();
+            }
+            combined = any
+                    ? new uk.gov.gchq.koryphe.impl.predicate.Or<>(components)
+                    : new uk.gov.gchq.koryphe.impl.predicate.And<>(components);
+        } else if (any) {
+            uk.gov.gchq.koryphe.impl.predicate.Or.Builder<Object> builder =
+                    new uk.gov.gchq.koryphe.impl.predicate.Or.Builder<>();
+            for (final TupleAdaptedPredicate<String, ?> predicate : predicates) {
+                builder = builder.select(getIndices(selection, predicate)).execute(predicate.getPredicate());
+            }
+            combined = builder.build();
+        } else {
+            uk.gov.gchq.koryphe.impl.predicate.And.Builder<Object> builder =
+                    new uk.gov.gchq.koryphe.impl.predicate.And.Builder<>();
+            for (final TupleAdaptedPredicate<String, ?> predicate : predicates) {
+                builder = builder.select(getIndices(selection, predicate)).execute(predicate.getPredicate());
+            }
+            combined = builder.build();
+        }
+        return new TupleAdaptedPredicate<>(combined, selection.toArray(new String[selection.size()]));
+    }
+
+    private static Integer[] getIndices(final List<String> selection,
+                                        final TupleAdaptedPredicate<String, ?> predicate) {
+        final Integer[] indices = new Integer[predicate.getSelection().length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = selection.indexOf(predicate.getSelection()[i]);
+        }
+        return indices;
+    }
+
     /**
      * Converts a Spark {@link Filter} to a map from group to a list of Gaffer {@link TupleAdaptedPredicate}s.
      * <p>
@@ -490,10 +675,112 @@ public class FiltersToOperationConverter {
             LOGGER.debug("Converted {} to list of filters ({})",
                     filter,
                     StringUtils.join(map.entrySet(), ','));
+        } else if (isStringFilter(filter)) {
+            final String attribute = filter.references()[0];
+            final Predicate<?> regex = getStringPredicate(filter);
+            final Set<String> relevantGroups = getGroupsFromFilter(filter);
+            if (null != relevantGroups) {
+                for (final String group : relevantGroups) {
+                    if (isStringProperty(group, attribute)) {
+                        if (!map.containsKey(group)) {
+                            map.put(group, new ArrayList<>());
+                        }
+                        map.get(group).add(new TupleAdaptedPredicate<>(regex, new String[]{attribute}));
+                    }
+                }
+            }
+            LOGGER.debug("Converted {} to Regex ({})", filter, attribute);
+        } else if (filter instanceof Or) {
+            final Or or = (Or) filter;
+            final Set<String> relevantGroups = getGroupsFromFilter(filter);
+            if (null != relevantGroups) {
+                final Set<String> leftGroups = getGroupsFromFilter(or.left());
+                final Set<String> rightGroups = getGroupsFromFilter(or.right());
+                final Map<String, List<TupleAdaptedPredicate<String, ?>>> left = getFunctionsFromFilter(or.left());
+                final Map<String, List<TupleAdaptedPredicate<String, ?>>> right = getFunctionsFromFilter(or.right());
+                for (final String group : relevantGroups) {
+                    final List<TupleAdaptedPredicate<String, ?>> leftFunctions = left.get(group);
+                    final List<TupleAdaptedPredicate<String, ?>> rightFunctions = right.get(group);
+                    final List<TupleAdaptedPredicate<String, ?>> functions = new ArrayList<>();
+                    if (!leftGroups.contains(group)) {
+                        // The left side can't be true for this group, so only the right side needs to be applied
+                        if (null != rightFunctions) {
+                            functions.addAll(rightFunctions);
+                        }
+                    } else if (!rightGroups.contains(group)) {
+                        if (null != leftFunctions) {
+                            functions.addAll(leftFunctions);
+                        }
+                    } else if (null != leftFunctions && !leftFunctions.isEmpty()
+                            && null != rightFunctions && !rightFunctions.isEmpty()) {
+                        functions.add(combine(Arrays.asList(combine(leftFunctions, false),
+                                combine(rightFunctions, false)), true));
+                    }
+                    if (!functions.isEmpty()) {
+                        if (!map.containsKey(group)) {
+                            map.put(group, new ArrayList<>());
+                        }
+                        map.get(group).addAll(functions);
+                    }
+                }
+            }
+            LOGGER.debug("Converted {} to list of filters ({})",
+                    filter,
+                    StringUtils.join(map.entrySet(), ','));
+        } else if (filter instanceof org.apache.spark.sql.sources.Not) {
+            final Filter child = ((org.apache.spark.sql.sources.Not) filter).child();
+            if (child instanceof org.apache.spark.sql.sources.Not) {
+                return getFunctionsFromFilter(((org.apache.spark.sql.sources.Not) child).child());
+            }
+            final Predicate<?> childPredicate = getNegatablePredicate(child);
+            final Set<String> relevantGroups = getGroupsFromFilter(filter);
+            if (null != relevantGroups && (child instanceof IsNull || null != childPredicate)) {
+                final String attribute = child.references()[0];
+                final TupleAdaptedPredicate<String, ?> predicate = child instanceof IsNull
+                        ? new TupleAdaptedPredicate<>(new Exists(), new String[]{attribute})
+                        : combine(Arrays.asList(
+                        new TupleAdaptedPredicate<>(new Exists(), new String[]{attribute}),
+                        new TupleAdaptedPredicate<>(new Not<>(childPredicate), new String[]{attribute})), false);
+                for (final String group : relevantGroups) {
+                    if (!isStringFilter(child) || isStringProperty(group, attribute)) {
+                        if (!map.containsKey(group)) {
+                            map.put(group, new ArrayList<>());
+                        }
+                        map.get(group).add(predicate);
+                    }
+                }
+            }
+            LOGGER.debug("Converted {} to list of filters ({})",
+                    filter,
+                    StringUtils.join(map.entrySet(), ','));
         }
         return map;
     }
 
+    /**
+     * Returns the {@link Filter}s that are not guaranteed to be applied exactly by the operation returned from
+     * {@link #getOperation()}, and so must still be applied by Spark.
+     * <p>
+     * Filters on the group and the filter used to create the seeds for the vertex are applied exactly. Filters on the
+     * source or destination also return edges where the value is at the other end, and filters on properties may be
+     * applied to values before they are converted for the {@code DataFrame}, so these are left for Spark to apply.
+     *
+     * @return The filters that Spark needs to apply.
+     */
+    public Filter[] getUnhandledFilters() {
+        final Filter seedFilter = getSeedFilter();
+        final boolean vertexSeeds = null != seedFilter && null != getSeedValues(seedFilter, VERTEX_COLUMNS);
+        final List<Filter> unhandled = new ArrayList<>();
+        for (final Filter filter : filters) {
+            if (null != checkForGroups(filter) || (vertexSeeds && filter == seedFilter)) {
+                LOGGER.debug("Filter {} is handled by the operation", filter);
+            } else {
+                unhandled.add(filter);
+            }
+        }
+        return unhandled.toArray(new Filter[unhandled.size()]);
+    }
+
     /**
      * Iterates through all the filters looking for ones that specify a group or groups. The intersection of all of
      * these sets of groups is formed as all the filters are 'AND'ed together before data is provided to a Dataframe.
@@ -21,11 +21,16 @@ import org.apache.spark.sql.sources.And;
 import org.apache.spark.sql.sources.EqualTo;
 import org.apache.spark.sql.sources.Filter;
 import org.apache.spark.sql.sources.GreaterThan;
+import org.apache.spark.sql.sources.In;
 import org.apache.spark.sql.sources.LessThan;
+import org.apache.spark.sql.sources.Not;
 import org.apache.spark.sql.sources.Or;
+import org.apache.spark.sql.sources.StringStartsWith;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.operation.Operation;
@@ -51,6 +56,7 @@ import java.util.function.Predicate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -432,6 +438,126 @@ public class FilterToOperationConverterTest {
         assertEquals(new IsLessThan(8, false), entityPostAggFilters.get(1).getPredicate());
     }
 
+    @Test
+    public void testSpecifyMultipleVertices() {
+        final Schema schema = getSchema();
+
+        final Filter[] filters = new Filter[1];
+        filters[0] = new Or(new EqualTo(SchemaToStructTypeConverter.VERTEX_COL_NAME, "0"),
+                new In(SchemaToStructTypeConverter.VERTEX_COL_NAME, new Object[]{"1", "2", null}));
+        final FiltersToOperationConverter converter = new FiltersToOperationConverter(
+                getViewFromSchema(schema), schema, filters);
+
+        final Operation operation = converter.getOperation();
+        assertTrue(operation instanceof GetRDDOfElements);
+        assertEquals(Collections.singleton(ENTITY_GROUP), ((GraphFilters) operation).getView().getEntityGroups());
+        assertEquals(0, ((GraphFilters) operation).getView().getEdgeGroups().size());
+        final Set<EntityId> seeds = new HashSet<>();
+        for (final Object seed : ((GetRDDOfElements) operation).getInput()) {
+            seeds.add((EntitySeed) seed);
+        }
+        assertEquals(new HashSet<>(Arrays.asList(new EntitySeed("0"), new EntitySeed("1"), new EntitySeed("2"))),
+                seeds);
+        assertThat(converter.getUnhandledFilters()).isEmpty();
+    }
+
+    @Test
+    public void testSpecifyMultipleSourcesOrDestinations() {
+        final Schema schema = getSchema();
+
+        final Filter[] filters = new Filter[1];
+        filters[0] = new Or(new EqualTo(SchemaToStructTypeConverter.SRC_COL_NAME, "0"),
+                new EqualTo(SchemaToStructTypeConverter.DST_COL_NAME, "1"));
+        final FiltersToOperationConverter converter = new FiltersToOperationConverter(
+                getViewFromSchema(schema), schema, filters);
+
+        final Operation operation = converter.getOperation();
+        assertTrue(operation instanceof GetRDDOfElements);
+        assertEquals(0, ((GraphFilters) operation).getView().getEntityGroups().size());
+        assertEquals(EDGE_GROUPS, ((GraphFilters) operation).getView().getEdgeGroups());
+        final Set<EntityId> seeds = new HashSet<>();
+        for (final Object seed : ((GetRDDOfElements) operation).getInput()) {
+            seeds.add((EntitySeed) seed);
+        }
+        assertEquals(new HashSet<>(Arrays.asList(new EntitySeed("0"), new EntitySeed("1"))), seeds);
+        // Seeds for edges also match the other end of the edge, so Spark must still apply the filter
+        assertArrayEquals(filters, converter.getUnhandledFilters());
+    }
+
+    @Test
+    public void testSpecifyPropertyDisjunction() {
+        final Schema schema = getSchema();
+
+        final Filter[] filters = new Filter[1];
+        filters[0] = new Or(new GreaterThan("property1", 5), new LessThan("property4", 8L));
+        final FiltersToOperationConverter converter = new FiltersToOperationConverter(getViewFromSchema(schema),
+                schema, filters);
+
+        final Operation operation = converter.getOperation();
+        assertTrue(operation instanceof GetRDDOfAllElements);
+        final View opView = ((GraphFilters) operation).getView();
+        final ElementFilter entityFilter = opView.getEntity(ENTITY_GROUP).getPostAggregationFilter();
+        assertThat(entityFilter.getComponents()).hasSize(1);
+        assertArrayEquals(new String[]{"property1", "property4"}, entityFilter.getComponents().get(0).getSelection());
+        assertTrue(entityFilter.test(getEntity(6, 10L)));
+        assertTrue(entityFilter.test(getEntity(1, 2L)));
+        assertFalse(entityFilter.test(getEntity(1, 10L)));
+        // BasicEdge2 doesn't have property4, so only the left side of the Or can be true
+        final List<TupleAdaptedPredicate<String, ?>> edge2PostAggFilters = opView.getEdge(EDGE_GROUP2)
+                .getPostAggregationFilterFunctions();
+        assertThat(edge2PostAggFilters).hasSize(1);
+        assertArrayEquals(new String[]{"property1"}, edge2PostAggFilters.get(0).getSelection());
+        assertEquals(new IsMoreThan(5, false), edge2PostAggFilters.get(0).getPredicate());
+        assertArrayEquals(filters, converter.getUnhandledFilters());
+    }
+
+    @Test
+    public void testSpecifyNegatedPropertyFilter() {
+        final Schema schema = getSchema();
+
+        final Filter[] filters = new Filter[2];
+        filters[0] = new Not(new EqualTo("property4", 8L));
+        filters[1] = new EqualTo(SchemaToStructTypeConverter.GROUP, ENTITY_GROUP);
+        final FiltersToOperationConverter converter = new FiltersToOperationConverter(getViewFromSchema(schema),
+                schema, filters);
+
+        final Operation operation = converter.getOperation();
+        assertTrue(operation instanceof GetRDDOfAllElements);
+        final View opView = ((GraphFilters) operation).getView();
+        assertEquals(Collections.singleton(ENTITY_GROUP), opView.getEntityGroups());
+        assertEquals(0, opView.getEdgeGroups().size());
+        final ElementFilter entityFilter = opView.getEntity(ENTITY_GROUP).getPostAggregationFilter();
+        assertTrue(entityFilter.test(getEntity(1, 9L)));
+        assertFalse(entityFilter.test(getEntity(1, 8L)));
+        assertFalse(entityFilter.test(new Entity.Builder().group(ENTITY_GROUP).vertex("0").build()));
+        assertArrayEquals(new Filter[]{filters[0]}, converter.getUnhandledFilters());
+    }
+
+    @Test
+    public void testStringFilterIsNotConvertedForNonStringProperty() {
+        final Schema schema = getSchema();
+
+        final Filter[] filters = new Filter[1];
+        filters[0] = new StringStartsWith("property4", "1");
+        final FiltersToOperationConverter converter = new FiltersToOperationConverter(getViewFromSchema(schema),
+                schema, filters);
+
+        final Operation operation = converter.getOperation();
+        assertTrue(operation instanceof GetRDDOfAllElements);
+        final View opView = ((GraphFilters) operation).getView();
+        assertThat(opView.getEntity(ENTITY_GROUP).getPostAggregationFilterFunctions()).isNullOrEmpty();
+        assertThat(opView.getEdge(EDGE_GROUP).getPostAggregationFilterFunctions()).isNullOrEmpty();
+    }
+
+    private Entity getEntity(final int property1, final long property4) {
+        return new Entity.Builder()
+                .group(ENTITY_GROUP)
+                .vertex("0")
+                .property("property1", property1)
+                .property("property4", property4)
+                .build();
+    }
+
     private Schema getSchema() {
         return Schema.fromJson(StreamUtil.schemas(getClass()));
     }
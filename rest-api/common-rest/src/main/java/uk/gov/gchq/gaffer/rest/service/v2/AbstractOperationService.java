@@ -25,6 +25,7 @@ import uk.gov.gchq.gaffer.graph.GraphResult;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.rest.SystemProperty;
 import uk.gov.gchq.gaffer.rest.factory.ExamplesFactory;
 import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
@@ -111,6 +112,18 @@ public abstract class AbstractOperationService {
         return new Pair<>(result.getResult(), result.getContext().getJobId());
     }
 
+    /**
+     * @return the number of results to serialise and write in each chunk when
+     * streaming chunked results, configured using {@link SystemProperty#CHUNKED_BATCH_SIZE}.
+     */
+    protected int getChunkedBatchSize() {
+        final int batchSize = Integer.parseInt(System.getProperty(SystemProperty.CHUNKED_BATCH_SIZE, SystemProperty.CHUNKED_BATCH_SIZE_DEFAULT));
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(SystemProperty.CHUNKED_BATCH_SIZE + " must be at least 1, but was: " + batchSize);
+        }
+        return batchSize;
+    }
+
     protected Operation generateExampleJson(final Class<? extends Operation> opClass) throws IllegalAccessException, InstantiationException {
         return getExamplesFactory().generateExample(opClass);
     }
@@ -17,7 +17,6 @@
 package uk.gov.gchq.gaffer.rest.service.v2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.glassfish.jersey.server.ChunkedOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +28,7 @@ import uk.gov.gchq.gaffer.core.exception.Error;
 import uk.gov.gchq.gaffer.core.exception.Status;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.rest.SystemProperty;
 import uk.gov.gchq.gaffer.rest.factory.ExamplesFactory;
 import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
@@ -39,6 +39,12 @@ import javax.inject.Inject;
 import javax.ws.rs.core.Response;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
@@ -56,6 +62,9 @@ import static uk.gov.gchq.gaffer.rest.ServiceConstants.JOB_ID_HEADER;
  */
 public class OperationServiceV2 extends AbstractOperationService implements IOperationServiceV2 {
     private static final Logger LOGGER = LoggerFactory.getLogger(OperationServiceV2.class);
+    private static final String CHUNK_DELIMITER = "\r\n";
+
+    private static ExecutorService chunkedExecutor;
 
     @Inject
     private GraphFactory graphFactory;
@@ -96,36 +105,59 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
         return executeChunkedChain(OperationChain.wrap(operation));
     }
 
-    @SuppressFBWarnings
     @Override
     public Response executeChunkedChain(final OperationChain opChain) {
         // Create chunked output instance
-        final Throwable[] threadException = new Throwable[1];
-        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class, "\r\n");
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class, CHUNK_DELIMITER);
         final Context context = userFactory.createContext();
 
-        // create thread to write chunks to the chunked output object
-        Thread thread = new Thread(() -> {
+        // Execute the chain on the chunked executor and write the results to the chunked output
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final Future<?> task = getChunkedExecutor().submit(() -> {
             try {
-                final Object result = _execute(opChain, context).getFirst();
-                chunkResult(result, output);
+                result.complete(_execute(opChain, context).getFirst());
             } catch (final Exception e) {
-                throw new RuntimeException(e);
+                result.completeExceptionally(e);
+            }
+            try {
+                if (!result.isCompletedExceptionally()) {
+                    chunkResult(result.join(), output);
+                }
             } finally {
                 CloseableUtil.close(output);
                 CloseableUtil.close(opChain);
             }
         });
 
-        // By default threads throw nothing, so set the ExceptionHandler
-        thread.setUncaughtExceptionHandler((thread1, exception) -> threadException[0] = exception.getCause());
-
-        thread.start();
-
-        // Sleep to check exception will be caught
+        // Wait for the result to be available, so any exception can be returned
         try {
-            Thread.sleep(1000);
+            result.get();
         } catch (final InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return createChunkedErrorResponse(e);
+        } catch (final ExecutionException e) {
+            return createChunkedErrorResponse(e.getCause());
+        }
+
+        // Return ok output
+        return Response.ok(output)
+                .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
+                .build();
+    }
+
+    private Response createChunkedErrorResponse(final Throwable e) {
+        // If there was an UnauthorisedException thrown return 403, else return a 500
+        if (e instanceof UnauthorisedException) {
+            return Response.status(INTERNAL_SERVER_ERROR)
+                    .entity(new Error.ErrorBuilder()
+                            .status(Status.FORBIDDEN)
+                            .statusCode(403)
+                            .simpleMessage(e.getMessage())
+                            .build())
+                    .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
+                    .build();
+        } else {
             return Response.status(INTERNAL_SERVER_ERROR)
                     .entity(new Error.ErrorBuilder()
                             .status(Status.INTERNAL_SERVER_ERROR)
@@ -135,34 +167,23 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
                     .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
                     .build();
         }
+    }
 
-        // If there was an UnauthorisedException thrown return 403, else return a 500
-        if (null != threadException[0]) {
-            if (threadException.getClass().equals(UnauthorisedException.class)) {
-                return Response.status(INTERNAL_SERVER_ERROR)
-                        .entity(new Error.ErrorBuilder()
-                                .status(Status.FORBIDDEN)
-                                .statusCode(403)
-                                .simpleMessage(threadException[0].getMessage())
-                                .build())
-                        .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
-                        .build();
-            } else {
-                return Response.status(INTERNAL_SERVER_ERROR)
-                        .entity(new Error.ErrorBuilder()
-                                .status(Status.INTERNAL_SERVER_ERROR)
-                                .statusCode(500)
-                                .simpleMessage(threadException[0].getMessage())
-                                .build())
-                        .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
-                        .build();
-            }
+    /**
+     * @return the executor shared by all requests for streaming chunked results,
+     * sized using {@link SystemProperty#CHUNKED_THREADS}.
+     */
+    protected static synchronized ExecutorService getChunkedExecutor() {
+        if (null == chunkedExecutor) {
+            final int threads = Integer.parseInt(System.getProperty(SystemProperty.CHUNKED_THREADS, SystemProperty.CHUNKED_THREADS_DEFAULT));
+            final AtomicInteger threadCount = new AtomicInteger();
+            chunkedExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                final Thread thread = new Thread(runnable, "chunked-output-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
         }
-
-        // Return ok output
-        return Response.ok(output)
-                .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
-                .build();
+        return chunkedExecutor;
     }
 
     @Override
@@ -256,12 +277,40 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
         // no action by default
     }
 
+    /**
+     * Writes the result to the chunked output, serialising Iterable results in
+     * batches of {@link #getChunkedBatchSize()} items per chunk. Writing stops
+     * and the result is closed if the output is closed, e.g. when the client
+     * disconnects.
+     *
+     * @param result the operation result
+     * @param output the chunked output to write to
+     */
     protected void chunkResult(final Object result, final ChunkedOutput<String> output) {
         if (result instanceof Iterable) {
             final Iterable itr = (Iterable) result;
             try {
+                final int batchSize = getChunkedBatchSize();
+                final StringBuilder batch = new StringBuilder();
+                int batchCount = 0;
                 for (final Object item : itr) {
-                    output.write(mapper.writeValueAsString(item));
+                    if (output.isClosed()) {
+                        LOGGER.debug("Chunked output has been closed, cancelling the remaining results");
+                        break;
+                    }
+                    if (batchCount > 0) {
+                        batch.append(CHUNK_DELIMITER);
+                    }
+                    batch.append(mapper.writeValueAsString(item));
+                    batchCount++;
+                    if (batchCount == batchSize) {
+                        output.write(batch.toString());
+                        batch.setLength(0);
+                        batchCount = 0;
+                    }
+                }
+                if (batchCount > 0 && !output.isClosed()) {
+                    output.write(batch.toString());
                 }
             } catch (final IOException ioe) {
                 LOGGER.warn("IOException (chunks)", ioe);
@@ -17,11 +17,14 @@
 package uk.gov.gchq.gaffer.rest.service.impl;
 
 import org.glassfish.jersey.client.ChunkedInput;
+import org.glassfish.jersey.server.ChunkedOutput;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.data.GroupCounts;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
@@ -34,6 +37,7 @@ import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.rest.AbstractRestApiIT;
 import uk.gov.gchq.gaffer.rest.SystemProperty;
+import uk.gov.gchq.gaffer.rest.service.v2.OperationServiceV2;
 
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
@@ -41,12 +45,19 @@ import javax.ws.rs.core.Response;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
 
 public abstract class OperationServiceIT extends AbstractRestApiIT {
 
@@ -56,6 +67,12 @@ public abstract class OperationServiceIT extends AbstractRestApiIT {
         System.clearProperty(SystemProperty.USER_FACTORY_CLASS);
     }
 
+    @BeforeEach
+    @AfterEach
+    public void clearChunkedBatchSizeSystemProperty() {
+        System.clearProperty(SystemProperty.CHUNKED_BATCH_SIZE);
+    }
+
     @Test
     public void shouldReturnNamedOpDetailWithLabelWhenLabelIsAddedToNamedOp() throws Exception {
         // Given
@@ -188,6 +205,74 @@ public abstract class OperationServiceIT extends AbstractRestApiIT {
         assertThat(results).isEmpty();
     }
 
+    @Test
+    public void shouldReturnAllChunkedOperationElementsWhenSplitIntoBatches() throws IOException {
+        // Given
+        System.setProperty(SystemProperty.CHUNKED_BATCH_SIZE, "2");
+        client.addElements(DEFAULT_ELEMENTS);
+
+        // When
+        final Response response = client.executeOperationChunked(new GetAllElements());
+
+        // Then
+        final List<Element> results = readChunkedElements(response);
+
+        verifyElements(DEFAULT_ELEMENTS, results);
+    }
+
+    @Test
+    public void shouldReturnFirstChunkWithoutWaiting() throws IOException {
+        // Given
+        client.addElements(DEFAULT_ELEMENTS);
+        final long startTime = System.currentTimeMillis();
+
+        // When
+        final Response response = client.executeOperationChunked(new GetAllElements());
+        final ChunkedInput<Element> input = response.readEntity(new GenericType<ChunkedInput<Element>>() { });
+        final Element firstResult = input.read();
+        final long duration = System.currentTimeMillis() - startTime;
+        input.close();
+
+        // Then
+        assertThat(firstResult).isIn((Object[]) DEFAULT_ELEMENTS);
+        // The chunked response used to be held back by a one second sleep
+        assertThat(duration).isLessThan(1000L);
+    }
+
+    @Test
+    public void shouldWriteChunkedResultsInBatchesOfTheConfiguredBatchSize() throws IOException {
+        // Given
+        System.setProperty(SystemProperty.CHUNKED_BATCH_SIZE, "2");
+        final List<String> chunks = new ArrayList<>();
+        final ChunkedOutput<String> output = createChunkedOutput(chunks, Integer.MAX_VALUE);
+        final RecordingResults results = new RecordingResults(5, chunks);
+
+        // When
+        new ChunkingOperationService().chunk(results, output);
+
+        // Then
+        assertThat(chunks).containsExactly("1\r\n2", "3\r\n4", "5");
+        assertThat(results.getChunksWrittenBeforeEachResult()).containsExactly(0, 0, 1, 1, 2);
+        assertThat(results.isClosed()).isTrue();
+    }
+
+    @Test
+    public void shouldStopReadingAndCloseResultsWhenTheChunkedOutputIsClosed() throws IOException {
+        // Given
+        System.setProperty(SystemProperty.CHUNKED_BATCH_SIZE, "2");
+        final List<String> chunks = new ArrayList<>();
+        final ChunkedOutput<String> output = createChunkedOutput(chunks, 1);
+        final RecordingResults results = new RecordingResults(10, chunks);
+
+        // When
+        new ChunkingOperationService().chunk(results, output);
+
+        // Then
+        assertThat(chunks).containsExactly("1\r\n2");
+        assertThat(results.getChunksWrittenBeforeEachResult()).hasSize(3);
+        assertThat(results.isClosed()).isTrue();
+    }
+
     @Test
     public void shouldThrowErrorOnAddElements() throws IOException {
         // Given
@@ -230,9 +315,79 @@ public abstract class OperationServiceIT extends AbstractRestApiIT {
         return results;
     }
 
+    /**
+     * Creates a chunked output which records the chunks written to it, and
+     * reports itself as closed once the given number of chunks have been
+     * written, as if the client had disconnected.
+     */
+    @SuppressWarnings("unchecked")
+    private ChunkedOutput<String> createChunkedOutput(final List<String> chunks, final int chunksBeforeClose) throws IOException {
+        final ChunkedOutput<String> output = mock(ChunkedOutput.class);
+        given(output.isClosed()).willAnswer(invocation -> chunks.size() >= chunksBeforeClose);
+        willAnswer(invocation -> chunks.add(invocation.getArgument(0))).given(output).write(anyString());
+        return output;
+    }
+
     private void verifyGroupCounts(final GroupCounts groupCounts) {
         assertEquals(2, (int) groupCounts.getEntityGroups().get(TestGroups.ENTITY));
         assertEquals(1, (int) groupCounts.getEdgeGroups().get(TestGroups.EDGE));
         assertFalse(groupCounts.isLimitHit());
     }
+
+    private static final class ChunkingOperationService extends OperationServiceV2 {
+        private void chunk(final Object result, final ChunkedOutput<String> output) {
+            chunkResult(result, output);
+        }
+    }
+
+    /**
+     * Results which record how many chunks had been written when each result
+     * was read, and whether they have been closed.
+     */
+    private static final class RecordingResults implements CloseableIterable<Object> {
+        private final List<Integer> results;
+        private final List<String> chunks;
+        private final List<Integer> chunksWrittenBeforeEachResult = new ArrayList<>();
+        private boolean closed;
+
+        private RecordingResults(final int resultCount, final List<String> chunks) {
+            this.results = IntStream.rangeClosed(1, resultCount).boxed().collect(Collectors.toList());
+            this.chunks = chunks;
+        }
+
+        @Override
+        public CloseableIterator<Object> iterator() {
+            final Iterator<Integer> itr = results.iterator();
+            return new CloseableIterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return itr.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    chunksWrittenBeforeEachResult.add(chunks.size());
+                    return itr.next();
+                }
+
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private List<Integer> getChunksWrittenBeforeEachResult() {
+            return chunksWrittenBeforeEachResult;
+        }
+
+        private boolean isClosed() {
+            return closed;
+        }
+    }
 }
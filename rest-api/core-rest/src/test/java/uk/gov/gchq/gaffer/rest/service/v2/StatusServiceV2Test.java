@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.rest.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import uk.gov.gchq.gaffer.commonutil.exception.UnauthorisedException;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
+import uk.gov.gchq.gaffer.rest.factory.UserFactory;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.user.User;
+
+import javax.ws.rs.core.Response;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class StatusServiceV2Test {
+    private static final String ADMIN_AUTH = "admin";
+
+    @InjectMocks
+    private StatusServiceV2 service;
+
+    @Mock
+    private GraphFactory graphFactory;
+
+    @Mock
+    private UserFactory userFactory;
+
+    private Graph graph;
+
+    @BeforeEach
+    public void setUp() {
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setAdminAuth(ADMIN_AUTH);
+        graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("graphId")
+                        .build())
+                .storeProperties(properties)
+                .addSchema(new Schema.Builder()
+                        .entity("BasicEntity", new SchemaEntityDefinition.Builder()
+                                .vertex("string")
+                                .build())
+                        .type("string", String.class)
+                        .build())
+                .build();
+        given(graphFactory.getGraph()).willReturn(graph);
+    }
+
+    @Test
+    public void shouldReturnMetricsToAdminUser() throws Exception {
+        // Given
+        final User admin = new User.Builder().userId("admin").opAuth(ADMIN_AUTH).build();
+        graph.execute(new GetAllElements(), admin);
+        given(userFactory.createContext()).willReturn(new Context(admin));
+
+        // When
+        final Response response = service.metrics();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat((Map<String, Object>) response.getEntity())
+                .containsKey("operation." + GetAllElements.class.getName() + ".latency");
+    }
+
+    @Test
+    public void shouldNotReturnMetricsToUserWithoutAdminAuth() {
+        // Given
+        given(userFactory.createContext()).willReturn(new Context(new User.Builder().userId("user").build()));
+
+        // When / Then
+        assertThatExceptionOfType(UnauthorisedException.class)
+                .isThrownBy(() -> service.metrics());
+    }
+}
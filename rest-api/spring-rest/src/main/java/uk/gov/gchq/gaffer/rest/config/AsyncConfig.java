@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.rest.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+
+import uk.gov.gchq.gaffer.rest.SystemProperty;
+
+/**
+ * The {@code AsyncConfig} runs streamed responses, such as chunked operation
+ * results, on a bounded thread pool rather than creating a thread per request.
+ */
+@Configuration
+public class AsyncConfig {
+
+    private Environment environment;
+
+    @Autowired
+    public void setEnvironment(final Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor chunkedOutputExecutor() {
+        final int threads = Integer.parseInt(environment.getProperty(SystemProperty.CHUNKED_THREADS, SystemProperty.CHUNKED_THREADS_DEFAULT));
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("chunked-output-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean
+    public WebMvcConfigurer asyncConfigurer(final ThreadPoolTaskExecutor chunkedOutputExecutor) {
+        return new WebMvcConfigurerAdapter() {
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(chunkedOutputExecutor);
+            }
+        };
+    }
+}
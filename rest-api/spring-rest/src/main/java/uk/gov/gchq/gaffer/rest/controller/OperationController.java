@@ -18,6 +18,8 @@ package uk.gov.gchq.gaffer.rest.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiParam;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -38,6 +40,7 @@ import uk.gov.gchq.gaffer.rest.model.OperationDetail;
 import uk.gov.gchq.gaffer.rest.service.v2.AbstractOperationService;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Set;
 
 import static uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser.createDefaultMapper;
@@ -47,6 +50,8 @@ import static uk.gov.gchq.gaffer.rest.ServiceConstants.JOB_ID_HEADER;
 
 @RestController
 public class OperationController extends AbstractOperationService implements IOperationController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationController.class);
+    private static final String CHUNK_DELIMITER = "\r\n";
 
     private final GraphFactory graphFactory;
     private final UserFactory userFactory;
@@ -137,20 +142,37 @@ public class OperationController extends AbstractOperationService implements IOp
 
     @Override
     public ResponseEntity<StreamingResponseBody> executeChunked(@RequestBody final Operation operation) {
+        final Pair<Object, String> resultAndJobId;
+        try {
+            resultAndJobId = _execute(operation, userFactory.createContext());
+        } catch (final RuntimeException e) {
+            CloseableUtil.close(operation);
+            throw e;
+        }
+        final Object result = resultAndJobId.getFirst();
+
         StreamingResponseBody responseBody = response -> {
             try {
-                Pair<Object, String> resultAndJobId = _execute(operation, userFactory.createContext());
-                Object result = resultAndJobId.getFirst();
                 if (result instanceof Iterable) {
                     final Iterable itr = (Iterable) result;
                     try {
+                        final int batchSize = getChunkedBatchSize();
+                        final StringBuilder batch = new StringBuilder();
+                        int batchCount = 0;
                         for (final Object item : itr) {
-                            String itemString = mapper.writeValueAsString(item) + "\r\n";
-                            response.write(itemString.getBytes());
-                            response.flush();
+                            batch.append(mapper.writeValueAsString(item)).append(CHUNK_DELIMITER);
+                            batchCount++;
+                            if (batchCount == batchSize) {
+                                writeChunk(batch, response);
+                                batchCount = 0;
+                            }
+                        }
+                        if (batchCount > 0) {
+                            writeChunk(batch, response);
                         }
                     } catch (final IOException ioe) {
-                        throw new GafferRuntimeException("Unable to serialise chunk: ", ioe, Status.INTERNAL_SERVER_ERROR);
+                        // The client has disconnected, so stop retrieving results
+                        LOGGER.warn("Unable to write chunk, cancelling the remaining results", ioe);
                     } finally {
                         CloseableUtil.close(itr);
                     }
@@ -162,8 +184,6 @@ public class OperationController extends AbstractOperationService implements IOp
                         throw new GafferRuntimeException("Unable to serialise chunk: ", ioe, Status.INTERNAL_SERVER_ERROR);
                     }
                 }
-            } catch (final Exception e) {
-                throw new GafferRuntimeException("Unable to create chunk: ", e, Status.INTERNAL_SERVER_ERROR);
             } finally {
                 CloseableUtil.close(operation);
             }
@@ -171,10 +191,17 @@ public class OperationController extends AbstractOperationService implements IOp
 
         return ResponseEntity.ok()
                 .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
+                .header(JOB_ID_HEADER, resultAndJobId.getSecond())
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(responseBody);
     }
 
+    private void writeChunk(final StringBuilder batch, final OutputStream response) throws IOException {
+        response.write(batch.toString().getBytes());
+        response.flush();
+        batch.setLength(0);
+    }
+
     @Override
     protected UserFactory getUserFactory() {
         return userFactory;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 Crown Copyright
+ * Copyright 2020-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package uk.gov.gchq.gaffer.rest.integration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
@@ -25,18 +26,24 @@ import org.springframework.util.LinkedMultiValueMap;
 
 import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.core.exception.Error;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.federatedstore.operation.GetAllGraphIds;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.job.GetAllJobDetails;
+import uk.gov.gchq.gaffer.rest.SystemProperty;
+import uk.gov.gchq.gaffer.rest.controller.OperationController;
 import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.MockGraphFactory;
 import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.StoreProperties;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
@@ -44,11 +51,21 @@ import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
 import uk.gov.gchq.koryphe.impl.binaryoperator.StringConcat;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.gchq.gaffer.cache.util.CacheProperties.CACHE_SERVICE_CLASS;
 import static uk.gov.gchq.gaffer.core.exception.Status.SERVICE_UNAVAILABLE;
@@ -59,10 +76,17 @@ public class OperationControllerIT extends AbstractRestApiIT {
     @Autowired
     private GraphFactory graphFactory; // This will be a Mock (see application-test.properties)
 
+    @Autowired
+    private OperationController operationController;
+
     private MockGraphFactory getGraphFactory() {
         return (MockGraphFactory) graphFactory;
     }
 
+    @After
+    public void clearChunkedBatchSize() {
+        System.clearProperty(SystemProperty.CHUNKED_BATCH_SIZE);
+    }
 
     @Test
     public void shouldReturnHelpfulErrorMessageIfJsonIsIncorrect() {
@@ -238,4 +262,144 @@ public class OperationControllerIT extends AbstractRestApiIT {
         String expected = mapper.writeValueAsString(ent1) + "\r\n" + mapper.writeValueAsString(ent2) + "\r\n";
         assertEquals(expected, response.getBody());
     }
+
+    @Test
+    public void shouldStreamExecuteChunkedResultsInBatchesOfTheConfiguredBatchSize() throws Exception {
+        // Given
+        System.setProperty(SystemProperty.CHUNKED_BATCH_SIZE, "2");
+        final RecordingOutputStream response = new RecordingOutputStream(Integer.MAX_VALUE);
+        final RecordingResults results = new RecordingResults(5, response);
+        when(getGraphFactory().getGraph()).thenReturn(createGraphReturning(results));
+
+        // When
+        operationController.executeChunked(new GetAllElements()).getBody().writeTo(response);
+
+        // Then
+        assertThat(response.getChunks()).containsExactly("1\r\n2\r\n", "3\r\n4\r\n", "5\r\n");
+        assertThat(results.isClosed()).isTrue();
+    }
+
+    @Test
+    public void shouldWriteFirstChunkBeforeReadingTheRemainingResults() throws Exception {
+        // Given
+        System.setProperty(SystemProperty.CHUNKED_BATCH_SIZE, "2");
+        final RecordingOutputStream response = new RecordingOutputStream(Integer.MAX_VALUE);
+        final RecordingResults results = new RecordingResults(5, response);
+        when(getGraphFactory().getGraph()).thenReturn(createGraphReturning(results));
+
+        // When
+        operationController.executeChunked(new GetAllElements()).getBody().writeTo(response);
+
+        // Then
+        assertThat(results.getChunksWrittenBeforeEachResult()).containsExactly(0, 0, 1, 1, 2);
+    }
+
+    @Test
+    public void shouldStopReadingAndCloseResultsWhenTheResponseIsClosed() throws Exception {
+        // Given
+        System.setProperty(SystemProperty.CHUNKED_BATCH_SIZE, "2");
+        final RecordingOutputStream response = new RecordingOutputStream(1);
+        final RecordingResults results = new RecordingResults(10, response);
+        when(getGraphFactory().getGraph()).thenReturn(createGraphReturning(results));
+
+        // When
+        operationController.executeChunked(new GetAllElements()).getBody().writeTo(response);
+
+        // Then
+        assertThat(response.getChunks()).containsExactly("1\r\n2\r\n");
+        assertThat(results.getChunksWrittenBeforeEachResult()).hasSize(4);
+        assertThat(results.isClosed()).isTrue();
+    }
+
+    private Graph createGraphReturning(final Object result) throws Exception {
+        final Store store = mock(Store.class);
+        when(store.getSchema()).thenReturn(new Schema());
+        when(store.getProperties()).thenReturn(new StoreProperties());
+        when(store.execute(any(OperationChain.class), any(Context.class))).thenReturn(result);
+        return new Graph.Builder()
+                .config(new GraphConfig("id"))
+                .store(store)
+                .build();
+    }
+
+    /**
+     * Records each chunk written to the response, failing any writes after
+     * the given number of chunks as if the client had disconnected.
+     */
+    private static final class RecordingOutputStream extends OutputStream {
+        private final int chunksBeforeClose;
+        private final List<String> chunks = new ArrayList<>();
+
+        private RecordingOutputStream(final int chunksBeforeClose) {
+            this.chunksBeforeClose = chunksBeforeClose;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (chunks.size() >= chunksBeforeClose) {
+                throw new IOException("Connection closed");
+            }
+            chunks.add(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+
+        private List<String> getChunks() {
+            return chunks;
+        }
+    }
+
+    /**
+     * Results which record how many chunks had been written when each result
+     * was read, and whether they have been closed.
+     */
+    private static final class RecordingResults implements CloseableIterable<Object> {
+        private final List<Integer> results;
+        private final RecordingOutputStream response;
+        private final List<Integer> chunksWrittenBeforeEachResult = new ArrayList<>();
+        private boolean closed;
+
+        private RecordingResults(final int resultCount, final RecordingOutputStream response) {
+            this.results = IntStream.rangeClosed(1, resultCount).boxed().collect(Collectors.toList());
+            this.response = response;
+        }
+
+        @Override
+        public CloseableIterator<Object> iterator() {
+            final Iterator<Integer> itr = results.iterator();
+            return new CloseableIterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return itr.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    chunksWrittenBeforeEachResult.add(response.getChunks().size());
+                    return itr.next();
+                }
+
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private List<Integer> getChunksWrittenBeforeEachResult() {
+            return chunksWrittenBeforeEachResult;
+        }
+
+        private boolean isClosed() {
+            return closed;
+        }
+    }
 }
@@ -45,6 +45,8 @@ public class AccumuloProperties extends StoreProperties {
     public static final String NAMESPACE = "accumulo.namespace";
     public static final String THREADS_FOR_BATCH_SCANNER = "accumulo.batchScannerThreads";
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER = "accumulo.entriesForBatchScanner";
+    public static final String PREFETCH_DEPTH_FOR_BATCH_SCANNER = "accumulo.batchScannerPrefetchDepth";
+    public static final String LAZY_ELEMENT_LOADING = "accumulo.lazyElementLoading";
     public static final String CLIENT_SIDE_BLOOM_FILTER_SIZE = "accumulo.clientSideBloomFilterSize";
     public static final String FALSE_POSITIVE_RATE = "accumulo.falsePositiveRate";
     public static final String MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR = "accumulo.maxBloomFilterToPassToAnIterator";
@@ -58,6 +60,8 @@ public class AccumuloProperties extends StoreProperties {
     // default values
     private static final String NUM_THREADS_FOR_BATCH_WRITER_DEFAULT = "10";
     private static final String MAX_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "50000";
+    private static final String PREFETCH_DEPTH_FOR_BATCH_SCANNER_DEFAULT = "0";
+    private static final String LAZY_ELEMENT_LOADING_DEFAULT = "false";
     private static final String CLIENT_SIDE_BLOOM_FILTER_SIZE_DEFAULT = "838860800";
     private static final String FALSE_POSITIVE_RATE_DEFAULT = "0.0002";
     private static final String MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR_DEFAULT = "8388608";
@@ -303,6 +307,49 @@ public class AccumuloProperties extends StoreProperties {
         set(MAX_ENTRIES_FOR_BATCH_SCANNER, maxEntriesForBatchScanner);
     }
 
+    /**
+     * Gets the number of batches of seeds that should be scanned ahead of the
+     * batch currently being read. A value of 0 means each batch is only
+     * scanned once the previous batch has been fully read.
+     *
+     * @return An integer representing the number of batches to scan ahead.
+     */
+    public int getPrefetchDepthForBatchScanner() {
+        return Integer.parseInt(get(PREFETCH_DEPTH_FOR_BATCH_SCANNER, PREFETCH_DEPTH_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the number of batches of seeds that should be scanned ahead of the
+     * batch currently being read.
+     *
+     * @param prefetchDepthForBatchScanner the number of batches to scan ahead.
+     */
+    public void setPrefetchDepthForBatchScanner(final String prefetchDepthForBatchScanner) {
+        set(PREFETCH_DEPTH_FOR_BATCH_SCANNER, prefetchDepthForBatchScanner);
+    }
+
+    /**
+     * Gets the flag determining whether retrievers should lazily deserialise
+     * element properties, so that only the properties required by the view's
+     * transformer, post transform filter and returned properties are
+     * deserialised.
+     *
+     * @return true if element properties should be lazily deserialised.
+     */
+    public boolean getLazyElementLoading() {
+        return Boolean.parseBoolean(get(LAZY_ELEMENT_LOADING, LAZY_ELEMENT_LOADING_DEFAULT));
+    }
+
+    /**
+     * Sets the flag determining whether retrievers should lazily deserialise
+     * element properties.
+     *
+     * @param lazyElementLoading true if element properties should be lazily deserialised.
+     */
+    public void setLazyElementLoading(final boolean lazyElementLoading) {
+        set(LAZY_ELEMENT_LOADING, Boolean.toString(lazyElementLoading));
+    }
+
     /**
      * Gets the size that should be used for the creation of bloom filters on the
      * client side.
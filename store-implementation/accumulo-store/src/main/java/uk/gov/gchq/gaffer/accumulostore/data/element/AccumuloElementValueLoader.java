@@ -60,15 +60,19 @@ public abstract class AccumuloElementValueLoader implements ElementValueLoader {
             }
         }
 
-        final Properties props;
+        // Group by and value properties are deserialised individually, so
+        // properties that are never requested are never deserialised.
         if (eDef.getGroupBy().contains(name)) {
-            props = elementConverter.getPropertiesFromColumnQualifier(group, key.getColumnQualifierData().getBackingArray());
-        } else if (name.equals(schema.getVisibilityProperty())) {
+            return elementConverter.getPropertyFromColumnQualifier(group, name, key.getColumnQualifierData().getBackingArray());
+        }
+
+        final Properties props;
+        if (name.equals(schema.getVisibilityProperty())) {
             props = elementConverter.getPropertiesFromColumnVisibility(group, key.getColumnVisibilityData().getBackingArray());
         } else if (name.equals(timestampProperty)) {
             props = elementConverter.getPropertiesFromTimestamp(group, key.getTimestamp());
         } else {
-            props = elementConverter.getPropertiesFromValue(group, value);
+            return elementConverter.getPropertyFromValue(group, name, value);
         }
         lazyProperties.putAll(props);
         return props.get(name);
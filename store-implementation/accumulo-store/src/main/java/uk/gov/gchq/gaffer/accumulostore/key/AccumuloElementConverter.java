@@ -95,6 +95,20 @@ public interface AccumuloElementConverter {
      */
     Properties getPropertiesFromValue(final String group, final Value value);
 
+    /**
+     * Gets a single property stored within an Accumulo {@link Value}.
+     * Implementations should avoid deserialising the other properties in the
+     * value where possible.
+     *
+     * @param group        the element group
+     * @param propertyName the name of the property to get
+     * @param value        the Value containing the serialised properties
+     * @return the deserialised property, or null if it is not stored in the value
+     */
+    default Object getPropertyFromValue(final String group, final String propertyName, final Value value) {
+        return getPropertiesFromValue(group, value).get(propertyName);
+    }
+
     /**
      * Gets a new {@link ElementId} from an Accumulo {@link Key}.
      *
@@ -168,6 +182,20 @@ public interface AccumuloElementConverter {
      */
     Properties getPropertiesFromColumnQualifier(final String group, final byte[] columnQualifier);
 
+    /**
+     * Gets a single property stored within the column qualifier.
+     * Implementations should avoid deserialising the other properties in the
+     * column qualifier where possible.
+     *
+     * @param group           the element group
+     * @param propertyName    the name of the property to get
+     * @param columnQualifier the element column qualifier properties serialised into bytes
+     * @return the deserialised property, or null if it is not stored in the column qualifier
+     */
+    default Object getPropertyFromColumnQualifier(final String group, final String propertyName, final byte[] columnQualifier) {
+        return getPropertiesFromColumnQualifier(group, columnQualifier).get(propertyName);
+    }
+
     /**
      * Truncates the provided columnQualifier, returning the byte representation of the serialised version of the specified
      * properties.
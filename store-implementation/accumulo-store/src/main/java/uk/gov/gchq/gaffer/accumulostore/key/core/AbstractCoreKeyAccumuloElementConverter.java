@@ -39,6 +39,8 @@ import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
+import uk.gov.gchq.gaffer.serialisation.util.LengthValueBytesSerialiserUtil;
+import uk.gov.gchq.gaffer.serialisation.util.ThreadLocalBuffer;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
@@ -52,6 +54,9 @@ import java.util.Set;
 
 @SuppressWarnings("unchecked")
 public abstract class AbstractCoreKeyAccumuloElementConverter implements AccumuloElementConverter {
+    private static final ThreadLocalBuffer ELEMENT_BUFFER = new ThreadLocalBuffer();
+    private static final ThreadLocalBuffer PROPERTY_BUFFER = new ThreadLocalBuffer();
+
     protected final Schema schema;
     private final String timestampProperty;
     private final Set<String> aggregatedGroups;
@@ -119,7 +124,7 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @SuppressWarnings("Convert2streamapi")
     @Override
     public Value getValueFromProperties(final String group, final Properties properties) {
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stream = ELEMENT_BUFFER.get();
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         for (final String propertyName : elementDefinition.getProperties()) {
@@ -159,6 +164,23 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         return properties;
     }
 
+    @Override
+    public Object getPropertyFromValue(final String group, final String propertyName, final Value value) {
+        if (!isNotEmpty(value)) {
+            return null;
+        }
+
+        final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
+        if (!isStoredInValue(propertyName, elementDefinition)) {
+            return null;
+        }
+
+        final Iterator<String> propertyNames = elementDefinition.getProperties().stream()
+                .filter(name -> isStoredInValue(name, elementDefinition))
+                .iterator();
+        return getDeserialisedProperty(value.get(), propertyNames, elementDefinition, propertyName);
+    }
+
     @Override
     public Element getElementFromKey(final Key key, final boolean includeMatchedVertex) {
         final byte[] row = key.getRowData().getBackingArray();
@@ -249,7 +271,7 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
 
     @Override
     public byte[] buildColumnQualifier(final String group, final Properties properties) {
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stream = ELEMENT_BUFFER.get();
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         for (final String groupByPropertyName : elementDefinition.getGroupBy()) {
@@ -271,15 +293,8 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         try {
             final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
             final ToBytesSerialiser serialiser = (null == typeDefinition) ? null : (ToBytesSerialiser) typeDefinition.getSerialiser();
-            byte[] bytes;
-            if (null == serialiser) {
-                bytes = AccumuloStoreConstants.EMPTY_BYTES;
-            } else {
-                Object value = properties.get(propertyName);
-                //serialiseNull could be different to AccumuloStoreConstants.EMPTY_BYTES
-                bytes = (null == value) ? serialiser.serialiseNull() : serialiser.serialise(value);
-            }
-            writeBytes(bytes, stream);
+            //serialiseNull could be different to AccumuloStoreConstants.EMPTY_BYTES
+            LengthValueBytesSerialiserUtil.serialise(serialiser, properties.get(propertyName), stream, PROPERTY_BUFFER.get());
         } catch (final IOException e) {
             throw new AccumuloElementConversionException("Failed to write serialised property to ByteArrayOutputStream" + propertyName, e);
         }
@@ -305,6 +320,53 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         return properties;
     }
 
+    @Override
+    public Object getPropertyFromColumnQualifier(final String group, final String propertyName, final byte[] columnQualifier) {
+        if (null == columnQualifier || columnQualifier.length == 0) {
+            return null;
+        }
+
+        final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
+        if (!elementDefinition.getGroupBy().contains(propertyName)) {
+            return null;
+        }
+
+        return getDeserialisedProperty(columnQualifier, elementDefinition.getGroupBy().iterator(), elementDefinition, propertyName);
+    }
+
+    /**
+     * Deserialises a single property from length-value encoded bytes. The
+     * properties before the requested property are skipped using their
+     * lengths rather than being deserialised.
+     */
+    private Object getDeserialisedProperty(final byte[] bytes, final Iterator<String> propertyNames, final SchemaElementDefinition elementDefinition, final String propertyName) {
+        int delimiterPosition = 0;
+        while (propertyNames.hasNext() && delimiterPosition < bytes.length) {
+            final String name = propertyNames.next();
+            final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(name);
+            final ToBytesSerialiser serialiser = (null != typeDefinition) ? (ToBytesSerialiser) typeDefinition.getSerialiser() : null;
+            if (null == serialiser) {
+                // Properties without a serialiser are not read by addDeserialisedProperty, so are skipped here too
+                if (name.equals(propertyName)) {
+                    return null;
+                }
+                continue;
+            }
+
+            final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[delimiterPosition]);
+            final int currentPropLength = getCurrentPropLength(bytes, delimiterPosition);
+            if (name.equals(propertyName)) {
+                try {
+                    return getDeserialisedObject(serialiser, bytes, delimiterPosition + numBytesForLength, currentPropLength);
+                } catch (final SerialisationException e) {
+                    throw new AccumuloElementConversionException("Failed to deserialise property " + propertyName, e);
+                }
+            }
+            delimiterPosition += numBytesForLength + currentPropLength;
+        }
+        return null;
+    }
+
     private int addDeserialisedProperty(final byte[] bytes, final int carriage, final Properties properties, final SchemaElementDefinition elementDefinition, final String propertyName) throws SerialisationException {
         int rtn = carriage;
         final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
@@ -492,12 +554,6 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
                 && !propertyName.equals(timestampProperty);
     }
 
-    private void writeBytes(final byte[] bytes, final ByteArrayOutputStream out)
-            throws IOException {
-        CompactRawSerialisationUtils.write(bytes.length, out);
-        out.write(bytes);
-    }
-
     private Object getDeserialisedObject(final ToBytesSerialiser serialiser, final byte[] bytes, final int from, final int length) throws SerialisationException {
         //Don't initialise with  #deserialiseEmpty() as this might initialise an complex empty structure to be immediately overwritten e.g. TreeSet<String>
         Object deserialisedObject;
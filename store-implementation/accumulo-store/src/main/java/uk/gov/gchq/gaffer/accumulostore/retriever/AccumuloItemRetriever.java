@@ -32,6 +32,7 @@ import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.EmptyCloseableIterator;
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
 import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
@@ -40,7 +41,9 @@ import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -88,36 +91,35 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
 
     protected abstract void addToRanges(final I_ITEM seed, final Set<Range> ranges) throws RangeFactoryException;
 
+    /**
+     * Iterates over the elements for batches of ids. When the store's
+     * {@link uk.gov.gchq.gaffer.accumulostore.AccumuloProperties#getPrefetchDepthForBatchScanner()}
+     * is greater than 0, the scanners for that many following batches are
+     * started while the current batch is read, so Accumulo can serve them
+     * without waiting for the current batch to be consumed.
+     */
     protected class ElementIterator implements CloseableIterator<Element> {
         private final Iterator<? extends I_ITEM> idsIterator;
-        private int count;
+        private final Deque<Pair<BatchScanner, Iterator<Entry<Key, Value>>>> prefetchedScanners = new ArrayDeque<>();
+        private final int prefetchDepth;
         private BatchScanner scanner;
         private Iterator<Entry<Key, Value>> scannerIterator;
         private Element nextElm;
 
         public ElementIterator(final Iterator<? extends I_ITEM> idIterator) throws RetrieverException {
             idsIterator = idIterator;
-            count = 0;
-            final Set<Range> ranges = new HashSet<>();
-            while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
-                count++;
-                try {
-                    addToRanges(idsIterator.next(), ranges);
-                } catch (final RangeFactoryException e) {
-                    LOGGER.error("Failed to create a range from given seed pair", e);
-                }
-            }
+            prefetchDepth = store.getProperties().getPrefetchDepthForBatchScanner();
 
             // Create BatchScanner, appropriately configured (i.e. ranges,
             // iterators, etc).
             try {
-                scanner = getScanner(ranges);
+                updateScanner();
             } catch (final Exception e) {
+                close();
                 CloseableUtil.close(idsIterator);
                 CloseableUtil.close(ids);
                 throw new RetrieverException(e);
             }
-            scannerIterator = scanner.iterator();
         }
 
         @Override
@@ -129,7 +131,7 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
             while (scannerIterator.hasNext()) {
                 final Entry<Key, Value> entry = scannerIterator.next();
                 try {
-                    nextElm = elementConverter.getFullElement(
+                    nextElm = getElement(
                             entry.getKey(),
                             entry.getValue(),
                             includeMatchedVertex);
@@ -140,35 +142,24 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
                 }
                 doTransformation(nextElm);
                 if (doPostFilter(nextElm)) {
+                    nextElm = loadElement(nextElm);
                     ViewUtil.removeProperties(operation.getView(), nextElm);
                     return true;
                 } else {
                     nextElm = null;
                 }
             }
-            // If current scanner is spent then go back to the iterator
-            // through the provided entities, and see if there are more.
-            // If so create the next scanner, if there are no more entities
-            // then return false.
-            while (idsIterator.hasNext() && !scannerIterator.hasNext()) {
-                count = 0;
-                final Set<Range> ranges = new HashSet<>();
-                while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
-                    count++;
-                    try {
-                        addToRanges(idsIterator.next(), ranges);
-                    } catch (final RangeFactoryException e) {
-                        LOGGER.error("Failed to create a range from given seed", e);
-                    }
-                }
-                scanner.close();
+            // If current scanner is spent then move on to the next prefetched
+            // scanner, or go back to the iterator through the provided
+            // entities and see if there are more. If so create the next
+            // scanner, if there are no more entities then return false.
+            while ((!prefetchedScanners.isEmpty() || idsIterator.hasNext()) && !scannerIterator.hasNext()) {
                 try {
-                    scanner = getScanner(ranges);
+                    updateScanner();
                 } catch (final TableNotFoundException | StoreException e) {
                     LOGGER.error("{} returning iterator doesn't have any more elements", e.getMessage(), e);
                     return false;
                 }
-                scannerIterator = scanner.iterator();
             }
             if (!scannerIterator.hasNext()) {
                 scanner.close();
@@ -200,6 +191,43 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
             if (null != scanner) {
                 scanner.close();
             }
+            for (final Pair<BatchScanner, Iterator<Entry<Key, Value>>> prefetchedScanner : prefetchedScanners) {
+                prefetchedScanner.getFirst().close();
+            }
+            prefetchedScanners.clear();
+        }
+
+        private void updateScanner() throws TableNotFoundException, StoreException {
+            if (null != scanner) {
+                scanner.close();
+            }
+            if (prefetchedScanners.isEmpty()) {
+                prefetchedScanners.add(createScanner());
+            }
+            final Pair<BatchScanner, Iterator<Entry<Key, Value>>> next = prefetchedScanners.poll();
+            scanner = next.getFirst();
+            scannerIterator = next.getSecond();
+
+            // Creating the scanner iterator starts the scan, so the following
+            // batches are read in the background while this one is consumed.
+            while (prefetchedScanners.size() < prefetchDepth && idsIterator.hasNext()) {
+                prefetchedScanners.add(createScanner());
+            }
+        }
+
+        private Pair<BatchScanner, Iterator<Entry<Key, Value>>> createScanner() throws TableNotFoundException, StoreException {
+            int count = 0;
+            final Set<Range> ranges = new HashSet<>();
+            while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
+                count++;
+                try {
+                    addToRanges(idsIterator.next(), ranges);
+                } catch (final RangeFactoryException e) {
+                    LOGGER.error("Failed to create a range from given seed", e);
+                }
+            }
+            final BatchScanner batchScanner = getScanner(ranges);
+            return new Pair<>(batchScanner, batchScanner.iterator());
         }
     }
 }
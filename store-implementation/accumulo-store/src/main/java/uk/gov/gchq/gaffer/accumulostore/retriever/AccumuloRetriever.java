@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,25 +19,34 @@ package uk.gov.gchq.gaffer.accumulostore.retriever;
 import org.apache.accumulo.core.client.BatchScanner;
 import org.apache.accumulo.core.client.IteratorSetting;
 import org.apache.accumulo.core.client.TableNotFoundException;
+import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.security.Authorizations;
 import org.apache.hadoop.io.Text;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.data.element.AccumuloEdgeValueLoader;
+import uk.gov.gchq.gaffer.accumulostore.data.element.AccumuloEntityValueLoader;
 import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
 import uk.gov.gchq.gaffer.accumulostore.key.IteratorSettingFactory;
 import uk.gov.gchq.gaffer.accumulostore.key.RangeFactory;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.LazyEdge;
+import uk.gov.gchq.gaffer.data.element.LazyEntity;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.util.LazyElementUtil;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Set;
@@ -54,6 +63,8 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
     protected final OP operation;
     protected final AccumuloElementConverter elementConverter;
     protected final IteratorSetting[] iteratorSettings;
+    protected final boolean lazyElementLoading;
+    private final String elementsMetricName = "retriever." + getClass().getName() + ".elements";
 
     protected AccumuloRetriever(final AccumuloStore store, final OP operation,
                                 final User user, final IteratorSetting... iteratorSettings)
@@ -65,6 +76,7 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         this.operation = operation;
         this.iteratorSettings = iteratorSettings;
         this.user = user;
+        this.lazyElementLoading = store.getProperties().getLazyElementLoading();
         if (null != user && null != user.getDataAuths()) {
             this.authorisations = new Authorizations(
                     user.getDataAuths().toArray(new String[user.getDataAuths().size()]));
@@ -73,6 +85,45 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         }
     }
 
+    /**
+     * Converts an Accumulo key and value into an element. If lazy element
+     * loading is enabled then the returned element only deserialises its
+     * identifiers and properties when they are requested, and
+     * {@link #loadElement(Element)} should be called on it once it has been
+     * transformed and filtered.
+     *
+     * @param key                  the Accumulo key
+     * @param value                the Accumulo value
+     * @param includeMatchedVertex if true then the matchedVertex field is set on Edges
+     * @return the element
+     */
+    protected Element getElement(final Key key, final Value value, final boolean includeMatchedVertex) {
+        if (!lazyElementLoading) {
+            return elementConverter.getFullElement(key, value, includeMatchedVertex);
+        }
+
+        final String group = elementConverter.getGroupFromColumnFamily(key.getColumnFamilyData().getBackingArray());
+        if (store.getSchema().isEntity(group)) {
+            return new LazyEntity(new Entity(group), new AccumuloEntityValueLoader(group, key, value, elementConverter, store.getSchema()));
+        }
+        return new LazyEdge(new Edge(group, null, null, false), new AccumuloEdgeValueLoader(group, key, value, elementConverter, store.getSchema(), includeMatchedVertex));
+    }
+
+    /**
+     * Deserialises the identifiers and the properties that will be kept by
+     * the view for an element created by
+     * {@link #getElement(Key, Value, boolean)}, and returns the loaded element.
+     * This should be called once for each element returned by the retriever
+     * as it also counts the returned elements.
+     *
+     * @param element the element to load
+     * @return the loaded element
+     */
+    protected Element loadElement(final Element element) {
+        store.getMetricsRegistry().incrementCounter(elementsMetricName, 1);
+        return LazyElementUtil.load(element, store.getSchema(), operation.getView());
+    }
+
     /**
      * Performs any transformations specified in a view on an element
      *
@@ -46,9 +46,13 @@ import uk.gov.gchq.gaffer.operation.io.InputOutput;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -171,7 +175,7 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
         addToBloomFilter(seed.getVertex(), filter2);
     }
 
-    private void addToBloomFilter(final Object vertex, final BloomFilter filter) throws RetrieverException {
+    protected void addToBloomFilter(final Object vertex, final BloomFilter filter) throws RetrieverException {
         try {
             filter.add(new org.apache.hadoop.util.bloom.Key(elementConverter.serialiseVertex(vertex)));
         } catch (final AccumuloElementConversionException e) {
@@ -274,6 +278,15 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
 
     }
 
+    /**
+     * Iterates over the elements for batches of seeds. When the store's
+     * {@link uk.gov.gchq.gaffer.accumulostore.AccumuloProperties#getPrefetchDepthForBatchScanner()}
+     * is greater than 0, the scanners for that many following batches are
+     * started while the current batch is read. The seeds of a prefetched
+     * batch are only added to the current seeds and the client side Bloom
+     * filter once that batch is read, so results are the same as when the
+     * batches are scanned one after another.
+     */
     protected abstract class AbstractElementIteratorFromBatches implements CloseableIterator<Element> {
         protected Iterator<? extends EntityId> idsAIterator;
         // The Bloom filter that is maintained client-side
@@ -282,6 +295,8 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
         protected Set<Object> currentSeeds;
         protected BatchScanner scanner;
         protected BloomFilter filter;
+        private final Deque<ScannerBatch> prefetchedBatches = new ArrayDeque<>();
+        private final int prefetchDepth;
         private Iterator<Entry<Key, Value>> scannerIterator;
         private Element nextElm;
         private int count;
@@ -294,6 +309,7 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
                     store.getProperties().getMaxEntriesForBatchScanner(),
                     store.getProperties().getMaxBloomFilterToPassToAnIterator());
             currentSeeds = new HashSet<>();
+            prefetchDepth = store.getProperties().getPrefetchDepthForBatchScanner();
         }
 
         @Override
@@ -305,7 +321,7 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
                 while (_hasNext()) {
                     final Entry<Key, Value> entry = scannerIterator.next();
                     try {
-                        nextElm = elementConverter.getFullElement(entry.getKey(), entry.getValue(), true);
+                        nextElm = getElement(entry.getKey(), entry.getValue(), true);
                     } catch (final AccumuloElementConversionException e) {
                         LOGGER.error("Failed to create next element from key and value entry set", e);
                         continue;
@@ -313,6 +329,7 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
                     if (secondaryCheck(nextElm)) {
                         doTransformation(nextElm);
                         if (doPostFilter(nextElm)) {
+                            nextElm = loadElement(nextElm);
                             ViewUtil.removeProperties(operation.getView(), nextElm);
                             return true;
                         }
@@ -347,19 +364,64 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
         @Override
         public void close() {
             CloseableUtil.close(scanner);
+            for (final ScannerBatch prefetchedBatch : prefetchedBatches) {
+                prefetchedBatch.scanner.close();
+            }
+            prefetchedBatches.clear();
         }
 
+        /**
+         * Updates the Bloom filter passed to the iterators with a seed, as
+         * the batch containing the seed is prepared.
+         *
+         * @param seed the seed
+         * @throws RetrieverException if the seed could not be added
+         */
         protected abstract void updateBloomFilterIfRequired(final EntityId seed) throws RetrieverException;
 
+        /**
+         * Updates the client side Bloom filter with a seed, as the batch
+         * containing the seed starts to be read.
+         *
+         * @param seed the seed
+         * @throws RetrieverException if the seed could not be added
+         */
+        protected void updateClientSideFilterIfRequired(final EntityId seed) throws RetrieverException {
+            // no action by default
+        }
+
         protected void updateScanner() throws RetrieverException {
-            // Read through the first N entities (where N =
+            if (nonNull(scanner)) {
+                scanner.close();
+            }
+            if (prefetchedBatches.isEmpty()) {
+                prefetchedBatches.add(createBatch());
+            }
+            final ScannerBatch batch = prefetchedBatches.poll();
+            scanner = batch.scanner;
+            scannerIterator = batch.scannerIterator;
+            for (final EntityId seed : batch.seeds) {
+                currentSeeds.add(seed.getVertex());
+                updateClientSideFilterIfRequired(seed);
+            }
+
+            // Creating the scanner iterator starts the scan, so the following
+            // batches are read in the background while this one is consumed.
+            while (prefetchedBatches.size() < prefetchDepth && idsAIterator.hasNext()) {
+                prefetchedBatches.add(createBatch());
+            }
+        }
+
+        private ScannerBatch createBatch() throws RetrieverException {
+            // Read through the next N entities (where N =
             // maxEntriesForBatchScanner), create the associated ranges
             // and add them to a set.
             count = 0;
+            final List<EntityId> seeds = new ArrayList<>();
             final Set<Range> ranges = new HashSet<>();
             while (idsAIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
                 final EntityId seed = idsAIterator.next();
-                currentSeeds.add(seed.getVertex());
+                seeds.add(seed);
                 count++;
                 try {
                     ranges.addAll(rangeFactory.getRange(seed, operation));
@@ -369,19 +431,21 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
                 updateBloomFilterIfRequired(seed);
             }
 
+            final BatchScanner batchScanner;
             try {
-                scanner = getScanner(ranges);
+                batchScanner = getScanner(ranges);
             } catch (final TableNotFoundException | StoreException e) {
+                close();
                 CloseableUtil.close(idsAIterator);
                 CloseableUtil.close(operation);
                 throw new RetrieverException(e);
             }
             try {
-                scanner.addScanIterator(iteratorSettingFactory.getBloomFilterIteratorSetting(filter));
+                batchScanner.addScanIterator(iteratorSettingFactory.getBloomFilterIteratorSetting(filter));
             } catch (final IteratorSettingException e) {
                 LOGGER.error("Failed to apply the bloom filter iterator setting continuing without bloom filter", e);
             }
-            scannerIterator = scanner.iterator();
+            return new ScannerBatch(seeds, batchScanner, batchScanner.iterator());
         }
 
         /**
@@ -400,11 +464,12 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
             if (scannerIterator.hasNext()) {
                 return true;
             }
-            // If current scanner is spent then go back to the iterator
-            // through the provided entities, and see if there are more.
+            // If current scanner is spent then move on to the next prefetched
+            // batch, or go back to the iterator through the provided
+            // entities, and see if there are more.
             // If so create the next scanner, if there are no more entities
             // then return false.
-            while (idsAIterator.hasNext() && !scannerIterator.hasNext()) {
+            while ((!prefetchedBatches.isEmpty() || idsAIterator.hasNext()) && !scannerIterator.hasNext()) {
                 updateScanner();
             }
             if (!scannerIterator.hasNext()) {
@@ -412,5 +477,17 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
             }
             return scannerIterator.hasNext();
         }
+
+        private final class ScannerBatch {
+            private final List<EntityId> seeds;
+            private final BatchScanner scanner;
+            private final Iterator<Entry<Key, Value>> scannerIterator;
+
+            private ScannerBatch(final List<EntityId> seeds, final BatchScanner scanner, final Iterator<Entry<Key, Value>> scannerIterator) {
+                this.seeds = seeds;
+                this.scanner = scanner;
+                this.scannerIterator = scannerIterator;
+            }
+        }
     }
 }
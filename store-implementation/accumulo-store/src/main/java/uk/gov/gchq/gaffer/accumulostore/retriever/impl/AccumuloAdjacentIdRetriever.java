@@ -143,7 +143,7 @@ public class AccumuloAdjacentIdRetriever extends AccumuloRetriever<GetAdjacentId
                 if (transformGroups.contains(group)) {
                     final Element element;
                     try {
-                        element = elementConverter.getFullElement(
+                        element = getElement(
                                 entry.getKey(),
                                 entry.getValue(),
                                 true);
@@ -155,7 +155,7 @@ public class AccumuloAdjacentIdRetriever extends AccumuloRetriever<GetAdjacentId
                     if (null != element) {
                         doTransformation(element);
                         if (doPostFilter(element)) {
-                            elementId = element;
+                            elementId = loadElement(element);
                         }
                     }
                 } else {
@@ -258,6 +258,35 @@ public abstract class AbstractAccumuloElementConverterTest<T extends AccumuloEle
         assertEquals(8, deSerialisedProperties.get(AccumuloPropertyNames.COUNT));
     }
 
+    @Test
+    public void shouldGetSinglePropertyFromValue() {
+        Properties properties = new Properties();
+        properties.put(AccumuloPropertyNames.PROP_1, 60);
+        properties.put(AccumuloPropertyNames.PROP_3, 299);
+        properties.put(AccumuloPropertyNames.COUNT, 8);
+
+        final Value value = converter.getValueFromProperties(TestGroups.EDGE, properties);
+        assertEquals(60, converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_1, value));
+        assertNull(converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_2, value));
+        assertEquals(299, converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_3, value));
+        assertEquals(8, converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.COUNT, value));
+        assertNull(converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.COLUMN_QUALIFIER, value));
+    }
+
+    @Test
+    public void shouldGetSinglePropertyFromColumnQualifier() {
+        Properties properties = new Properties();
+        properties.put(AccumuloPropertyNames.COLUMN_QUALIFIER, 1);
+        properties.put(AccumuloPropertyNames.COLUMN_QUALIFIER_3, 3);
+        properties.put(AccumuloPropertyNames.COLUMN_QUALIFIER_4, 4);
+
+        final byte[] columnQualifier = converter.buildColumnQualifier(TestGroups.EDGE, properties);
+        assertEquals(1, converter.getPropertyFromColumnQualifier(TestGroups.EDGE, AccumuloPropertyNames.COLUMN_QUALIFIER, columnQualifier));
+        assertNull(converter.getPropertyFromColumnQualifier(TestGroups.EDGE, AccumuloPropertyNames.COLUMN_QUALIFIER_2, columnQualifier));
+        assertEquals(4, converter.getPropertyFromColumnQualifier(TestGroups.EDGE, AccumuloPropertyNames.COLUMN_QUALIFIER_4, columnQualifier));
+        assertNull(converter.getPropertyFromColumnQualifier(TestGroups.EDGE, AccumuloPropertyNames.PROP_1, columnQualifier));
+    }
+
     @Test
     public void shouldSerialiseAndDeSerialiseBetweenPropertyAndValueMissingEndProperty() {
         Properties properties = new Properties();
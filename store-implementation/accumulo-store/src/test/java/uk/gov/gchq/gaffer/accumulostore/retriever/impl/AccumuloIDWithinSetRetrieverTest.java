@@ -490,6 +490,18 @@ public class AccumuloIDWithinSetRetrieverTest {
         shouldLoadElementsWhenMoreElementsThanFitInBatchScanner(false, GAFFER_1_KEY_STORE);
     }
 
+    @Test
+    public void shouldReturnMoreElementsThanFitInBatchScannerWhenPrefetchingByteStore() throws StoreException {
+        BYTE_ENTITY_STORE.getProperties().setPrefetchDepthForBatchScanner("2");
+        shouldLoadElementsWhenMoreElementsThanFitInBatchScanner(false, BYTE_ENTITY_STORE);
+    }
+
+    @Test
+    public void shouldReturnMoreElementsThanFitInBatchScannerWhenPrefetchingGaffer1Store() throws StoreException {
+        GAFFER_1_KEY_STORE.getProperties().setPrefetchDepthForBatchScanner("2");
+        shouldLoadElementsWhenMoreElementsThanFitInBatchScanner(false, GAFFER_1_KEY_STORE);
+    }
+
     private void shouldLoadElementsWhenMoreElementsThanFitInBatchScanner(final boolean loadIntoMemory, final AccumuloStore store) throws StoreException {
         store.getProperties().setMaxEntriesForBatchScanner("1");
 
@@ -100,6 +100,13 @@ public class AccumuloSingleIDRetrieverTest {
         //Should find both i-B and i-C edges and entities i
     }
 
+    @Test
+    public void testEntityIdQueryEdgesAndEntitiesWhenPrefetchingBatches() throws AccumuloException, StoreException {
+        BYTE_ENTITY_STORE.getProperties().setMaxEntriesForBatchScanner("10");
+        BYTE_ENTITY_STORE.getProperties().setPrefetchDepthForBatchScanner("3");
+        testEntityIdQueryEdgesAndEntities(BYTE_ENTITY_STORE);
+    }
+
     @Test
     public void testEntityIdQueryEdgesOnly() throws AccumuloException, StoreException {
         testEntityIdQueryEdgesOnly(BYTE_ENTITY_STORE);
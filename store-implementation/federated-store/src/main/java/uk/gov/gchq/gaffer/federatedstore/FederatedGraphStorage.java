@@ -44,6 +44,8 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.Schema.Builder;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -53,7 +55,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -73,6 +78,15 @@ public class FederatedGraphStorage {
     private FederatedStoreCache federatedStoreCache = new FederatedStoreCache();
     private Boolean isCacheEnabled = false;
     private GraphLibrary graphLibrary;
+    /**
+     * Merged schemas and traits keyed by storage version, the ordered visible
+     * graphIds and the compact/currentTraits flag. The version is incremented
+     * whenever the graphs in storage change, so merges started before a change
+     * are never served after it.
+     */
+    private final AtomicLong storageVersion = new AtomicLong();
+    private final Map<List<Object>, Schema> mergedSchemaCache = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Set<StoreTrait>> mergedTraitsCache = new ConcurrentHashMap<>();
 
     protected void startCacheServiceLoader() throws StorageException {
         if (CacheServiceLoader.isEnabled()) {
@@ -132,6 +146,7 @@ public class FederatedGraphStorage {
                 } else {
                     existingGraphs.add(builtGraph);
                 }
+                invalidateMergedCaches();
             } catch (final Exception e) {
                 throw new StorageException("Error adding graph " + graphId + " to storage due to: " + e.getMessage(), e);
             }
@@ -223,6 +238,9 @@ public class FederatedGraphStorage {
                         }
                         graphs.removeAll(remove);
                     }
+                    if (isRemoved) {
+                        invalidateMergedCaches();
+                    }
                     return isRemoved;
                 })
                 .collect(Collectors.toSet())
@@ -268,28 +286,30 @@ public class FederatedGraphStorage {
         }
 
         final List<String> graphIds = FederatedStoreUtil.getGraphIds(operation.getOptions());
-        final Stream<Graph> graphs = getStream(context.getUser(), graphIds);
-        final Builder schemaBuilder = new Builder();
-        try {
-            if (operation.isCompact()) {
-                final GetSchema getSchema = new GetSchema.Builder()
-                        .compact(true)
-                        .build();
-                graphs.forEach(g -> {
-                    try {
-                        schemaBuilder.merge(g.execute(getSchema, context));
-                    } catch (final OperationException e) {
-                        throw new RuntimeException("Unable to fetch schema from graph " + g.getGraphId(), e);
-                    }
-                });
-            } else {
-                graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
+        final List<Graph> graphs = getStream(context.getUser(), graphIds).collect(Collectors.toList());
+        final boolean compact = operation.isCompact();
+        return getMerged(mergedSchemaCache, graphs, compact, () -> {
+            final Builder schemaBuilder = new Builder();
+            try {
+                if (compact) {
+                    final GetSchema getSchema = new GetSchema.Builder()
+                            .compact(true)
+                            .build();
+                    graphs.forEach(g -> {
+                        try {
+                            schemaBuilder.merge(g.execute(getSchema, context));
+                        } catch (final OperationException e) {
+                            throw new RuntimeException("Unable to fetch schema from graph " + g.getGraphId(), e);
+                        }
+                    });
+                } else {
+                    graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
+                }
+            } catch (final SchemaException e) {
+                throw new SchemaException("Unable to merge the schemas for all of your federated graphs: " + getGraphIds(graphs) + ". You can limit which graphs to query for using the operation option: " + KEY_OPERATION_OPTIONS_GRAPH_IDS, e);
             }
-        } catch (final SchemaException e) {
-            final List<String> resultGraphIds = getStream(context.getUser(), graphIds).map(Graph::getGraphId).collect(Collectors.toList());
-            throw new SchemaException("Unable to merge the schemas for all of your federated graphs: " + resultGraphIds + ". You can limit which graphs to query for using the operation option: " + KEY_OPERATION_OPTIONS_GRAPH_IDS, e);
-        }
-        return schemaBuilder.build();
+            return schemaBuilder.build();
+        });
     }
 
     /**
@@ -313,15 +333,16 @@ public class FederatedGraphStorage {
         }
 
         final List<String> graphIds = FederatedStoreUtil.getGraphIds(config);
-        final Stream<Graph> graphs = getStream(user, graphIds);
-        final Builder schemaBuilder = new Builder();
-        try {
-            graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
-        } catch (final SchemaException e) {
-            final List<String> resultGraphIds = getStream(user, graphIds).map(Graph::getGraphId).collect(Collectors.toList());
-            throw new SchemaException(String.format(UNABLE_TO_MERGE_THE_SCHEMAS_FOR_ALL_OF_YOUR_FEDERATED_GRAPHS, resultGraphIds, KEY_OPERATION_OPTIONS_GRAPH_IDS), e);
-        }
-        return schemaBuilder.build();
+        final List<Graph> graphs = getStream(user, graphIds).collect(Collectors.toList());
+        return getMerged(mergedSchemaCache, graphs, false, () -> {
+            final Builder schemaBuilder = new Builder();
+            try {
+                graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
+            } catch (final SchemaException e) {
+                throw new SchemaException(String.format(UNABLE_TO_MERGE_THE_SCHEMAS_FOR_ALL_OF_YOUR_FEDERATED_GRAPHS, getGraphIds(graphs), KEY_OPERATION_OPTIONS_GRAPH_IDS), e);
+            }
+            return schemaBuilder.build();
+        });
     }
 
     /**
@@ -338,30 +359,75 @@ public class FederatedGraphStorage {
      */
     @Deprecated
     public Set<StoreTrait> getTraits(final GetTraits op, final Context context) {
-        boolean firstPass = true;
         final Set<StoreTrait> traits = new HashSet<>();
         if (null != op) {
             final List<String> graphIds = FederatedStoreUtil.getGraphIds(op.getOptions());
             final Collection<Graph> graphs = get(context.getUser(), graphIds);
-            final GetTraits getTraits = op.shallowClone();
-            for (final Graph graph : graphs) {
-                try {
-                    Set<StoreTrait> execute = graph.execute(getTraits, context);
-                    if (firstPass) {
-                        traits.addAll(execute);
-                        firstPass = false;
-                    } else {
-                        traits.retainAll(execute);
+            traits.addAll(getMerged(mergedTraitsCache, graphs, op.isCurrentTraits(), () -> {
+                boolean firstPass = true;
+                final Set<StoreTrait> mergedTraits = new HashSet<>();
+                final GetTraits getTraits = op.shallowClone();
+                for (final Graph graph : graphs) {
+                    try {
+                        Set<StoreTrait> execute = graph.execute(getTraits, context);
+                        if (firstPass) {
+                            mergedTraits.addAll(execute);
+                            firstPass = false;
+                        } else {
+                            mergedTraits.retainAll(execute);
+                        }
+                    } catch (final OperationException e) {
+                        throw new RuntimeException("Unable to fetch traits from graph " + graph.getGraphId(), e);
                     }
-                } catch (final OperationException e) {
-                    throw new RuntimeException("Unable to fetch traits from graph " + graph.getGraphId(), e);
                 }
-            }
+                return Collections.unmodifiableSet(mergedTraits);
+            }));
         }
 
         return traits;
     }
 
+    /**
+     * Returns the merged value for the given graphs from the cache, merging and
+     * caching it if it is not already present. Exceptions thrown by the merge
+     * are not cached.
+     *
+     * @param cache  the cache of merged values
+     * @param graphs the graphs to merge, in merge order
+     * @param flag   any operation flag that changes the merged value
+     * @param merge  supplier to merge the graphs
+     * @param <T>    the type of the merged value
+     * @return the merged value
+     */
+    private <T> T getMerged(final Map<List<Object>, T> cache, final Collection<Graph> graphs, final boolean flag, final Supplier<T> merge) {
+        final long version = storageVersion.get();
+        final List<Object> key = Arrays.asList(version, getGraphIds(graphs), flag);
+        T merged = cache.get(key);
+        if (null == merged) {
+            merged = merge.get();
+            cache.put(key, merged);
+            if (version != storageVersion.get()) {
+                // storage changed during the merge so don't keep the result
+                cache.remove(key);
+            }
+        }
+        return merged;
+    }
+
+    private void invalidateMergedCaches() {
+        storageVersion.incrementAndGet();
+        mergedSchemaCache.clear();
+        mergedTraitsCache.clear();
+    }
+
+    private static List<String> getGraphIds(final Collection<Graph> graphs) {
+        final List<String> graphIds = new ArrayList<>(graphs.size());
+        for (final Graph graph : graphs) {
+            graphIds.add(graph.getGraphId());
+        }
+        return graphIds;
+    }
+
     private void validateAllGivenGraphIdsAreVisibleForUser(final User user, final Collection<String> graphIds) {
         if (null != graphIds) {
             final Collection<String> visibleIds = getAllIds(user);
@@ -563,6 +629,7 @@ public class FederatedGraphStorage {
                 entry.getValue().removeIf(graph -> graph.getGraphId().equals(graphId));
                 oldAccess = entry.getKey();
             }
+            invalidateMergedCaches();
 
             //add the graph being moved.
             this.put(new GraphSerialisable.Builder().graph(graphToMove).build(), newFederatedAccess);
@@ -608,6 +675,7 @@ public class FederatedGraphStorage {
                     break;
                 }
             }
+            invalidateMergedCaches();
 
             //Update Tables
             String storeClass = graphToMove.getStoreProperties().getStoreClass();
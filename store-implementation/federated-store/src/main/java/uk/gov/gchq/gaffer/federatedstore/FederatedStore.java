@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -92,6 +92,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
@@ -120,6 +125,7 @@ public class FederatedStore extends Store {
     private Boolean isPublicAccessAllowed = Boolean.valueOf(IS_PUBLIC_ACCESS_ALLOWED_DEFAULT);
     private static final List<Integer> ALL_IDS = new ArrayList<>();
     private final int id;
+    private ExecutorService graphExecutor;
 
     public FederatedStore() {
         Integer i = null;
@@ -144,6 +150,16 @@ public class FederatedStore extends Store {
         super.initialise(graphId, new Schema(), properties);
         customPropertiesAuths = getCustomPropertiesAuths();
         isPublicAccessAllowed = Boolean.valueOf(getProperties().getIsPublicAccessAllowed());
+        graphExecutor = createGraphExecutor();
+    }
+
+    /**
+     * Get the executor used to run operations on sub-graphs in parallel.
+     *
+     * @return the executor, or null if parallel execution is disabled.
+     */
+    public ExecutorService getGraphExecutor() {
+        return graphExecutor;
     }
 
     @Override
@@ -499,6 +515,29 @@ public class FederatedStore extends Store {
         }
     }
 
+    private ExecutorService createGraphExecutor() {
+        if (null != graphExecutor) {
+            graphExecutor.shutdown();
+        }
+
+        if (!getProperties().isParallelExecution()) {
+            return null;
+        }
+
+        final int threads = getProperties().getParallelExecutionThreads();
+        final int queueSize = getProperties().getParallelExecutionQueueSize();
+        final AtomicInteger threadCount = new AtomicInteger();
+        // When the queue is full the sub-graph execution is run in the calling thread, which also slows down callers
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueSize), runnable -> {
+            final Thread thread = new Thread(runnable, "federated-store-" + getGraphId() + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        // Allow idle threads to be released, so unused stores do not hold on to threads
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private Set<String> getCustomPropertiesAuths() {
         final String value = getProperties().getCustomPropsValue();
         return (Strings.isNullOrEmpty(value)) ? null : Sets.newHashSet(getCleanStrings(value));
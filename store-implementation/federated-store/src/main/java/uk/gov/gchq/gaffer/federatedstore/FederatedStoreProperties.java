@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,39 @@ public class FederatedStoreProperties extends StoreProperties {
     public static final String CACHE_SERVICE_CLASS = CacheProperties.CACHE_SERVICE_CLASS;
     public static final String CACHE_SERVICE_CLASS_DEFAULT = null;
 
+    /**
+     * If true, operations are executed on each sub-graph in parallel rather
+     * than one after another.
+     * e.g gaffer.federatedstore.parallel.execution=true
+     */
+    public static final String PARALLEL_EXECUTION = "gaffer.federatedstore.parallel.execution";
+    public static final String PARALLEL_EXECUTION_DEFAULT = String.valueOf(false);
+
+    /**
+     * The maximum number of sub-graph executions run at the same time when
+     * parallel execution is enabled.
+     * e.g gaffer.federatedstore.parallel.threads=10
+     */
+    public static final String PARALLEL_EXECUTION_THREADS = "gaffer.federatedstore.parallel.threads";
+    public static final String PARALLEL_EXECUTION_THREADS_DEFAULT = "10";
+
+    /**
+     * The maximum time to wait for each sub-graph when parallel execution is
+     * enabled. A value less than 1 means there is no timeout.
+     * e.g gaffer.federatedstore.parallel.timeoutInMilliseconds=60000
+     */
+    public static final String PARALLEL_EXECUTION_TIMEOUT = "gaffer.federatedstore.parallel.timeoutInMilliseconds";
+    public static final String PARALLEL_EXECUTION_TIMEOUT_DEFAULT = "0";
+
+    /**
+     * The maximum number of sub-graph executions waiting for a thread when
+     * parallel execution is enabled. When the queue is full, further
+     * executions are run in the calling thread.
+     * e.g gaffer.federatedstore.parallel.queueSize=100
+     */
+    public static final String PARALLEL_EXECUTION_QUEUE_SIZE = "gaffer.federatedstore.parallel.queueSize";
+    public static final String PARALLEL_EXECUTION_QUEUE_SIZE_DEFAULT = "100";
+
     public FederatedStoreProperties() {
         super(FederatedStore.class);
     }
@@ -94,4 +127,36 @@ public class FederatedStoreProperties extends StoreProperties {
     public void setGraphsCanHavePublicAccess(final boolean b) {
         set(IS_PUBLIC_ACCESS_ALLOWED, Boolean.toString(b));
     }
+
+    public boolean isParallelExecution() {
+        return Boolean.parseBoolean(get(PARALLEL_EXECUTION, PARALLEL_EXECUTION_DEFAULT));
+    }
+
+    public void setParallelExecution(final boolean parallelExecution) {
+        set(PARALLEL_EXECUTION, Boolean.toString(parallelExecution));
+    }
+
+    public int getParallelExecutionThreads() {
+        return Integer.parseInt(get(PARALLEL_EXECUTION_THREADS, PARALLEL_EXECUTION_THREADS_DEFAULT));
+    }
+
+    public void setParallelExecutionThreads(final int threads) {
+        set(PARALLEL_EXECUTION_THREADS, String.valueOf(threads));
+    }
+
+    public int getParallelExecutionQueueSize() {
+        return Integer.parseInt(get(PARALLEL_EXECUTION_QUEUE_SIZE, PARALLEL_EXECUTION_QUEUE_SIZE_DEFAULT));
+    }
+
+    public void setParallelExecutionQueueSize(final int queueSize) {
+        set(PARALLEL_EXECUTION_QUEUE_SIZE, String.valueOf(queueSize));
+    }
+
+    public long getParallelExecutionTimeout() {
+        return Long.parseLong(get(PARALLEL_EXECUTION_TIMEOUT, PARALLEL_EXECUTION_TIMEOUT_DEFAULT));
+    }
+
+    public void setParallelExecutionTimeout(final long timeoutInMilliseconds) {
+        set(PARALLEL_EXECUTION_TIMEOUT, String.valueOf(timeoutInMilliseconds));
+    }
 }
@@ -17,6 +17,8 @@
 package uk.gov.gchq.gaffer.federatedstore.operation.handler;
 
 import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor.GraphTask;
 import uk.gov.gchq.gaffer.federatedstore.util.FederatedStoreUtil;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.operation.Operation;
@@ -25,7 +27,9 @@ import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.KEY_OPERATION_OPTIONS_GRAPH_IDS;
 import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.getSkipFailedFederatedStoreExecute;
@@ -39,18 +43,17 @@ import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.getSkipF
 public class FederatedOperationHandler implements OperationHandler<Operation> {
     public Object doOperation(final Operation operation, final Context context, final Store store) throws OperationException {
         final Collection<Graph> graphs = ((FederatedStore) store).getGraphs(context.getUser(), operation.getOption(KEY_OPERATION_OPTIONS_GRAPH_IDS), operation);
+        final List<GraphTask<Object>> tasks = new ArrayList<>(graphs.size());
         for (final Graph graph : graphs) {
             final Operation updatedOp = FederatedStoreUtil.updateOperationForGraph(operation, graph);
             if (null != updatedOp) {
-                try {
-                    graph.execute(updatedOp, context);
-                } catch (final Exception e) {
-                    if (!Boolean.valueOf(getSkipFailedFederatedStoreExecute(updatedOp))) {
-                        throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, graph.getGraphId(), e), e);
-                    }
-                }
+                tasks.add(new GraphTask<>(graph.getGraphId(), Boolean.valueOf(getSkipFailedFederatedStoreExecute(updatedOp)), graphContext -> {
+                    graph.execute(updatedOp, graphContext);
+                    return null;
+                }));
             }
         }
+        FederatedGraphExecutor.execute((FederatedStore) store, operation, tasks, context);
         return null;
     }
 }
@@ -17,6 +17,8 @@
 package uk.gov.gchq.gaffer.federatedstore.operation.handler;
 
 import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor.GraphTask;
 import uk.gov.gchq.gaffer.federatedstore.util.FederatedStoreUtil;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -43,29 +45,24 @@ public abstract class FederatedOperationOutputHandler<OP extends Output<O>, O> i
 
     @Override
     public O doOperation(final OP operation, final Context context, final Store store) throws OperationException {
+        final List<O> results = FederatedGraphExecutor.execute((FederatedStore) store, operation, createGraphTasks(operation, context, store), context);
+        try {
+            return mergeResults(results, operation, context, store);
+        } catch (final Exception e) {
+            throw new OperationException(e);
+        }
+    }
+
+    protected List<GraphTask<O>> createGraphTasks(final OP operation, final Context context, final Store store) {
         final Collection<Graph> graphs = ((FederatedStore) store).getGraphs(context.getUser(), operation.getOption(KEY_OPERATION_OPTIONS_GRAPH_IDS), operation);
-        final List<O> results = new ArrayList<>(graphs.size());
+        final List<GraphTask<O>> tasks = new ArrayList<>(graphs.size());
         for (final Graph graph : graphs) {
             final OP updatedOp = FederatedStoreUtil.updateOperationForGraph(operation, graph);
             if (null != updatedOp) {
-                O execute = null;
-                try {
-                    execute = graph.execute(updatedOp, context);
-                } catch (final Exception e) {
-                    if (!Boolean.valueOf(getSkipFailedFederatedStoreExecute(updatedOp))) {
-                        throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, graph.getGraphId(), e), e);
-                    }
-                }
-                if (null != execute) {
-                    results.add(execute);
-                }
+                tasks.add(new GraphTask<>(graph.getGraphId(), Boolean.valueOf(getSkipFailedFederatedStoreExecute(updatedOp)), graphContext -> graph.execute(updatedOp, graphContext)));
             }
         }
-        try {
-            return mergeResults(results, operation, context, store);
-        } catch (final Exception e) {
-            throw new OperationException(e);
-        }
+        return tasks;
     }
 
     protected abstract O mergeResults(final List<O> results, final OP operation, final Context context, final Store store);
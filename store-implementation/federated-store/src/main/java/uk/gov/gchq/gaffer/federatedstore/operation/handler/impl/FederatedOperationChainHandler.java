@@ -21,6 +21,8 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
 import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
 import uk.gov.gchq.gaffer.federatedstore.operation.FederatedOperationChain;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor.GraphTask;
 import uk.gov.gchq.gaffer.federatedstore.util.FederatedStoreUtil;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.operation.OperationChain;
@@ -41,25 +43,16 @@ public class FederatedOperationChainHandler<I, O_ITEM> implements OutputOperatio
     @Override
     public CloseableIterable<O_ITEM> doOperation(final FederatedOperationChain<I, O_ITEM> operation, final Context context, final Store store) throws OperationException {
         final Collection<Graph> graphs = ((FederatedStore) store).getGraphs(context.getUser(), operation.getOption(KEY_OPERATION_OPTIONS_GRAPH_IDS), operation);
-        final List<Object> results = new ArrayList<>(graphs.size());
+        final List<GraphTask<Object>> tasks = new ArrayList<>(graphs.size());
         for (final Graph graph : graphs) {
             final OperationChain opChain = operation.getOperationChain();
             OperationHandlerUtil.updateOperationInput(opChain, operation.getInput());
             final OperationChain updatedOp = FederatedStoreUtil.updateOperationForGraph(opChain, graph);
             if (null != updatedOp) {
-                Object result = null;
-                try {
-                    result = graph.execute(updatedOp, context);
-                } catch (final Exception e) {
-                    if (!Boolean.valueOf(updatedOp.getOption(KEY_SKIP_FAILED_FEDERATED_STORE_EXECUTE))) {
-                        throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, graph.getGraphId(), e), e);
-                    }
-                }
-                if (null != result) {
-                    results.add(result);
-                }
+                tasks.add(new GraphTask<>(graph.getGraphId(), Boolean.valueOf(updatedOp.getOption(KEY_SKIP_FAILED_FEDERATED_STORE_EXECUTE)), graphContext -> graph.execute(updatedOp, graphContext)));
             }
         }
+        final List<Object> results = FederatedGraphExecutor.execute((FederatedStore) store, operation, tasks, context);
         return mergeResults(results, operation, context, store);
     }
 
@@ -16,24 +16,58 @@
 
 package uk.gov.gchq.gaffer.federatedstore.operation.handler.impl;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
 import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.EmptyClosableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterator;
+import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
 import uk.gov.gchq.gaffer.federatedstore.operation.handler.FederatedOperationOutputHandler;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor.PendingResult;
+import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
  * A generic handler for Operations with CloseableIterable of elements for FederatedStore.
  * Simply executes the operation on each delegate graph then chains the results together
  * using a {@link ChainedIterable}.
+ * <p>
+ * If the store executes graphs in parallel then the results of the first graph
+ * are returned as soon as they are available, while the other graphs are still
+ * running. Any failure of a later graph is then thrown when its results are
+ * reached.
+ * </p>
  *
  * @see FederatedOperationOutputHandler
  */
 public class FederatedOperationIterableHandler<OP extends Output<O>, O extends Iterable> extends FederatedOperationOutputHandler<OP, O> {
+    @Override
+    public O doOperation(final OP operation, final Context context, final Store store) throws OperationException {
+        final FederatedStore federatedStore = (FederatedStore) store;
+        if (null == federatedStore.getGraphExecutor()) {
+            return super.doOperation(operation, context, store);
+        }
+
+        final List<PendingResult<O>> pendingResults = FederatedGraphExecutor.submit(federatedStore, operation, createGraphTasks(operation, context, store), context);
+        if (pendingResults.isEmpty()) {
+            return (O) new EmptyClosableIterable<>();
+        }
+
+        final Iterable[] iterables = new Iterable[pendingResults.size()];
+        for (int i = 0; i < iterables.length; i++) {
+            iterables[i] = new PendingIterable<>(pendingResults.get(i));
+        }
+        return (O) new ChainedIterable<>(iterables);
+    }
+
     @Override
     protected O mergeResults(final List<O> results, final OP operation, final Context context, final Store store) {
         if (results.isEmpty()) {
@@ -43,4 +77,33 @@ public class FederatedOperationIterableHandler<OP extends Output<O>, O extends I
         // Concatenate all the results into 1 iterable
         return (O) new ChainedIterable<>(CollectionUtil.toIterableArray(results));
     }
+
+    /**
+     * An iterable that waits for the result of a graph when it is first iterated.
+     */
+    private static final class PendingIterable<T> implements CloseableIterable<T> {
+        private final PendingResult<? extends Iterable> pendingResult;
+        private Iterable result;
+
+        private PendingIterable(final PendingResult<? extends Iterable> pendingResult) {
+            this.pendingResult = pendingResult;
+        }
+
+        @Override
+        public CloseableIterator<T> iterator() {
+            try {
+                result = pendingResult.get();
+            } catch (final OperationException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+
+            return new WrappedCloseableIterator<>(null == result ? Collections.emptyIterator() : result.iterator());
+        }
+
+        @Override
+        public void close() {
+            pendingResult.cancel();
+            CloseableUtil.close(result);
+        }
+    }
 }
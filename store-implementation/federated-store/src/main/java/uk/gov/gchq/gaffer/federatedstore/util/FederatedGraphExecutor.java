@@ -0,0 +1,248 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.store.Context;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes an operation on each of the sub-graphs of a {@link FederatedStore}.
+ * <p>
+ * If the store has parallel execution enabled (see
+ * {@link uk.gov.gchq.gaffer.federatedstore.FederatedStoreProperties#PARALLEL_EXECUTION})
+ * then each sub-graph execution is submitted to the store's bounded graph executor,
+ * with its own shallow clone of the {@link Context} and its own copy of the
+ * context variables, and the optional per-graph
+ * timeout is applied when waiting for the result. Otherwise the graphs are
+ * executed one after another in the calling thread.
+ * </p>
+ * <p>
+ * In both modes the results are returned in the order of the tasks and the
+ * skip failed execute option of each task is honoured.
+ * </p>
+ */
+public final class FederatedGraphExecutor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FederatedGraphExecutor.class);
+
+    private FederatedGraphExecutor() {
+    }
+
+    /**
+     * Executes the tasks and waits for all of the results.
+     *
+     * @param store     the federated store
+     * @param operation the original operation, used for error messages
+     * @param tasks     the per-graph tasks to execute
+     * @param context   the context
+     * @param <O>       the result type
+     * @return the non-null results in task order
+     * @throws OperationException if a task fails and is not set to skip failures
+     */
+    public static <O> List<O> execute(final FederatedStore store, final Operation operation, final List<GraphTask<O>> tasks, final Context context) throws OperationException {
+        final List<PendingResult<O>> pendingResults = submit(store, operation, tasks, context);
+        final List<O> results = new ArrayList<>(pendingResults.size());
+        try {
+            for (final PendingResult<O> pendingResult : pendingResults) {
+                final O result = pendingResult.get();
+                if (null != result) {
+                    results.add(result);
+                }
+            }
+        } catch (final OperationException e) {
+            pendingResults.forEach(PendingResult::cancel);
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Submits the tasks without waiting for the results. In sequential mode the
+     * tasks are executed before this method returns.
+     *
+     * @param store     the federated store
+     * @param operation the original operation, used for error messages
+     * @param tasks     the per-graph tasks to execute
+     * @param context   the context
+     * @param <O>       the result type
+     * @return a pending result for each task, in task order
+     * @throws OperationException if a sequential task fails and is not set to skip failures
+     */
+    public static <O> List<PendingResult<O>> submit(final FederatedStore store, final Operation operation, final List<GraphTask<O>> tasks, final Context context) throws OperationException {
+        final List<PendingResult<O>> pendingResults = new ArrayList<>(tasks.size());
+        final ExecutorService executor = store.getGraphExecutor();
+        if (null == executor || tasks.size() < 2) {
+            for (final GraphTask<O> task : tasks) {
+                pendingResults.add(new PendingResult<>(operation, task, executeTask(operation, task, context)));
+            }
+        } else {
+            final long timeout = store.getProperties().getParallelExecutionTimeout();
+            for (final GraphTask<O> task : tasks) {
+                final Context graphContext = context.shallowClone();
+                // Each task gets its own copy of the variables, as the tasks run concurrently
+                if (null != context.getVariables()) {
+                    graphContext.setVariables(new HashMap<>(context.getVariables()));
+                }
+                final Future<O> future = executor.submit(() -> task.getExecution().execute(graphContext));
+                pendingResults.add(new PendingResult<>(operation, task, future, timeout > 0 ? System.currentTimeMillis() + timeout : 0));
+            }
+        }
+        return pendingResults;
+    }
+
+    private static <O> O executeTask(final Operation operation, final GraphTask<O> task, final Context context) throws OperationException {
+        try {
+            return task.getExecution().execute(context);
+        } catch (final Exception e) {
+            return handleFailure(operation, task, e);
+        }
+    }
+
+    private static <O> O handleFailure(final Operation operation, final GraphTask<O> task, final Exception e) throws OperationException {
+        if (!task.isSkipFailed()) {
+            throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, task.getGraphId(), e), e);
+        }
+        LOGGER.debug("Skipping failed execution of {} on graph {}", operation.getClass().getSimpleName(), task.getGraphId(), e);
+        return null;
+    }
+
+    /**
+     * The execution of an operation on a single graph.
+     *
+     * @param <O> the result type
+     */
+    @FunctionalInterface
+    public interface GraphExecution<O> {
+        O execute(final Context context) throws OperationException;
+    }
+
+    /**
+     * A task to execute an operation on a single graph.
+     *
+     * @param <O> the result type
+     */
+    public static final class GraphTask<O> {
+        private final String graphId;
+        private final boolean skipFailed;
+        private final GraphExecution<O> execution;
+
+        public GraphTask(final String graphId, final boolean skipFailed, final GraphExecution<O> execution) {
+            this.graphId = graphId;
+            this.skipFailed = skipFailed;
+            this.execution = execution;
+        }
+
+        public String getGraphId() {
+            return graphId;
+        }
+
+        public boolean isSkipFailed() {
+            return skipFailed;
+        }
+
+        public GraphExecution<O> getExecution() {
+            return execution;
+        }
+    }
+
+    /**
+     * The result of a {@link GraphTask} that may still be running.
+     *
+     * @param <O> the result type
+     */
+    public static final class PendingResult<O> {
+        private final Operation operation;
+        private final GraphTask<O> task;
+        private final Future<O> future;
+        private final long deadline;
+        private O result;
+
+        private PendingResult(final Operation operation, final GraphTask<O> task, final O result) {
+            this.operation = operation;
+            this.task = task;
+            this.future = null;
+            this.deadline = 0;
+            this.result = result;
+        }
+
+        private PendingResult(final Operation operation, final GraphTask<O> task, final Future<O> future, final long deadline) {
+            this.operation = operation;
+            this.task = task;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        public String getGraphId() {
+            return task.getGraphId();
+        }
+
+        /**
+         * Waits for the result, applying the per-graph timeout if there is one.
+         *
+         * @return the result, or null if there was no result or the failure was skipped
+         * @throws OperationException if the execution failed or timed out and is not set to skip failures
+         */
+        public O get() throws OperationException {
+            if (null == future) {
+                return result;
+            }
+
+            try {
+                if (deadline > 0) {
+                    result = future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                } else {
+                    result = future.get();
+                }
+            } catch (final ExecutionException e) {
+                result = handleFailure(operation, task, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            } catch (final TimeoutException e) {
+                future.cancel(true);
+                result = handleFailure(operation, task, new OperationException("Timed out waiting for graph " + task.getGraphId(), e));
+            } catch (final CancellationException e) {
+                result = handleFailure(operation, task, e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                throw new OperationException("Interrupted waiting for graph " + task.getGraphId(), e);
+            }
+            return result;
+        }
+
+        /**
+         * Cancels the execution if it is still running.
+         */
+        public void cancel() {
+            if (null != future) {
+                future.cancel(true);
+            }
+        }
+    }
+}
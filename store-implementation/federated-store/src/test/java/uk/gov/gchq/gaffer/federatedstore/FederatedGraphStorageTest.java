@@ -348,6 +348,40 @@ public class FederatedGraphStorageTest {
         assertEquals(e2, schemaAB.getElement("e2"));
     }
 
+    @Test
+    public void shouldReuseMergedSchemaUntilGraphIsRemoved() throws Exception {
+        // Given
+        graphStorage.put(a, access);
+        graphStorage.put(b, access);
+        final Schema schemaAB = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+
+        // When
+        final Schema repeatedSchemaAB = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+        graphStorage.remove(GRAPH_ID_B, testUser);
+        final Schema schemaA = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+
+        // Then
+        assertSame(schemaAB, repeatedSchemaAB);
+        assertEquals(2, schemaAB.getTypes().size());
+        assertEquals(1, schemaA.getTypes().size());
+        assertEquals(e1, schemaA.getElement("e1"));
+    }
+
+    @Test
+    public void shouldNotReuseMergedSchemaAfterGraphAccessChanged() throws Exception {
+        // Given
+        graphStorage.put(a, access);
+        final Schema schemaA = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+
+        // When
+        graphStorage.changeGraphAccess(GRAPH_ID_A, new FederatedAccess(Sets.newHashSet(X), X), testUser);
+        final Schema schemaAfterChange = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+
+        // Then
+        assertEquals(1, schemaA.getTypes().size());
+        assertEquals(0, schemaAfterChange.getTypes().size(), "Revealing hidden schema");
+    }
+
 
     @Test
     public void shouldGetSchemaForAddingUser() throws Exception {
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
+import uk.gov.gchq.gaffer.federatedstore.FederatedStoreProperties;
+import uk.gov.gchq.gaffer.federatedstore.util.FederatedGraphExecutor.GraphTask;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class FederatedGraphExecutorTest {
+    private ExecutorService executor;
+    private FederatedStore store;
+    private FederatedStoreProperties properties;
+    private final Context context = new Context(new User());
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        properties = new FederatedStoreProperties();
+        store = mock(FederatedStore.class);
+        given(store.getGraphExecutor()).willReturn(executor);
+        given(store.getProperties()).willReturn(properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldExecuteGraphsInParallelAndReturnResultsInGraphOrder() throws OperationException {
+        // Given
+        final CountDownLatch allStarted = new CountDownLatch(3);
+        final List<GraphTask<String>> tasks = Arrays.asList(
+                new GraphTask<>("graph1", false, c -> awaitOthers(allStarted, "result1")),
+                new GraphTask<>("graph2", false, c -> awaitOthers(allStarted, "result2")),
+                new GraphTask<>("graph3", false, c -> awaitOthers(allStarted, "result3")));
+
+        // When
+        final List<String> results = FederatedGraphExecutor.execute(store, new GetAllElements(), tasks, context);
+
+        // Then
+        assertThat(results).containsExactly("result1", "result2", "result3");
+    }
+
+    @Test
+    public void shouldSkipFailedAndTimedOutGraphsWhenSkipFlagSet() throws OperationException {
+        // Given
+        properties.setParallelExecutionTimeout(100L);
+        final List<GraphTask<String>> tasks = Arrays.asList(
+                new GraphTask<>("graph1", true, c -> "result1"),
+                new GraphTask<>("graph2", true, c -> {
+                    throw new OperationException("failed");
+                }),
+                new GraphTask<>("graph3", true, c -> sleep("result3")));
+
+        // When
+        final List<String> results = FederatedGraphExecutor.execute(store, new GetAllElements(), tasks, context);
+
+        // Then
+        assertThat(results).containsExactly("result1");
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenGraphTimesOut() {
+        // Given
+        properties.setParallelExecutionTimeout(100L);
+        final List<GraphTask<String>> tasks = Arrays.asList(
+                new GraphTask<>("graph1", false, c -> "result1"),
+                new GraphTask<>("graph2", false, c -> sleep("result2")));
+
+        // When / Then
+        assertThatExceptionOfType(OperationException.class)
+                .isThrownBy(() -> FederatedGraphExecutor.execute(store, new GetAllElements(), tasks, context))
+                .withMessageContaining("graph2");
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenGraphFails() {
+        // Given
+        final List<GraphTask<String>> tasks = Arrays.asList(
+                new GraphTask<>("graph1", false, c -> "result1"),
+                new GraphTask<>("graph2", false, c -> {
+                    throw new OperationException("failed");
+                }));
+
+        // When / Then
+        assertThatExceptionOfType(OperationException.class)
+                .isThrownBy(() -> FederatedGraphExecutor.execute(store, new GetAllElements(), tasks, context))
+                .withMessageContaining("graph2")
+                .withRootCauseInstanceOf(OperationException.class);
+    }
+
+    @Test
+    public void shouldGiveEachParallelGraphItsOwnCopyOfTheVariables() throws OperationException {
+        // Given
+        context.setVariable("shared", "original");
+        final List<GraphTask<Object>> tasks = Arrays.asList(
+                new GraphTask<>("graph1", false, c -> {
+                    c.setVariable("shared", "graph1");
+                    return c.getVariables();
+                }),
+                new GraphTask<>("graph2", false, c -> {
+                    c.setVariable("shared", "graph2");
+                    return c.getVariables();
+                }));
+
+        // When
+        final List<Object> results = FederatedGraphExecutor.execute(store, new GetAllElements(), tasks, context);
+
+        // Then
+        assertThat(results).containsExactly(
+                Collections.singletonMap("shared", "graph1"),
+                Collections.singletonMap("shared", "graph2"));
+        assertThat(context.getVariable("shared")).isEqualTo("original");
+    }
+
+    @Test
+    public void shouldExecuteGraphsSequentiallyWithTheSameContextWhenNoExecutor() throws OperationException {
+        // Given
+        given(store.getGraphExecutor()).willReturn(null);
+        final List<GraphTask<Context>> tasks = Arrays.asList(
+                new GraphTask<>("graph1", false, c -> c),
+                new GraphTask<>("graph2", false, c -> c));
+
+        // When
+        final List<Context> results = FederatedGraphExecutor.execute(store, new GetAllElements(), tasks, context);
+
+        // Then
+        assertThat(results).containsExactly(context, context);
+    }
+
+    private static String awaitOthers(final CountDownLatch allStarted, final String result) throws OperationException {
+        allStarted.countDown();
+        try {
+            if (!allStarted.await(10, TimeUnit.SECONDS)) {
+                throw new OperationException("Graphs were not executed in parallel");
+            }
+        } catch (final InterruptedException e) {
+            throw new OperationException(e);
+        }
+        return result;
+    }
+
+    private static String sleep(final String result) throws OperationException {
+        try {
+            Thread.sleep(10000L);
+        } catch (final InterruptedException e) {
+            throw new OperationException(e);
+        }
+        return result;
+    }
+}
@@ -42,9 +42,11 @@ public class HBaseProperties extends StoreProperties {
     public static final String WRITE_BUFFER_SIZE = "hbase.writeBufferSize";
     public static final String DEPENDENCY_JARS_HDFS_DIR_PATH = "hbase.hdfs.jars.path";
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER = "hbase.entriesForBatchScanner";
+    public static final String LAZY_ELEMENT_LOADING = "hbase.lazyElementLoading";
 
     public static final int WRITE_BUFFER_SIZE_DEFAULT = 1000000;
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "50000";
+    public static final String LAZY_ELEMENT_LOADING_DEFAULT = "false";
 
     public HBaseProperties() {
         super(HBaseStore.class);
@@ -164,6 +166,27 @@ public class HBaseProperties extends StoreProperties {
         set(MAX_ENTRIES_FOR_BATCH_SCANNER, maxEntriesForBatchScanner);
     }
 
+    /**
+     * Get the flag determining whether retrieved element properties should
+     * only be deserialised when they are required by the view's transformer,
+     * post transform filter or returned properties.
+     *
+     * @return true if element properties should be lazily deserialised
+     */
+    public boolean getLazyElementLoading() {
+        return Boolean.parseBoolean(get(LAZY_ELEMENT_LOADING, LAZY_ELEMENT_LOADING_DEFAULT));
+    }
+
+    /**
+     * Set the flag determining whether retrieved element properties should be
+     * lazily deserialised.
+     *
+     * @param lazyElementLoading true if element properties should be lazily deserialised
+     */
+    public void setLazyElementLoading(final boolean lazyElementLoading) {
+        set(LAZY_ELEMENT_LOADING, Boolean.toString(lazyElementLoading));
+    }
+
     @Override
     public String getJsonSerialiserModules() {
         return new StringDeduplicateConcat().apply(
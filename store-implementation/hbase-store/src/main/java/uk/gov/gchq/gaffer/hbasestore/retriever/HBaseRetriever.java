@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2020 Crown Copyright
+ * Copyright 2016-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,7 @@ import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.ElementValidator;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.util.LazyElementUtil;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
@@ -55,6 +56,8 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Element>> & GraphFilters> implements CloseableIterable<Element> {
+    private static final String ELEMENTS_METRIC_NAME = "retriever." + HBaseRetriever.class.getName() + ".elements";
+
     private final ElementSerialisation serialisation;
     private final RowRangeFactory rowRangeFactory;
     private final ElementValidator validator;
@@ -64,6 +67,7 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
     private final OP operation;
     private final byte[] extraProcessors;
     private final boolean includeMatchedVertex;
+    private final boolean lazyElementLoading;
 
     private CloseableIterator<Element> iterator;
     private Iterator<? extends ElementId> idsIterator;
@@ -88,6 +92,7 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
         }
 
         this.includeMatchedVertex = includeMatchedVertex;
+        this.lazyElementLoading = store.getProperties().getLazyElementLoading();
 
         if (null != extraProcessors && extraProcessors.length > 0) {
             this.extraProcessors = StringUtil.toCsv(extraProcessors);
@@ -126,7 +131,9 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
 
     private Element deserialiseAndTransform(final Cell cell) {
         try {
-            Element element = serialisation.getElement(cell, includeMatchedVertex);
+            Element element = lazyElementLoading
+                    ? serialisation.getLazyElement(cell, includeMatchedVertex)
+                    : serialisation.getElement(cell, includeMatchedVertex);
             final ViewElementDefinition viewDef = operation.getView().getElement(element.getGroup());
             if (null != viewDef) {
                 final ElementTransformer transformer = viewDef.getTransformer();
@@ -228,6 +235,8 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
                             final Cell possibleNext = cellsItr.next();
                             nextElement = deserialiseAndTransform(possibleNext);
                             if (postTransformFilter(nextElement)) {
+                                nextElement = LazyElementUtil.load(nextElement, store.getSchema(), operation.getView());
+                                store.getMetricsRegistry().incrementCounter(ELEMENTS_METRIC_NAME, 1);
                                 ViewUtil.removeProperties(operation.getView(), nextElement);
                                 hasNext = true;
                                 return true;
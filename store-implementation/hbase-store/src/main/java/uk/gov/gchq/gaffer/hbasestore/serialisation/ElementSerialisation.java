@@ -35,12 +35,16 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.EdgeDirection;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.LazyEdge;
+import uk.gov.gchq.gaffer.data.element.LazyEntity;
 import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.hbasestore.utils.HBaseStoreConstants;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
+import uk.gov.gchq.gaffer.serialisation.util.LengthValueBytesSerialiserUtil;
+import uk.gov.gchq.gaffer.serialisation.util.ThreadLocalBuffer;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
@@ -54,6 +58,9 @@ import java.util.Iterator;
 public class ElementSerialisation {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementSerialisation.class);
 
+    private static final ThreadLocalBuffer ELEMENT_BUFFER = new ThreadLocalBuffer();
+    private static final ThreadLocalBuffer PROPERTY_BUFFER = new ThreadLocalBuffer();
+
     private final Schema schema;
     private final String timestampProperty;
 
@@ -62,13 +69,21 @@ public class ElementSerialisation {
         this.timestampProperty = null != schema ? schema.getConfig(HBaseStoreConstants.TIMESTAMP_PROPERTY) : null;
     }
 
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public String getTimestampProperty() {
+        return timestampProperty;
+    }
+
     public byte[] getValue(final Element element) throws SerialisationException {
         return getValue(element.getGroup(), element.getProperties());
     }
 
     public byte[] getValue(final String group, final Properties properties)
             throws SerialisationException {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream out = ELEMENT_BUFFER.get();
         final SchemaElementDefinition elementDefinition = schema.getElement(group);
         if (null == elementDefinition) {
             throw new SerialisationException("No SchemaElementDefinition found for group " + group + ", is this group in your schema or do your table iterators need updating?");
@@ -80,22 +95,7 @@ public class ElementSerialisation {
             final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
             if (isStoredInValue(propertyName, elementDefinition)) {
                 final ToBytesSerialiser serialiser = (null != typeDefinition) ? (ToBytesSerialiser) typeDefinition.getSerialiser() : null;
-                try {
-                    if (null != serialiser) {
-                        Object value = properties.get(propertyName);
-                        if (null != value) {
-                            final byte[] bytes = serialiser.serialise(value);
-                            writeBytes(bytes, out);
-                        } else {
-                            final byte[] bytes = serialiser.serialiseNull();
-                            writeBytes(bytes, out);
-                        }
-                    } else {
-                        writeBytes(HBaseStoreConstants.EMPTY_BYTES, out);
-                    }
-                } catch (final IOException e) {
-                    throw new SerialisationException("Failed to write serialise property to ByteArrayOutputStream" + propertyName, e);
-                }
+                LengthValueBytesSerialiserUtil.serialise(serialiser, properties.get(propertyName), out, PROPERTY_BUFFER.get());
             }
         }
 
@@ -153,12 +153,103 @@ public class ElementSerialisation {
         return properties;
     }
 
+    /**
+     * Gets a single property stored within the value, skipping over the
+     * properties before it without deserialising them.
+     *
+     * @param group        the element group
+     * @param propertyName the name of the property to get
+     * @param value        the value containing the serialised properties
+     * @return the deserialised property, or null if it is not stored in the value
+     * @throws SerialisationException if the property cannot be deserialised
+     */
+    public Object getPropertyFromValue(final String group, final String propertyName, final byte[] value)
+            throws SerialisationException {
+        if (null == value || value.length == 0) {
+            return null;
+        }
+        final SchemaElementDefinition elementDefinition = schema.getElement(group);
+        if (null == elementDefinition) {
+            throw new SerialisationException("No SchemaElementDefinition found for group " + group + ", is this group in your schema or do your table iterators need updating?");
+        }
+        if (!isStoredInValue(propertyName, elementDefinition)) {
+            return null;
+        }
+
+        final Iterator<String> propertyNames = elementDefinition.getProperties().stream()
+                .filter(name -> isStoredInValue(name, elementDefinition))
+                .iterator();
+        return getDeserialisedProperty(value, 0, propertyNames, elementDefinition, propertyName);
+    }
+
+    /**
+     * Gets a single group by property stored within the column qualifier,
+     * skipping over the properties before it without deserialising them.
+     *
+     * @param group           the element group
+     * @param propertyName    the name of the property to get
+     * @param columnQualifier the column qualifier containing the serialised properties
+     * @return the deserialised property, or null if it is not stored in the column qualifier
+     * @throws SerialisationException if the property cannot be deserialised
+     */
+    public Object getPropertyFromColumnQualifier(final String group, final String propertyName, final byte[] columnQualifier)
+            throws SerialisationException {
+        if (null == columnQualifier || columnQualifier.length == 0) {
+            return null;
+        }
+        final SchemaElementDefinition elementDefinition = schema.getElement(group);
+        if (null == elementDefinition) {
+            throw new SerialisationException("No SchemaElementDefinition found for group " + group + ", is this group in your schema or do your table iterators need updating?");
+        }
+        if (!elementDefinition.getGroupBy().contains(propertyName)) {
+            return null;
+        }
+
+        final int firstDelimiter = CompactRawSerialisationUtils.decodeVIntSize(columnQualifier[0]) + Bytes.toBytes(group).length;
+        return getDeserialisedProperty(columnQualifier, firstDelimiter, elementDefinition.getGroupBy().iterator(), elementDefinition, propertyName);
+    }
+
     public Element getPartialElement(final String group, final byte[] rowId, final boolean includeMatchedVertex) throws SerialisationException {
         return getElement(CellUtil.createCell(rowId, HBaseStoreConstants.getColFam(), getColumnQualifier(group, new Properties())), includeMatchedVertex);
     }
 
     public Element getElement(final Cell cell, final boolean includeMatchedVertex)
             throws SerialisationException {
+        final Element element = getElementWithoutProperties(cell, includeMatchedVertex);
+        addPropertiesToElement(element, cell);
+        return element;
+    }
+
+    /**
+     * Gets an {@link Element} from a {@link Cell} that only deserialises its
+     * identifiers and properties when they are requested.
+     *
+     * @param cell                 the cell containing the serialised element
+     * @param includeMatchedVertex if true then the matchedVertex field is set on Edges
+     * @return a {@link LazyEntity} or {@link LazyEdge} wrapping the cell
+     * @throws SerialisationException if the group cannot be deserialised
+     */
+    public Element getLazyElement(final Cell cell, final boolean includeMatchedVertex)
+            throws SerialisationException {
+        final String group = getGroup(cell);
+        final HBaseElementValueLoader valueLoader = new HBaseElementValueLoader(group, cell, this, includeMatchedVertex);
+        if (isEntity(cell)) {
+            return new LazyEntity(new Entity(group), valueLoader);
+        }
+        return new LazyEdge(new Edge(group, null, null, false), valueLoader);
+    }
+
+    /**
+     * Gets an {@link Element} from a {@link Cell} containing only the group
+     * and identifiers.
+     *
+     * @param cell                 the cell containing the serialised element
+     * @param includeMatchedVertex if true then the matchedVertex field is set on Edges
+     * @return the element without any properties
+     * @throws SerialisationException if the identifiers cannot be deserialised
+     */
+    public Element getElementWithoutProperties(final Cell cell, final boolean includeMatchedVertex)
+            throws SerialisationException {
         final boolean keyRepresentsEntity = isEntity(cell);
         if (keyRepresentsEntity) {
             return getEntity(cell);
@@ -209,7 +300,7 @@ public class ElementSerialisation {
 
     public byte[] getColumnQualifier(final String group, final Properties properties)
             throws SerialisationException {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream out = ELEMENT_BUFFER.get();
         final SchemaElementDefinition elementDefinition = schema.getElement(group);
         if (null == elementDefinition) {
             throw new SerialisationException("No SchemaElementDefinition found for group " + group + ", is this group in your schema or do your table iterators need updating?");
@@ -225,22 +316,7 @@ public class ElementSerialisation {
         for (final String propertyName : elementDefinition.getGroupBy()) {
             final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
             final ToBytesSerialiser serialiser = (null != typeDefinition) ? (ToBytesSerialiser) typeDefinition.getSerialiser() : null;
-            try {
-                if (null != serialiser) {
-                    Object value = properties.get(propertyName);
-                    if (null != value) {
-                        final byte[] bytes = serialiser.serialise(value);
-                        writeBytes(bytes, out);
-                    } else {
-                        final byte[] bytes = serialiser.serialiseNull();
-                        writeBytes(bytes, out);
-                    }
-                } else {
-                    writeBytes(HBaseStoreConstants.EMPTY_BYTES, out);
-                }
-            } catch (final IOException e) {
-                throw new SerialisationException("Failed to write serialise property to ByteArrayOutputStream" + propertyName, e);
-            }
+            LengthValueBytesSerialiserUtil.serialise(serialiser, properties.get(propertyName), out, PROPERTY_BUFFER.get());
         }
 
         return out.toByteArray();
@@ -588,6 +664,45 @@ public class ElementSerialisation {
                 && (null == timestampProperty || !propertyName.equals(timestampProperty));
     }
 
+    private Object getDeserialisedProperty(final byte[] bytes, final int start, final Iterator<String> propertyNames,
+                                           final SchemaElementDefinition elementDefinition, final String propertyName)
+            throws SerialisationException {
+        int carriage = start;
+        while (propertyNames.hasNext() && carriage < bytes.length) {
+            final String name = propertyNames.next();
+            final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(name);
+            final ToBytesSerialiser serialiser = (null != typeDefinition) ? (ToBytesSerialiser) typeDefinition.getSerialiser() : null;
+            if (null == serialiser) {
+                // Properties without a serialiser are not read when deserialising all properties, so are skipped here too
+                if (name.equals(propertyName)) {
+                    return null;
+                }
+                continue;
+            }
+
+            final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[carriage]);
+            final int currentPropLength;
+            try {
+                // value is never larger than int.
+                currentPropLength = (int) CompactRawSerialisationUtils.readLong(bytes, carriage);
+            } catch (final SerialisationException e) {
+                throw new SerialisationException("Exception reading length of property");
+            }
+            carriage += numBytesForLength;
+            if (name.equals(propertyName)) {
+                try {
+                    return currentPropLength > 0
+                            ? serialiser.deserialise(bytes, carriage, currentPropLength)
+                            : serialiser.deserialiseEmpty();
+                } catch (final SerialisationException e) {
+                    throw new SerialisationException("Failed to deserialise property " + propertyName, e);
+                }
+            }
+            carriage += currentPropLength;
+        }
+        return null;
+    }
+
     private void writeBytes(final byte[] bytes, final ByteArrayOutputStream out)
             throws IOException {
         CompactRawSerialisationUtils.write(bytes.length, out);
@@ -623,10 +738,8 @@ public class ElementSerialisation {
         }
         final String group = getGroup(cell);
         try {
-            final Edge edge = new Edge(group, ((ToBytesSerialiser) schema.getVertexSerialiser()).deserialise(result[0]),
+            return new Edge(group, ((ToBytesSerialiser) schema.getVertexSerialiser()).deserialise(result[0]),
                     ((ToBytesSerialiser) schema.getVertexSerialiser()).deserialise(result[1]), direction.isDirected(), matchedVertex, null);
-            addPropertiesToElement(edge, cell);
-            return edge;
         } catch (final SerialisationException e) {
             throw new SerialisationException("Failed to re-create Edge from cell", e);
         }
@@ -636,10 +749,8 @@ public class ElementSerialisation {
 
         try {
             final byte[] row = CellUtil.cloneRow(cell);
-            final Entity entity = new Entity(getGroup(cell), ((ToBytesSerialiser) schema.getVertexSerialiser())
+            return new Entity(getGroup(cell), ((ToBytesSerialiser) schema.getVertexSerialiser())
                     .deserialise(ByteArrayEscapeUtils.unEscape(row, 0, row.length - 2)));
-            addPropertiesToElement(entity, cell);
-            return entity;
         } catch (final SerialisationException e) {
             throw new SerialisationException("Failed to re-create Entity from cell", e);
         }
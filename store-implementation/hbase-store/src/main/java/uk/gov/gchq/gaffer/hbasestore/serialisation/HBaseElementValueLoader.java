@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.hbasestore.serialisation;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementValueLoader;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+
+/**
+ * An {@code HBaseElementValueLoader} lazily deserialises the identifiers and
+ * properties of an element stored in an HBase {@link Cell}. Each property is
+ * deserialised individually when it is first requested.
+ */
+public class HBaseElementValueLoader implements ElementValueLoader {
+    private static final long serialVersionUID = -4497328232394580147L;
+
+    private final String group;
+    private final Cell cell;
+    private final ElementSerialisation serialisation;
+    private final boolean includeMatchedVertex;
+
+    private SchemaElementDefinition eDef;
+
+    public HBaseElementValueLoader(final String group,
+                                   final Cell cell,
+                                   final ElementSerialisation serialisation,
+                                   final boolean includeMatchedVertex) {
+        this.group = group;
+        this.cell = cell;
+        this.serialisation = serialisation;
+        this.includeMatchedVertex = includeMatchedVertex;
+    }
+
+    @Override
+    public Object getProperty(final String name, final Properties lazyProperties) {
+        if (null == eDef) {
+            eDef = serialisation.getSchema().getElement(group);
+            if (null == eDef) {
+                throw new IllegalArgumentException("Element definition for " + group + " could not be found in the schema");
+            }
+        }
+
+        try {
+            if (eDef.getGroupBy().contains(name)) {
+                return serialisation.getPropertyFromColumnQualifier(group, name, CellUtil.cloneQualifier(cell));
+            }
+            if (name.equals(serialisation.getTimestampProperty())) {
+                return serialisation.getPropertiesFromTimestamp(group, cell.getTimestamp()).get(name);
+            }
+            return serialisation.getPropertyFromValue(group, name, CellUtil.cloneValue(cell));
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to deserialise property " + name, e);
+        }
+    }
+
+    @Override
+    public void loadIdentifiers(final Element element) {
+        final Element identifiers;
+        try {
+            identifiers = serialisation.getElementWithoutProperties(cell, includeMatchedVertex);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to deserialise element identifiers", e);
+        }
+
+        if (element instanceof Entity) {
+            ((Entity) element).setVertex(((Entity) identifiers).getVertex());
+        } else {
+            final Edge edge = (Edge) identifiers;
+            ((Edge) element).setIdentifiers(edge.getSource(), edge.getDestination(), edge.isDirected(), edge.getMatchedVertex());
+        }
+    }
+}
@@ -77,7 +77,7 @@ public class MapStore extends Store {
     private static MapImpl staticMapImpl;
     private MapImpl mapImpl;
 
-    public static void resetStaticMap() {
+    public static synchronized void resetStaticMap() {
         staticMapImpl = null;
     }
 
@@ -116,11 +116,13 @@ public class MapStore extends Store {
     protected MapImpl createMapImpl() {
         if (getProperties().isStaticMap()) {
             LOGGER.debug("Using static map");
-            if (null == staticMapImpl) {
-                staticMapImpl = new MapImpl(getSchema(), getProperties());
-            }
+            synchronized (MapStore.class) {
+                if (null == staticMapImpl) {
+                    staticMapImpl = new MapImpl(getSchema(), getProperties());
+                }
 
-            return staticMapImpl;
+                return staticMapImpl;
+            }
         }
 
         return new MapImpl(getSchema(), getProperties());
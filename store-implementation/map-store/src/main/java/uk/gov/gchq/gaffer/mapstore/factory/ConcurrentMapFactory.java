@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.factory;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.multimap.ConcurrentMapOfSets;
+import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
+import uk.gov.gchq.gaffer.mapstore.utils.ElementCloner;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of the {@link MapFactory} interface that creates thread safe
+ * {@link ConcurrentMap} instances, allowing a {@link uk.gov.gchq.gaffer.mapstore.MapStore}
+ * (typically a static one) to be written to and read from by multiple
+ * operations at the same time.
+ * <p>
+ * The map class can be changed using the {@link SimpleMapFactory#MAP_CLASS}
+ * property, but it must be an implementation of {@link ConcurrentMap}.
+ * </p>
+ */
+public class ConcurrentMapFactory implements MapFactory {
+    public static final String MAP_CLASS_DEFAULT = ConcurrentHashMap.class.getName();
+
+    private final ElementCloner cloner;
+    private Class<? extends ConcurrentMap> mapClass = ConcurrentHashMap.class;
+
+    private final Map<String, ConcurrentMap> maps = new ConcurrentHashMap<>();
+    private final Map<String, MultiMap> multiMaps = new ConcurrentHashMap<>();
+
+    public ConcurrentMapFactory() {
+        this(new ElementCloner());
+    }
+
+    protected ConcurrentMapFactory(final ElementCloner cloner) {
+        this.cloner = cloner;
+    }
+
+    @Override
+    public void initialise(final Schema schema, final MapStoreProperties properties) {
+        final String mapClassName = properties.get(SimpleMapFactory.MAP_CLASS, MAP_CLASS_DEFAULT);
+        try {
+            mapClass = Class.forName(SimpleClassNameIdResolver.getClassName(mapClassName)).asSubclass(ConcurrentMap.class);
+        } catch (final ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException("Map Class is invalid, it must be a ConcurrentMap: " + mapClassName, e);
+        }
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(final String mapName, final Class<K> keyClass, final Class<V> valueClass) {
+        return maps.computeIfAbsent(mapName, n -> createMap());
+    }
+
+    @Override
+    public <K, V> MultiMap<K, V> getMultiMap(final String mapName, final Class<K> keyClass, final Class<V> valueClass) {
+        return multiMaps.computeIfAbsent(mapName, n -> new ConcurrentMapOfSets(maps.computeIfAbsent(n, m -> createMap())));
+    }
+
+    @Override
+    public void clear() {
+        maps.clear();
+        multiMaps.clear();
+    }
+
+    @Override
+    public Element cloneElement(final Element element, final Schema schema) {
+        return cloner.cloneElement(element, schema);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    protected Class<? extends ConcurrentMap> getMapClass() {
+        return mapClass;
+    }
+
+    private ConcurrentMap createMap() {
+        try {
+            return mapClass.newInstance();
+        } catch (final InstantiationException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to create new map instance of type: " + mapClass.getName());
+        }
+    }
+}
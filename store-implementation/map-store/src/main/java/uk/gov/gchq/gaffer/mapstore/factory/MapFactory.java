@@ -90,4 +90,16 @@ public interface MapFactory {
      * @return the cloned element
      */
     Element cloneElement(final Element element, final Schema schema);
+
+    /**
+     * Whether the maps created by this factory can be updated and read by
+     * multiple threads at the same time. If they can, the
+     * {@link uk.gov.gchq.gaffer.mapstore.impl.MapImpl} will not mutate stored
+     * values in place and will serialise merges per group.
+     *
+     * @return true if the maps are thread safe, otherwise false
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
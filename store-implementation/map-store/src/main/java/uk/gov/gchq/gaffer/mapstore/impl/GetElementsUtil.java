@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,20 +20,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.Authorisations;
-import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.ElementVisibility;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.VisibilityEvaluator;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.exception.VisibilityParseException;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.StreamIterable;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
-import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
-import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.operation.SeedMatching.SeedMatchingType;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -46,8 +44,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -138,18 +136,18 @@ public final class GetElementsUtil {
     public static Stream<Element> applyVisibilityFilter(final Stream<Element> elements, final Schema schema, final User user) {
         final Set<String> dataAuths = user.getDataAuths();
         final Authorisations authorisations = new Authorisations(dataAuths.toArray(new String[dataAuths.size()]));
-        return elements.filter(e -> isVisible(e, schema.getVisibilityProperty(), authorisations));
+        final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(authorisations);
+        return elements.filter(e -> isVisible(e, schema.getVisibilityProperty(), visibilityEvaluator));
     }
 
-    private static boolean isVisible(final Element e, final String visibilityProperty, final Authorisations authorisations) {
-        if (e.getProperty(visibilityProperty) != null) {
-            final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(authorisations);
-            final ElementVisibility elementVisibility = new ElementVisibility((String) e.getProperty(visibilityProperty));
+    private static boolean isVisible(final Element e, final String visibilityProperty, final VisibilityEvaluator visibilityEvaluator) {
+        final Object visibility = e.getProperty(visibilityProperty);
+        if (visibility != null) {
             try {
-                return visibilityEvaluator.evaluate(elementVisibility);
+                return visibilityEvaluator.evaluate((String) visibility);
             } catch (final VisibilityParseException visibilityParseException) {
                 LOGGER.warn("Unable to parse element visibility: {}. Received exception: {}",
-                        elementVisibility,
+                        visibility,
                         visibilityParseException.getMessage());
                 return false;
             }
@@ -193,25 +191,26 @@ public final class GetElementsUtil {
 
         // Apply pre-aggregation filter
         stream = stream.filter(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
-            return ved.getPreAggregationFilter() == null || ved.getPreAggregationFilter().test(e);
+            final Predicate<Element> filter = view.getElement(e.getGroup()).getCompiledPreAggregationFilter();
+            return null == filter || filter.test(e);
         });
 
-        // Apply aggregation
-        final CloseableIterable<Element> iterable = AggregatorUtil.queryAggregate(stream.collect(Collectors.toList()), schema, view, includeMatchedVertex);
+        // Apply aggregation. The stream can only be consumed once, so asking
+        // for a second iterator fails rather than returning no elements.
+        final Stream<Element> preAggregationElements = stream;
+        final CloseableIterable<Element> iterable = AggregatorUtil.queryAggregate(new StreamIterable<>(() -> preAggregationElements), schema, view, includeMatchedVertex);
         stream = StreamSupport.stream(iterable.spliterator(), false);
 
         // Apply post-aggregation filter
         stream = stream.filter(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
-            return ved.getPostAggregationFilter() == null || ved.getPostAggregationFilter().test(e);
+            final Predicate<Element> filter = view.getElement(e.getGroup()).getCompiledPostAggregationFilter();
+            return null == filter || filter.test(e);
         });
 
         // Apply transform
         stream = stream.map(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
-            final ElementTransformer transformer = ved.getTransformer();
-            if (transformer != null) {
+            final Function<Element, Element> transformer = view.getElement(e.getGroup()).getCompiledTransformer();
+            if (null != transformer) {
                 transformer.apply(e);
             }
             return e;
@@ -219,8 +218,8 @@ public final class GetElementsUtil {
 
         // Apply post transform filter
         stream = stream.filter(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
-            return ved.getPostTransformFilter() == null || ved.getPostTransformFilter().test(e);
+            final Predicate<Element> filter = view.getElement(e.getGroup()).getCompiledPostTransformFilter();
+            return null == filter || filter.test(e);
         });
 
         return stream;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.mapstore.factory.MapFactory;
 import uk.gov.gchq.gaffer.mapstore.factory.SimpleMapFactory;
 import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
+import uk.gov.gchq.gaffer.mapstore.utils.ElementCloner;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.store.schema.Schema;
@@ -55,6 +56,15 @@ import java.util.stream.Stream;
  * handlers for the {@link uk.gov.gchq.gaffer.mapstore.MapStore} to be placed in the
  * same package and get access to the maps, without exposing the internal state of
  * the MapStore to classes outside of this package.
+ * <p>
+ * If the {@link MapFactory} creates thread safe maps then aggregated properties are
+ * never updated in place. Merges of the same element are serialised using a lock
+ * striped by the element's hash, so writers to different elements of a busy group
+ * rarely contend. The existing properties are deep copied with an {@link ElementCloner}
+ * before merging, so mutable property values (e.g. sets, maps and sketches) are never
+ * modified while readers can see them, and the merged copy then replaces the old
+ * properties. Concurrent readers therefore always see a consistent view of each
+ * element without requiring a global lock.
  */
 public class MapImpl {
     public static final String AGG_ELEMENTS = "aggElements";
@@ -62,6 +72,12 @@ public class MapImpl {
     public static final String ENTITY_ID_TO_ELEMENTS = "entityIdToElements";
     public static final String EDGE_ID_TO_ELEMENTS = "edgeIdToElements";
 
+    /**
+     * The number of locks used to serialise merges of aggregated elements. This
+     * must be a power of 2.
+     */
+    private static final int LOCK_STRIPES = 64;
+
     /**
      * aggElements maps from an Element group to a map of Elements containing the group-by properties
      * to a Properties object without the group-by properties
@@ -92,12 +108,20 @@ public class MapImpl {
     private final Schema schema;
     private final boolean maintainIndex;
     private final AggregatorUtil.IngestPropertiesBinaryOperator propertyAggregator;
+    private final boolean threadSafe;
+    private final Object[] locks;
+    private final ElementCloner propertiesCloner = new ElementCloner();
 
     public MapImpl(final Schema schema, final MapStoreProperties mapStoreProperties) {
         this.schema = schema;
         propertyAggregator = new AggregatorUtil.IngestPropertiesBinaryOperator(schema);
         mapFactory = createMapFactory(schema, mapStoreProperties);
         maintainIndex = mapStoreProperties.getCreateIndex();
+        threadSafe = mapFactory.isThreadSafe();
+        locks = new Object[threadSafe ? LOCK_STRIPES : 0];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
 
         for (final String group : schema.getGroups()) {
             aggElements.put(group, mapFactory.getMap(group + "|" + AGG_ELEMENTS, Element.class, GroupedProperties.class));
@@ -131,12 +155,31 @@ public class MapImpl {
     }
 
     void addAggElement(final Element elementWithGroupByProperties, final GroupedProperties properties) {
-        if (null != aggElements.get(elementWithGroupByProperties.getGroup())) {
-            aggElements.get(elementWithGroupByProperties.getGroup())
-                    .merge(elementWithGroupByProperties, properties, propertyAggregator);
+        final String group = elementWithGroupByProperties.getGroup();
+        final Map<Element, GroupedProperties> groupElements = aggElements.get(group);
+        if (null != groupElements) {
+            if (threadSafe) {
+                synchronized (getLock(elementWithGroupByProperties)) {
+                    final GroupedProperties existing = groupElements.get(elementWithGroupByProperties);
+                    if (null == existing) {
+                        groupElements.put(elementWithGroupByProperties, properties);
+                    } else {
+                        // Aggregators may update mutable property values in place, so merge into a deep copy
+                        final GroupedProperties merged = propertiesCloner.cloneProperties(existing, schema);
+                        groupElements.put(elementWithGroupByProperties, propertyAggregator.apply(merged, properties));
+                    }
+                }
+            } else {
+                groupElements.merge(elementWithGroupByProperties, properties, propertyAggregator);
+            }
         }
     }
 
+    private Object getLock(final Element element) {
+        final int hash = element.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
     Collection<Element> lookup(final EntityId entitId) {
         Collection<Element> results = entityIdToElements.get(entitId);
         if (null == results) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.multimap;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MapOfSets} that is safe to update and read from multiple threads.
+ * The wrapped map must be a {@link ConcurrentMap} and each value set is a
+ * concurrent set, so index entries can be added by many writers without
+ * any external locking.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public class ConcurrentMapOfSets<K, V> extends MapOfSets<K, V> {
+    private final ConcurrentMap<K, Set<V>> concurrentMultiMap;
+
+    public ConcurrentMapOfSets(final ConcurrentMap<K, Set<V>> multiMap) {
+        super(multiMap);
+        this.concurrentMultiMap = multiMap;
+    }
+
+    @Override
+    public void put(final K key, final Collection<V> values) {
+        concurrentMultiMap.computeIfAbsent(key, k -> createSet()).addAll(values);
+    }
+
+    @Override
+    protected Set<V> createSet() {
+        return ConcurrentHashMap.newKeySet();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,17 +19,42 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 /**
  * Utility class to create a clone of an {@link Element}.
+ * <p>
+ * Properties of a known immutable type (e.g. String, Long, Integer, Boolean)
+ * are shared by reference and properties with a cheap copy constructor
+ * (e.g. Date, byte[]) are copied directly. All other properties are deep
+ * copied by serialising and deserialising them with the serialiser from the
+ * schema.
+ * </p>
  */
 public class ElementCloner {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementCloner.class);
 
+    /**
+     * Copiers for property classes that do not need a serialisation round trip.
+     * The classes are matched exactly, so a mutable subclass of one of these
+     * classes will still be cloned using its serialiser.
+     */
+    private static final Map<Class<?>, UnaryOperator<Object>> COPIERS = createCopiers();
+
     /**
      * Clone an {@link Element}, based on a target {@link Schema}.
      *
@@ -38,25 +63,62 @@ public class ElementCloner {
      * @return the cloned element
      */
     public Element cloneElement(final Element element, final Schema schema) {
+        final Element clone = element.emptyClone();
+        final SchemaElementDefinition sed = schema.getElement(clone.getGroup());
+        for (final Map.Entry<String, Object> entry : element.getProperties().entrySet()) {
+            clone.putProperty(entry.getKey(), cloneProperty(entry.getKey(), entry.getValue(), sed));
+        }
+        return clone;
+    }
+
+    /**
+     * Clone a {@link GroupedProperties}, based on a target {@link Schema}.
+     *
+     * @param properties the properties to clone
+     * @param schema the schema
+     * @return the cloned properties
+     */
+    public GroupedProperties cloneProperties(final GroupedProperties properties, final Schema schema) {
+        final GroupedProperties clone = new GroupedProperties(properties.getGroup());
+        final SchemaElementDefinition sed = schema.getElement(properties.getGroup());
+        for (final Map.Entry<String, Object> entry : properties.entrySet()) {
+            clone.put(entry.getKey(), cloneProperty(entry.getKey(), entry.getValue(), sed));
+        }
+        return clone;
+    }
+
+    private Object cloneProperty(final String propertyName, final Object property, final SchemaElementDefinition sed) {
+        if (null == property) {
+            return null;
+        }
+        if (COPIERS.containsKey(property.getClass())) {
+            return COPIERS.get(property.getClass()).apply(property);
+        }
+        final TypeDefinition typeDef = sed.getPropertyTypeDef(propertyName);
+        if (null == typeDef || null == typeDef.getSerialiser()) {
+            // This can happen if transient properties are derived - they will not have serialisers.
+            LOGGER.warn("Can't find Serialisation for {}, returning uncloned property", propertyName);
+            return property;
+        }
         try {
-            final Element clone = element.emptyClone();
-            final SchemaElementDefinition sed = schema.getElement(clone.getGroup());
-            for (final String propertyName : element.getProperties().keySet()) {
-                final Object property = element.getProperty(propertyName);
-                if (null == sed.getPropertyTypeDef(propertyName) || null == sed.getPropertyTypeDef(propertyName).getSerialiser()) {
-                    // This can happen if transient properties are derived - they will not have serialisers.
-                    LOGGER.warn("Can't find Serialisation for {}, returning uncloned property", propertyName);
-                    clone.putProperty(propertyName, property);
-                } else if (null != property) {
-                    final Serialiser serialiser = sed.getPropertyTypeDef(propertyName).getSerialiser();
-                    clone.putProperty(propertyName, serialiser.deserialise(serialiser.serialise(property)));
-                } else {
-                    clone.putProperty(propertyName, null);
-                }
-            }
-            return clone;
+            final Serialiser serialiser = typeDef.getSerialiser();
+            return serialiser.deserialise(serialiser.serialise(property));
         } catch (final SerialisationException e) {
             throw new RuntimeException("SerialisationException converting elements", e);
         }
     }
+
+    private static Map<Class<?>, UnaryOperator<Object>> createCopiers() {
+        final Map<Class<?>, UnaryOperator<Object>> copiers = new HashMap<>();
+        final UnaryOperator<Object> immutable = UnaryOperator.identity();
+        for (final Class<?> immutableClass : new Class<?>[]{
+                String.class, Boolean.class, Character.class,
+                Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+                BigInteger.class, BigDecimal.class, UUID.class}) {
+            copiers.put(immutableClass, immutable);
+        }
+        copiers.put(Date.class, date -> new Date(((Date) date).getTime()));
+        copiers.put(byte[].class, bytes -> ((byte[]) bytes).clone());
+        return Collections.unmodifiableMap(copiers);
+    }
 }
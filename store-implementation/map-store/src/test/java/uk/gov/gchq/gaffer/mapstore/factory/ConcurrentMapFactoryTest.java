@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.factory;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.multimap.ConcurrentMapOfSets;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ConcurrentMapFactoryTest {
+
+    @Test
+    public void shouldCreateConcurrentHashMapsByDefault() {
+        // Given
+        final MapStoreProperties properties = new MapStoreProperties();
+        final ConcurrentMapFactory factory = new ConcurrentMapFactory();
+        factory.initialise(mock(Schema.class), properties);
+
+        // When
+        final Map<Object, Object> map1 = factory.getMap("mapName1", Object.class, Object.class);
+        final Map<Object, Object> map2 = factory.getMap("mapName1", Object.class, Object.class);
+
+        // Then
+        assertThat(map1).isInstanceOf(ConcurrentHashMap.class).isSameAs(map2);
+        assertThat(factory.isThreadSafe()).isTrue();
+    }
+
+    @Test
+    public void shouldUseConfiguredConcurrentMapClass() {
+        // Given
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final ConcurrentMapFactory factory = new ConcurrentMapFactory();
+        given(properties.get(SimpleMapFactory.MAP_CLASS, ConcurrentMapFactory.MAP_CLASS_DEFAULT)).willReturn(ConcurrentSkipListMap.class.getName());
+
+        // When
+        factory.initialise(mock(Schema.class), properties);
+
+        // Then
+        assertThat(factory.getMapClass()).isEqualTo(ConcurrentSkipListMap.class);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfMapClassIsNotConcurrent() {
+        // Given
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final ConcurrentMapFactory factory = new ConcurrentMapFactory();
+        given(properties.get(SimpleMapFactory.MAP_CLASS, ConcurrentMapFactory.MAP_CLASS_DEFAULT)).willReturn(LinkedHashMap.class.getName());
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> factory.initialise(mock(Schema.class), properties))
+                .withMessageContaining(LinkedHashMap.class.getName());
+    }
+
+    @Test
+    public void shouldCreateConcurrentMultiMap() {
+        // Given
+        final ConcurrentMapFactory factory = new ConcurrentMapFactory();
+        factory.initialise(mock(Schema.class), new MapStoreProperties());
+
+        // When
+        final ConcurrentMapOfSets<Object, Object> multiMap = (ConcurrentMapOfSets) factory.getMultiMap("mapName1", Object.class, Object.class);
+
+        // Then
+        assertThat(multiMap.getWrappedMap()).isInstanceOf(ConcurrentHashMap.class).isEmpty();
+    }
+
+    @Test
+    public void shouldAggregateElementsAddedConcurrently() throws Exception {
+        // Given
+        final int threads = 8;
+        final int elementsPerThread = 500;
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setMapFactory(ConcurrentMapFactory.class);
+        final Graph graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("concurrentGraph")
+                        .build())
+                .addSchema(Schema.fromJson(StreamUtil.schemas(ConcurrentMapFactoryTest.class)))
+                .storeProperties(properties)
+                .build();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerThread; i++) {
+                        addEdge(graph, "A", "B" + (i % 10));
+                        graph.execute(new GetElements.Builder().input(new EntitySeed("A")).build(), new User());
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        final CloseableIterable<? extends Element> results = graph.execute(new GetAllElements(), new User());
+        int totalCount = 0;
+        int edges = 0;
+        for (final Element element : results) {
+            totalCount += (int) element.getProperty("count");
+            edges++;
+        }
+        assertThat(edges).isEqualTo(10);
+        assertThat(totalCount).isEqualTo(threads * elementsPerThread);
+        assertThat(graph.execute(new GetElements.Builder().input(new EntitySeed("A")).build(), new User())).hasSize(10);
+    }
+
+    private static void addEdge(final Graph graph, final String source, final String destination) throws OperationException {
+        graph.execute(new AddElements.Builder()
+                .input(new Edge.Builder()
+                        .group("BasicEdge")
+                        .source(source)
+                        .dest(destination)
+                        .directed(true)
+                        .property("property1", "p")
+                        .property("count", 1)
+                        .build())
+                .build(), new User());
+    }
+}
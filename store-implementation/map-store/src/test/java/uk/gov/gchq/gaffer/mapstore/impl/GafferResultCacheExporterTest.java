@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.export.resultcache.GafferResultCacheExporter;
+import uk.gov.gchq.gaffer.operation.export.resultcache.handler.util.GafferResultCacheUtil;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GafferResultCacheExporterTest {
+    private static final String KEY = "key";
+
+    private final Context context = new Context(new User.Builder()
+            .userId("user01")
+            .opAuths("opAuth1")
+            .build());
+    private final List<Integer> results = IntStream.rangeClosed(1, 25).boxed().collect(Collectors.toList());
+    private Graph resultCache;
+
+    @BeforeEach
+    public void before() {
+        resultCache = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("resultCacheGraph")
+                        .build())
+                .storeProperties(new MapStoreProperties())
+                .addSchema(GafferResultCacheUtil.createSchema(null))
+                .build();
+    }
+
+    @Test
+    public void shouldGetAllPagedResultsInOrder() throws OperationException {
+        // Given
+        createExporter(4).add(KEY, results);
+
+        // When
+        final List<?> cachedResults = Lists.newArrayList(createExporter(null).get(KEY));
+
+        // Then
+        assertThat(cachedResults).isEqualTo(results);
+    }
+
+    @Test
+    public void shouldGetPagedResultsWithOffsetAndLimit() throws OperationException {
+        // Given
+        createExporter(4).add(KEY, results);
+        final GafferResultCacheExporter exporter = createExporter(null);
+
+        // When / Then
+        assertThat(Lists.newArrayList(exporter.get(KEY, 10, 7))).isEqualTo(results.subList(10, 17));
+        assertThat(Lists.newArrayList(exporter.get(KEY, 24, null))).containsExactly(25);
+        assertThat(Lists.newArrayList(exporter.get(KEY, 0, 4))).isEqualTo(results.subList(0, 4));
+        assertThat(Lists.newArrayList(exporter.get(KEY, 30, 5))).isEmpty();
+    }
+
+    @Test
+    public void shouldGetPagedResultsFromSeveralExportsWithOffsetAndLimit() throws OperationException {
+        // Given
+        createExporter(4).add(KEY, results);
+        createExporter(4).add(KEY, results);
+        final GafferResultCacheExporter exporter = createExporter(null);
+
+        // When
+        final List<?> cachedResults = Lists.newArrayList(exporter.get(KEY, 22, 6));
+
+        // Then
+        assertThat(cachedResults).containsExactly(23, 24, 25, 1, 2, 3);
+    }
+
+    @Test
+    public void shouldNotGetPagedResultsForAnotherKey() throws OperationException {
+        // Given
+        createExporter(4).add(KEY, results);
+
+        // When
+        final List<?> cachedResults = Lists.newArrayList(createExporter(null).get("otherKey"));
+
+        // Then
+        assertThat(cachedResults).isEmpty();
+    }
+
+    private GafferResultCacheExporter createExporter(final Integer pageSize) {
+        return new GafferResultCacheExporter(context, context.getJobId(), resultCache, null, null, pageSize);
+    }
+}
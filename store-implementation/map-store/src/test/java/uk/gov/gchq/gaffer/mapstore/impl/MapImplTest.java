@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2021 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,18 +21,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.factory.ConcurrentMapFactory;
 import uk.gov.gchq.gaffer.mapstore.factory.MapFactory;
 import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
+import uk.gov.gchq.gaffer.serialisation.implementation.TreeSetStringSerialiser;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.CollectionConcat;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeSet;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -103,6 +114,43 @@ public class MapImplTest {
         verify(mockMapFactory, never()).getMultiMap(MapImpl.EDGE_ID_TO_ELEMENTS, EdgeId.class, Element.class);
     }
 
+    @Test
+    public void shouldNotUpdateAggregatedPropertiesInPlaceWhenMapsAreThreadSafe() {
+        // Given
+        final Schema schema = new Schema.Builder()
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .vertex("string")
+                        .property(TestPropertyNames.PROP_1, "set")
+                        .build())
+                .type("string", String.class)
+                .type("set", new TypeDefinition.Builder()
+                        .clazz(TreeSet.class)
+                        .aggregateFunction(new CollectionConcat<>())
+                        .serialiser(new TreeSetStringSerialiser())
+                        .build())
+                .build();
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setMapFactory(ConcurrentMapFactory.class);
+        final MapImpl mapImpl = new MapImpl(schema, properties);
+        final Element key = new Entity(TestGroups.ENTITY, "vertex");
+        mapImpl.addAggElement(key, createProperties("a"));
+        final Object setSeenByReader = mapImpl.getAggElement(key).getProperty(TestPropertyNames.PROP_1);
+
+        // When
+        mapImpl.addAggElement(key, createProperties("b"));
+
+        // Then
+        assertThat(setSeenByReader).isEqualTo(Sets.newTreeSet(Collections.singleton("a")));
+        assertThat(mapImpl.getAggElement(key).getProperty(TestPropertyNames.PROP_1))
+                .isEqualTo(Sets.newTreeSet(Arrays.asList("a", "b")));
+    }
+
+    private static GroupedProperties createProperties(final String value) {
+        final GroupedProperties properties = new GroupedProperties(TestGroups.ENTITY);
+        properties.put(TestPropertyNames.PROP_1, Sets.newTreeSet(Collections.singleton(value)));
+        return properties;
+    }
+
     public static final class TestMapFactory implements MapFactory {
 
         @Override
@@ -17,14 +17,28 @@ package uk.gov.gchq.gaffer.mapstore.utils;
 
 import org.junit.jupiter.api.Test;
 
+import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.TreeSetStringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.RawDateSerialiser;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.util.Date;
+import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class ElementClonerTest {
 
@@ -40,4 +54,46 @@ public class ElementClonerTest {
                 .map(element -> new Pair<>(element, cloner.cloneElement(element, mapStore.getSchema())))
                 .forEach(pair -> assertEquals(pair.getFirst(), pair.getSecond()));
     }
+
+    @Test
+    public void shouldShareImmutablePropertiesAndCopyMutableProperties() {
+        // Given
+        final ElementCloner cloner = new ElementCloner();
+        final Schema schema = new Schema.Builder()
+                .entity("entity", new SchemaEntityDefinition.Builder()
+                        .vertex("string")
+                        .property("string", "string")
+                        .property("date", "date")
+                        .property("set", "set")
+                        .build())
+                .type("string", new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .type("date", new TypeDefinition.Builder()
+                        .clazz(Date.class)
+                        .serialiser(new RawDateSerialiser())
+                        .build())
+                .type("set", new TypeDefinition.Builder()
+                        .clazz(TreeSet.class)
+                        .serialiser(new TreeSetStringSerialiser())
+                        .build())
+                .build();
+        final Element element = new Entity.Builder()
+                .group("entity")
+                .vertex("vertex")
+                .property("string", "value")
+                .property("date", new Date(1000L))
+                .property("set", CollectionUtil.treeSet(new String[]{"a", "b"}))
+                .build();
+
+        // When
+        final Element clone = cloner.cloneElement(element, schema);
+
+        // Then
+        assertEquals(element, clone);
+        assertSame(element.getProperty("string"), clone.getProperty("string"));
+        assertNotSame(element.getProperty("date"), clone.getProperty("date"));
+        assertNotSame(element.getProperty("set"), clone.getProperty("set"));
+    }
 }
@@ -85,6 +85,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static uk.gov.gchq.gaffer.store.StoreTrait.INGEST_AGGREGATION;
@@ -148,6 +151,7 @@ public class ParquetStore extends Store {
     private long currentSnapshot;
     private SchemaUtils schemaUtils;
     private FileSystem fs;
+    private ExecutorService readerPool;
 
     @Override
     public void initialise(final String graphId, final Schema schema, final StoreProperties properties) throws StoreException {
@@ -173,6 +177,31 @@ public class ParquetStore extends Store {
         } catch (final IOException e) {
             throw new StoreException("Could not connect to the file system", e);
         }
+        readerPool = createReaderPool();
+    }
+
+    private ExecutorService createReaderPool() {
+        if (null != readerPool) {
+            readerPool.shutdown();
+        }
+        final String threadNamePrefix = "parquet-reader-" + getGraphId() + "-";
+        final AtomicInteger threadCount = new AtomicInteger();
+        // Threads are created on demand rather than taken from a fixed pool so that nested
+        // or slow queries never wait for threads held by readers blocked on another query.
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the pool shared by all queries against this store for reading
+     * Parquet files. Each query runs at most
+     * {@link ParquetStoreProperties#getThreadsAvailable()} reads at a time.
+     */
+    public ExecutorService getReaderPool() {
+        return readerPool;
     }
 
     public static String getSnapshotPath(final long snapshot) {
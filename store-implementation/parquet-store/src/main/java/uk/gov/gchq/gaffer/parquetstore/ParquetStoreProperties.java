@@ -45,6 +45,8 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
     public static final String SPARK_MASTER = "spark.master";
     public static final String PARQUET_SKIP_VALIDATION = "parquet.skip_validation";
     public static final String COMPRESSION_CODEC = "parquet.compression.codec";
+    public static final String PARQUET_RETRIEVER_QUEUE_SIZE = "parquet.retriever.queue_size";
+    public static final String PARQUET_RETRIEVER_TIMEOUT = "parquet.retriever.timeout_ms";
 
     // Default values - NB No default values for DATA_DIR or TEMP_FILES_DIR to
     // avoid the inadvertent storage of data in unexpected folders.
@@ -58,6 +60,8 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
     private static final String SPARK_MASTER_DEFAULT = "local[*]";
     private static final String PARQUET_SKIP_VALIDATION_DEFAULT = "false";
     private static final String COMPRESSION_CODEC_DEFAULT = "GZIP";
+    private static final String PARQUET_RETRIEVER_QUEUE_SIZE_DEFAULT = "10000";
+    private static final String PARQUET_RETRIEVER_TIMEOUT_DEFAULT = "600000"; //10 minutes
     private static final long serialVersionUID = 7695540336792378185L;
 
     public ParquetStoreProperties() {
@@ -104,6 +108,30 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
         set(PARQUET_THREADS_AVAILABLE, threadsAvailable.toString());
     }
 
+    /**
+     * @return the maximum number of retrieved elements buffered per query
+     * before the file readers block waiting for the results to be consumed.
+     */
+    public Integer getRetrieverQueueSize() {
+        return Integer.parseInt(get(PARQUET_RETRIEVER_QUEUE_SIZE, PARQUET_RETRIEVER_QUEUE_SIZE_DEFAULT));
+    }
+
+    public void setRetrieverQueueSize(final Integer retrieverQueueSize) {
+        set(PARQUET_RETRIEVER_QUEUE_SIZE, retrieverQueueSize.toString());
+    }
+
+    /**
+     * @return the maximum time in milliseconds a file reader waits for the
+     * consumer to take a retrieved element before the query fails.
+     */
+    public Long getRetrieverTimeout() {
+        return Long.parseLong(get(PARQUET_RETRIEVER_TIMEOUT, PARQUET_RETRIEVER_TIMEOUT_DEFAULT));
+    }
+
+    public void setRetrieverTimeout(final Long retrieverTimeout) {
+        set(PARQUET_RETRIEVER_TIMEOUT, retrieverTimeout.toString());
+    }
+
     public Integer getRowGroupSize() {
         return Integer.parseInt(get(PARQUET_ROW_GROUP_SIZE_IN_BYTES, PARQUET_ROW_GROUP_SIZE_IN_BYTES_DEFAULT));
     }
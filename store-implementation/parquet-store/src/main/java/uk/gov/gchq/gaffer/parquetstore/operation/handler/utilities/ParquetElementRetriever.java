@@ -28,19 +28,24 @@ import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.parquetstore.ParquetStore;
+import uk.gov.gchq.gaffer.parquetstore.ParquetStoreProperties;
 import uk.gov.gchq.gaffer.parquetstore.query.ParquetQuery;
 import uk.gov.gchq.gaffer.parquetstore.query.QueryGenerator;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +58,7 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
     private final ParquetStore store;
     private final Operation operation;
     private final User user;
+    private final List<ParquetIterator> iterators = new ArrayList<>();
 
     public ParquetElementRetriever(final ParquetStore store, final Operation operation, final User user) {
         if (!(operation instanceof GetElements) && !(operation instanceof GetAllElements)) {
@@ -63,23 +69,46 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
         this.user = user;
     }
 
+    /**
+     * Closes every iterator created by this retriever, cancelling any reads that are still running.
+     */
     @Override
-    public void close() {
+    public synchronized void close() {
+        for (final ParquetIterator iterator : iterators) {
+            iterator.close();
+        }
+        iterators.clear();
     }
 
     @Override
-    public CloseableIterator<Element> iterator() {
+    public synchronized CloseableIterator<Element> iterator() {
         try {
-            return new ParquetIterator(store, operation, user);
+            final ParquetIterator iterator = new ParquetIterator(store, operation, user);
+            iterators.add(iterator);
+            return iterator;
         } catch (final OperationException e) {
             throw new RuntimeException("Exception in iterator()", e);
         }
     }
 
+    /**
+     * Iterates over the elements retrieved from the Parquet files as they are read.
+     * The files are read by the store's shared reader pool into a bounded queue, with at
+     * most {@link ParquetStoreProperties#getThreadsAvailable()}
+     * files read at a time. Readers wait while the queue is full and fail if the results are
+     * not consumed within {@link ParquetStoreProperties#getRetrieverTimeout()}.
+     * Closing the iterator cancels any outstanding reads.
+     */
     protected static class ParquetIterator implements CloseableIterator<Element> {
-        private ConcurrentLinkedQueue<Element> queue;
+        private static final long POLL_TIMEOUT_IN_MILLISECONDS = 100L;
+
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+        private ExecutorService readerPool;
+        private int maxRunningTasks;
+        private BlockingQueue<Element> queue;
+        private Deque<RetrieveElementsFromFile> pendingTasks;
         private List<Future<OperationException>> runningTasks;
-        private ExecutorService executorServicePool;
+        private Element nextElement;
 
         protected ParquetIterator(final ParquetStore store, final Operation operation, final User user) throws OperationException {
             final QueryGenerator queryGenerator = new QueryGenerator(store);
@@ -93,55 +122,67 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
                 final ParquetQuery parquetQuery = queryGenerator.getParquetQuery(operation);
                 LOGGER.debug("Created ParquetQuery {}", parquetQuery);
                 if (!parquetQuery.isEmpty()) {
-                    queue = new ConcurrentLinkedQueue<>();
-                    executorServicePool = Executors.newFixedThreadPool(store.getProperties().getThreadsAvailable());
-                    final List<RetrieveElementsFromFile> tasks = new ArrayList<>();
-                    tasks.addAll(parquetQuery.getAllParquetFileQueries()
+                    final ParquetStoreProperties properties = store.getProperties();
+                    final BlockingQueue<Element> taskQueue = new LinkedBlockingQueue<>(properties.getRetrieverQueueSize());
+                    pendingTasks = parquetQuery.getAllParquetFileQueries()
                             .stream()
                             .map(entry -> new RetrieveElementsFromFile(entry.getFile(), entry.getFilter(),
-                                    store.getSchema(), queue, !entry.isFullyApplied(),
-                                    store.getProperties().getSkipValidation(), view, user))
-                            .collect(Collectors.toList()));
-                    LOGGER.info("Invoking {} RetrieveElementsFromFile tasks", tasks.size());
-                    runningTasks = executorServicePool.invokeAll(tasks);
+                                    store.getSchema(), taskQueue, !entry.isFullyApplied(),
+                                    properties.getSkipValidation(), view, user,
+                                    cancelled, properties.getRetrieverTimeout()))
+                            .collect(Collectors.toCollection(ArrayDeque::new));
+                    LOGGER.info("Created {} RetrieveElementsFromFile tasks", pendingTasks.size());
+                    queue = taskQueue;
+                    readerPool = store.getReaderPool();
+                    maxRunningTasks = properties.getThreadsAvailable();
+                    runningTasks = new ArrayList<>(maxRunningTasks);
+                    submitPendingTasks();
                 } else {
                     LOGGER.warn("No paths found - there will be no results from this query");
                 }
             } catch (final IOException | OperationException e) {
                 LOGGER.error("Exception while creating the mapping of file paths to Parquet filters: {}", e.getMessage());
                 throw new OperationException("Exception creating ParquetIterator", e);
-            } catch (final InterruptedException e) {
-                LOGGER.error("InterruptedException in ParquetIterator {}", e.getMessage());
-                throw new OperationException("InterruptedException in ParquetIterator", e);
             }
         }
 
         @Override
         public boolean hasNext() {
-            if (null != queue) {
-                if (queue.isEmpty()) {
-                    boolean finishedAllTasks = runningTasks.isEmpty();
-                    while (!finishedAllTasks && queue.isEmpty()) {
-                        try {
-                            finishedAllTasks = hasFinishedAllTasks();
-                            if (!finishedAllTasks) {
-                                wait(100L);
-                            }
-                        } catch (final Exception e) {
-                            LOGGER.error(e.getMessage(), e);
-                            finishedAllTasks = true;
+            if (null != nextElement) {
+                return true;
+            }
+            final BlockingQueue<Element> currentQueue = queue;
+            if (null == currentQueue) {
+                return false;
+            }
+            try {
+                while (null == nextElement && !cancelled.get()) {
+                    // Check the tasks before polling so that no elements added by the final task are missed
+                    final boolean finishedAllTasks = hasFinishedAllTasks();
+                    nextElement = currentQueue.poll();
+                    if (null == nextElement) {
+                        if (finishedAllTasks) {
+                            break;
                         }
+                        nextElement = currentQueue.poll(POLL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
                     }
-                    return !queue.isEmpty();
-                } else {
-                    return true;
                 }
-            } else {
-                return false;
+            } catch (final InterruptedException e) {
+                LOGGER.error("InterruptedException in ParquetIterator {}", e.getMessage());
+                Thread.currentThread().interrupt();
+                close();
+            } catch (final Exception e) {
+                LOGGER.error(e.getMessage(), e);
+                close();
+                throw new RuntimeException("Exception retrieving elements from Parquet files", e);
             }
+            return null != nextElement;
         }
 
-        private boolean hasFinishedAllTasks() throws ExecutionException, InterruptedException, OperationException {
+        private synchronized boolean hasFinishedAllTasks() throws ExecutionException, InterruptedException, OperationException {
+            if (cancelled.get()) {
+                return true;
+            }
             final List<Future<OperationException>> completedTasks = new ArrayList<>();
             for (final Future<OperationException> task : runningTasks) {
                 if (task.isDone()) {
@@ -154,29 +195,40 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
                 }
             }
             runningTasks.removeAll(completedTasks);
+            submitPendingTasks();
             return runningTasks.isEmpty();
         }
 
+        private void submitPendingTasks() {
+            while (runningTasks.size() < maxRunningTasks && !pendingTasks.isEmpty()) {
+                runningTasks.add(readerPool.submit(pendingTasks.poll()));
+            }
+        }
+
         @Override
         public Element next() throws NoSuchElementException {
-            Element e;
-            while (hasNext()) {
-                e = queue.poll();
-                if (null != e) {
-                    return e;
-                }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
-            throw new NoSuchElementException();
+            final Element e = nextElement;
+            nextElement = null;
+            return e;
         }
 
         @Override
-        public void close() {
-            if (null != executorServicePool) {
-                executorServicePool.shutdown();
-                executorServicePool = null;
+        public synchronized void close() {
+            cancelled.set(true);
+            if (null != runningTasks) {
+                for (final Future<OperationException> task : runningTasks) {
+                    task.cancel(true);
+                }
+                runningTasks = null;
+            }
+            pendingTasks = null;
+            if (null != queue) {
+                queue.clear();
+                queue = null;
             }
-            queue = null;
-            runningTasks = null;
         }
     }
 }
@@ -24,7 +24,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.Authorisations;
-import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.ElementVisibility;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.VisibilityEvaluator;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.exception.VisibilityParseException;
 import uk.gov.gchq.gaffer.data.element.Element;
@@ -41,21 +40,27 @@ import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Used to retrieve the elements from a single file and put the elements into a shared
- * {@link java.util.concurrent.ConcurrentLinkedQueue}.
+ * {@link BlockingQueue}. While the queue is full the reader waits for the consumer,
+ * stopping as soon as the read is cancelled or the task is interrupted. If the consumer
+ * takes nothing for longer than the timeout the read fails, so an abandoned or stalled
+ * consumer cannot hold a reader thread forever.
  */
 public class RetrieveElementsFromFile implements Callable<OperationException> {
     private static final Logger LOGGER = LoggerFactory.getLogger(RetrieveElementsFromFile.class);
+    private static final long OFFER_TIMEOUT_IN_MILLISECONDS = 100L;
 
     private final Path filePath;
     private final FilterPredicate filter;
     private final byte[] jsonGafferSchema;
     private transient SchemaUtils schemaUtils;
-    private final ConcurrentLinkedQueue<Element> queue;
+    private final BlockingQueue<Element> queue;
     private transient ElementFilter elementFilter;
     private final byte[] elementDefinitionJson;
     private final boolean needsValidatorsAndFiltersApplying;
@@ -65,15 +70,32 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
     private final Schema gafferSchema;
     private final Authorisations auths;
     private final String visibility;
+    private transient VisibilityEvaluator visibilityEvaluator;
+    private final AtomicBoolean cancelled;
+    private final long timeoutInMillis;
 
     public RetrieveElementsFromFile(final Path filePath,
                                     final FilterPredicate filter,
                                     final Schema gafferSchema,
-                                    final ConcurrentLinkedQueue<Element> queue,
+                                    final BlockingQueue<Element> queue,
                                     final boolean needsValidatorsAndFiltersApplying,
                                     final boolean skipValidation,
                                     final View view,
                                     final User user) {
+        this(filePath, filter, gafferSchema, queue, needsValidatorsAndFiltersApplying, skipValidation, view, user,
+                new AtomicBoolean(false), Long.MAX_VALUE);
+    }
+
+    public RetrieveElementsFromFile(final Path filePath,
+                                    final FilterPredicate filter,
+                                    final Schema gafferSchema,
+                                    final BlockingQueue<Element> queue,
+                                    final boolean needsValidatorsAndFiltersApplying,
+                                    final boolean skipValidation,
+                                    final View view,
+                                    final User user,
+                                    final AtomicBoolean cancelled,
+                                    final long timeoutInMillis) {
         LOGGER.info("Creating RetrieveElementsFromFile for path {} with predicate {}", filePath, filter);
         this.filePath = filePath;
         this.filter = filter;
@@ -94,6 +116,8 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
         }
 
         this.queue = queue;
+        this.cancelled = cancelled;
+        this.timeoutInMillis = timeoutInMillis;
         this.view = view;
         this.needsValidatorsAndFiltersApplying = needsValidatorsAndFiltersApplying;
         this.skipValidation = skipValidation;
@@ -113,10 +137,9 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
         if (null == schemaUtils) {
             schemaUtils = new SchemaUtils(Schema.fromJson(jsonGafferSchema));
         }
-        try {
-            final ParquetReader<Element> fileReader = openParquetReader();
+        try (final ParquetReader<Element> fileReader = openParquetReader()) {
             Element e = fileReader.read();
-            while (null != e) {
+            while (null != e && !isCancelled()) {
                 if (!visibility.isEmpty()) {
                     if (isVisible(e)) {
                         if (needsValidatorsAndFiltersApplying) {
@@ -125,12 +148,16 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
                             if (skipValidation || validatorFilter == null || validatorFilter.test(e)) {
                                 if (elementFilter == null || elementFilter.test(e)) {
                                     ViewUtil.removeProperties(view, e);
-                                    queue.add(e);
+                                    if (!offer(e)) {
+                                        break;
+                                    }
                                 }
                             }
                         } else {
                             ViewUtil.removeProperties(view, e);
-                            queue.add(e);
+                            if (!offer(e)) {
+                                break;
+                            }
                         }
                     }
                 } else if (needsValidatorsAndFiltersApplying) {
@@ -139,23 +166,55 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
                     if (skipValidation || validatorFilter == null || validatorFilter.test(e)) {
                         if (elementFilter == null || elementFilter.test(e)) {
                             ViewUtil.removeProperties(view, e);
-                            queue.add(e);
+                            if (!offer(e)) {
+                                break;
+                            }
                         }
                     }
                 } else {
                     ViewUtil.removeProperties(view, e);
-                    queue.add(e);
+                    if (!offer(e)) {
+                        break;
+                    }
                 }
                 e = fileReader.read();
             }
-            fileReader.close();
         } catch (final IOException ignore) {
             LOGGER.error("IOException reading file", ignore);
             // ignore as this file does not exist
+        } catch (final OperationException e) {
+            return e;
         }
         return null;
     }
 
+    private boolean isCancelled() {
+        return cancelled.get() || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Adds the element to the queue, waiting while the queue is full.
+     *
+     * @param e the element to add
+     * @return false if the read was cancelled before the element could be added
+     * @throws InterruptedException if the task is interrupted while waiting
+     * @throws OperationException   if the consumer takes nothing before the timeout
+     */
+    private boolean offer(final Element e) throws InterruptedException, OperationException {
+        final long startTime = System.currentTimeMillis();
+        while (!queue.offer(e, OFFER_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+            if (isCancelled()) {
+                LOGGER.debug("Reading file {} was cancelled", filePath);
+                return false;
+            }
+            if (System.currentTimeMillis() - startTime >= timeoutInMillis) {
+                throw new OperationException("Timed out after " + timeoutInMillis
+                        + "ms waiting for the results read from " + filePath + " to be consumed");
+            }
+        }
+        return true;
+    }
+
     private ParquetReader<Element> openParquetReader() throws IOException {
         final boolean isEntity = schemaUtils.getEntityGroups().contains(group);
         final GafferGroupObjectConverter converter = schemaUtils.getConverter(group);
@@ -176,9 +235,10 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
 
     private Boolean isVisible(final Element e) throws VisibilityParseException {
         if (e.getProperty(visibility) != null) {
-            final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(auths);
-            final ElementVisibility elementVisibility = new ElementVisibility((String) e.getProperty(visibility));
-            return visibilityEvaluator.evaluate(elementVisibility);
+            if (null == visibilityEvaluator) {
+                visibilityEvaluator = new VisibilityEvaluator(auths);
+            }
+            return visibilityEvaluator.evaluate((String) e.getProperty(visibility));
         } else {
             e.putProperty(visibility, new String());
             return true;
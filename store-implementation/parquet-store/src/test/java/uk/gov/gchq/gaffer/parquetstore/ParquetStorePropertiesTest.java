@@ -45,6 +45,13 @@ public class ParquetStorePropertiesTest {
         assertEquals((Integer) 9, props.getThreadsAvailable());
     }
 
+    @Test
+    public void retrieverTimeoutTest() {
+        assertEquals((Long) 600000L, props.getRetrieverTimeout());
+        props.setRetrieverTimeout(1000L);
+        assertEquals((Long) 1000L, props.getRetrieverTimeout());
+    }
+
     @Test
     public void dataDirTest() {
         assertThat(props.getDataDir()).isNull();
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.operation.handler.utilities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.parquetstore.ParquetStore;
+import uk.gov.gchq.gaffer.parquetstore.ParquetStoreProperties;
+import uk.gov.gchq.gaffer.parquetstore.testutils.DataGen;
+import uk.gov.gchq.gaffer.parquetstore.testutils.TestUtils;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@Timeout(value = 60, unit = TimeUnit.SECONDS)
+public class ParquetElementRetrieverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldCancelReadsWhenRetrieverIsClosedPartWayThrough() throws Exception {
+        // Given
+        final ParquetStore store = createStore(1, 1, 600000L);
+        final ParquetElementRetriever retriever = new ParquetElementRetriever(store, new GetAllElements(), new User());
+        final CloseableIterator<Element> iterator = retriever.iterator();
+        iterator.next();
+
+        // When
+        retriever.close();
+
+        // Then
+        awaitNoActiveReaders(store);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldReleaseReadersOfAbandonedIteratorAfterTimeout() throws Exception {
+        // Given
+        final ParquetStore store = createStore(1, 1, 100L);
+        final ParquetElementRetriever retriever = new ParquetElementRetriever(store, new GetAllElements(), new User());
+        final CloseableIterator<Element> iterator = retriever.iterator();
+        iterator.next();
+
+        // When
+        awaitNoActiveReaders(store);
+
+        // Then
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(iterator::hasNext)
+                .withCauseInstanceOf(OperationException.class);
+    }
+
+    @Test
+    public void shouldRunMoreConcurrentQueriesThanThreadsAvailable() throws Exception {
+        // Given
+        final ParquetStore store = createStore(1, 1, 600000L);
+        final long expectedCount = count(new ParquetElementRetriever(store, new GetAllElements(), new User()).iterator());
+        final CloseableIterator<Element> outer = new ParquetElementRetriever(store, new GetAllElements(), new User()).iterator();
+        final CloseableIterator<Element> other = new ParquetElementRetriever(store, new GetAllElements(), new User()).iterator();
+        outer.next();
+        other.next();
+
+        // When
+        final long nestedCount = count(new ParquetElementRetriever(store, new GetAllElements(), new User()).iterator());
+        final long outerCount = 1 + count(outer);
+        final long otherCount = 1 + count(other);
+
+        // Then
+        assertThat(expectedCount).isGreaterThan(0L);
+        assertThat(nestedCount).isEqualTo(expectedCount);
+        assertThat(outerCount).isEqualTo(expectedCount);
+        assertThat(otherCount).isEqualTo(expectedCount);
+    }
+
+    private ParquetStore createStore(final int threadsAvailable, final int queueSize, final long timeout)
+            throws IOException, OperationException {
+        final ParquetStoreProperties properties = TestUtils.getParquetStoreProperties(tempDir);
+        properties.setThreadsAvailable(threadsAvailable);
+        properties.setRetrieverQueueSize(queueSize);
+        properties.setRetrieverTimeout(timeout);
+        final ParquetStore store = (ParquetStore) ParquetStore.createStore("graphId",
+                TestUtils.gafferSchema("schemaUsingLongVertexType"), properties);
+        store.execute(new AddElements.Builder().input(DataGen.generate300LongElements(false)).build(), new Context());
+        return store;
+    }
+
+    private static long count(final CloseableIterator<Element> iterator) {
+        long count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        iterator.close();
+        return count;
+    }
+
+    private static void awaitNoActiveReaders(final ParquetStore store) throws InterruptedException {
+        final ThreadPoolExecutor readerPool = (ThreadPoolExecutor) store.getReaderPool();
+        while (readerPool.getActiveCount() > 0) {
+            Thread.sleep(10);
+        }
+    }
+}